@@ -0,0 +1,120 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+/**
+ * Lookup latency and heap footprint of the columnar in-memory repository at catalog scale.
+ *
+ * The trial setup loads {@code products} rows drawn from a pool of {@code distinctNames} names
+ * and prints the retained heap per product, measured after a full GC before and after loading.
+ * Lookups are timed single-threaded and with concurrent readers, which exercise the optimistic
+ * read path. Run with {@code -Djmh.includes=ColumnarProductRepositoryBenchmark}; the default of
+ * 10 million products needs the 4 GB heap configured on the fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ColumnarProductRepositoryBenchmark {
+
+    @Param("10000000")
+    private int products;
+
+    @Param("1000")
+    private int distinctNames;
+
+    private ColumnarProductRepository repository;
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mostSignificantBits = new long[products];
+        leastSignificantBits = new long[products];
+        String[] names = new String[distinctNames];
+        for (int i = 0; i < distinctNames; i++) {
+            names[i] = "Benchmark Product " + i;
+        }
+
+        long before = usedHeap();
+        repository = new ColumnarProductRepository(products);
+        for (int i = 0; i < products; i++) {
+            ProductId id = ProductId.generate();
+            mostSignificantBits[i] = id.getMostSignificantBits();
+            leastSignificantBits[i] = id.getLeastSignificantBits();
+            repository.insert(Product.create(id, names[i % distinctNames], Money.ofCents(1_000L + i % 10_000)));
+        }
+        // The benchmark's own ID arrays were allocated before the first measurement
+        long after = usedHeap();
+
+        System.out.printf("%n%,d products: %,d bytes retained, %.1f bytes/product (columns %.1f bytes/product)%n",
+            products, after - before, (double) (after - before) / products,
+            (double) repository.getColumnBytes() / products);
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public OptionalLong findVersion() {
+        return repository.findVersion(randomId());
+    }
+
+    @Benchmark
+    public Optional<Product> findMissing() {
+        return repository.findById(ProductId.generate());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Product> findByIdConcurrent() {
+        return repository.findById(randomId());
+    }
+
+    @Benchmark
+    public List<Product> findPageAfterCursor() {
+        return repository.findPage(randomId(), 100);
+    }
+
+    private ProductId randomId() {
+        int row = ThreadLocalRandom.current().nextInt(products);
+        return new ProductId(mostSignificantBits[row], leastSignificantBits[row]);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainBenchmark {
+
+    private String idValue;
+    private Money price;
+    private Money otherPrice;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        idValue = ProductId.generate().getValue();
+        price = new Money(19.99);
+        otherPrice = new Money(5.01);
+        product = Product.create(ProductId.of(idValue), "Benchmark Product", price);
+    }
+
+    @Benchmark
+    public ProductId generateProductId() {
+        return ProductId.generate();
+    }
+
+    @Benchmark
+    public ProductId wrapProductId() {
+        return ProductId.of(idValue);
+    }
+
+    @Benchmark
+    public Product createProduct() {
+        return Product.create(ProductId.of(idValue), "Benchmark Product", price);
+    }
+
+    @Benchmark
+    public Product updateProduct() {
+        product.update("Updated Benchmark Product", otherPrice);
+        return product;
+    }
+}
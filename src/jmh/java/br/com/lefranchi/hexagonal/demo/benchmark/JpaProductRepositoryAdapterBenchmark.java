@@ -0,0 +1,126 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.lefranchi.hexagonal.demo.HexagonalDemoApplication;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter.JpaProductRepositoryAdapter;
+
+/**
+ * Operações do adaptador JPA contra um H2 em memória, sem cache nem outbox.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JpaProductRepositoryAdapterBenchmark {
+
+    @Param("10000")
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private JpaProductRepositoryAdapter adapter;
+    private List<ProductId> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HexagonalDemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.main.banner-mode=off",
+                "spring.datasource.url=jdbc:h2:mem:jmh",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "product.cache.enabled=false",
+                "product.events.outbox.enabled=false",
+                "product.events.async.enabled=false")
+            .run();
+        adapter = context.getBean(JpaProductRepositoryAdapter.class);
+
+        List<Product> products = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            products.add(Product.create(ProductId.generate(), "Benchmark Product " + i, new Money(10 + i % 100)));
+        }
+        adapter.saveAll(products);
+        ids = products.stream().map(Product::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return adapter.findById(randomId());
+    }
+
+    @Benchmark
+    public List<Product> findFirstPage() {
+        return adapter.findPage(null, 100);
+    }
+
+    @Benchmark
+    public List<Product> findPageAfterCursor() {
+        return adapter.findPage(randomId(), 100);
+    }
+
+    @Benchmark
+    public boolean updateExisting() {
+        Product product = Product.create(randomId(), "Updated Benchmark Product", new Money(42.0));
+        return adapter.update(product);
+    }
+
+    @Benchmark
+    public Product mergeExisting() {
+        Product product = Product.create(randomId(), "Merged Benchmark Product", new Money(42.0));
+        return adapter.save(product);
+    }
+
+    @Benchmark
+    public Product insertNew() {
+        Product product = Product.create(ProductId.generate(), "New Benchmark Product", new Money(42.0));
+        adapter.insert(product);
+        return product;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<Product> insertBatchOf100() {
+        List<Product> products = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            products.add(Product.create(ProductId.generate(), "Batch Benchmark Product", new Money(42.0)));
+        }
+        return adapter.saveAll(products);
+    }
+
+    private ProductId randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.FsyncPolicy;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.LogStructuredProductRepository;
+
+/**
+ * Time to reopen the log-structured repository after writing {@code records} log records: half
+ * inserts and half updates of those products. With {@code snapshot=true} a snapshot is taken after
+ * 90% of the records, so recovery loads it and replays only the last 10%; without it the whole log
+ * is replayed. Each measured operation is a full cold open of the directory.
+ *
+ * The default of 20 million records needs a few GB of disk under {@code target/jmh-logstore}; pass
+ * {@code -p records=2000000} to JMH for a quicker run.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms6g", "-Xmx6g" })
+@State(Scope.Benchmark)
+public class LogStoreRecoveryBenchmark {
+
+    private static final Path DATA_DIR = Path.of("target", "jmh-logstore", "recovery");
+    private static final int SEGMENT_SIZE = 256 << 20;
+
+    @Param("20000000")
+    private int records;
+
+    @Param({ "false", "true" })
+    private boolean snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LogStoreWriteBenchmark.deleteRecursively(DATA_DIR);
+        int products = records / 2;
+        try (LogStructuredProductRepository repository = open()) {
+            ProductId[] ids = new ProductId[products];
+            for (int i = 0; i < products; i++) {
+                ids[i] = ProductId.generate();
+                repository.insert(Product.create(ids[i], "Recovery Product " + (i % 1000), Money.ofCents(1_000 + i % 10_000)));
+            }
+            int snapshotAt = (int) (records * 0.9) - products;
+            for (int i = 0; i < records - products; i++) {
+                if (snapshot && i == snapshotAt) {
+                    repository.snapshot();
+                }
+                Product product = Product.restore(ids[i], "Updated Product " + (i % 1000),
+                    Money.ofCents(2_000 + i % 10_000), ProductStatus.ACTIVE, 1);
+                repository.update(product);
+            }
+            repository.flush();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        LogStoreWriteBenchmark.deleteRecursively(DATA_DIR);
+    }
+
+    @Benchmark
+    public int recover() throws IOException {
+        try (LogStructuredProductRepository repository = open()) {
+            return repository.getSize();
+        }
+    }
+
+    private LogStructuredProductRepository open() {
+        return new LogStructuredProductRepository(DATA_DIR, SEGMENT_SIZE, FsyncPolicy.INTERVAL, records / 2);
+    }
+}
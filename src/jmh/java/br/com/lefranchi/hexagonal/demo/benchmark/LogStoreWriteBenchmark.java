@@ -0,0 +1,101 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.FsyncPolicy;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.LogStructuredProductRepository;
+
+/**
+ * Insert throughput of the log-structured repository under each fsync policy, with one writer and
+ * with eight concurrent writers. Under {@code GROUP} the concurrent case shows how many writers
+ * share each fsync; {@code INTERVAL} is forced every 100 ms by a background thread, as the
+ * scheduler does in the application. Prints the number of fsyncs per insert at the end of each
+ * trial. Files go to {@code target/jmh-logstore} on the disk being measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@State(Scope.Benchmark)
+public class LogStoreWriteBenchmark {
+
+    private static final Path DATA_DIR = Path.of("target", "jmh-logstore", "write");
+
+    @Param({ "ALWAYS", "GROUP", "INTERVAL" })
+    private FsyncPolicy fsyncPolicy;
+
+    private LogStructuredProductRepository repository;
+    private ScheduledExecutorService flusher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        deleteRecursively(DATA_DIR);
+        repository = new LogStructuredProductRepository(DATA_DIR, 64 << 20, fsyncPolicy, 1 << 20);
+        flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(repository::flush, 100, 100, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        flusher.shutdownNow();
+        System.out.printf("%n%s: %,d records, %.3f fsyncs per record%n", fsyncPolicy,
+            repository.getAppendedRecords(),
+            (double) repository.getFsyncCount() / Math.max(1, repository.getAppendedRecords()));
+        repository.close();
+        deleteRecursively(DATA_DIR);
+    }
+
+    @Benchmark
+    public Product insert() {
+        return insertOne();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Product insertConcurrent() {
+        return insertOne();
+    }
+
+    private Product insertOne() {
+        Product product = Product.create(ProductId.generate(), "Benchmark Product", Money.ofCents(4_200));
+        repository.insert(product);
+        return product;
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
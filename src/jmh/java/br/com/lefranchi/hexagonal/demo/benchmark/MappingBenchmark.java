@@ -0,0 +1,80 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.service.ProductMapper;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductEntityMapper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    private final ProductEntityMapper entityMapper = new ProductEntityMapper();
+    private final ProductMapper productMapper = new ProductMapper();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private Product product;
+    private ProductEntity entity;
+    private ProductResponse response;
+
+    @Setup
+    public void setUp() {
+        product = Product.create(ProductId.generate(), "Benchmark Product", new Money(19.99));
+        entity = entityMapper.toEntity(product);
+        response = productMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return entityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductEntity domainToEntity() {
+        return entityMapper.toEntity(product);
+    }
+
+    @Benchmark
+    public ProductResponse domainToResponse() {
+        return productMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public ProductResponse entityToResponse() {
+        return productMapper.toResponse(entityMapper.toDomain(entity));
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] entityToSerializedResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productMapper.toResponse(entityMapper.toDomain(entity)));
+    }
+}
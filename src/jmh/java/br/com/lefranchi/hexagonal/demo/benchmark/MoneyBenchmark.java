@@ -0,0 +1,162 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+
+/**
+ * {@link Money} on a long of cents against {@link DecimalMoney}, a copy of the previous
+ * BigDecimal-backed implementation. Run with the GC profiler (the {@code benchmark} profile
+ * enables it) to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private static final int PRICES = 1000;
+
+    private double priceValue;
+    private BigDecimal decimalValue;
+    private Money price;
+    private Money otherPrice;
+    private DecimalMoney decimalPrice;
+    private DecimalMoney otherDecimalPrice;
+    private Money[] prices;
+    private DecimalMoney[] decimalPrices;
+
+    @Setup
+    public void setUp() {
+        priceValue = 19.99;
+        decimalValue = new BigDecimal("19.99");
+        price = new Money(19.99);
+        otherPrice = new Money(5.01);
+        decimalPrice = new DecimalMoney(19.99);
+        otherDecimalPrice = new DecimalMoney(5.01);
+
+        SplittableRandom random = new SplittableRandom(42);
+        prices = new Money[PRICES];
+        decimalPrices = new DecimalMoney[PRICES];
+        for (int i = 0; i < PRICES; i++) {
+            double value = random.nextInt(1, 100_000) / 100.0;
+            prices[i] = new Money(value);
+            decimalPrices[i] = new DecimalMoney(value);
+        }
+    }
+
+    @Benchmark
+    public Money fromDouble() {
+        return new Money(priceValue);
+    }
+
+    @Benchmark
+    public DecimalMoney fromDoubleBaseline() {
+        return new DecimalMoney(priceValue);
+    }
+
+    @Benchmark
+    public Money fromBigDecimal() {
+        return new Money(decimalValue);
+    }
+
+    @Benchmark
+    public DecimalMoney fromBigDecimalBaseline() {
+        return new DecimalMoney(decimalValue);
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public DecimalMoney addBaseline() {
+        return decimalPrice.add(otherDecimalPrice);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return price.subtract(otherPrice);
+    }
+
+    @Benchmark
+    public DecimalMoney subtractBaseline() {
+        return decimalPrice.subtract(otherDecimalPrice);
+    }
+
+    @Benchmark
+    public boolean isLessThanZero() {
+        return price.isLessThanZero();
+    }
+
+    @Benchmark
+    public boolean isLessThanZeroBaseline() {
+        return decimalPrice.isLessThanZero();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public Money sum() {
+        Money total = Money.ofCents(0);
+        for (Money money : prices) {
+            total = total.add(money);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRICES)
+    public DecimalMoney sumBaseline() {
+        DecimalMoney total = new DecimalMoney(BigDecimal.ZERO);
+        for (DecimalMoney money : decimalPrices) {
+            total = total.add(money);
+        }
+        return total;
+    }
+
+    /**
+     * The BigDecimal-backed Money this benchmark compares against.
+     */
+    public static final class DecimalMoney {
+
+        private final BigDecimal amount;
+
+        DecimalMoney(BigDecimal amount) {
+            this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        DecimalMoney(double amount) {
+            this(BigDecimal.valueOf(amount));
+        }
+
+        boolean isLessThanZero() {
+            return amount.compareTo(BigDecimal.ZERO) < 0;
+        }
+
+        DecimalMoney add(DecimalMoney other) {
+            return new DecimalMoney(amount.add(other.amount));
+        }
+
+        DecimalMoney subtract(DecimalMoney other) {
+            return new DecimalMoney(amount.subtract(other.amount));
+        }
+    }
+}
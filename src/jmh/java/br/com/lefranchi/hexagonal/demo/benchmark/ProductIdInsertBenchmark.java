@@ -0,0 +1,141 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Insert throughput into an already populated products table, keyed by random UUIDv4 text (the
+ * previous scheme) or by time-ordered UUIDv7 in a 16-byte binary column (the current one).
+ *
+ * Uses plain JDBC on a file-backed H2 database so the numbers reflect index maintenance rather
+ * than JPA overhead, and prints the table size on disk at the end of each trial. Run at the
+ * target size with {@code -Djmh.includes=ProductIdInsertBenchmark} and JMH's
+ * {@code -p rows=10000000}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Path DATA_DIR = Path.of("target", "jmh-product-ids");
+
+    public enum Scheme {
+        UUID_V4_TEXT("VARCHAR(255)"),
+        UUID_V7_BINARY("BINARY(16)");
+
+        private final String columnType;
+
+        Scheme(String columnType) {
+            this.columnType = columnType;
+        }
+    }
+
+    @Param({"UUID_V4_TEXT", "UUID_V7_BINARY"})
+    private Scheme scheme;
+
+    @Param("1000000")
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private final BigDecimal price = new BigDecimal("10.00");
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        Path directory = DATA_DIR.resolve(scheme.name());
+        deleteRecursively(directory);
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.toAbsolutePath().resolve("products"));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE products (id " + scheme.columnType + " PRIMARY KEY, "
+                + "name VARCHAR(255) NOT NULL, price DECIMAL(10, 2) NOT NULL, status VARCHAR(255) NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO products (id, name, price, status) VALUES (?, ?, ?, ?)");
+
+        for (int inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(
+                    "SELECT COUNT(*), DISK_SPACE_USED('PRODUCTS') FROM products")) {
+            result.next();
+            long count = result.getLong(1);
+            long bytes = result.getLong(2);
+            System.out.printf("%n%s: %d rows, %d bytes on disk (table + primary key), %.1f bytes/row%n",
+                scheme, count, bytes, (double) bytes / count);
+        }
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (scheme == Scheme.UUID_V4_TEXT) {
+                insert.setString(1, UUID.randomUUID().toString());
+            } else {
+                ProductId id = ProductId.generate();
+                insert.setBytes(1, ByteBuffer.allocate(16)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .array());
+            }
+            insert.setString(2, "Benchmark Product");
+            insert.setBigDecimal(3, price);
+            insert.setString(4, "ACTIVE");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.search.TrigramProductSearchIndex;
+
+/**
+ * Search latency of the trigram name index and the cost of rebuilding it.
+ *
+ * The trial setup fills a columnar repository with names combined from small word lists plus a
+ * serial number, rebuilds the index from it with {@code shards} parallel shards and prints the
+ * rebuild time and the size of the posting lists. Queries cover a selective name, a misspelled
+ * name and a single common word, which hits the candidate budget. Run with
+ * {@code -Djmh.includes=ProductSearchIndexBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] ADJECTIVES = {
+        "Wireless", "Mechanical", "Ergonomic", "Portable", "Compact", "Premium", "Gaming", "Office"
+    };
+    private static final String[] NOUNS = {
+        "Keyboard", "Mouse", "Monitor", "Headset", "Desk", "Chair", "Webcam", "Speaker", "Microphone"
+    };
+
+    @Param("1000000")
+    private int products;
+
+    @Param({ "1", "16" })
+    private int shards;
+
+    private TrigramProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ColumnarProductRepository repository = new ColumnarProductRepository(products);
+        for (int i = 0; i < products; i++) {
+            repository.insert(Product.create(ProductId.generate(), name(i), Money.ofCents(1_000L + i % 10_000)));
+        }
+        index = new TrigramProductSearchIndex(shards);
+        index.rebuild(repository);
+
+        System.out.printf("%n%,d products, %d shards: rebuilt in %,d ms, %,d trigrams, %,d posting bytes (%.1f bytes/product)%n",
+            products, shards, index.getRebuildMillis(), index.getTrigrams(), index.getPostingBytes(),
+            (double) index.getPostingBytes() / products);
+    }
+
+    @Benchmark
+    public List<ProductId> searchSelective() {
+        return index.search(name(ThreadLocalRandom.current().nextInt(products)), 20);
+    }
+
+    @Benchmark
+    public List<ProductId> searchMisspelled() {
+        return index.search("ergonomc keybaord " + ThreadLocalRandom.current().nextInt(products), 20);
+    }
+
+    @Benchmark
+    public List<ProductId> searchCommonWord() {
+        return index.search("keyboard", 20);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<ProductId> searchSelectiveConcurrent() {
+        return index.search(name(ThreadLocalRandom.current().nextInt(products)), 20);
+    }
+
+    private static String name(int i) {
+        return ADJECTIVES[i % ADJECTIVES.length] + " " + NOUNS[i / ADJECTIVES.length % NOUNS.length] + " " + i;
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.lefranchi.hexagonal.demo.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.service.ProductMapper;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf.ProductProtobufCodec;
+
+/**
+ * Encodes and decodes a page of products in each payload format the API negotiates. The setup
+ * prints the payload size, raw and gzipped, for comparison with the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductSerializationBenchmark {
+
+    private static final TypeReference<List<ProductResponse>> PRODUCT_LIST = new TypeReference<>() { };
+
+    public enum Format {
+        JSON, CBOR, SMILE, PROTOBUF
+    }
+
+    @Param({ "JSON", "CBOR", "SMILE", "PROTOBUF" })
+    private Format format;
+
+    @Param("100")
+    private int products;
+
+    private ObjectMapper mapper;
+    private List<ProductResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case JSON -> JsonMapper.builder().build();
+            case CBOR -> CBORMapper.builder().build();
+            case SMILE -> SmileMapper.builder().build();
+            case PROTOBUF -> null;
+        };
+        ProductMapper productMapper = new ProductMapper();
+        page = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            page.add(productMapper.toResponse(
+                Product.create(ProductId.generate(), "Benchmark Product " + i, new Money(10 + i * 0.37))));
+        }
+        encoded = serialize();
+        System.out.printf("%n%s: %d products, %d bytes, %d bytes gzipped%n",
+            format, products, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if (mapper != null) {
+            return mapper.writeValueAsBytes(page);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        ProductProtobufCodec.writeProducts(page, output);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<ProductResponse> deserialize() throws IOException {
+        if (mapper != null) {
+            return mapper.readValue(encoded, PRODUCT_LIST);
+        }
+        return ProductProtobufCodec.readProducts(CodedInputStream.newInstance(encoded));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -2,17 +2,60 @@ package br.com.lefranchi.hexagonal.demo.application.port.input;
 
 import java.util.List;
 
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.RepriceCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
 import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
 
+/**
+ * Nas operações de escrita, {@code expectedVersion} é a versão que o chamador leu por
+ * último; se o produto já estiver em outra versão a operação falha com
+ * {@link br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException}.
+ * Com {@code null} a operação é aplicada sobre a versão atual.
+ */
 public interface ProductManagementUseCase {
     ProductResponse createProduct(CreateProductCommand command);
+    List<ProductBatchItemResponse> createProducts(List<CreateProductCommand> commands);
     ProductResponse findProduct(ProductId id);
+    List<ProductResponse> findProducts(List<ProductId> ids);
+    long findProductVersion(ProductId id);
     List<ProductResponse> findAllProducts();
-    ProductResponse updateProduct(ProductId id, UpdateProductCommand command);
-    void deleteProduct(ProductId id);
-    ProductResponse activateProduct(ProductId id);
-    ProductResponse deactivateProduct(ProductId id);
+    ProductPageResponse findProductsPage(ProductId after, int limit);
+    ProductPageResponse searchProducts(ProductSearchQuery query);
+    List<ProductResponse> searchProductsByName(String text, int limit);
+    ProductStatisticsResponse getStatistics();
+    ProductResponse updateProduct(ProductId id, UpdateProductCommand command, Long expectedVersion);
+    void deleteProduct(ProductId id, Long expectedVersion);
+    ProductResponse activateProduct(ProductId id, Long expectedVersion);
+    ProductResponse deactivateProduct(ProductId id, Long expectedVersion);
+    BulkStatusResponse activateProducts(BulkStatusCommand command);
+    BulkStatusResponse deactivateProducts(BulkStatusCommand command);
+    RepriceJobResponse startRepricing(RepriceCommand command);
+    RepriceJobResponse findRepriceJob(String id);
+    RepriceJobResponse resumeRepricing(String id);
+    List<RepriceJobResponse> resumeInterruptedRepricing();
+
+    default ProductResponse updateProduct(ProductId id, UpdateProductCommand command) {
+        return updateProduct(id, command, null);
+    }
+
+    default void deleteProduct(ProductId id) {
+        deleteProduct(id, null);
+    }
+
+    default ProductResponse activateProduct(ProductId id) {
+        return activateProduct(id, null);
+    }
+
+    default ProductResponse deactivateProduct(ProductId id) {
+        return deactivateProduct(id, null);
+    }
 }
@@ -0,0 +1,34 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante não bloqueante de {@link ProductManagementUseCase}: os mesmos casos de uso, com as
+ * mesmas regras e exceções, entregues como sinais de erro do {@link Mono} ou {@link Flux}.
+ */
+public interface ReactiveProductManagementUseCase {
+    Mono<ProductResponse> createProduct(CreateProductCommand command);
+    Mono<List<ProductBatchItemResponse>> createProducts(List<CreateProductCommand> commands);
+    Mono<ProductResponse> findProduct(ProductId id);
+    Mono<Long> findProductVersion(ProductId id);
+    Mono<ProductPageResponse> findProductsPage(ProductId after, int limit);
+    Mono<ProductPageResponse> searchProducts(ProductSearchQuery query);
+    Flux<ProductResponse> searchProductsByName(String text, int limit);
+    Mono<ProductStatisticsResponse> getStatistics();
+    Mono<ProductResponse> updateProduct(ProductId id, UpdateProductCommand command, Long expectedVersion);
+    Mono<Void> deleteProduct(ProductId id, Long expectedVersion);
+    Mono<ProductResponse> activateProduct(ProductId id, Long expectedVersion);
+    Mono<ProductResponse> deactivateProduct(ProductId id, Long expectedVersion);
+}
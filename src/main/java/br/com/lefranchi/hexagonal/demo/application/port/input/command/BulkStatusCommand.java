@@ -0,0 +1,21 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.command;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Produtos alvo de uma ativação ou desativação em massa: os IDs listados, os que atendem aos
+ * filtros ou, com os dois, os IDs listados que atendem aos filtros. Filtros nulos não restringem.
+ */
+@Getter
+@Builder
+public class BulkStatusCommand {
+    private final List<String> ids;
+    private final ProductStatus status;
+    private final Double minPrice;
+    private final Double maxPrice;
+}
@@ -7,5 +7,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CreateProductCommand {
     private final String name;
-    private final double price;
+    private final Double price;
 }
\ No newline at end of file
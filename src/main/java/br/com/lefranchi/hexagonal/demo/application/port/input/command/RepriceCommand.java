@@ -0,0 +1,23 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.command;
+
+import java.math.BigDecimal;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Reajuste de preço dos produtos que atendem aos filtros: um percentual sobre o preço atual
+ * ({@code 10} para +10%, {@code -5} para -5%) ou um valor somado a ele, nunca os dois. Filtros
+ * nulos não restringem; sem nenhum filtro, o catálogo inteiro é reajustado.
+ */
+@Getter
+@Builder
+public class RepriceCommand {
+    private final ProductStatus status;
+    private final Double minPrice;
+    private final Double maxPrice;
+    private final BigDecimal percentage;
+    private final Double amount;
+}
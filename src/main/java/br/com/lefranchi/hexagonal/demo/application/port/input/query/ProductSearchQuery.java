@@ -0,0 +1,24 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.query;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Filtros, ordenação e posição de uma listagem de produtos. Filtros nulos não restringem;
+ * {@code cursor} é o {@code nextCursor} da página anterior, obtido com a mesma ordenação.
+ */
+@Getter
+@Builder
+public class ProductSearchQuery {
+    private final ProductStatus status;
+    private final Double minPrice;
+    private final Double maxPrice;
+    private final String namePrefix;
+    @Builder.Default
+    private final ProductSort sort = ProductSort.ID;
+    private final String cursor;
+    private final int limit;
+}
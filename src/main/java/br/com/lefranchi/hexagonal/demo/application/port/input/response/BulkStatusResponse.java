@@ -0,0 +1,19 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma ativação ou desativação em massa: {@code affected} produtos mudaram de
+ * status e {@code rejected} foram mantidos por uma regra de domínio.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResponse {
+    private long affected;
+    private long rejected;
+}
@@ -0,0 +1,20 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchItemResponse {
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+    
+    private int index;
+    private String status;
+    private ProductResponse product;
+    private String error;
+}
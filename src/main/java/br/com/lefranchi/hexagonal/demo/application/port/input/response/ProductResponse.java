@@ -16,4 +16,5 @@ public class ProductResponse {
     private String name;
     private BigDecimal price;
     private String status;
+    private long version;
 }
\ No newline at end of file
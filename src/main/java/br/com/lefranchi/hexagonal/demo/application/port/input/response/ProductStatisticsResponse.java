@@ -0,0 +1,22 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.response;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStatisticsResponse {
+    private long total;
+    private Map<String, Long> countsByStatus;
+    private BigDecimal priceSum;
+    private BigDecimal priceAverage;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+}
@@ -0,0 +1,36 @@
+package br.com.lefranchi.hexagonal.demo.application.port.input.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de um reajuste de preço: {@code processed} de {@code total} produtos reajustados
+ * ({@code progress}, entre 0 e 1), dos quais {@code deactivated} ficaram com preço negativo, e a
+ * vazão média dos lotes em produtos por segundo.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepriceJobResponse {
+    private String id;
+    private String state;
+    private String status;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private BigDecimal percentage;
+    private BigDecimal amount;
+    private long total;
+    private long processed;
+    private long deactivated;
+    private double progress;
+    private double productsPerSecond;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.Map;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Estado dos agregados do catálogo num instante: quantidade de produtos por status e soma,
+ * menor e maior preço entre todos eles. Sem produtos, menor e maior preço são {@code null}.
+ */
+public record CatalogStatistics(Map<ProductStatus, Long> counts, Money priceSum, Money minPrice, Money maxPrice) {
+
+    public CatalogStatistics {
+        counts = Map.copyOf(counts);
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
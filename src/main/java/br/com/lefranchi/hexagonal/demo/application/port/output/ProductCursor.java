@@ -0,0 +1,68 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Posição de continuação de uma listagem: a chave de ordenação e o ID do último item entregue.
+ *
+ * Na ordenação por ID o cursor é o próprio ID, como antes dos filtros; nas demais é um token
+ * opaco (Base64 URL-safe) que carrega também a ordenação, para que um cursor não seja usado
+ * com outra ordem.
+ */
+public record ProductCursor(ProductSort sort, ProductId id, long priceCents, String name) {
+
+    private static final char SEPARATOR = '\n';
+
+    public static ProductCursor of(ProductSort sort, Product last) {
+        return new ProductCursor(sort, last.getId(), last.getPrice().getCents(), last.getName());
+    }
+
+    public String encode() {
+        if (sort == ProductSort.ID) {
+            return id.getValue();
+        }
+        String key = sort == ProductSort.NAME_ASC ? name : Long.toString(priceCents);
+        String token = sort.name() + SEPARATOR + id.getValue() + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor, ProductSort sort) {
+        if (sort == ProductSort.ID) {
+            return new ProductCursor(sort, new ProductId(cursor), 0, null);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(String.valueOf(SEPARATOR), 3);
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new InvalidProductException("Cursor does not match sort: " + sort.getParameter());
+            }
+            ProductId id = new ProductId(parts[1]);
+            return sort == ProductSort.NAME_ASC
+                ? new ProductCursor(sort, id, 0, parts[2])
+                : new ProductCursor(sort, id, Long.parseLong(parts[2]), null);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProductException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Indica se o produto vem depois desta posição na ordenação do cursor.
+     */
+    public boolean precedes(Product product) {
+        int comparison = switch (sort) {
+            case ID -> 0;
+            case PRICE_ASC -> Long.compare(product.getPrice().getCents(), priceCents);
+            case PRICE_DESC -> Long.compare(priceCents, product.getPrice().getCents());
+            case NAME_ASC -> product.getName().compareTo(name);
+        };
+        if (comparison == 0) {
+            comparison = sort == ProductSort.PRICE_DESC ? id.compareTo(product.getId()) : product.getId().compareTo(id);
+        }
+        return comparison > 0;
+    }
+}
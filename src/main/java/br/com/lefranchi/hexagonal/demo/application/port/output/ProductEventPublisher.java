@@ -1,12 +1,18 @@
 package br.com.lefranchi.hexagonal.demo.application.port.output;
 
+import java.util.List;
+
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
 
 public interface ProductEventPublisher {
     void publishProductCreated(Product product);
+    void publishProductsCreated(List<Product> products);
     void publishProductUpdated(Product product);
+    void publishProductsUpdated(List<Product> products);
     void publishProductDeleted(ProductId id);
     void publishProductActivated(Product product);
     void publishProductDeactivated(Product product);
+    void publishProductsActivated(List<Product> products);
+    void publishProductsDeactivated(List<Product> products);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Consulta filtrada e paginada de produtos. Filtros nulos não restringem; a página começa logo
+ * depois de {@code after} na ordem de {@code sort} e tem no máximo {@code limit} itens.
+ */
+@Getter
+@Builder
+public class ProductQuery {
+    private final ProductStatus status;
+    private final Money minPrice;
+    private final Money maxPrice;
+    private final String namePrefix;
+    @Builder.Default
+    private final ProductSort sort = ProductSort.ID;
+    private final ProductCursor after;
+    private final int limit;
+
+    /**
+     * Avalia filtros e cursor sobre um produto já carregado, para adaptadores sem consulta própria.
+     */
+    public boolean matches(Product product) {
+        return (status == null || product.getStatus() == status)
+            && (minPrice == null || product.getPrice().compareTo(minPrice) >= 0)
+            && (maxPrice == null || product.getPrice().compareTo(maxPrice) <= 0)
+            && (namePrefix == null || product.getName().startsWith(namePrefix))
+            && (after == null || after.precedes(product));
+    }
+
+    /**
+     * Menor texto maior que todos os que começam com o prefixo do nome: o prefixo com o último
+     * caractere incrementado, descartando os que já são o maior possível. Sem limite
+     * ({@code null}) se o prefixo só tiver esses caracteres.
+     */
+    public String nameUpperBound() {
+        int end = namePrefix.length();
+        while (end > 0 && namePrefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        return namePrefix.substring(0, end - 1) + (char) (namePrefix.charAt(end - 1) + 1);
+    }
+}
@@ -2,13 +2,90 @@ package br.com.lefranchi.hexagonal.demo.application.port.output;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
 public interface ProductRepository {
     Optional<Product> findById(ProductId id);
+
+    /**
+     * Produtos com os IDs informados, na ordem dos IDs e sem repetições. IDs que não existem
+     * são ignorados.
+     */
+    List<Product> findAllById(List<ProductId> ids);
+
+    /**
+     * Versão atual do produto, sem carregar os demais campos.
+     */
+    OptionalLong findVersion(ProductId id);
+
     List<Product> findAll();
+    List<Product> findPage(ProductId after, int limit);
+
+    /**
+     * Página de produtos que atendem aos filtros da consulta, na ordem pedida e a partir do
+     * cursor da consulta.
+     */
+    List<Product> findPage(ProductQuery query);
+
     Product save(Product product);
-    void deleteById(ProductId id);
-}
\ No newline at end of file
+    List<Product> saveAll(List<Product> products);
+
+    /**
+     * Grava um produto novo, sem verificar antes se o ID já existe.
+     */
+    void insert(Product product);
+
+    /**
+     * Grava nome, preço, status e versão de um produto existente, desde que a versão
+     * armazenada seja a imediatamente anterior à do produto informado.
+     *
+     * @return {@code false} se o produto não existir ou tiver sido alterado por outra escrita
+     */
+    boolean update(Product product);
+
+    /**
+     * Como {@link #update(Product)}, mas grava apenas status e versão.
+     */
+    boolean updateStatus(Product product);
+
+    /**
+     * Passa para {@code status}, num único comando, até {@code limit} produtos da seleção que
+     * ainda não estão nele, em ordem de ID a partir do primeiro depois de {@code after}. A versão
+     * de cada produto alterado avança uma vez, como em {@link Product#activate()}.
+     *
+     * @return os produtos alterados, já no novo status e versão, em ordem de ID
+     */
+    List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit);
+
+    /**
+     * Aplica {@code change} ao preço de até {@code limit} produtos da seleção, em ordem de ID a
+     * partir do primeiro depois de {@code after}, com as regras de {@link Product#reprice}: o
+     * novo preço é arredondado para o centavo, quem fica com preço negativo é desativado e a
+     * versão avança uma vez.
+     *
+     * @return os produtos alterados como estavam antes da alteração, em ordem de ID
+     */
+    List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit);
+
+    /**
+     * Quantidade de produtos da seleção.
+     */
+    long count(ProductSelection selection);
+
+    /**
+     * @return o produto removido, como estava armazenado, ou vazio se ele não existir
+     */
+    Optional<Product> deleteById(ProductId id);
+
+    /**
+     * Remove o produto somente se ele ainda estiver na versão informada.
+     *
+     * @return o produto removido, ou vazio se ele não existir ou estiver em outra versão
+     */
+    Optional<Product> deleteById(ProductId id, long version);
+}
@@ -0,0 +1,20 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Índice de busca textual sobre o nome dos produtos.
+ *
+ * O índice é mantido a partir dos eventos de produto e pode estar ligeiramente atrás do
+ * repositório: um ID retornado pode já ter sido removido.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * IDs dos produtos cujo nome mais se parece com o texto, do mais para o menos parecido,
+     * tolerando erros de digitação.
+     */
+    List<ProductId> search(String text, int limit);
+}
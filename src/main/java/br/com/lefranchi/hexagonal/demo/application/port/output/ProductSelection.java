@@ -0,0 +1,34 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Conjunto de produtos alvo de uma operação em massa: os IDs listados, se houver, e os que
+ * atendem aos filtros. Filtros nulos não restringem.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ProductSelection {
+    private final List<ProductId> ids;
+    private final ProductStatus status;
+    private final Money minPrice;
+    private final Money maxPrice;
+
+    /**
+     * Avalia a seleção sobre um produto já carregado, para adaptadores sem consulta própria.
+     */
+    public boolean matches(Product product) {
+        return (ids == null || ids.contains(product.getId()))
+            && (status == null || product.getStatus() == status)
+            && (minPrice == null || product.getPrice().compareTo(minPrice) >= 0)
+            && (maxPrice == null || product.getPrice().compareTo(maxPrice) <= 0);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.Comparator;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+
+/**
+ * Ordenações suportadas na listagem de produtos. Todas terminam no ID, o que dá uma ordem total
+ * e permite paginar por busca ({@code seek}) a partir do último item de uma página.
+ */
+public enum ProductSort {
+    /** Ordem de criação (IDs UUIDv7). */
+    ID("id", Comparator.comparing(Product::getId)),
+    PRICE_ASC("price", Comparator.comparingLong((Product product) -> product.getPrice().getCents())
+        .thenComparing(Product::getId)),
+    PRICE_DESC("-price", Comparator.comparingLong((Product product) -> product.getPrice().getCents())
+        .thenComparing(Product::getId)
+        .reversed()),
+    NAME_ASC("name", Comparator.comparing(Product::getName).thenComparing(Product::getId));
+
+    private final String parameter;
+    private final Comparator<Product> comparator;
+
+    ProductSort(String parameter, Comparator<Product> comparator) {
+        this.parameter = parameter;
+        this.comparator = comparator;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public Comparator<Product> comparator() {
+        return comparator;
+    }
+
+    public static ProductSort fromParameter(String parameter) {
+        for (ProductSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new InvalidProductException("Unsupported sort: " + parameter);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Agregados do catálogo mantidos a cada escrita, para serem consultados sem varrer os produtos.
+ *
+ * Alterações registradas dentro de uma transação só são aplicadas depois do commit; uma escrita
+ * desfeita não altera os agregados.
+ */
+public interface ProductStatistics {
+    void productAdded(Product product);
+    void productsAdded(List<Product> products);
+
+    /**
+     * Registra a alteração de um produto que antes tinha o status e o preço informados.
+     */
+    void productChanged(ProductStatus previousStatus, Money previousPrice, Product product);
+
+    /**
+     * Registra que {@code count} produtos passaram de {@code previousStatus} para {@code status}
+     * sem mudar de preço, como numa ativação ou desativação em massa.
+     */
+    void statusChanged(ProductStatus previousStatus, ProductStatus status, int count);
+
+    void productRemoved(Product product);
+
+    CatalogStatistics current();
+}
@@ -0,0 +1,70 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante não bloqueante de {@link ProductRepository}, com a mesma semântica por operação: as
+ * escritas são condicionais à versão e ausência é um {@link Mono} vazio em vez de
+ * {@code Optional} ou {@code false}.
+ */
+public interface ReactiveProductRepository {
+    Mono<Product> findById(ProductId id);
+
+    /**
+     * Versão atual do produto, sem carregar os demais campos.
+     */
+    Mono<Long> findVersion(ProductId id);
+
+    /**
+     * Até {@code limit} produtos em ordem de ID, a partir do primeiro depois de {@code after}.
+     * Os produtos são emitidos conforme a demanda do assinante.
+     */
+    Flux<Product> findPage(ProductId after, int limit);
+
+    /**
+     * Página de produtos que atendem aos filtros da consulta, na ordem pedida e a partir do
+     * cursor da consulta.
+     */
+    Flux<Product> findPage(ProductQuery query);
+
+    /**
+     * Grava um produto novo, sem verificar antes se o ID já existe.
+     */
+    Mono<Void> insert(Product product);
+
+    /**
+     * Grava vários produtos novos numa única transação: ou todos são gravados, ou nenhum.
+     */
+    Mono<Void> insertAll(List<Product> products);
+
+    /**
+     * Grava nome, preço, status e versão de um produto existente, desde que a versão
+     * armazenada seja a imediatamente anterior à do produto informado.
+     *
+     * @return {@code false} se o produto não existir ou tiver sido alterado por outra escrita
+     */
+    Mono<Boolean> update(Product product);
+
+    /**
+     * Como {@link #update(Product)}, mas grava apenas status e versão.
+     */
+    Mono<Boolean> updateStatus(Product product);
+
+    /**
+     * @return o produto removido, como estava armazenado, ou vazio se ele não existir
+     */
+    Mono<Product> deleteById(ProductId id);
+
+    /**
+     * Remove o produto somente se ele ainda estiver na versão informada.
+     *
+     * @return o produto removido, ou vazio se ele não existir ou estiver em outra versão
+     */
+    Mono<Product> deleteById(ProductId id, long version);
+}
@@ -0,0 +1,94 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Progresso de um reajuste de preço em massa, gravado a cada lote.
+ *
+ * O cursor é o último ID já reajustado: os produtos são percorridos em ordem de ID, e um job
+ * interrompido continua a partir dele, sem reajustar de novo quem já passou. {@code total} é a
+ * quantidade de produtos da seleção no início e serve só de referência para o progresso; o
+ * tempo de execução soma apenas os lotes processados, sem as pausas entre uma execução e outra.
+ *
+ * {@code chunkPending} só é usado com repositórios de produtos que não participam da transação do
+ * job: ele é gravado antes de cada lote e limpo com o novo cursor. Se o job para com ele marcado,
+ * não há como saber se o lote chegou a ser aplicado, e o job não pode ser retomado sem reajustar
+ * de novo parte dos produtos.
+ */
+@Getter
+@AllArgsConstructor(staticName = "restore")
+public class RepriceJob {
+    private final UUID id;
+    private final ProductSelection selection;
+    private final PriceChange change;
+    private RepriceJobState state;
+    private ProductId cursor;
+    private boolean chunkPending;
+    private final long total;
+    private long processed;
+    private long deactivated;
+    private long runningMillis;
+    private final Instant createdAt;
+    private Instant updatedAt;
+    private String error;
+
+    public static RepriceJob start(ProductSelection selection, PriceChange change, long total, Instant now) {
+        return new RepriceJob(UUID.randomUUID(), selection, change, RepriceJobState.RUNNING, null, false, total, 0, 0, 0,
+            now, now, null);
+    }
+
+    /** Marca o início de um lote que não é confirmado junto com o job. */
+    public void beginChunk(Instant now) {
+        this.chunkPending = true;
+        this.updatedAt = now;
+    }
+
+    public void advance(ProductId cursor, int processed, int deactivated, long elapsedMillis, Instant now) {
+        this.cursor = cursor;
+        this.chunkPending = false;
+        this.processed += processed;
+        this.deactivated += deactivated;
+        this.runningMillis += elapsedMillis;
+        this.updatedAt = now;
+    }
+
+    public void complete(Instant now) {
+        this.state = RepriceJobState.COMPLETED;
+        this.chunkPending = false;
+        this.updatedAt = now;
+    }
+
+    public void fail(String error, Instant now) {
+        this.state = RepriceJobState.FAILED;
+        this.error = error;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Volta a executar um job que falhou, a partir do mesmo cursor.
+     */
+    public void resume(Instant now) {
+        this.state = RepriceJobState.RUNNING;
+        this.error = null;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Fração já processada do total inicial, entre 0 e 1. Produtos que entraram na seleção
+     * depois do início podem levar {@code processed} além do total.
+     */
+    public double getProgress() {
+        return total == 0 ? 1.0 : Math.min(1.0, (double) processed / total);
+    }
+
+    public double getProductsPerSecond() {
+        return runningMillis == 0 ? 0.0 : processed * 1000.0 / runningMillis;
+    }
+}
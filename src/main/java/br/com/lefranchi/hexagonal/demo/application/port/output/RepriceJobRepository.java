@@ -0,0 +1,11 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RepriceJobRepository {
+    RepriceJob save(RepriceJob job);
+    Optional<RepriceJob> findById(UUID id);
+    List<RepriceJob> findByState(RepriceJobState state);
+}
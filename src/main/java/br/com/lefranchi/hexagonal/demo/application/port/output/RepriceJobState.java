@@ -0,0 +1,7 @@
+package br.com.lefranchi.hexagonal.demo.application.port.output;
+
+public enum RepriceJobState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,21 +1,49 @@
 package br.com.lefranchi.hexagonal.demo.application.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.RepriceCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
 import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.CatalogStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJob;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
 import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,9 +67,32 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ProductManagementService implements ProductManagementUseCase {
 
+    /** Tamanho mínimo do texto de busca por nome, o de um trigrama. */
+    static final int MIN_SEARCH_LENGTH = 3;
+
+    /** Maior quantidade de IDs numa busca por vários produtos. */
+    static final int MAX_MULTI_GET_SIZE = 500;
+
+    /**
+     * Produtos gravados por transação na criação em lote, e alterados por comando e por transação
+     * nas ativações e desativações em massa.
+     */
+    static final int BULK_CHUNK_SIZE = 500;
+    
+    /** Tentativas de uma escrita condicional que perde para escritas concorrentes no mesmo produto. */
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
+    /** Maior preço que impede a ativação, um centavo abaixo de {@link Product#MIN_ACTIVATION_PRICE}. */
+    private static final Money MAX_REJECTED_PRICE = Money.ofCents(Product.MIN_ACTIVATION_PRICE.getCents() - 1);
+
     private final ProductRepository productRepository;
     private final ProductEventPublisher eventPublisher;
+    private final ProductSearchIndex searchIndex;
+    private final ProductStatistics statistics;
     private final ProductMapper productMapper;
+    private final TransactionOperations transactionOperations;
+    private final ProductRepricer repricer;
+    private final ProductReadCoalescer readCoalescer;
     
     /**
      * Cria um novo produto.
@@ -52,38 +103,126 @@ public class ProductManagementService implements ProductManagementUseCase {
     @Override
     public ProductResponse createProduct(CreateProductCommand command) {
         // Criar entidade de domínio a partir do comando
-        Product product = Product.create(
-            ProductId.generate(),
-            command.getName(),
-            new Money(command.getPrice())
-        );
+        Product product = toProduct(command);
         
-        // Persistir o produto
-        Product savedProduct = productRepository.save(product);
+        // Persistir o produto: o ID acabou de ser gerado, então basta um INSERT
+        productRepository.insert(product);
+        statistics.productAdded(product);
         
         // Publicar evento de domínio
-        eventPublisher.publishProductCreated(savedProduct);
+        eventPublisher.publishProductCreated(product);
         
         // Converter para resposta
-        return productMapper.toResponse(savedProduct);
+        return productMapper.toResponse(product);
+    }
+    
+    /**
+     * Cria vários produtos de uma só vez.
+     * 
+     * Todos os itens são validados antes da persistência; os válidos são gravados em lotes de
+     * até {@value #BULK_CHUNK_SIZE}, cada um em sua própria transação, com batching JDBC e um único
+     * evento por lote. Itens inválidos não impedem a criação dos demais e são reportados
+     * individualmente; uma falha no meio mantém os lotes já confirmados.
+     * 
+     * @param commands comandos com os dados dos produtos a serem criados
+     * @return um resultado por comando, na mesma ordem da entrada
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductBatchItemResponse> createProducts(List<CreateProductCommand> commands) {
+        ProductBatchItemResponse[] results = new ProductBatchItemResponse[commands.size()];
+        List<Product> products = new ArrayList<>(commands.size());
+        List<Integer> productIndexes = new ArrayList<>(commands.size());
+        
+        // Validar todos os itens através das regras de domínio
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                products.add(toProduct(commands.get(i)));
+                productIndexes.add(i);
+            } catch (InvalidProductException e) {
+                results[i] = ProductBatchItemResponse.builder()
+                    .index(i)
+                    .status(ProductBatchItemResponse.FAILED)
+                    .error(e.getMessage())
+                    .build();
+            }
+        }
+        
+        for (int from = 0; from < products.size(); from += BULK_CHUNK_SIZE) {
+            List<Product> savedProducts = createChunk(
+                products.subList(from, Math.min(products.size(), from + BULK_CHUNK_SIZE)));
+            
+            for (int i = 0; i < savedProducts.size(); i++) {
+                int index = productIndexes.get(from + i);
+                results[index] = ProductBatchItemResponse.builder()
+                    .index(index)
+                    .status(ProductBatchItemResponse.CREATED)
+                    .product(productMapper.toResponse(savedProducts.get(i)))
+                    .build();
+            }
+        }
+        
+        return List.of(results);
     }
     
     /**
      * Busca um produto por ID.
      * 
+     * Buscas simultâneas pelo mesmo ID compartilham uma única consulta ao repositório
+     * (ver {@link ProductReadCoalescer}). A consulta usa a transação somente leitura do próprio
+     * repositório, para que os leitores que esperam não ocupem uma conexão cada um.
+     * 
      * @param id identificador do produto
      * @return resposta com os dados do produto encontrado
      * @throws ProductNotFoundException se o produto não for encontrado
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductResponse findProduct(ProductId id) {
+        return readCoalescer.find(id, this::loadProduct);
+    }
+    
+    private ProductResponse loadProduct(ProductId id) {
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new ProductNotFoundException(id));
         
         return productMapper.toResponse(product);
     }
     
+    /**
+     * Busca vários produtos por ID com uma consulta ao repositório, em vez de uma por ID.
+     * 
+     * @param ids até {@value #MAX_MULTI_GET_SIZE} identificadores
+     * @return os produtos encontrados, na ordem dos IDs e sem repetições; IDs que não existem
+     *         são ignorados
+     * @throws InvalidProductException se não houver IDs ou houver mais que o limite
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> findProducts(List<ProductId> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_MULTI_GET_SIZE) {
+            throw new InvalidProductException("Between 1 and " + MAX_MULTI_GET_SIZE + " product ids are required");
+        }
+        return productRepository.findAllById(ids).stream()
+            .map(productMapper::toResponse)
+            .toList();
+    }
+    
+    /**
+     * Busca apenas a versão atual de um produto, para validar requisições condicionais
+     * sem carregar nem mapear o produto inteiro.
+     * 
+     * @param id identificador do produto
+     * @return versão atual do produto
+     * @throws ProductNotFoundException se o produto não for encontrado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long findProductVersion(ProductId id) {
+        return productRepository.findVersion(id)
+            .orElseThrow(() -> new ProductNotFoundException(id));
+    }
+    
     /**
      * Lista todos os produtos.
      * 
@@ -97,51 +236,229 @@ public class ProductManagementService implements ProductManagementUseCase {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Lista uma página de produtos usando paginação por cursor (keyset).
+     * 
+     * Os produtos são ordenados pelo identificador e a página começa logo após
+     * o cursor informado, de modo que o custo de cada página não depende da
+     * posição dela no catálogo. É buscado um item a mais que o limite apenas
+     * para saber se existe uma próxima página.
+     * 
+     * @param after identificador do último produto da página anterior, ou {@code null} para a primeira página
+     * @param limit quantidade máxima de produtos na página
+     * @return página com os produtos e o cursor da próxima página, se houver
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageResponse findProductsPage(ProductId after, int limit) {
+        List<Product> products = productRepository.findPage(after, limit + 1);
+        
+        boolean hasNext = products.size() > limit;
+        List<Product> pageItems = hasNext ? products.subList(0, limit) : products;
+        
+        List<ProductResponse> items = pageItems.stream()
+            .map(productMapper::toResponse)
+            .collect(Collectors.toList());
+        String nextCursor = hasNext ? pageItems.get(limit - 1).getId().getValue() : null;
+        
+        return ProductPageResponse.builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    /**
+     * Lista uma página de produtos filtrada por status, faixa de preço e prefixo do nome, na
+     * ordenação pedida.
+     * 
+     * A paginação também é por cursor: o cursor carrega a chave de ordenação e o ID do último
+     * produto entregue, e a próxima página começa logo depois dele, o que mantém o custo de
+     * cada página constante e as páginas estáveis enquanto o catálogo muda.
+     * 
+     * @param query filtros, ordenação, cursor da página anterior e tamanho da página
+     * @return página com os produtos e o cursor da próxima página, se houver
+     * @throws InvalidProductException se a faixa de preço for vazia ou o cursor for inválido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageResponse searchProducts(ProductSearchQuery query) {
+        return toSearchPage(query, productRepository.findPage(toProductQuery(query)), productMapper);
+    }
+    
+    /**
+     * Consulta ao repositório para uma listagem filtrada, com um produto a mais que a página para
+     * saber se há próxima.
+     * 
+     * @throws InvalidProductException se a faixa de preço for vazia ou o cursor for inválido
+     */
+    static ProductQuery toProductQuery(ProductSearchQuery query) {
+        if (query.getMinPrice() != null && query.getMaxPrice() != null
+                && query.getMinPrice() > query.getMaxPrice()) {
+            throw new InvalidProductException("minPrice must not be greater than maxPrice");
+        }
+        return ProductQuery.builder()
+            .status(query.getStatus())
+            .minPrice(query.getMinPrice() != null ? new Money(query.getMinPrice()) : null)
+            .maxPrice(query.getMaxPrice() != null ? new Money(query.getMaxPrice()) : null)
+            .namePrefix(query.getNamePrefix())
+            .sort(query.getSort())
+            .after(query.getCursor() != null ? ProductCursor.decode(query.getCursor(), query.getSort()) : null)
+            .limit(query.getLimit() + 1)
+            .build();
+    }
+    
+    /**
+     * Página com os produtos lidos por {@link #toProductQuery(ProductSearchQuery)}; o produto a
+     * mais, se veio, fica de fora e só indica que o cursor da próxima página deve ser emitido.
+     */
+    static ProductPageResponse toSearchPage(ProductSearchQuery query, List<Product> products, ProductMapper mapper) {
+        int limit = query.getLimit();
+        boolean hasNext = products.size() > limit;
+        List<Product> pageItems = hasNext ? products.subList(0, limit) : products;
+
+        List<ProductResponse> items = pageItems.stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList());
+        String nextCursor = hasNext ? ProductCursor.of(query.getSort(), pageItems.get(limit - 1)).encode() : null;
+
+        return ProductPageResponse.builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    /**
+     * Busca produtos pelo nome, tolerando erros de digitação, do mais para o menos parecido.
+     * 
+     * O índice de busca é atualizado pelos eventos e pode estar um pouco atrás do repositório;
+     * os produtos encontrados são lidos do repositório, e os que já foram removidos são omitidos.
+     * 
+     * @param text trecho do nome, com ao menos {@value #MIN_SEARCH_LENGTH} caracteres
+     * @param limit quantidade máxima de produtos
+     * @return produtos encontrados, em ordem de relevância
+     * @throws InvalidProductException se o texto for curto demais
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> searchProductsByName(String text, int limit) {
+        if (text == null || text.strip().length() < MIN_SEARCH_LENGTH) {
+            throw new InvalidProductException("Search text must have at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+        List<ProductId> ids = searchIndex.search(text.strip(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllById(ids).stream()
+            .map(productMapper::toResponse)
+            .toList();
+    }
+    
+    /**
+     * Estatísticas do catálogo: quantidade por status e soma, média, menor e maior preço.
+     * 
+     * Vêm dos agregados mantidos a cada escrita, sem ler os produtos nem abrir transação; o custo
+     * não depende do tamanho do catálogo. Escritas aparecem assim que a transação delas é
+     * confirmada.
+     * 
+     * @return estatísticas atuais do catálogo
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductStatisticsResponse getStatistics() {
+        return toStatisticsResponse(statistics.current());
+    }
+    
+    /**
+     * Resposta das estatísticas, com a média calculada a partir da soma e do total e os status
+     * na ordem do enum.
+     */
+    static ProductStatisticsResponse toStatisticsResponse(CatalogStatistics current) {
+        long total = current.total();
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        current.counts().entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> countsByStatus.put(entry.getKey().name(), entry.getValue()));
+        BigDecimal priceSum = current.priceSum().getAmount();
+        
+        return ProductStatisticsResponse.builder()
+            .total(total)
+            .countsByStatus(countsByStatus)
+            .priceSum(priceSum)
+            .priceAverage(total > 0 ? priceSum.divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_EVEN) : null)
+            .minPrice(current.minPrice() != null ? current.minPrice().getAmount() : null)
+            .maxPrice(current.maxPrice() != null ? current.maxPrice().getAmount() : null)
+            .build();
+    }
+    
     /**
      * Atualiza um produto existente.
      * 
+     * A gravação é um UPDATE condicional à versão lida. Se outra escrita passar na frente
+     * entre a leitura e o UPDATE, a operação é refeita sobre o novo estado; com
+     * {@code expectedVersion} informado, a nova leitura resulta em conflito.
+     * 
      * @param id identificador do produto a ser atualizado
      * @param command comando contendo os novos dados do produto
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
      * @return resposta com os dados do produto atualizado
      * @throws ProductNotFoundException se o produto não for encontrado
+     * @throws ProductVersionConflictException se o produto não estiver na versão esperada
      */
     @Override
-    public ProductResponse updateProduct(ProductId id, UpdateProductCommand command) {
-        // Buscar produto existente
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException(id));
-        
-        // Aplicar atualizações através do método de domínio
-        product.update(
-            command.getName(),
-            command.getPrice() != null ? new Money(command.getPrice()) : null
-        );
-        
-        // Persistir alterações
-        Product savedProduct = productRepository.save(product);
-        
-        // Publicar evento de domínio
-        eventPublisher.publishProductUpdated(savedProduct);
-        
-        // Converter para resposta
-        return productMapper.toResponse(savedProduct);
+    public ProductResponse updateProduct(ProductId id, UpdateProductCommand command, Long expectedVersion) {
+        for (int attempt = 1; ; attempt++) {
+            // Buscar produto existente na versão esperada
+            Product product = findForWrite(id, expectedVersion);
+            long readVersion = product.getVersion();
+            ProductStatus previousStatus = product.getStatus();
+            Money previousPrice = product.getPrice();
+            
+            // Aplicar atualizações através do método de domínio
+            product.update(
+                command.getName(),
+                command.getPrice() != null ? new Money(command.getPrice()) : null
+            );
+            
+            // Persistir alterações em um único UPDATE condicional à versão lida
+            if (productRepository.update(product)) {
+                statistics.productChanged(previousStatus, previousPrice, product);
+                
+                // Publicar evento de domínio
+                eventPublisher.publishProductUpdated(product);
+                
+                // Converter para resposta
+                return productMapper.toResponse(product);
+            }
+            checkWriteAttempts(id, readVersion, attempt);
+        }
     }
     
     /**
      * Remove um produto.
      * 
+     * Sem versão esperada é um único DELETE; com ela, um único DELETE condicional à
+     * versão, e só quando nada é removido o produto é relido para distinguir produto
+     * inexistente de conflito de versão.
+     * 
      * @param id identificador do produto a ser removido
+     * @param expectedVersion versão que o chamador espera remover, ou {@code null}
      * @throws ProductNotFoundException se o produto não for encontrado
+     * @throws ProductVersionConflictException se o produto não estiver na versão esperada
      */
     @Override
-    public void deleteProduct(ProductId id) {
-        // Verificar se o produto existe antes de tentar deletar
-        if (!productRepository.findById(id).isPresent()) {
+    public void deleteProduct(ProductId id, Long expectedVersion) {
+        // Remover produto; a quantidade de linhas afetadas indica se ele existia
+        Optional<Product> deleted = expectedVersion == null
+            ? productRepository.deleteById(id)
+            : productRepository.deleteById(id, expectedVersion);
+        
+        if (deleted.isEmpty()) {
+            if (expectedVersion != null && productRepository.findVersion(id).isPresent()) {
+                throw new ProductVersionConflictException(id, expectedVersion);
+            }
             throw new ProductNotFoundException(id);
         }
-        
-        // Remover produto
-        productRepository.deleteById(id);
+        statistics.productRemoved(deleted.get());
         
         // Publicar evento de domínio
         eventPublisher.publishProductDeleted(id);
@@ -152,54 +469,331 @@ public class ProductManagementService implements ProductManagementUseCase {
      * 
      * Esta operação aplica as regras de negócio definidas no domínio
      * para ativação de produtos (ex: não pode ativar produto com preço negativo).
+     * Como a gravação é condicional à versão lida, a regra sempre é avaliada sobre
+     * o preço que está de fato gravado.
      * 
      * @param id identificador do produto a ser ativado
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
      * @return resposta com os dados do produto ativado
      * @throws ProductNotFoundException se o produto não for encontrado
      * @throws InvalidProductException se o produto não puder ser ativado
+     * @throws ProductVersionConflictException se o produto não estiver na versão esperada
      */
     @Override
-    public ProductResponse activateProduct(ProductId id) {
-        // Buscar produto existente
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException(id));
+    public ProductResponse activateProduct(ProductId id, Long expectedVersion) {
+        for (int attempt = 1; ; attempt++) {
+            // Buscar produto existente na versão esperada
+            Product product = findForWrite(id, expectedVersion);
+            long readVersion = product.getVersion();
             
-        // Aplicar regra de negócio de ativação (delegada para o domínio)
-        product.activate();
-        
-        // Persistir alteração
-        Product savedProduct = productRepository.save(product);
-        
-        // Publicar evento de domínio
-        eventPublisher.publishProductActivated(savedProduct);
-        
-        // Converter para resposta
-        return productMapper.toResponse(savedProduct);
+            // Aplicar regra de negócio de ativação (delegada para o domínio)
+            ProductStatus previousStatus = product.getStatus();
+            product.activate();
+            
+            // Persistir alteração
+            if (productRepository.updateStatus(product)) {
+                statistics.productChanged(previousStatus, product.getPrice(), product);
+                
+                // Publicar evento de domínio
+                eventPublisher.publishProductActivated(product);
+                
+                // Converter para resposta
+                return productMapper.toResponse(product);
+            }
+            checkWriteAttempts(id, readVersion, attempt);
+        }
     }
     
     /**
      * Desativa um produto.
      * 
      * @param id identificador do produto a ser desativado
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
      * @return resposta com os dados do produto desativado
      * @throws ProductNotFoundException se o produto não for encontrado
+     * @throws ProductVersionConflictException se o produto não estiver na versão esperada
      */
     @Override
-    public ProductResponse deactivateProduct(ProductId id) {
-        // Buscar produto existente
-        Product product = productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException(id));
+    public ProductResponse deactivateProduct(ProductId id, Long expectedVersion) {
+        for (int attempt = 1; ; attempt++) {
+            // Buscar produto existente na versão esperada
+            Product product = findForWrite(id, expectedVersion);
+            long readVersion = product.getVersion();
+            
+            // Aplicar regra de negócio de desativação (delegada para o domínio)
+            ProductStatus previousStatus = product.getStatus();
+            product.deactivate();
             
-        // Aplicar regra de negócio de desativação (delegada para o domínio)
-        product.deactivate();
+            // Persistir alteração
+            if (productRepository.updateStatus(product)) {
+                statistics.productChanged(previousStatus, product.getPrice(), product);
+                
+                // Publicar evento de domínio
+                eventPublisher.publishProductDeactivated(product);
+                
+                // Converter para resposta
+                return productMapper.toResponse(product);
+            }
+            checkWriteAttempts(id, readVersion, attempt);
+        }
+    }
+    
+    /**
+     * Ativa de uma vez os produtos selecionados pelo comando.
+     * 
+     * A regra de {@link Product#activate()} vira filtro: só produtos com preço de ao menos
+     * {@link Product#MIN_ACTIVATION_PRICE} são alterados, e os inativos abaixo dele são contados
+     * como rejeitados. Os produtos são alterados por comandos de até {@value #BULK_CHUNK_SIZE},
+     * cada um em sua própria transação e com um único evento para o lote; uma falha no meio
+     * mantém os lotes já confirmados.
+     * 
+     * @param command IDs e/ou filtros dos produtos a ativar
+     * @return quantos produtos foram ativados e quantos foram rejeitados
+     * @throws InvalidProductException se o comando não tiver IDs nem filtros, ou tiver um ID ou
+     * uma faixa de preço inválida
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStatusResponse activateProducts(BulkStatusCommand command) {
+        ProductSelection selection = toSelection(command);
+        long rejected = selection.getStatus() == ProductStatus.ACTIVE ? 0 : productRepository.count(
+            selection.toBuilder()
+                .status(ProductStatus.INACTIVE)
+                .maxPrice(min(selection.getMaxPrice(), MAX_REJECTED_PRICE))
+                .build());
         
-        // Persistir alteração
-        Product savedProduct = productRepository.save(product);
+        ProductSelection activatable = selection.toBuilder()
+            .minPrice(max(selection.getMinPrice(), Product.MIN_ACTIVATION_PRICE))
+            .build();
+        long affected = changeStatus(activatable, ProductStatus.ACTIVE);
         
-        // Publicar evento de domínio
-        eventPublisher.publishProductDeactivated(savedProduct);
+        return BulkStatusResponse.builder()
+            .affected(affected)
+            .rejected(rejected)
+            .build();
+    }
+    
+    /**
+     * Desativa de uma vez os produtos selecionados pelo comando, em lotes como
+     * {@link #activateProducts(BulkStatusCommand)}. Desativar não tem restrição de domínio, então
+     * nenhum produto é rejeitado.
+     * 
+     * @param command IDs e/ou filtros dos produtos a desativar
+     * @return quantos produtos foram desativados
+     * @throws InvalidProductException se o comando não tiver IDs nem filtros, ou tiver um ID ou
+     * uma faixa de preço inválida
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStatusResponse deactivateProducts(BulkStatusCommand command) {
+        long affected = changeStatus(toSelection(command), ProductStatus.INACTIVE);
         
-        // Converter para resposta
-        return productMapper.toResponse(savedProduct);
+        return BulkStatusResponse.builder()
+            .affected(affected)
+            .rejected(0)
+            .build();
+    }
+    
+    /**
+     * Inicia o reajuste de preço dos produtos que atendem aos filtros do comando. O reajuste roda
+     * em segundo plano, em lotes de uma transação cada; a resposta traz o job recém-criado, cujo
+     * progresso é consultado por {@link #findRepriceJob(String)}.
+     * 
+     * @param command filtros e alteração de preço
+     * @return o job criado, ainda sem produtos processados
+     * @throws InvalidProductException se o comando não tiver exatamente um entre percentual e
+     * valor, ou tiver uma faixa de preço inválida
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RepriceJobResponse startRepricing(RepriceCommand command) {
+        if ((command.getPercentage() == null) == (command.getAmount() == null)) {
+            throw new InvalidProductException("Repricing requires exactly one of percentage or amount");
+        }
+        if (command.getMinPrice() != null && command.getMaxPrice() != null
+                && command.getMinPrice() > command.getMaxPrice()) {
+            throw new InvalidProductException("minPrice must not be greater than maxPrice");
+        }
+        ProductSelection selection = ProductSelection.builder()
+            .status(command.getStatus())
+            .minPrice(command.getMinPrice() != null ? new Money(command.getMinPrice()) : null)
+            .maxPrice(command.getMaxPrice() != null ? new Money(command.getMaxPrice()) : null)
+            .build();
+        PriceChange change = command.getPercentage() != null
+            ? PriceChange.percentage(command.getPercentage())
+            : PriceChange.amount(new Money(command.getAmount()));
+        
+        return toResponse(repricer.start(selection, change));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RepriceJobResponse findRepriceJob(String id) {
+        return toResponse(repricer.find(toJobId(id)));
+    }
+    
+    /**
+     * Retoma um reajuste que falhou ou foi interrompido a partir do último lote confirmado.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RepriceJobResponse resumeRepricing(String id) {
+        return toResponse(repricer.resume(toJobId(id)));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<RepriceJobResponse> resumeInterruptedRepricing() {
+        return repricer.resumeInterrupted().stream()
+            .map(ProductManagementService::toResponse)
+            .toList();
+    }
+    
+    private static UUID toJobId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProductException("Invalid reprice job id: " + id);
+        }
+    }
+    
+    private static RepriceJobResponse toResponse(RepriceJob job) {
+        ProductSelection selection = job.getSelection();
+        PriceChange change = job.getChange();
+        return RepriceJobResponse.builder()
+            .id(job.getId().toString())
+            .state(job.getState().name())
+            .status(selection.getStatus() != null ? selection.getStatus().name() : null)
+            .minPrice(selection.getMinPrice() != null ? selection.getMinPrice().getAmount() : null)
+            .maxPrice(selection.getMaxPrice() != null ? selection.getMaxPrice().getAmount() : null)
+            .percentage(change.getPercentage())
+            .amount(change.getAmount() != null ? change.getAmount().getAmount() : null)
+            .total(job.getTotal())
+            .processed(job.getProcessed())
+            .deactivated(job.getDeactivated())
+            .progress(job.getProgress())
+            .productsPerSecond(job.getProductsPerSecond())
+            .createdAt(job.getCreatedAt())
+            .updatedAt(job.getUpdatedAt())
+            .error(job.getError())
+            .build();
+    }
+    
+    private List<Product> createChunk(List<Product> products) {
+        List<Product> saved = transactionOperations.execute(transaction -> {
+            // Persistir os produtos válidos do lote
+            List<Product> savedProducts = productRepository.saveAll(products);
+            statistics.productsAdded(savedProducts);
+            
+            // Publicar um único evento de domínio para o lote
+            eventPublisher.publishProductsCreated(savedProducts);
+            return savedProducts;
+        });
+        return saved != null ? saved : List.of();
+    }
+    
+    /**
+     * Com lista de IDs, cada lote é um trecho da lista; só com filtros, os lotes seguem a ordem
+     * de ID a partir do último produto alterado até um lote voltar vazio.
+     */
+    private long changeStatus(ProductSelection selection, ProductStatus status) {
+        List<ProductId> ids = selection.getIds();
+        long affected = 0;
+        if (ids != null) {
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+                List<ProductId> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK_SIZE));
+                affected += changeStatusChunk(selection.toBuilder().ids(chunk).build(), status, null).size();
+            }
+            return affected;
+        }
+        
+        ProductId after = null;
+        List<Product> changed;
+        do {
+            changed = changeStatusChunk(selection, status, after);
+            affected += changed.size();
+            after = changed.isEmpty() ? null : changed.get(changed.size() - 1).getId();
+        } while (changed.size() == BULK_CHUNK_SIZE);
+        return affected;
+    }
+    
+    private List<Product> changeStatusChunk(ProductSelection selection, ProductStatus status, ProductId after) {
+        List<Product> changed = transactionOperations.execute(transaction -> {
+            List<Product> products = productRepository.updateStatus(selection, status, after, BULK_CHUNK_SIZE);
+            if (products.isEmpty()) {
+                return products;
+            }
+            // O repositório só altera produtos que estavam no outro status
+            statistics.statusChanged(otherStatus(status), status, products.size());
+            if (status == ProductStatus.ACTIVE) {
+                eventPublisher.publishProductsActivated(products);
+            } else {
+                eventPublisher.publishProductsDeactivated(products);
+            }
+            return products;
+        });
+        return changed != null ? changed : List.of();
+    }
+    
+    private static ProductSelection toSelection(BulkStatusCommand command) {
+        boolean hasIds = command.getIds() != null;
+        if (!hasIds && command.getStatus() == null && command.getMinPrice() == null && command.getMaxPrice() == null) {
+            throw new InvalidProductException("Bulk status change requires ids or at least one filter");
+        }
+        if (command.getMinPrice() != null && command.getMaxPrice() != null
+                && command.getMinPrice() > command.getMaxPrice()) {
+            throw new InvalidProductException("minPrice must not be greater than maxPrice");
+        }
+        return ProductSelection.builder()
+            .ids(hasIds ? command.getIds().stream().map(ProductId::new).distinct().toList() : null)
+            .status(command.getStatus())
+            .minPrice(command.getMinPrice() != null ? new Money(command.getMinPrice()) : null)
+            .maxPrice(command.getMaxPrice() != null ? new Money(command.getMaxPrice()) : null)
+            .build();
+    }
+    
+    private static ProductStatus otherStatus(ProductStatus status) {
+        return status == ProductStatus.ACTIVE ? ProductStatus.INACTIVE : ProductStatus.ACTIVE;
+    }
+    
+    private static Money min(Money value, Money bound) {
+        return value == null || value.compareTo(bound) > 0 ? bound : value;
+    }
+    
+    private static Money max(Money value, Money bound) {
+        return value == null || value.compareTo(bound) < 0 ? bound : value;
+    }
+    
+    /**
+     * Chamado quando o UPDATE condicional não afetou nenhuma linha porque outra escrita mudou o
+     * produto depois da leitura: a operação é relida e reaplicada até {@value #MAX_WRITE_ATTEMPTS}
+     * vezes, e então falha como conflito de versão em vez de disputar o produto indefinidamente.
+     */
+    private static void checkWriteAttempts(ProductId id, long readVersion, int attempt) {
+        if (attempt >= MAX_WRITE_ATTEMPTS) {
+            throw new ProductVersionConflictException(id, readVersion);
+        }
+    }
+    
+    /**
+     * Lê o produto a ser alterado. Uma nova tentativa depois de um UPDATE sem efeito passa
+     * por aqui de novo, e é nessa releitura que o conflito ou a remoção aparecem.
+     */
+    private Product findForWrite(ProductId id, Long expectedVersion) {
+        Product product = productRepository.findById(id)
+            .orElseThrow(() -> new ProductNotFoundException(id));
+        
+        if (expectedVersion != null && product.getVersion() != expectedVersion) {
+            throw new ProductVersionConflictException(id, expectedVersion);
+        }
+        return product;
+    }
+    
+    private Product toProduct(CreateProductCommand command) {
+        return Product.create(
+            ProductId.generate(),
+            command.getName(),
+            command.getPrice() != null ? new Money(command.getPrice()) : null
+        );
     }
 }
\ No newline at end of file
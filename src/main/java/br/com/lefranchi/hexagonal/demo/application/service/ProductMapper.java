@@ -14,6 +14,7 @@ public class ProductMapper {
             .name(product.getName())
             .price(product.getPrice().getAmount())
             .status(product.getStatus().name())
+            .version(product.getVersion())
             .build();
     }
 }
\ No newline at end of file
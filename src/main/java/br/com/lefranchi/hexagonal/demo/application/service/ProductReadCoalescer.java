@@ -0,0 +1,115 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Agrupa buscas simultâneas pelo mesmo produto numa única consulta (<i>single-flight</i>).
+ *
+ * A primeira busca por um ID consulta o repositório; as que chegam enquanto ela está em
+ * andamento esperam e recebem o mesmo resultado, ou a mesma exceção, inclusive
+ * {@code ProductNotFoundException}. Nada é guardado depois que a consulta termina: a busca
+ * seguinte consulta de novo. Um leitor agrupado pode receber o estado de antes de uma escrita
+ * confirmada durante a consulta em andamento, como qualquer leitura concorrente com ela.
+ *
+ * A espera é limitada por {@code product.read.coalescing.timeout-ms}; esgotado o prazo, o
+ * leitor desiste da consulta em andamento e faz a sua.
+ */
+@Component
+public class ProductReadCoalescer {
+
+    private final ConcurrentHashMap<ProductId, CompletableFuture<ProductResponse>> inFlight =
+        new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public ProductReadCoalescer(@Value("${product.read.coalescing.timeout-ms:1000}") long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Devolve o resultado da consulta em andamento para o ID ou, se não houver, executa
+     * {@code loader} e compartilha o resultado com quem chegar enquanto ele executa.
+     */
+    public ProductResponse find(ProductId id, Function<ProductId, ProductResponse> loader) {
+        CompletableFuture<ProductResponse> call = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> current = inFlight.putIfAbsent(id, call);
+        if (current != null) {
+            return await(id, current, loader);
+        }
+        return load(id, call, loader);
+    }
+
+    private ProductResponse load(ProductId id, CompletableFuture<ProductResponse> call,
+            Function<ProductId, ProductResponse> loader) {
+        loads.increment();
+        try {
+            ProductResponse response = loader.apply(id);
+            call.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    private ProductResponse await(ProductId id, CompletableFuture<ProductResponse> current,
+            Function<ProductId, ProductResponse> loader) {
+        try {
+            ProductResponse response = current.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return response;
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            // A exceção da consulta compartilhada, sem o invólucro do future
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            loads.increment();
+            return loader.apply(id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for product " + id.getValue(), e);
+        }
+    }
+
+    /** Consultas feitas ao repositório, inclusive as de leitores que desistiram de esperar. */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /** Buscas atendidas pela consulta de outra, sem ir ao repositório. */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /** Buscas que esgotaram a espera e consultaram o repositório por conta própria. */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,273 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJob;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobState;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotResumableException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Executa os reajustes de preço em massa, um job por vez, numa thread própria.
+ *
+ * Cada lote é uma transação: o repositório reajusta até {@code chunk-size} produtos a partir do
+ * cursor do job, as estatísticas e os eventos recebem os produtos alterados e o job é gravado
+ * com o novo cursor. Com o adaptador JPA, progresso e produtos são confirmados juntos, e um job
+ * interrompido continua exatamente do primeiro produto ainda não reajustado. Os repositórios
+ * em memória e em log não participam da transação ({@code transactional-store=false}): neles o
+ * job é gravado com o lote pendente antes da alteração e com o novo cursor logo depois dela. Um
+ * job que para com o lote pendente não é retomado, já que reaplicar o lote acumularia o reajuste
+ * nos produtos que ele já alterou; ele fica em {@code FAILED} e a retomada é recusada com
+ * {@link RepriceJobNotResumableException}.
+ *
+ * Jobs que estavam em execução quando a aplicação parou continuam em {@code RUNNING} e são
+ * retomados por {@link #resumeInterrupted()}. No encerramento, o job corrente termina o lote em
+ * andamento e para.
+ */
+@Component
+public class ProductRepricer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductRepricer.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ProductRepository productRepository;
+    private final RepriceJobRepository jobRepository;
+    private final ProductStatistics statistics;
+    private final ProductEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final Executor executor;
+    private final int chunkSize;
+    private final boolean transactionalStore;
+
+    /** Jobs já entregues ao executor nesta JVM, para que não sejam executados duas vezes. */
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+    private final LongAdder repricedProducts = new LongAdder();
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder failedJobs = new LongAdder();
+    private volatile boolean stopping;
+
+    @Autowired
+    public ProductRepricer(
+            ProductRepository productRepository,
+            RepriceJobRepository jobRepository,
+            ProductStatistics statistics,
+            ProductEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
+            @Value("${product.reprice.chunk-size:1000}") int chunkSize,
+            @Value("${product.reprice.transactional-store:true}") boolean transactionalStore) {
+        this(productRepository, jobRepository, statistics, eventPublisher, transactionOperations,
+            Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "product-reprice");
+                thread.setDaemon(true);
+                return thread;
+            }),
+            chunkSize, transactionalStore);
+    }
+
+    ProductRepricer(
+            ProductRepository productRepository,
+            RepriceJobRepository jobRepository,
+            ProductStatistics statistics,
+            ProductEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
+            Executor executor,
+            int chunkSize,
+            boolean transactionalStore) {
+        this.productRepository = productRepository;
+        this.jobRepository = jobRepository;
+        this.statistics = statistics;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.transactionalStore = transactionalStore;
+    }
+
+    /**
+     * Grava o job e o entrega ao executor.
+     *
+     * @return o job como foi gravado, antes do primeiro lote
+     */
+    public RepriceJob start(ProductSelection selection, PriceChange change) {
+        RepriceJob job = RepriceJob.start(selection, change, productRepository.count(selection), Instant.now());
+        jobRepository.save(job);
+        schedule(job.getId());
+        return job;
+    }
+
+    public RepriceJob find(UUID id) {
+        return jobRepository.findById(id)
+            .orElseThrow(() -> new RepriceJobNotFoundException(id));
+    }
+
+    /**
+     * Retoma um job que falhou ou foi interrompido, a partir do seu cursor. Um job concluído,
+     * ou já em execução nesta JVM, é devolvido sem alteração; um que parou com um lote pendente
+     * é recusado.
+     */
+    public RepriceJob resume(UUID id) {
+        RepriceJob job = find(id);
+        if (job.getState() == RepriceJobState.COMPLETED || scheduled.contains(id)) {
+            return job;
+        }
+        if (job.isChunkPending()) {
+            throw new RepriceJobNotResumableException(id);
+        }
+        if (job.getState() == RepriceJobState.FAILED) {
+            job.resume(Instant.now());
+            jobRepository.save(job);
+        }
+        schedule(id);
+        return job;
+    }
+
+    /**
+     * Retoma os jobs gravados como em execução que não estão no executor desta JVM, isto é, os
+     * interrompidos por uma parada da aplicação. Os que pararam com um lote pendente são
+     * marcados como falhos em vez de retomados.
+     */
+    public List<RepriceJob> resumeInterrupted() {
+        List<RepriceJob> interrupted = new ArrayList<>();
+        for (RepriceJob job : jobRepository.findByState(RepriceJobState.RUNNING)) {
+            if (scheduled.contains(job.getId())) {
+                continue;
+            }
+            if (job.isChunkPending()) {
+                log.warn("Reprice job {} stopped while applying the chunk after {}; not resuming it", job.getId(),
+                    job.getCursor());
+                job.fail(new RepriceJobNotResumableException(job.getId()).getMessage(), Instant.now());
+                jobRepository.save(job);
+            } else if (schedule(job.getId())) {
+                interrupted.add(job);
+            }
+        }
+        return interrupted;
+    }
+
+    private boolean schedule(UUID id) {
+        if (!scheduled.add(id)) {
+            return false;
+        }
+        executor.execute(() -> run(id));
+        return true;
+    }
+
+    private void run(UUID id) {
+        try {
+            RepriceJob job = find(id);
+            while (job.getState() == RepriceJobState.RUNNING && !stopping) {
+                RepriceJob current = job;
+                job = transactionOperations.execute(transaction -> repriceChunk(current));
+            }
+            if (job.getState() == RepriceJobState.COMPLETED) {
+                completedJobs.increment();
+                log.info("Reprice job {} completed: {} products, {} deactivated, {} products/s", id,
+                    job.getProcessed(), job.getDeactivated(), Math.round(job.getProductsPerSecond()));
+            }
+        } catch (RuntimeException e) {
+            log.error("Reprice job {} failed", id, e);
+            failedJobs.increment();
+            // O job em memória pode ter avançado num lote revertido; o gravado tem o último cursor confirmado
+            jobRepository.findById(id).ifPresent(job -> {
+                job.fail(String.valueOf(e.getMessage()), Instant.now());
+                jobRepository.save(job);
+            });
+        } finally {
+            scheduled.remove(id);
+        }
+    }
+
+    private RepriceJob repriceChunk(RepriceJob job) {
+        long start = System.nanoTime();
+        if (!transactionalStore) {
+            job.beginChunk(Instant.now());
+            jobRepository.save(job);
+        }
+        List<Product> products = productRepository.reprice(job.getSelection(), job.getChange(), job.getCursor(),
+            chunkSize);
+        int deactivated = 0;
+        for (Product product : products) {
+            ProductStatus previousStatus = product.getStatus();
+            Money previousPrice = product.getPrice();
+            // O repositório devolve o estado anterior; a mesma regra do domínio dá o estado gravado
+            product.reprice(job.getChange());
+            statistics.productChanged(previousStatus, previousPrice, product);
+            if (product.getStatus() != previousStatus) {
+                deactivated++;
+            }
+        }
+        Instant now = Instant.now();
+        if (!products.isEmpty()) {
+            job.advance(products.get(products.size() - 1).getId(), products.size(), deactivated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), now);
+        }
+        if (products.size() < chunkSize) {
+            job.complete(now);
+        }
+        // Fora da transação, o cursor é gravado antes de qualquer outra coisa que possa falhar
+        jobRepository.save(job);
+        if (!products.isEmpty()) {
+            eventPublisher.publishProductsUpdated(products);
+        }
+        repricedProducts.add(products.size());
+        return job;
+    }
+
+    /**
+     * O job corrente para ao fim do lote em andamento e continua em {@code RUNNING}, para ser
+     * retomado na próxima inicialização.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+            service.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    public long getRepricedProducts() {
+        return repricedProducts.sum();
+    }
+
+    public long getCompletedJobs() {
+        return completedJobs.sum();
+    }
+
+    public long getFailedJobs() {
+        return failedJobs.sum();
+    }
+
+    public int getRunningJobs() {
+        return scheduled.size();
+    }
+}
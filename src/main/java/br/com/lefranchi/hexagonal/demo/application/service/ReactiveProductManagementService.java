@@ -0,0 +1,388 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ReactiveProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ReactiveProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Implementação não bloqueante dos casos de uso de gerenciamento de produtos, ativa no perfil
+ * {@code reactive}.
+ *
+ * As regras são as de {@link ProductManagementService}. Não há transação em volta dos casos de
+ * uso: cada escrita é um único comando condicional à versão lida (o lote é gravado numa transação
+ * pelo próprio repositório), então estatísticas e eventos são registrados quando o comando
+ * termina, que é quando ele já está confirmado.
+ *
+ * @author Leandro Franchi
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductManagementService implements ReactiveProductManagementUseCase {
+
+    /**
+     * Refaz uma escrita condicional que não alterou nenhuma linha, relendo o produto, até
+     * {@link ProductManagementService#MAX_WRITE_ATTEMPTS} tentativas; esgotadas, a escrita falha
+     * como conflito de versão.
+     */
+    private static final Retry CONCURRENT_WRITE_RETRY = Retry.max(ProductManagementService.MAX_WRITE_ATTEMPTS - 1)
+        .filter(ConcurrentWriteException.class::isInstance)
+        .onRetryExhaustedThrow((spec, signal) -> ((ConcurrentWriteException) signal.failure()).toConflict());
+
+    private final ReactiveProductRepository productRepository;
+    private final ProductEventPublisher eventPublisher;
+    private final ProductSearchIndex searchIndex;
+    private final ProductStatistics statistics;
+    private final ProductMapper productMapper;
+
+    /**
+     * Cria um novo produto com um único INSERT.
+     *
+     * @param command comando contendo os dados do produto a ser criado
+     * @return resposta com os dados do produto criado
+     */
+    @Override
+    public Mono<ProductResponse> createProduct(CreateProductCommand command) {
+        return Mono.fromCallable(() -> toProduct(command))
+            .flatMap(product -> productRepository.insert(product).thenReturn(product))
+            .doOnNext(product -> {
+                statistics.productAdded(product);
+                eventPublisher.publishProductCreated(product);
+            })
+            .map(productMapper::toResponse);
+    }
+
+    /**
+     * Cria vários produtos de uma só vez.
+     *
+     * Itens inválidos são reportados individualmente; os válidos são gravados em lotes de até
+     * {@link ProductManagementService#BULK_CHUNK_SIZE}, um depois do outro, cada um numa transação
+     * e publicado em um único evento.
+     *
+     * @param commands comandos com os dados dos produtos a serem criados
+     * @return um resultado por comando, na mesma ordem da entrada
+     */
+    @Override
+    public Mono<List<ProductBatchItemResponse>> createProducts(List<CreateProductCommand> commands) {
+        return Mono.defer(() -> {
+            ProductBatchItemResponse[] results = new ProductBatchItemResponse[commands.size()];
+            List<Product> products = new ArrayList<>(commands.size());
+            List<Integer> productIndexes = new ArrayList<>(commands.size());
+
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    products.add(toProduct(commands.get(i)));
+                    productIndexes.add(i);
+                } catch (InvalidProductException e) {
+                    results[i] = ProductBatchItemResponse.builder()
+                        .index(i)
+                        .status(ProductBatchItemResponse.FAILED)
+                        .error(e.getMessage())
+                        .build();
+                }
+            }
+
+            int chunkSize = ProductManagementService.BULK_CHUNK_SIZE;
+            return Flux.range(0, (products.size() + chunkSize - 1) / chunkSize)
+                .concatMap(chunk -> {
+                    int from = chunk * chunkSize;
+                    List<Product> batch = products.subList(from, Math.min(products.size(), from + chunkSize));
+                    return productRepository.insertAll(batch)
+                        .then(Mono.fromRunnable(() -> {
+                            statistics.productsAdded(batch);
+                            eventPublisher.publishProductsCreated(batch);
+
+                            for (int i = 0; i < batch.size(); i++) {
+                                int index = productIndexes.get(from + i);
+                                results[index] = ProductBatchItemResponse.builder()
+                                    .index(index)
+                                    .status(ProductBatchItemResponse.CREATED)
+                                    .product(productMapper.toResponse(batch.get(i)))
+                                    .build();
+                            }
+                        }));
+                })
+                .then(Mono.fromCallable(() -> List.of(results)));
+        });
+    }
+
+    /**
+     * Busca um produto por ID.
+     *
+     * @param id identificador do produto
+     * @return resposta com os dados do produto, ou erro {@link ProductNotFoundException}
+     */
+    @Override
+    public Mono<ProductResponse> findProduct(ProductId id) {
+        return productRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)))
+            .map(productMapper::toResponse);
+    }
+
+    /**
+     * Busca apenas a versão atual de um produto, para validar requisições condicionais.
+     *
+     * @param id identificador do produto
+     * @return versão atual do produto, ou erro {@link ProductNotFoundException}
+     */
+    @Override
+    public Mono<Long> findProductVersion(ProductId id) {
+        return productRepository.findVersion(id)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)));
+    }
+
+    /**
+     * Lista uma página de produtos usando paginação por cursor (keyset), como
+     * {@link ProductManagementService#findProductsPage(ProductId, int)}.
+     *
+     * @param after identificador do último produto da página anterior, ou {@code null} para a primeira página
+     * @param limit quantidade máxima de produtos na página
+     * @return página com os produtos e o cursor da próxima página, se houver
+     */
+    @Override
+    public Mono<ProductPageResponse> findProductsPage(ProductId after, int limit) {
+        return productRepository.findPage(after, limit + 1)
+            .collectList()
+            .map(products -> {
+                boolean hasNext = products.size() > limit;
+                List<Product> pageItems = hasNext ? products.subList(0, limit) : products;
+
+                return ProductPageResponse.builder()
+                    .items(pageItems.stream().map(productMapper::toResponse).toList())
+                    .nextCursor(hasNext ? pageItems.get(limit - 1).getId().getValue() : null)
+                    .build();
+            });
+    }
+
+    /**
+     * Lista uma página de produtos filtrada e ordenada, como
+     * {@link ProductManagementService#searchProducts(ProductSearchQuery)}.
+     *
+     * @param query filtros, ordenação, cursor da página anterior e tamanho da página
+     * @return página com os produtos e o cursor da próxima página, se houver
+     */
+    @Override
+    public Mono<ProductPageResponse> searchProducts(ProductSearchQuery query) {
+        return Mono.fromCallable(() -> ProductManagementService.toProductQuery(query))
+            .flatMap(productQuery -> productRepository.findPage(productQuery).collectList())
+            .map(products -> ProductManagementService.toSearchPage(query, products, productMapper));
+    }
+
+    /**
+     * Busca produtos pelo nome, do mais para o menos parecido. Os produtos encontrados pelo
+     * índice são lidos do repositório em paralelo, mas emitidos na ordem de relevância; os que
+     * já foram removidos são omitidos.
+     *
+     * @param text trecho do nome, com ao menos {@value ProductManagementService#MIN_SEARCH_LENGTH} caracteres
+     * @param limit quantidade máxima de produtos
+     * @return produtos encontrados, em ordem de relevância
+     */
+    @Override
+    public Flux<ProductResponse> searchProductsByName(String text, int limit) {
+        if (text == null || text.strip().length() < ProductManagementService.MIN_SEARCH_LENGTH) {
+            return Flux.error(new InvalidProductException(
+                "Search text must have at least " + ProductManagementService.MIN_SEARCH_LENGTH + " characters"));
+        }
+        return Flux.defer(() -> Flux.fromIterable(searchIndex.search(text.strip(), limit)))
+            .flatMapSequential(productRepository::findById)
+            .map(productMapper::toResponse);
+    }
+
+    /**
+     * Estatísticas do catálogo, a partir dos agregados mantidos a cada escrita.
+     *
+     * @return estatísticas atuais do catálogo
+     */
+    @Override
+    public Mono<ProductStatisticsResponse> getStatistics() {
+        return Mono.fromSupplier(() -> ProductManagementService.toStatisticsResponse(statistics.current()));
+    }
+
+    /**
+     * Atualiza um produto existente com um UPDATE condicional à versão lida; se outra escrita
+     * passar na frente, a operação é refeita sobre o novo estado, até
+     * {@link ProductManagementService#MAX_WRITE_ATTEMPTS} vezes.
+     *
+     * @param id identificador do produto a ser atualizado
+     * @param command comando contendo os novos dados do produto
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
+     * @return resposta com os dados do produto atualizado
+     */
+    @Override
+    public Mono<ProductResponse> updateProduct(ProductId id, UpdateProductCommand command, Long expectedVersion) {
+        return Mono.defer(() -> findForWrite(id, expectedVersion))
+            .flatMap(product -> {
+                long readVersion = product.getVersion();
+                ProductStatus previousStatus = product.getStatus();
+                Money previousPrice = product.getPrice();
+
+                product.update(
+                    command.getName(),
+                    command.getPrice() != null ? new Money(command.getPrice()) : null
+                );
+
+                return productRepository.update(product)
+                    .flatMap(updated -> {
+                        if (!updated) {
+                            return Mono.<ProductResponse>error(new ConcurrentWriteException(id, readVersion));
+                        }
+                        statistics.productChanged(previousStatus, previousPrice, product);
+                        eventPublisher.publishProductUpdated(product);
+                        return Mono.just(productMapper.toResponse(product));
+                    });
+            })
+            .retryWhen(CONCURRENT_WRITE_RETRY);
+    }
+
+    /**
+     * Remove um produto com um único DELETE, condicional à versão quando ela é informada; só
+     * quando nada é removido o produto é relido para distinguir produto inexistente de
+     * conflito de versão.
+     *
+     * @param id identificador do produto a ser removido
+     * @param expectedVersion versão que o chamador espera remover, ou {@code null}
+     * @return conclusão da remoção, ou erro {@link ProductNotFoundException} ou
+     *         {@link ProductVersionConflictException}
+     */
+    @Override
+    public Mono<Void> deleteProduct(ProductId id, Long expectedVersion) {
+        Mono<Product> deleted = expectedVersion == null
+            ? productRepository.deleteById(id)
+            : productRepository.deleteById(id, expectedVersion);
+
+        return deleted
+            .switchIfEmpty(Mono.defer(() -> notDeleted(id, expectedVersion)))
+            .doOnNext(product -> {
+                statistics.productRemoved(product);
+                eventPublisher.publishProductDeleted(id);
+            })
+            .then();
+    }
+
+    /**
+     * Ativa um produto, aplicando a regra de domínio sobre o preço que está gravado.
+     *
+     * @param id identificador do produto a ser ativado
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
+     * @return resposta com os dados do produto ativado
+     */
+    @Override
+    public Mono<ProductResponse> activateProduct(ProductId id, Long expectedVersion) {
+        return Mono.defer(() -> findForWrite(id, expectedVersion))
+            .flatMap(product -> {
+                long readVersion = product.getVersion();
+                ProductStatus previousStatus = product.getStatus();
+                product.activate();
+
+                return productRepository.updateStatus(product)
+                    .flatMap(updated -> {
+                        if (!updated) {
+                            return Mono.<ProductResponse>error(new ConcurrentWriteException(id, readVersion));
+                        }
+                        statistics.productChanged(previousStatus, product.getPrice(), product);
+                        eventPublisher.publishProductActivated(product);
+                        return Mono.just(productMapper.toResponse(product));
+                    });
+            })
+            .retryWhen(CONCURRENT_WRITE_RETRY);
+    }
+
+    /**
+     * Desativa um produto.
+     *
+     * @param id identificador do produto a ser desativado
+     * @param expectedVersion versão que o chamador espera alterar, ou {@code null}
+     * @return resposta com os dados do produto desativado
+     */
+    @Override
+    public Mono<ProductResponse> deactivateProduct(ProductId id, Long expectedVersion) {
+        return Mono.defer(() -> findForWrite(id, expectedVersion))
+            .flatMap(product -> {
+                long readVersion = product.getVersion();
+                ProductStatus previousStatus = product.getStatus();
+                product.deactivate();
+
+                return productRepository.updateStatus(product)
+                    .flatMap(updated -> {
+                        if (!updated) {
+                            return Mono.<ProductResponse>error(new ConcurrentWriteException(id, readVersion));
+                        }
+                        statistics.productChanged(previousStatus, product.getPrice(), product);
+                        eventPublisher.publishProductDeactivated(product);
+                        return Mono.just(productMapper.toResponse(product));
+                    });
+            })
+            .retryWhen(CONCURRENT_WRITE_RETRY);
+    }
+
+    /**
+     * Lê o produto a ser alterado; é nessa releitura, depois de um UPDATE sem efeito, que o
+     * conflito ou a remoção aparecem.
+     */
+    private Mono<Product> findForWrite(ProductId id, Long expectedVersion) {
+        return productRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)))
+            .flatMap(product -> expectedVersion != null && product.getVersion() != expectedVersion
+                ? Mono.error(new ProductVersionConflictException(id, expectedVersion))
+                : Mono.just(product));
+    }
+
+    private Mono<Product> notDeleted(ProductId id, Long expectedVersion) {
+        Mono<Long> currentVersion = expectedVersion != null ? productRepository.findVersion(id) : Mono.empty();
+        return currentVersion
+            .flatMap(version -> Mono.<Product>error(new ProductVersionConflictException(id, expectedVersion)))
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(id)));
+    }
+
+    private Product toProduct(CreateProductCommand command) {
+        return Product.create(
+            ProductId.generate(),
+            command.getName(),
+            command.getPrice() != null ? new Money(command.getPrice()) : null
+        );
+    }
+
+    /** Sinal interno de que o UPDATE condicional perdeu para outra escrita; é consumido pelo retry. */
+    private static final class ConcurrentWriteException extends RuntimeException {
+
+        private final ProductId id;
+        private final long readVersion;
+
+        ConcurrentWriteException(ProductId id, long readVersion) {
+            super(null, null, false, false);
+            this.id = id;
+            this.readVersion = readVersion;
+        }
+
+        ProductVersionConflictException toConflict() {
+            return new ProductVersionConflictException(id, readVersion);
+        }
+    }
+}
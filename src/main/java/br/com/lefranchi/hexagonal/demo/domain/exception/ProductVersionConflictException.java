@@ -0,0 +1,9 @@
+package br.com.lefranchi.hexagonal.demo.domain.exception;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+public class ProductVersionConflictException extends RuntimeException {
+    public ProductVersionConflictException(ProductId id, long expectedVersion) {
+        super("Product " + id.getValue() + " is no longer at version " + expectedVersion);
+    }
+}
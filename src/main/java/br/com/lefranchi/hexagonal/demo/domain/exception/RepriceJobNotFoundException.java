@@ -0,0 +1,9 @@
+package br.com.lefranchi.hexagonal.demo.domain.exception;
+
+import java.util.UUID;
+
+public class RepriceJobNotFoundException extends RuntimeException {
+    public RepriceJobNotFoundException(UUID id) {
+        super("Reprice job not found with id: " + id);
+    }
+}
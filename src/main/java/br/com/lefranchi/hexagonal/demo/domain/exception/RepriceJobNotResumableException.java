@@ -0,0 +1,10 @@
+package br.com.lefranchi.hexagonal.demo.domain.exception;
+
+import java.util.UUID;
+
+public class RepriceJobNotResumableException extends RuntimeException {
+    public RepriceJobNotResumableException(UUID id) {
+        super("Reprice job " + id + " stopped while applying a chunk outside a transaction and cannot be resumed"
+            + " without repricing some products twice");
+    }
+}
@@ -2,6 +2,7 @@ package br.com.lefranchi.hexagonal.demo.domain.model;
 
 import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
@@ -12,11 +13,24 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
+    
+    /**
+     * Menor preço com que um produto pode ser ativado. Exposto para que operações sobre
+     * conjuntos de produtos apliquem a mesma regra de {@link #activate()} como filtro.
+     */
+    public static final Money MIN_ACTIVATION_PRICE = Money.ofCents(0);
+    
     private ProductId id;
     private String name;
     private Money price;
     private ProductStatus status;
     
+    /**
+     * Versão do estado persistido. Começa em 0 e avança a cada alteração; o repositório só
+     * grava a alteração se a versão armazenada ainda for a anterior (controle otimista).
+     */
+    private long version;
+    
     private Product(ProductId id, String name, Money price) {
         this.id = id;
         this.name = name;
@@ -35,6 +49,17 @@ public class Product {
         return new Product(id, name, price);
     }
     
+    public static Product restore(ProductId id, String name, Money price, ProductStatus status) {
+        return restore(id, name, price, status, 0L);
+    }
+    
+    public static Product restore(ProductId id, String name, Money price, ProductStatus status, long version) {
+        Product product = create(id, name, price);
+        product.status = status;
+        product.version = version;
+        return product;
+    }
+    
     public void update(String name, Money price) {
         if (name != null && !name.trim().isEmpty()) {
             this.name = name;
@@ -46,16 +71,27 @@ public class Product {
                 this.status = ProductStatus.INACTIVE;
             }
         }
+        this.version++;
+    }
+    
+    /**
+     * Aplica a alteração ao preço atual com as mesmas regras de {@link #update(String, Money)}:
+     * um produto ativo que passa a ter preço negativo é desativado.
+     */
+    public void reprice(PriceChange change) {
+        update(null, change.applyTo(this.price));
     }
     
     public void activate() {
-        if (this.price.isLessThanZero()) {
+        if (this.price.compareTo(MIN_ACTIVATION_PRICE) < 0) {
             throw new InvalidProductException("Cannot activate product with negative price");
         }
         this.status = ProductStatus.ACTIVE;
+        this.version++;
     }
     
     public void deactivate() {
         this.status = ProductStatus.INACTIVE;
+        this.version++;
     }
 }
\ No newline at end of file
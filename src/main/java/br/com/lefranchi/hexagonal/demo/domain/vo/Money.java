@@ -2,50 +2,124 @@ package br.com.lefranchi.hexagonal.demo.domain.vo;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
 
-public class Money {
-    private final BigDecimal amount;
-    
+/**
+ * Valor monetário com duas casas decimais, mantido como um {@code long} de centavos.
+ *
+ * {@link BigDecimal} só aparece nas bordas (construção a partir de JSON/JPA e
+ * {@link #getAmount()}); comparações e aritmética operam sobre o {@code long}, sem alocação
+ * além do próprio resultado, e estouros lançam {@link ArithmeticException} em vez de
+ * produzir valores incorretos.
+ */
+public class Money implements Comparable<Money> {
+
+    private static final int SCALE = 2;
+    private static final double CENTS_PER_UNIT = 100.0;
+
+    /**
+     * Acima deste valor absoluto um {@code double} multiplicado por 100 não tem precisão
+     * suficiente para o caminho rápido de conversão.
+     */
+    private static final double FAST_PATH_LIMIT = 1e7;
+    private static final double FAST_PATH_TOLERANCE = 1e-6;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
     public Money(BigDecimal amount) {
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        this(toCents(amount));
     }
-    
+
     public Money(double amount) {
-        this(BigDecimal.valueOf(amount));
+        this(toCents(amount));
     }
-    
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(cents, SCALE);
     }
-    
+
+    public long getCents() {
+        return cents;
+    }
+
     public boolean isLessThanZero() {
-        return amount.compareTo(BigDecimal.ZERO) < 0;
+        return cents < 0;
     }
-    
+
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return new Money(Math.addExact(this.cents, other.cents));
     }
-    
+
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(Math.subtractExact(this.cents, other.cents));
+    }
+
+    /**
+     * Multiplica pelo fator e arredonda para o centavo com HALF_UP, o mesmo resultado de
+     * {@code ROUND(price * factor, 2)} sobre a coluna DECIMAL.
+     */
+    public Money multiply(BigDecimal factor) {
+        return new Money(BigDecimal.valueOf(cents).multiply(factor).setScale(0, RoundingMode.HALF_UP).longValueExact());
     }
-    
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents;
     }
-    
+
     @Override
     public int hashCode() {
-        return Objects.hash(amount);
+        return Long.hashCode(cents);
     }
-    
+
     @Override
     public String toString() {
-        return amount.toString();
+        return getAmount().toString();
+    }
+
+    private static long toCents(BigDecimal amount) {
+        // Valores já com até duas casas (ex.: lidos da coluna DECIMAL(10,2)) são múltiplos
+        // exatos de um centavo; o double correspondente basta para obtê-los sem alocação
+        if (amount.scale() <= SCALE) {
+            double value = amount.doubleValue();
+            if (Math.abs(value) < FAST_PATH_LIMIT) {
+                return Math.round(value * CENTS_PER_UNIT);
+            }
+        }
+        // Desloca a vírgula antes de arredondar: o resultado tem escala 0 e a conversão para
+        // long lê o valor compacto do BigDecimal, sem passar por BigInteger
+        return amount.scaleByPowerOfTen(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * Mesmo arredondamento de {@code BigDecimal.valueOf(amount).setScale(2, HALF_UP)}.
+     * Quando o valor já está a uma distância desprezível de um centavo exato (o caso de
+     * praticamente todo preço vindo de JSON) o resultado é obtido sem BigDecimal; perto da
+     * metade de um centavo, ou para valores muito grandes, usa-se o caminho exato.
+     */
+    private static long toCents(double amount) {
+        if (Math.abs(amount) < FAST_PATH_LIMIT) {
+            double scaled = amount * CENTS_PER_UNIT;
+            double rounded = Math.rint(scaled);
+            if (Math.abs(scaled - rounded) < FAST_PATH_TOLERANCE) {
+                return (long) rounded;
+            }
+        }
+        return toCents(BigDecimal.valueOf(amount));
     }
-}
\ No newline at end of file
+}
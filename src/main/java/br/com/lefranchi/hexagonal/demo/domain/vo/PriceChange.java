@@ -0,0 +1,70 @@
+package br.com.lefranchi.hexagonal.demo.domain.vo;
+
+import java.math.BigDecimal;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+
+/**
+ * Alteração de preço aplicada em massa: um percentual sobre o preço atual ou um valor somado
+ * a ele. O resultado é arredondado para o centavo como em {@link Money#multiply(BigDecimal)}.
+ */
+public final class PriceChange {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final BigDecimal percentage;
+    private final Money amount;
+
+    private PriceChange(BigDecimal percentage, Money amount) {
+        this.percentage = percentage;
+        this.amount = amount;
+    }
+
+    public static PriceChange percentage(BigDecimal percentage) {
+        if (percentage == null) {
+            throw new InvalidProductException("Price change percentage cannot be null");
+        }
+        return new PriceChange(percentage, null);
+    }
+
+    public static PriceChange amount(Money amount) {
+        if (amount == null) {
+            throw new InvalidProductException("Price change amount cannot be null");
+        }
+        return new PriceChange(null, amount);
+    }
+
+    public boolean isPercentage() {
+        return percentage != null;
+    }
+
+    /**
+     * @return o percentual, ou {@code null} se a alteração for por valor
+     */
+    public BigDecimal getPercentage() {
+        return percentage;
+    }
+
+    /**
+     * @return o valor somado, ou {@code null} se a alteração for percentual
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
+    /**
+     * Fator pelo qual o preço é multiplicado numa alteração percentual: {@code 1 + p / 100}.
+     */
+    public BigDecimal getFactor() {
+        return BigDecimal.ONE.add(percentage.divide(ONE_HUNDRED));
+    }
+
+    public Money applyTo(Money price) {
+        return isPercentage() ? price.multiply(getFactor()) : price.add(amount);
+    }
+
+    @Override
+    public String toString() {
+        return isPercentage() ? percentage.toPlainString() + "%" : amount.toString();
+    }
+}
@@ -1,42 +1,138 @@
 package br.com.lefranchi.hexagonal.demo.domain.vo;
 
-import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+
+/**
+ * Identificador de produto: um UUID versão 7 (RFC 9562) mantido como dois {@code long}.
+ *
+ * Os 48 bits mais altos são o instante de criação em milissegundos, de modo que IDs
+ * gerados depois comparam como maiores e novas inserções caem no fim do índice em vez
+ * de em posições aleatórias. A forma textual (36 caracteres) só existe nas bordas.
+ */
+public class ProductId implements Comparable<ProductId> {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long COUNTER_MASK = 0x0FFFL;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final int TEXT_LENGTH = 36;
+
+    /**
+     * Últimos 64 bits altos gerados (timestamp, versão e contador). Dentro do mesmo
+     * milissegundo o contador de 12 bits é incrementado, o que mantém a geração monotônica
+     * mesmo entre threads.
+     */
+    private static final AtomicLong lastMostSignificantBits = new AtomicLong();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private String value;
+
+    public ProductId(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
 
-public class ProductId {
-    private final String value;
-    
     public ProductId(String value) {
-        this.value = value;
+        this(parse(value));
+        this.value = value.toLowerCase();
     }
-    
+
+    private ProductId(UUID uuid) {
+        this(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
     public static ProductId of(String value) {
         return new ProductId(value);
     }
-    
+
+    public static ProductId of(UUID uuid) {
+        return new ProductId(uuid);
+    }
+
     public static ProductId generate() {
-        return new ProductId(UUID.randomUUID().toString());
+        long now = System.currentTimeMillis();
+        long previous;
+        long next;
+        do {
+            previous = lastMostSignificantBits.get();
+            long startOfMillisecond = (now << 16) | VERSION_7;
+            if (startOfMillisecond > previous) {
+                // Contador começa em um ponto aleatório da metade inferior para não ser previsível
+                next = startOfMillisecond | ThreadLocalRandom.current().nextLong(COUNTER_MASK >> 1);
+            } else if ((previous & COUNTER_MASK) != COUNTER_MASK) {
+                next = previous + 1;
+            } else {
+                // Contador esgotado: avança para o próximo milissegundo
+                next = (((previous >>> 16) + 1) << 16) | VERSION_7;
+            }
+        } while (!lastMostSignificantBits.compareAndSet(previous, next));
+
+        long random = ThreadLocalRandom.current().nextLong();
+        return new ProductId(next, (random & VARIANT_MASK) | VARIANT);
     }
-    
+
     public String getValue() {
-        return value;
+        String text = value;
+        if (text == null) {
+            text = toUuid().toString();
+            value = text;
+        }
+        return text;
     }
-    
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Ordem sem sinal dos 128 bits, a mesma de uma coluna binária de 16 bytes.
+     */
+    @Override
+    public int compareTo(ProductId other) {
+        int result = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ProductId productId = (ProductId) o;
-        return Objects.equals(value, productId.value);
+        return mostSignificantBits == productId.mostSignificantBits
+            && leastSignificantBits == productId.leastSignificantBits;
     }
-    
+
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(mostSignificantBits * 31 + leastSignificantBits);
     }
-    
+
     @Override
     public String toString() {
-        return value;
+        return getValue();
+    }
+
+    private static UUID parse(String value) {
+        if (value == null || value.length() != TEXT_LENGTH) {
+            throw new InvalidProductException("Invalid product id: " + value);
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProductException("Invalid product id: " + value);
+        }
     }
-}
\ No newline at end of file
+}
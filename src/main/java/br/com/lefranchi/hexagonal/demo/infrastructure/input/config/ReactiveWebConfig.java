@@ -0,0 +1,21 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Servidor do perfil {@code reactive}. Com o Tomcat também no classpath, o Spring Boot serviria o
+ * WebFlux pelo Tomcat, através da ponte de I/O assíncrono do Servlet; o Netty atende as conexões
+ * nos event loops, sem uma thread por requisição.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache.ProductResponseCache;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf.ProductProtobufHttpMessageConverter;
+
+/**
+ * Formatos de corpo do Spring MVC. JSON continua o padrão; CBOR ({@code application/cbor}) e
+ * Smile ({@code application/x-jackson-smile}) entram pelos conversores do Jackson que o Spring
+ * registra quando os módulos estão no classpath, e o protobuf ({@code application/x-protobuf})
+ * pelo conversor de {@code product.proto}. O protobuf vai por último, para que um
+ * {@code Accept: *}{@code /*} continue recebendo JSON.
+ *
+ * Com {@code product.response-cache.enabled=true}, o JSON de cada produto lido por ID fica
+ * guardado já serializado, até {@code product.response-cache.maximum-bytes}.
+ */
+@Configuration
+@Profile("!reactive")
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProductProtobufHttpMessageConverter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.response-cache.enabled", havingValue = "true")
+    public ProductResponseCache productResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${product.response-cache.maximum-bytes:67108864}") long maximumBytes) {
+        return new ProductResponseCache(objectMapper, maximumBytes);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.job;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Retoma, quando a aplicação termina de subir, os reajustes de preço que ficaram em execução
+ * na parada anterior. Cada um continua a partir do último lote gravado.
+ */
+@Component
+@ConditionalOnProperty(name = "product.reprice.resume-on-startup", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RepriceJobRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(RepriceJobRecovery.class);
+
+    private final ProductManagementUseCase productManagement;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        List<RepriceJobResponse> resumed = productManagement.resumeInterruptedRepricing();
+        for (RepriceJobResponse job : resumed) {
+            log.info("Resuming reprice job {} at {} of {} products", job.getId(), job.getProcessed(), job.getTotal());
+        }
+    }
+}
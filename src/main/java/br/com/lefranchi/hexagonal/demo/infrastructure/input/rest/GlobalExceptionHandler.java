@@ -4,9 +4,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotResumableException;
 import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.response.ErrorResponse;
 
 @ControllerAdvice
@@ -18,12 +23,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(RepriceJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRepriceJobNotFoundException(RepriceJobNotFoundException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+    
+    @ExceptionHandler(RepriceJobNotResumableException.class)
+    public ResponseEntity<ErrorResponse> handleRepriceJobNotResumableException(RepriceJobNotResumableException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
     @ExceptionHandler(InvalidProductException.class)
     public ResponseEntity<ErrorResponse> handleInvalidProductException(InvalidProductException ex) {
         ErrorResponse error = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
     
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.BAD_REQUEST.value(),
+            "Invalid value for parameter " + ex.getName() + ": " + ex.getValue());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
+    /**
+     * Equivalente no WebFlux: parâmetro ausente ou com tipo inválido no perfil {@code reactive}.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), ex.getReason());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+    
+    @ExceptionHandler(ProductVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleProductVersionConflictException(ProductVersionConflictException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse error = new ErrorResponse(
@@ -2,7 +2,12 @@ package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,24 +17,55 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.RepriceCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
 import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache.ProductResponseCache;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf.ProductProtobufHttpMessageConverter;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.BulkStatusRequest;
 import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.RepriceRequest;
 import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
 
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/products")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class ProductController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int STREAM_PAGE_SIZE = 500;
+    static final int DEFAULT_SEARCH_SIZE = 20;
+    static final int MAX_SEARCH_SIZE = 100;
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final ProductManagementUseCase productManagement;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ProductResponseCache> responseCache;
     
     @PostMapping
     public ResponseEntity<ProductResponse> createProduct(@RequestBody CreateProductRequest request) {
@@ -39,25 +75,139 @@ public class ProductController {
         );
         
         ProductResponse response = productManagement.createProduct(command);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .eTag(ProductETag.of(response.getVersion()))
+            .body(response);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProductBatchItemResponse>> createProducts(@RequestBody List<CreateProductRequest> requests) {
+        List<CreateProductCommand> commands = requests.stream()
+            .map(request -> new CreateProductCommand(request.getName(), request.getPrice()))
+            .toList();
+        
+        List<ProductBatchItemResponse> responses = productManagement.createProducts(commands);
+        
+        boolean allCreated = responses.stream()
+            .allMatch(response -> ProductBatchItemResponse.CREATED.equals(response.getStatus()));
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(responses);
+    }
+    
+    /**
+     * Com {@code If-None-Match}, consulta só a versão do produto; se ela corresponder, a
+     * resposta é 304 sem carregar, mapear nem serializar o produto. Com o cache de respostas
+     * ligado, uma requisição que aceita JSON recebe os bytes guardados para a versão atual.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable String id) {
+    public ResponseEntity<?> getProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        
         ProductId productId = new ProductId(id);
+        Long version = null;
+        if (ifNoneMatch != null) {
+            version = productManagement.findProductVersion(productId);
+            if (request.checkNotModified(ProductETag.of(version))) {
+                return null;
+            }
+        }
+        
+        ProductResponseCache cache = responseCache.getIfAvailable();
+        if (cache != null && acceptsOnlyJson(accept)) {
+            return cachedProduct(cache, productId, version);
+        }
+        
         ProductResponse response = productManagement.findProduct(productId);
-        return ResponseEntity.ok(response);
+        return withETag(response);
+    }
+    
+    /**
+     * Vários produtos por ID, em {@code ?ids=a,b,c} ou {@code ?ids=a&ids=b}, numa única consulta.
+     * Os IDs que não existem ficam de fora da resposta.
+     */
+    @GetMapping(params = "ids", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+        APPLICATION_SMILE_VALUE, ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF_VALUE })
+    public ResponseEntity<List<ProductResponse>> getProductsById(@RequestParam List<String> ids) {
+        List<ProductId> productIds = ids.stream()
+            .map(ProductId::new)
+            .toList();
+        return ResponseEntity.ok(productManagement.findProducts(productIds));
     }
     
-    @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        List<ProductResponse> responses = productManagement.findAllProducts();
-        return ResponseEntity.ok(responses);
+    /**
+     * A listagem paginada em JSON, CBOR, Smile ou protobuf, conforme o {@code Accept}; o NDJSON
+     * fica com {@link #streamAllProducts()}.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+        APPLICATION_SMILE_VALUE, ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF_VALUE })
+    public ResponseEntity<List<ProductResponse>> getAllProducts(
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        
+        ProductSearchQuery query = ProductSearchQuery.builder()
+            .status(status)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .namePrefix(namePrefix)
+            .sort(ProductSort.fromParameter(sort))
+            .cursor(cursor)
+            .limit(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
+            .build();
+        
+        ProductPageResponse page = productManagement.searchProducts(query);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductResponse>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_SIZE) int limit) {
+        
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_SIZE));
+        return ResponseEntity.ok(productManagement.searchProductsByName(q, size));
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<ProductStatisticsResponse> getStatistics() {
+        return ResponseEntity.ok(productManagement.getStatistics());
+    }
+    
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = out -> {
+            ProductId after = null;
+            do {
+                ProductPageResponse page = productManagement.findProductsPage(after, STREAM_PAGE_SIZE);
+                for (ProductResponse item : page.getItems()) {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                }
+                out.flush();
+                after = page.getNextCursor() != null ? new ProductId(page.getNextCursor()) : null;
+            } while (after != null);
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
     }
     
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateProductRequest request) {
         
         ProductId productId = new ProductId(id);
@@ -66,28 +216,148 @@ public class ProductController {
             request.getPrice()
         );
         
-        ProductResponse response = productManagement.updateProduct(productId, command);
-        return ResponseEntity.ok(response);
+        ProductResponse response = productManagement.updateProduct(productId, command, ProductETag.expectedVersion(ifMatch));
+        invalidate(productId);
+        return withETag(response);
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProduct(@PathVariable String id) {
+    public ResponseEntity<Void> deleteProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         ProductId productId = new ProductId(id);
-        productManagement.deleteProduct(productId);
+        productManagement.deleteProduct(productId, ProductETag.expectedVersion(ifMatch));
+        invalidate(productId);
         return ResponseEntity.noContent().build();
     }
     
     @PatchMapping("/{id}/activate")
-    public ResponseEntity<ProductResponse> activateProduct(@PathVariable String id) {
+    public ResponseEntity<ProductResponse> activateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         ProductId productId = new ProductId(id);
-        ProductResponse response = productManagement.activateProduct(productId);
-        return ResponseEntity.ok(response);
+        ProductResponse response = productManagement.activateProduct(productId, ProductETag.expectedVersion(ifMatch));
+        invalidate(productId);
+        return withETag(response);
     }
     
     @PatchMapping("/{id}/deactivate")
-    public ResponseEntity<ProductResponse> deactivateProduct(@PathVariable String id) {
+    public ResponseEntity<ProductResponse> deactivateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         ProductId productId = new ProductId(id);
-        ProductResponse response = productManagement.deactivateProduct(productId);
+        ProductResponse response = productManagement.deactivateProduct(productId, ProductETag.expectedVersion(ifMatch));
+        invalidate(productId);
+        return withETag(response);
+    }
+    
+    /**
+     * Ativa de uma vez os produtos da lista de IDs e/ou dos filtros; os que têm preço negativo
+     * permanecem inativos e são contados como rejeitados.
+     */
+    @PostMapping("/bulk/activate")
+    public ResponseEntity<BulkStatusResponse> activateProducts(@RequestBody BulkStatusRequest request) {
+        BulkStatusResponse response = productManagement.activateProducts(toCommand(request));
+        invalidateAll();
         return ResponseEntity.ok(response);
     }
+    
+    @PostMapping("/bulk/deactivate")
+    public ResponseEntity<BulkStatusResponse> deactivateProducts(@RequestBody BulkStatusRequest request) {
+        BulkStatusResponse response = productManagement.deactivateProducts(toCommand(request));
+        invalidateAll();
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Inicia o reajuste de preço dos produtos que atendem aos filtros. O reajuste roda em segundo
+     * plano; a resposta 202 traz o job, acompanhado em {@code GET /reprice/{jobId}}.
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<RepriceJobResponse> startRepricing(@RequestBody RepriceRequest request) {
+        RepriceCommand command = RepriceCommand.builder()
+            .status(request.getStatus())
+            .minPrice(request.getMinPrice())
+            .maxPrice(request.getMaxPrice())
+            .percentage(request.getPercentage())
+            .amount(request.getAmount())
+            .build();
+        RepriceJobResponse response = productManagement.startRepricing(command);
+        invalidateAll();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    @GetMapping("/reprice/{jobId}")
+    public ResponseEntity<RepriceJobResponse> getRepriceJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(productManagement.findRepriceJob(jobId));
+    }
+    
+    @PostMapping("/reprice/{jobId}/resume")
+    public ResponseEntity<RepriceJobResponse> resumeRepricing(@PathVariable String jobId) {
+        RepriceJobResponse response = productManagement.resumeRepricing(jobId);
+        invalidateAll();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    private static BulkStatusCommand toCommand(BulkStatusRequest request) {
+        return BulkStatusCommand.builder()
+            .ids(request.getIds())
+            .status(request.getStatus())
+            .minPrice(request.getMinPrice())
+            .maxPrice(request.getMaxPrice())
+            .build();
+    }
+    
+    /**
+     * Serve o JSON guardado para a versão atual do produto; na falta, carrega, serializa e guarda.
+     * A versão já consultada para o {@code If-None-Match} é reaproveitada.
+     */
+    private ResponseEntity<byte[]> cachedProduct(ProductResponseCache cache, ProductId productId, Long knownVersion) {
+        long version = knownVersion != null ? knownVersion : productManagement.findProductVersion(productId);
+        byte[] body = cache.get(productId, version);
+        if (body == null) {
+            ProductResponseCache.Entry entry = cache.load(productId, () -> productManagement.findProduct(productId));
+            version = entry.version();
+            body = entry.json();
+        }
+        return ResponseEntity.ok()
+            .eTag(ProductETag.of(version))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    /**
+     * Só quando todo tipo aceito inclui JSON ({@code application/json}, {@code application/*},
+     * {@code *}{@code /*} ou nenhum {@code Accept}) a resposta sai do cache; qualquer outro caso
+     * segue a negociação normal.
+     */
+    private static boolean acceptsOnlyJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.getQualityValue() == 0 || !type.includes(MediaType.APPLICATION_JSON)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+    
+    private void invalidate(ProductId productId) {
+        responseCache.ifAvailable(cache -> cache.invalidate(productId));
+    }
+    
+    private void invalidateAll() {
+        responseCache.ifAvailable(ProductResponseCache::invalidateAll);
+    }
+    
+    private static ResponseEntity<ProductResponse> withETag(ProductResponse response) {
+        return ResponseEntity.ok()
+            .eTag(ProductETag.of(response.getVersion()))
+            .body(response);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
+
+/**
+ * ETag de um produto: a versão dele entre aspas, como validador forte.
+ */
+final class ProductETag {
+
+    /**
+     * Versão que nenhum produto tem, usada quando o {@code If-Match} não pode corresponder
+     * a nenhuma versão (validador fraco, lista ou valor malformado). O UPDATE condicional
+     * então não afeta nenhuma linha e a requisição termina em 412, ou em 404 se o produto
+     * não existir.
+     */
+    static final long NO_MATCH = -1L;
+
+    private ProductETag() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Versão esperada a partir do cabeçalho {@code If-Match}, ou {@code null} se ele não
+     * foi enviado ou é {@code *} (qualquer versão atual).
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return NO_MATCH;
+        }
+        try {
+            return Long.parseLong(value, 1, value.length() - 1, 10);
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+}
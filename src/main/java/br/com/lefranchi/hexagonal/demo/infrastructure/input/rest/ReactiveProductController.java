@@ -0,0 +1,211 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ReactiveProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * As rotas de {@link ProductController} no WebFlux, ativas no perfil {@code reactive}: mesmos
+ * caminhos, parâmetros, cabeçalhos condicionais e códigos de resposta.
+ */
+@RestController
+@RequestMapping("/api/products")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProductController {
+
+    private final ReactiveProductManagementUseCase productManagement;
+
+    @PostMapping
+    public Mono<ResponseEntity<ProductResponse>> createProduct(@RequestBody CreateProductRequest request) {
+        CreateProductCommand command = new CreateProductCommand(
+            request.getName(),
+            request.getPrice()
+        );
+
+        return productManagement.createProduct(command)
+            .map(response -> ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ProductETag.of(response.getVersion()))
+                .body(response));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<ProductBatchItemResponse>>> createProducts(
+            @RequestBody List<CreateProductRequest> requests) {
+        List<CreateProductCommand> commands = requests.stream()
+            .map(request -> new CreateProductCommand(request.getName(), request.getPrice()))
+            .toList();
+
+        return productManagement.createProducts(commands)
+            .map(responses -> {
+                boolean allCreated = responses.stream()
+                    .allMatch(response -> ProductBatchItemResponse.CREATED.equals(response.getStatus()));
+                return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(responses);
+            });
+    }
+
+    /**
+     * Com {@code If-None-Match}, consulta só a versão do produto; se ela corresponder, a
+     * resposta é 304 sem carregar, mapear nem serializar o produto.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductResponse>> getProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            ServerWebExchange exchange) {
+
+        ProductId productId = new ProductId(id);
+        Mono<Boolean> notModified = ifNoneMatch == null
+            ? Mono.just(false)
+            : productManagement.findProductVersion(productId)
+                .map(version -> exchange.checkNotModified(ProductETag.of(version)));
+
+        return notModified.flatMap(unchanged -> unchanged
+            ? Mono.empty()
+            : productManagement.findProduct(productId).map(ReactiveProductController::withETag));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<ProductResponse>>> getAllProducts(
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ProductController.DEFAULT_PAGE_SIZE) int limit) {
+
+        ProductSearchQuery query = ProductSearchQuery.builder()
+            .status(status)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .namePrefix(namePrefix)
+            .sort(ProductSort.fromParameter(sort))
+            .cursor(cursor)
+            .limit(Math.max(1, Math.min(limit, ProductController.MAX_PAGE_SIZE)))
+            .build();
+
+        return productManagement.searchProducts(query)
+            .map(page -> {
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                if (page.getNextCursor() != null) {
+                    response.header(ProductController.NEXT_CURSOR_HEADER, page.getNextCursor());
+                }
+                return response.body(page.getItems());
+            });
+    }
+
+    @GetMapping("/search")
+    public Flux<ProductResponse> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + ProductController.DEFAULT_SEARCH_SIZE) int limit) {
+
+        int size = Math.max(1, Math.min(limit, ProductController.MAX_SEARCH_SIZE));
+        return productManagement.searchProductsByName(q, size);
+    }
+
+    @GetMapping("/stats")
+    public Mono<ProductStatisticsResponse> getStatistics() {
+        return productManagement.getStatistics();
+    }
+
+    /**
+     * O catálogo inteiro em NDJSON, lido em páginas por cursor conforme o cliente consome.
+     *
+     * A próxima página só é pedida ao banco quando a anterior já foi quase toda escrita na
+     * conexão, e a escrita segue a demanda do Netty, que para de pedir itens enquanto o socket
+     * não aceita mais bytes. Um cliente lento segura no máximo algumas páginas em memória, não
+     * o catálogo.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductResponse> streamAllProducts() {
+        return productManagement.findProductsPage(null, ProductController.STREAM_PAGE_SIZE)
+            .expand(page -> page.getNextCursor() != null
+                ? productManagement.findProductsPage(new ProductId(page.getNextCursor()), ProductController.STREAM_PAGE_SIZE)
+                : Mono.empty())
+            .concatMapIterable(ProductPageResponse::getItems, 1);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ProductResponse>> updateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateProductRequest request) {
+
+        ProductId productId = new ProductId(id);
+        UpdateProductCommand command = new UpdateProductCommand(
+            request.getName(),
+            request.getPrice()
+        );
+
+        return productManagement.updateProduct(productId, command, ProductETag.expectedVersion(ifMatch))
+            .map(ReactiveProductController::withETag);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductId productId = new ProductId(id);
+        return productManagement.deleteProduct(productId, ProductETag.expectedVersion(ifMatch))
+            .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PatchMapping("/{id}/activate")
+    public Mono<ResponseEntity<ProductResponse>> activateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductId productId = new ProductId(id);
+        return productManagement.activateProduct(productId, ProductETag.expectedVersion(ifMatch))
+            .map(ReactiveProductController::withETag);
+    }
+
+    @PatchMapping("/{id}/deactivate")
+    public Mono<ResponseEntity<ProductResponse>> deactivateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductId productId = new ProductId(id);
+        return productManagement.deactivateProduct(productId, ProductETag.expectedVersion(ifMatch))
+            .map(ReactiveProductController::withETag);
+    }
+
+    private static ResponseEntity<ProductResponse> withETag(ProductResponse response) {
+        return ResponseEntity.ok()
+            .eTag(ProductETag.of(response.getVersion()))
+            .body(response);
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache;
+
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Cache do JSON já serializado de {@code GET /api/products/{id}}, por produto e versão.
+ *
+ * Num acerto o corpo da resposta é escrito direto destes bytes, sem carregar o produto, montar o
+ * {@link ProductResponse} nem passar pelo Jackson; só a versão atual é consultada na porta de
+ * repositório, para validar a entrada. Por isso uma entrada de outra versão não é servida, mesmo
+ * que uma escrita não passe pela invalidação (o reajuste em segundo plano, por exemplo), desde que
+ * a versão vinda da porta seja a confirmada; o cache de produtos garante isso. O cache é limitado pelo total de
+ * bytes das entradas (Caffeine/W-TinyLFU com peso).
+ *
+ * Cada falta mede quantos bytes a thread alocou para carregar e serializar o produto, o que dá a
+ * alocação média evitada por acerto. A medida depende de a JVM expor a alocação por thread; em
+ * threads virtuais ela não é feita.
+ */
+public class ProductResponseCache {
+
+    /** Estimativa do que cada entrada ocupa além do JSON: chave, entrada, array e nó do cache. */
+    static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final ObjectMapper objectMapper;
+    private final Cache<ProductId, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder measuredMisses = new LongAdder();
+    private final LongAdder missAllocatedBytes = new LongAdder();
+
+    public ProductResponseCache(ObjectMapper objectMapper, long maximumBytes) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((ProductId id, Entry entry) -> entry.json().length + ENTRY_OVERHEAD_BYTES)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+
+    /** O JSON do produto, se estiver no cache exatamente nesta versão; caso contrário {@code null}. */
+    public byte[] get(ProductId id, long version) {
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+            return entry.json();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Carrega o produto, serializa e guarda o resultado. Uma entrada mais nova que já esteja no
+     * cache, gravada por uma leitura concorrente, não é substituída.
+     */
+    public Entry load(ProductId id, Supplier<ProductResponse> loader) {
+        long before = allocatedBytes();
+        ProductResponse response = loader.get();
+        Entry entry;
+        try {
+            entry = new Entry(response.getVersion(), objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        long after = allocatedBytes();
+        if (before >= 0 && after >= 0) {
+            measuredMisses.increment();
+            missAllocatedBytes.add(after - before);
+        }
+
+        cache.asMap().merge(id, entry, (current, loaded) -> loaded.version() >= current.version() ? loaded : current);
+        return entry;
+    }
+
+    public void invalidate(ProductId id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public long getEvictions() {
+        return cache.stats().evictionCount();
+    }
+
+    /** Bytes retidos pelas entradas, incluindo a estimativa de {@link #ENTRY_OVERHEAD_BYTES} por entrada. */
+    public long getBytes() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    /** Média de bytes alocados para carregar e serializar um produto nas faltas medidas. */
+    public double getAllocatedBytesPerMiss() {
+        long measured = measuredMisses.sum();
+        return measured == 0 ? 0.0 : (double) missAllocatedBytes.sum() / measured;
+    }
+
+    /** Alocação evitada pelos acertos, estimada pela média das faltas. */
+    public double getSavedAllocatedBytes() {
+        return hits.sum() * getAllocatedBytesPerMiss();
+    }
+
+    private static long allocatedBytes() {
+        // -1 também quando a thread atual é virtual
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+
+    /** Versão do produto e o JSON dela. */
+    public record Entry(long version, byte[] json) {
+    }
+}
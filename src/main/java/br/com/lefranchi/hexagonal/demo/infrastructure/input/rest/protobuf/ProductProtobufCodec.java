@@ -0,0 +1,249 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.response.ErrorResponse;
+
+/**
+ * Codifica e decodifica as mensagens de {@code src/main/proto/product.proto} direto nos DTOs da
+ * API, sem classes geradas: o ID vai em 16 bytes, o preço em centavos e o status como enum.
+ * Campos desconhecidos são ignorados na leitura, como em qualquer leitor protobuf.
+ */
+public final class ProductProtobufCodec {
+
+    private static final int ID_BYTES = 16;
+
+    private static final int PRODUCT_ID = 1;
+    private static final int PRODUCT_NAME = 2;
+    private static final int PRODUCT_PRICE_CENTS = 3;
+    private static final int PRODUCT_STATUS = 4;
+    private static final int PRODUCT_VERSION = 5;
+
+    private static final int LIST_ITEMS = 1;
+
+    private static final int REQUEST_NAME = 1;
+    private static final int REQUEST_PRICE_CENTS = 2;
+
+    private static final int ERROR_STATUS = 1;
+    private static final int ERROR_MESSAGE = 2;
+    private static final int ERROR_TIMESTAMP = 3;
+
+    private ProductProtobufCodec() {
+    }
+
+    public static void writeProduct(ProductResponse product, CodedOutputStream output) throws IOException {
+        writeProductFields(product, output);
+    }
+
+    public static void writeProducts(List<ProductResponse> products, CodedOutputStream output) throws IOException {
+        for (ProductResponse product : products) {
+            output.writeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(productSize(product));
+            writeProductFields(product, output);
+        }
+    }
+
+    public static ProductResponse readProduct(CodedInputStream input) throws IOException {
+        // Valores padrão do proto3, que os codificadores gerados omitem
+        ProductResponse.ProductResponseBuilder product = ProductResponse.builder()
+            .name("")
+            .price(BigDecimal.valueOf(0, 2));
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PRODUCT_ID -> product.id(toId(input.readByteArray()));
+                case PRODUCT_NAME -> product.name(input.readString());
+                case PRODUCT_PRICE_CENTS -> product.price(BigDecimal.valueOf(input.readSInt64(), 2));
+                case PRODUCT_STATUS -> product.status(toStatus(input.readEnum()));
+                case PRODUCT_VERSION -> product.version(input.readInt64());
+                default -> input.skipField(tag);
+            }
+        }
+        return product.build();
+    }
+
+    public static List<ProductResponse> readProducts(CodedInputStream input) throws IOException {
+        List<ProductResponse> products = new ArrayList<>();
+        readItems(input, () -> products.add(readProduct(input)));
+        return products;
+    }
+
+    public static void writeCreateProduct(CreateProductRequest request, CodedOutputStream output) throws IOException {
+        writeRequestFields(request.getName(), request.getPrice(), output);
+    }
+
+    public static void writeCreateProducts(List<CreateProductRequest> requests, CodedOutputStream output)
+            throws IOException {
+        for (CreateProductRequest request : requests) {
+            output.writeTag(LIST_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(requestSize(request.getName(), request.getPrice()));
+            writeRequestFields(request.getName(), request.getPrice(), output);
+        }
+    }
+
+    public static void writeUpdateProduct(UpdateProductRequest request, CodedOutputStream output) throws IOException {
+        writeRequestFields(request.getName(), request.getPrice(), output);
+    }
+
+    public static CreateProductRequest readCreateProduct(CodedInputStream input) throws IOException {
+        RequestFields fields = readRequestFields(input);
+        return new CreateProductRequest(fields.name, fields.price);
+    }
+
+    public static List<CreateProductRequest> readCreateProducts(CodedInputStream input) throws IOException {
+        List<CreateProductRequest> requests = new ArrayList<>();
+        readItems(input, () -> requests.add(readCreateProduct(input)));
+        return requests;
+    }
+
+    public static UpdateProductRequest readUpdateProduct(CodedInputStream input) throws IOException {
+        RequestFields fields = readRequestFields(input);
+        return new UpdateProductRequest(fields.name, fields.price);
+    }
+
+    public static void writeError(ErrorResponse error, CodedOutputStream output) throws IOException {
+        output.writeInt32(ERROR_STATUS, error.getStatus());
+        if (error.getMessage() != null) {
+            output.writeString(ERROR_MESSAGE, error.getMessage());
+        }
+        output.writeString(ERROR_TIMESTAMP, error.getTimestamp().toString());
+    }
+
+    private static void writeProductFields(ProductResponse product, CodedOutputStream output) throws IOException {
+        output.writeByteArray(PRODUCT_ID, toBytes(product.getId()));
+        if (product.getName() != null) {
+            output.writeString(PRODUCT_NAME, product.getName());
+        }
+        output.writeSInt64(PRODUCT_PRICE_CENTS, toCents(product.getPrice()));
+        output.writeEnum(PRODUCT_STATUS, toStatusNumber(product.getStatus()));
+        output.writeInt64(PRODUCT_VERSION, product.getVersion());
+    }
+
+    private static int productSize(ProductResponse product) {
+        int size = CodedOutputStream.computeTagSize(PRODUCT_ID) + CodedOutputStream.computeUInt32SizeNoTag(ID_BYTES)
+            + ID_BYTES;
+        if (product.getName() != null) {
+            size += CodedOutputStream.computeStringSize(PRODUCT_NAME, product.getName());
+        }
+        size += CodedOutputStream.computeSInt64Size(PRODUCT_PRICE_CENTS, toCents(product.getPrice()));
+        size += CodedOutputStream.computeEnumSize(PRODUCT_STATUS, toStatusNumber(product.getStatus()));
+        size += CodedOutputStream.computeInt64Size(PRODUCT_VERSION, product.getVersion());
+        return size;
+    }
+
+    private static void writeRequestFields(String name, Double price, CodedOutputStream output) throws IOException {
+        if (name != null) {
+            output.writeString(REQUEST_NAME, name);
+        }
+        if (price != null) {
+            output.writeSInt64(REQUEST_PRICE_CENTS, toCents(BigDecimal.valueOf(price)));
+        }
+    }
+
+    private static int requestSize(String name, Double price) {
+        int size = 0;
+        if (name != null) {
+            size += CodedOutputStream.computeStringSize(REQUEST_NAME, name);
+        }
+        if (price != null) {
+            size += CodedOutputStream.computeSInt64Size(REQUEST_PRICE_CENTS, toCents(BigDecimal.valueOf(price)));
+        }
+        return size;
+    }
+
+    private static RequestFields readRequestFields(CodedInputStream input) throws IOException {
+        RequestFields fields = new RequestFields();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_NAME -> fields.name = input.readString();
+                case REQUEST_PRICE_CENTS -> fields.price = BigDecimal.valueOf(input.readSInt64(), 2).doubleValue();
+                default -> input.skipField(tag);
+            }
+        }
+        return fields;
+    }
+
+    /** Lê os itens repetidos do campo 1, cada um limitado ao seu tamanho. */
+    private static void readItems(CodedInputStream input, ItemReader reader) throws IOException {
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) != LIST_ITEMS) {
+                input.skipField(tag);
+                continue;
+            }
+            int limit = input.pushLimit(input.readRawVarint32());
+            reader.read();
+            input.checkLastTagWas(0);
+            input.popLimit(limit);
+        }
+    }
+
+    private static byte[] toBytes(String id) {
+        ProductId productId = new ProductId(id);
+        byte[] bytes = new byte[ID_BYTES];
+        long high = productId.getMostSignificantBits();
+        long low = productId.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (low >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    private static String toId(byte[] bytes) {
+        if (bytes.length != ID_BYTES) {
+            throw new IllegalArgumentException("Product id must have " + ID_BYTES + " bytes");
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (bytes[i] & 0xFF);
+            low = (low << 8) | (bytes[8 + i] & 0xFF);
+        }
+        return new ProductId(high, low).getValue();
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Os números do enum no esquema; 0 é reservado para "não informado". */
+    private static int toStatusNumber(String status) {
+        return switch (ProductStatus.valueOf(status)) {
+            case ACTIVE -> 1;
+            case INACTIVE -> 2;
+        };
+    }
+
+    private static String toStatus(int number) {
+        return switch (number) {
+            case 1 -> ProductStatus.ACTIVE.name();
+            case 2 -> ProductStatus.INACTIVE.name();
+            default -> throw new IllegalArgumentException("Unknown product status: " + number);
+        };
+    }
+
+    @FunctionalInterface
+    private interface ItemReader {
+        void read() throws IOException;
+    }
+
+    private static final class RequestFields {
+        private String name;
+        private Double price;
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.response.ErrorResponse;
+
+/**
+ * {@code application/x-protobuf} para produtos, listas de produtos, requisições de criação
+ * (uma ou várias) e de alteração, e respostas de erro, com as mensagens de
+ * {@code product.proto}. Outros tipos, como o resultado da criação em lote, ficam com os
+ * demais formatos.
+ */
+public class ProductProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.parseMediaType(APPLICATION_PROTOBUF_VALUE);
+
+    private enum Message {
+        PRODUCT, PRODUCT_LIST, CREATE_PRODUCT, CREATE_PRODUCT_LIST, UPDATE_PRODUCT, ERROR
+    }
+
+    public ProductProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return message(clazz) != null;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        Message message = message(type);
+        return message != null && message != Message.ERROR && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return message(type != null ? type : clazz) != null && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody());
+        try {
+            return switch (message(type)) {
+                case PRODUCT -> ProductProtobufCodec.readProduct(input);
+                case PRODUCT_LIST -> ProductProtobufCodec.readProducts(input);
+                case CREATE_PRODUCT -> ProductProtobufCodec.readCreateProduct(input);
+                case CREATE_PRODUCT_LIST -> ProductProtobufCodec.readCreateProducts(input);
+                case UPDATE_PRODUCT -> ProductProtobufCodec.readUpdateProduct(input);
+                case ERROR -> throw new IllegalStateException("Error responses are not read");
+            };
+        } catch (IOException | IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        Message message = message(type != null ? type : body.getClass());
+        switch (message) {
+            case PRODUCT -> ProductProtobufCodec.writeProduct((ProductResponse) body, output);
+            case PRODUCT_LIST -> ProductProtobufCodec.writeProducts((List<ProductResponse>) body, output);
+            case CREATE_PRODUCT -> ProductProtobufCodec.writeCreateProduct((CreateProductRequest) body, output);
+            case CREATE_PRODUCT_LIST ->
+                ProductProtobufCodec.writeCreateProducts((List<CreateProductRequest>) body, output);
+            case UPDATE_PRODUCT -> ProductProtobufCodec.writeUpdateProduct((UpdateProductRequest) body, output);
+            case ERROR -> ProductProtobufCodec.writeError((ErrorResponse) body, output);
+        }
+        output.flush();
+    }
+
+    private static Message message(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        Class<?> raw = resolved.resolve();
+        if (raw == null) {
+            return null;
+        }
+        if (List.class.isAssignableFrom(raw)) {
+            Class<?> element = resolved.asCollection().resolveGeneric(0);
+            if (element == ProductResponse.class) {
+                return Message.PRODUCT_LIST;
+            }
+            if (element == CreateProductRequest.class) {
+                return Message.CREATE_PRODUCT_LIST;
+            }
+            return null;
+        }
+        if (raw == ProductResponse.class) {
+            return Message.PRODUCT;
+        }
+        if (raw == CreateProductRequest.class) {
+            return Message.CREATE_PRODUCT;
+        }
+        if (raw == UpdateProductRequest.class) {
+            return Message.UPDATE_PRODUCT;
+        }
+        if (raw == ErrorResponse.class) {
+            return Message.ERROR;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequest {
+    private List<String> ids;
+    private ProductStatus status;
+    private Double minPrice;
+    private Double maxPrice;
+}
@@ -0,0 +1,20 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request;
+
+import java.math.BigDecimal;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepriceRequest {
+    private ProductStatus status;
+    private Double minPrice;
+    private Double maxPrice;
+    private BigDecimal percentage;
+    private Double amount;
+}
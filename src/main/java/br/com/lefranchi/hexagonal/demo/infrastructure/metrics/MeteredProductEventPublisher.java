@@ -0,0 +1,149 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador da porta {@link ProductEventPublisher} que mede a latência e o resultado de
+ * cada publicação feita pelo caso de uso.
+ */
+public class MeteredProductEventPublisher implements ProductEventPublisher {
+
+    static final String PORT = "event_publisher";
+
+    private final ProductEventPublisher delegate;
+    private final OperationTimer created;
+    private final OperationTimer createdBatch;
+    private final OperationTimer updated;
+    private final OperationTimer deleted;
+    private final OperationTimer activated;
+    private final OperationTimer deactivated;
+    private final OperationTimer updatedBatch;
+    private final OperationTimer activatedBatch;
+    private final OperationTimer deactivatedBatch;
+
+    public MeteredProductEventPublisher(ProductEventPublisher delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.created = OperationTimer.forPort(registry, PORT, "publishProductCreated");
+        this.createdBatch = OperationTimer.forPort(registry, PORT, "publishProductsCreated");
+        this.updated = OperationTimer.forPort(registry, PORT, "publishProductUpdated");
+        this.deleted = OperationTimer.forPort(registry, PORT, "publishProductDeleted");
+        this.activated = OperationTimer.forPort(registry, PORT, "publishProductActivated");
+        this.deactivated = OperationTimer.forPort(registry, PORT, "publishProductDeactivated");
+        this.updatedBatch = OperationTimer.forPort(registry, PORT, "publishProductsUpdated");
+        this.activatedBatch = OperationTimer.forPort(registry, PORT, "publishProductsActivated");
+        this.deactivatedBatch = OperationTimer.forPort(registry, PORT, "publishProductsDeactivated");
+    }
+
+    @Override
+    public void publishProductCreated(Product product) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductCreated(product);
+            created.success(start);
+        } catch (RuntimeException e) {
+            created.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductsCreated(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductsCreated(products);
+            createdBatch.success(start);
+        } catch (RuntimeException e) {
+            createdBatch.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductUpdated(Product product) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductUpdated(product);
+            updated.success(start);
+        } catch (RuntimeException e) {
+            updated.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductDeleted(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductDeleted(id);
+            deleted.success(start);
+        } catch (RuntimeException e) {
+            deleted.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductActivated(Product product) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductActivated(product);
+            activated.success(start);
+        } catch (RuntimeException e) {
+            activated.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductDeactivated(Product product) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductDeactivated(product);
+            deactivated.success(start);
+        } catch (RuntimeException e) {
+            deactivated.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductsUpdated(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductsUpdated(products);
+            updatedBatch.success(start);
+        } catch (RuntimeException e) {
+            updatedBatch.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductsActivated(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductsActivated(products);
+            activatedBatch.success(start);
+        } catch (RuntimeException e) {
+            activatedBatch.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void publishProductsDeactivated(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            delegate.publishProductsDeactivated(products);
+            deactivatedBatch.success(start);
+        } catch (RuntimeException e) {
+            deactivatedBatch.failure(start, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.RepriceCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador da porta de entrada {@link ProductManagementUseCase} que mede cada caso de uso,
+ * incluindo a transação aberta pela implementação.
+ */
+public class MeteredProductManagementUseCase implements ProductManagementUseCase {
+
+    private final ProductManagementUseCase delegate;
+    private final OperationTimer createProduct;
+    private final OperationTimer createProducts;
+    private final OperationTimer findProduct;
+    private final OperationTimer findProducts;
+    private final OperationTimer findProductVersion;
+    private final OperationTimer findAllProducts;
+    private final OperationTimer findProductsPage;
+    private final OperationTimer searchProducts;
+    private final OperationTimer searchProductsByName;
+    private final OperationTimer getStatistics;
+    private final OperationTimer updateProduct;
+    private final OperationTimer deleteProduct;
+    private final OperationTimer activateProduct;
+    private final OperationTimer deactivateProduct;
+    private final OperationTimer activateProducts;
+    private final OperationTimer deactivateProducts;
+    private final OperationTimer startRepricing;
+    private final OperationTimer findRepriceJob;
+    private final OperationTimer resumeRepricing;
+    private final OperationTimer resumeInterruptedRepricing;
+    private final DistributionSummary batchSize;
+
+    public MeteredProductManagementUseCase(ProductManagementUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.createProduct = OperationTimer.forUseCase(registry, "createProduct");
+        this.createProducts = OperationTimer.forUseCase(registry, "createProducts");
+        this.findProduct = OperationTimer.forUseCase(registry, "findProduct");
+        this.findProducts = OperationTimer.forUseCase(registry, "findProducts");
+        this.findProductVersion = OperationTimer.forUseCase(registry, "findProductVersion");
+        this.findAllProducts = OperationTimer.forUseCase(registry, "findAllProducts");
+        this.findProductsPage = OperationTimer.forUseCase(registry, "findProductsPage");
+        this.searchProducts = OperationTimer.forUseCase(registry, "searchProducts");
+        this.searchProductsByName = OperationTimer.forUseCase(registry, "searchProductsByName");
+        this.getStatistics = OperationTimer.forUseCase(registry, "getStatistics");
+        this.updateProduct = OperationTimer.forUseCase(registry, "updateProduct");
+        this.deleteProduct = OperationTimer.forUseCase(registry, "deleteProduct");
+        this.activateProduct = OperationTimer.forUseCase(registry, "activateProduct");
+        this.deactivateProduct = OperationTimer.forUseCase(registry, "deactivateProduct");
+        this.activateProducts = OperationTimer.forUseCase(registry, "activateProducts");
+        this.deactivateProducts = OperationTimer.forUseCase(registry, "deactivateProducts");
+        this.startRepricing = OperationTimer.forUseCase(registry, "startRepricing");
+        this.findRepriceJob = OperationTimer.forUseCase(registry, "findRepriceJob");
+        this.resumeRepricing = OperationTimer.forUseCase(registry, "resumeRepricing");
+        this.resumeInterruptedRepricing = OperationTimer.forUseCase(registry, "resumeInterruptedRepricing");
+        this.batchSize = DistributionSummary.builder("product.usecase.batch.size")
+            .tag("operation", "createProducts")
+            .register(registry);
+    }
+
+    @Override
+    public ProductResponse createProduct(CreateProductCommand command) {
+        long start = System.nanoTime();
+        try {
+            ProductResponse response = delegate.createProduct(command);
+            createProduct.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            createProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductBatchItemResponse> createProducts(List<CreateProductCommand> commands) {
+        batchSize.record(commands.size());
+        long start = System.nanoTime();
+        try {
+            List<ProductBatchItemResponse> responses = delegate.createProducts(commands);
+            createProducts.success(start);
+            return responses;
+        } catch (RuntimeException e) {
+            createProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductResponse findProduct(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            ProductResponse response = delegate.findProduct(id);
+            findProduct.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            findProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductResponse> findProducts(List<ProductId> ids) {
+        long start = System.nanoTime();
+        try {
+            List<ProductResponse> responses = delegate.findProducts(ids);
+            findProducts.success(start);
+            return responses;
+        } catch (RuntimeException e) {
+            findProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long findProductVersion(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            long version = delegate.findProductVersion(id);
+            findProductVersion.success(start);
+            return version;
+        } catch (RuntimeException e) {
+            findProductVersion.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductResponse> findAllProducts() {
+        long start = System.nanoTime();
+        try {
+            List<ProductResponse> responses = delegate.findAllProducts();
+            findAllProducts.success(start);
+            return responses;
+        } catch (RuntimeException e) {
+            findAllProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductPageResponse findProductsPage(ProductId after, int limit) {
+        long start = System.nanoTime();
+        try {
+            ProductPageResponse page = delegate.findProductsPage(after, limit);
+            findProductsPage.success(start);
+            return page;
+        } catch (RuntimeException e) {
+            findProductsPage.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductPageResponse searchProducts(ProductSearchQuery query) {
+        long start = System.nanoTime();
+        try {
+            ProductPageResponse page = delegate.searchProducts(query);
+            searchProducts.success(start);
+            return page;
+        } catch (RuntimeException e) {
+            searchProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductResponse> searchProductsByName(String text, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<ProductResponse> products = delegate.searchProductsByName(text, limit);
+            searchProductsByName.success(start);
+            return products;
+        } catch (RuntimeException e) {
+            searchProductsByName.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductStatisticsResponse getStatistics() {
+        long start = System.nanoTime();
+        try {
+            ProductStatisticsResponse statistics = delegate.getStatistics();
+            getStatistics.success(start);
+            return statistics;
+        } catch (RuntimeException e) {
+            getStatistics.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductResponse updateProduct(ProductId id, UpdateProductCommand command, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            ProductResponse response = delegate.updateProduct(id, command, expectedVersion);
+            updateProduct.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            updateProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteProduct(ProductId id, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            delegate.deleteProduct(id, expectedVersion);
+            deleteProduct.success(start);
+        } catch (RuntimeException e) {
+            deleteProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductResponse activateProduct(ProductId id, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            ProductResponse response = delegate.activateProduct(id, expectedVersion);
+            activateProduct.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            activateProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ProductResponse deactivateProduct(ProductId id, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            ProductResponse response = delegate.deactivateProduct(id, expectedVersion);
+            deactivateProduct.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            deactivateProduct.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkStatusResponse activateProducts(BulkStatusCommand command) {
+        long start = System.nanoTime();
+        try {
+            BulkStatusResponse response = delegate.activateProducts(command);
+            activateProducts.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            activateProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkStatusResponse deactivateProducts(BulkStatusCommand command) {
+        long start = System.nanoTime();
+        try {
+            BulkStatusResponse response = delegate.deactivateProducts(command);
+            deactivateProducts.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            deactivateProducts.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RepriceJobResponse startRepricing(RepriceCommand command) {
+        long start = System.nanoTime();
+        try {
+            RepriceJobResponse response = delegate.startRepricing(command);
+            startRepricing.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            startRepricing.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RepriceJobResponse findRepriceJob(String id) {
+        long start = System.nanoTime();
+        try {
+            RepriceJobResponse response = delegate.findRepriceJob(id);
+            findRepriceJob.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            findRepriceJob.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RepriceJobResponse resumeRepricing(String id) {
+        long start = System.nanoTime();
+        try {
+            RepriceJobResponse response = delegate.resumeRepricing(id);
+            resumeRepricing.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            resumeRepricing.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<RepriceJobResponse> resumeInterruptedRepricing() {
+        long start = System.nanoTime();
+        try {
+            List<RepriceJobResponse> response = delegate.resumeInterruptedRepricing();
+            resumeInterruptedRepricing.success(start);
+            return response;
+        } catch (RuntimeException e) {
+            resumeInterruptedRepricing.failure(start, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorador da porta {@link ProductRepository} que mede a latência e o resultado de cada
+ * chamada feita pelo caso de uso, incluindo o que houver por trás dela (cache, mapeamento,
+ * Hibernate).
+ */
+public class MeteredProductRepository implements ProductRepository {
+
+    static final String PORT = "repository";
+
+    private final ProductRepository delegate;
+    private final OperationTimer findById;
+    private final OperationTimer findAllById;
+    private final OperationTimer findVersion;
+    private final OperationTimer findAll;
+    private final OperationTimer findPage;
+    private final OperationTimer query;
+    private final OperationTimer save;
+    private final OperationTimer saveAll;
+    private final OperationTimer insert;
+    private final OperationTimer update;
+    private final OperationTimer updateStatus;
+    private final OperationTimer bulkUpdateStatus;
+    private final OperationTimer reprice;
+    private final OperationTimer count;
+    private final OperationTimer deleteById;
+
+    public MeteredProductRepository(ProductRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findById = OperationTimer.forPort(registry, PORT, "findById");
+        this.findAllById = OperationTimer.forPort(registry, PORT, "findAllById");
+        this.findVersion = OperationTimer.forPort(registry, PORT, "findVersion");
+        this.findAll = OperationTimer.forPort(registry, PORT, "findAll");
+        this.findPage = OperationTimer.forPort(registry, PORT, "findPage");
+        this.query = OperationTimer.forPort(registry, PORT, "query");
+        this.save = OperationTimer.forPort(registry, PORT, "save");
+        this.saveAll = OperationTimer.forPort(registry, PORT, "saveAll");
+        this.insert = OperationTimer.forPort(registry, PORT, "insert");
+        this.update = OperationTimer.forPort(registry, PORT, "update");
+        this.updateStatus = OperationTimer.forPort(registry, PORT, "updateStatus");
+        this.bulkUpdateStatus = OperationTimer.forPort(registry, PORT, "bulkUpdateStatus");
+        this.reprice = OperationTimer.forPort(registry, PORT, "reprice");
+        this.count = OperationTimer.forPort(registry, PORT, "count");
+        this.deleteById = OperationTimer.forPort(registry, PORT, "deleteById");
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            Optional<Product> product = delegate.findById(id);
+            findById.success(start);
+            return product;
+        } catch (RuntimeException e) {
+            findById.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        long start = System.nanoTime();
+        try {
+            List<Product> products = delegate.findAllById(ids);
+            findAllById.success(start);
+            return products;
+        } catch (RuntimeException e) {
+            findAllById.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            OptionalLong version = delegate.findVersion(id);
+            findVersion.success(start);
+            return version;
+        } catch (RuntimeException e) {
+            findVersion.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        long start = System.nanoTime();
+        try {
+            List<Product> products = delegate.findAll();
+            findAll.success(start);
+            return products;
+        } catch (RuntimeException e) {
+            findAll.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<Product> products = delegate.findPage(after, limit);
+            findPage.success(start);
+            return products;
+        } catch (RuntimeException e) {
+            findPage.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery productQuery) {
+        long start = System.nanoTime();
+        try {
+            List<Product> products = delegate.findPage(productQuery);
+            query.success(start);
+            return products;
+        } catch (RuntimeException e) {
+            query.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        long start = System.nanoTime();
+        try {
+            Product saved = delegate.save(product);
+            save.success(start);
+            return saved;
+        } catch (RuntimeException e) {
+            save.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        long start = System.nanoTime();
+        try {
+            List<Product> saved = delegate.saveAll(products);
+            saveAll.success(start);
+            return saved;
+        } catch (RuntimeException e) {
+            saveAll.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void insert(Product product) {
+        long start = System.nanoTime();
+        try {
+            delegate.insert(product);
+            insert.success(start);
+        } catch (RuntimeException e) {
+            insert.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean update(Product product) {
+        long start = System.nanoTime();
+        try {
+            boolean updated = delegate.update(product);
+            update.success(start);
+            return updated;
+        } catch (RuntimeException e) {
+            update.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        long start = System.nanoTime();
+        try {
+            boolean updated = delegate.updateStatus(product);
+            updateStatus.success(start);
+            return updated;
+        } catch (RuntimeException e) {
+            updateStatus.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<Product> changed = delegate.updateStatus(selection, status, after, limit);
+            bulkUpdateStatus.success(start);
+            return changed;
+        } catch (RuntimeException e) {
+            bulkUpdateStatus.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        long start = System.nanoTime();
+        try {
+            List<Product> previous = delegate.reprice(selection, change, after, limit);
+            reprice.success(start);
+            return previous;
+        } catch (RuntimeException e) {
+            reprice.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        long start = System.nanoTime();
+        try {
+            long selected = delegate.count(selection);
+            count.success(start);
+            return selected;
+        } catch (RuntimeException e) {
+            count.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        long start = System.nanoTime();
+        try {
+            Optional<Product> deleted = delegate.deleteById(id);
+            deleteById.success(start);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteById.failure(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        long start = System.nanoTime();
+        try {
+            Optional<Product> deleted = delegate.deleteById(id, version);
+            deleteById.success(start);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteById.failure(start, e);
+            throw e;
+        }
+    }
+}
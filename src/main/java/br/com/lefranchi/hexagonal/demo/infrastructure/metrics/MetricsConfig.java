@@ -0,0 +1,249 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import br.com.lefranchi.hexagonal.demo.application.service.ProductManagementService;
+import br.com.lefranchi.hexagonal.demo.application.service.ProductReadCoalescer;
+import br.com.lefranchi.hexagonal.demo.application.service.ProductRepricer;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache.ProductResponseCache;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.batch.BatchingProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.cache.CachingProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.OutboxRelay;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.RingBufferProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.LogStructuredProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.search.TrigramProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.stats.InMemoryProductStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Métricas da aplicação expostas pelo Actuator ({@code /actuator/prometheus}).
+ * 
+ * Os casos de uso são medidos por um decorador da porta de entrada; as portas de saída são
+ * medidas na composição de cada uma ({@code PersistenceConfig}, {@code EventPublisherConfig}).
+ * Caches, ring buffer, outbox, repositórios em memória e em log, o índice de busca e as estatísticas
+ * do catálogo já mantêm seus próprios contadores, que aqui são apenas lidos pelo registry no
+ * momento da coleta.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Primary
+    public MeteredProductManagementUseCase productManagementUseCase(
+            ProductManagementService productManagementService,
+            MeterRegistry meterRegistry) {
+        return new MeteredProductManagementUseCase(productManagementService, meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder productCacheMetrics(ObjectProvider<CachingProductRepository> cachingProductRepository) {
+        return registry -> cachingProductRepository.ifAvailable(cache -> {
+            Gauge.builder("product.cache.size", cache, CachingProductRepository::getSize)
+                .register(registry);
+            FunctionCounter.builder("product.cache.requests", cache, c -> c.getStats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("product.cache.requests", cache, c -> c.getStats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+            FunctionCounter.builder("product.cache.evictions", cache, c -> c.getStats().evictionCount())
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productResponseCacheMetrics(ObjectProvider<ProductResponseCache> productResponseCache) {
+        return registry -> productResponseCache.ifAvailable(cache -> {
+            Gauge.builder("product.response-cache.size", cache, ProductResponseCache::getSize)
+                .register(registry);
+            Gauge.builder("product.response-cache.bytes", cache, ProductResponseCache::getBytes)
+                .baseUnit("bytes")
+                .register(registry);
+            FunctionCounter.builder("product.response-cache.requests", cache, ProductResponseCache::getHits)
+                .tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("product.response-cache.requests", cache, ProductResponseCache::getMisses)
+                .tag("result", "miss")
+                .register(registry);
+            Gauge.builder("product.response-cache.hit.ratio", cache, ProductResponseCache::getHitRatio)
+                .register(registry);
+            FunctionCounter.builder("product.response-cache.evictions", cache, ProductResponseCache::getEvictions)
+                .register(registry);
+            Gauge.builder("product.response-cache.allocation.per-miss", cache,
+                    ProductResponseCache::getAllocatedBytesPerMiss)
+                .baseUnit("bytes")
+                .register(registry);
+            // Estimativa pela média das faltas, que varia; por isso gauge e não contador
+            Gauge.builder("product.response-cache.allocation.saved", cache,
+                    ProductResponseCache::getSavedAllocatedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productBatchingMetrics(ObjectProvider<BatchingProductRepository> batchingProductRepository) {
+        return registry -> batchingProductRepository.ifAvailable(batching -> {
+            FunctionCounter.builder("product.batching.batches", batching, BatchingProductRepository::getBatches)
+                .register(registry);
+            FunctionCounter.builder("product.batching.loads", batching, BatchingProductRepository::getBatchedLoads)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productEventQueueMetrics(ObjectProvider<RingBufferProductEventPublisher> ringBufferPublisher) {
+        return registry -> ringBufferPublisher.ifAvailable(publisher -> {
+            Gauge.builder("product.events.queue.depth", publisher, RingBufferProductEventPublisher::getQueueDepth)
+                .register(registry);
+            Gauge.builder("product.events.queue.capacity", publisher, RingBufferProductEventPublisher::getCapacity)
+                .register(registry);
+            FunctionCounter.builder("product.events", publisher, RingBufferProductEventPublisher::getPublishedCount)
+                .tag("outcome", "published")
+                .register(registry);
+            FunctionCounter.builder("product.events", publisher, RingBufferProductEventPublisher::getDeliveredCount)
+                .tag("outcome", "delivered")
+                .register(registry);
+            FunctionCounter.builder("product.events", publisher, RingBufferProductEventPublisher::getDroppedCount)
+                .tag("outcome", "dropped")
+                .register(registry);
+            FunctionCounter.builder("product.events", publisher, RingBufferProductEventPublisher::getSpilledCount)
+                .tag("outcome", "spilled")
+                .register(registry);
+            FunctionTimer.builder("product.events.drain", publisher,
+                    RingBufferProductEventPublisher::getDrainedBatches,
+                    RingBufferProductEventPublisher::getTotalDrainNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+            TimeGauge.builder("product.events.drain.max", publisher, TimeUnit.NANOSECONDS,
+                    RingBufferProductEventPublisher::getMaxDrainNanos)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productOutboxMetrics(ObjectProvider<OutboxRelay> outboxRelay) {
+        return registry -> outboxRelay.ifAvailable(relay -> {
+            Gauge.builder("product.outbox.backlog", relay, OutboxRelay::getBacklog)
+                .register(registry);
+            TimeGauge.builder("product.outbox.lag", relay, TimeUnit.MILLISECONDS, OutboxRelay::getLagMillis)
+                .register(registry);
+            FunctionCounter.builder("product.outbox.relayed", relay, OutboxRelay::getRelayedCount)
+                .register(registry);
+            FunctionCounter.builder("product.outbox.pruned", relay, OutboxRelay::getPrunedCount)
+                .register(registry);
+            TimeGauge.builder("product.outbox.batch.last", relay, TimeUnit.NANOSECONDS, OutboxRelay::getLastBatchNanos)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productInMemoryStoreMetrics(ObjectProvider<ColumnarProductRepository> columnarProductRepository) {
+        return registry -> columnarProductRepository.ifAvailable(store -> {
+            Gauge.builder("product.inmemory.size", store, ColumnarProductRepository::getSize)
+                .register(registry);
+            Gauge.builder("product.inmemory.deleted", store, ColumnarProductRepository::getDeletedRows)
+                .register(registry);
+            Gauge.builder("product.inmemory.names", store, ColumnarProductRepository::getDistinctNames)
+                .register(registry);
+            Gauge.builder("product.inmemory.columns", store, ColumnarProductRepository::getColumnBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productLogStoreMetrics(ObjectProvider<LogStructuredProductRepository> logStructuredProductRepository) {
+        return registry -> logStructuredProductRepository.ifAvailable(store -> {
+            Gauge.builder("product.logstore.size", store, LogStructuredProductRepository::getSize)
+                .register(registry);
+            Gauge.builder("product.logstore.segment", store, LogStructuredProductRepository::getActiveSegment)
+                .register(registry);
+            FunctionCounter.builder("product.logstore.records", store, LogStructuredProductRepository::getAppendedRecords)
+                .register(registry);
+            FunctionCounter.builder("product.logstore.fsyncs", store, LogStructuredProductRepository::getFsyncCount)
+                .register(registry);
+            FunctionCounter.builder("product.logstore.snapshots", store, LogStructuredProductRepository::getSnapshotCount)
+                .register(registry);
+            FunctionCounter.builder("product.logstore.compacted", store, LogStructuredProductRepository::getCompactedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+            TimeGauge.builder("product.logstore.recovery", store, TimeUnit.MILLISECONDS,
+                    LogStructuredProductRepository::getRecoveryMillis)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productSearchIndexMetrics(ObjectProvider<TrigramProductSearchIndex> trigramProductSearchIndex) {
+        return registry -> trigramProductSearchIndex.ifAvailable(index -> {
+            Gauge.builder("product.search.documents", index, TrigramProductSearchIndex::getDocuments)
+                .register(registry);
+            Gauge.builder("product.search.deleted", index, TrigramProductSearchIndex::getDeletedDocuments)
+                .register(registry);
+            Gauge.builder("product.search.trigrams", index, TrigramProductSearchIndex::getTrigrams)
+                .register(registry);
+            Gauge.builder("product.search.postings", index, TrigramProductSearchIndex::getPostingBytes)
+                .baseUnit("bytes")
+                .register(registry);
+            TimeGauge.builder("product.search.rebuild", index, TimeUnit.MILLISECONDS,
+                    TrigramProductSearchIndex::getRebuildMillis)
+                .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder productRepriceMetrics(ProductRepricer repricer) {
+        return registry -> {
+            FunctionCounter.builder("product.reprice.products", repricer, ProductRepricer::getRepricedProducts)
+                .register(registry);
+            FunctionCounter.builder("product.reprice.jobs", repricer, ProductRepricer::getCompletedJobs)
+                .tag("outcome", "completed")
+                .register(registry);
+            FunctionCounter.builder("product.reprice.jobs", repricer, ProductRepricer::getFailedJobs)
+                .tag("outcome", "failed")
+                .register(registry);
+            Gauge.builder("product.reprice.jobs.running", repricer, ProductRepricer::getRunningJobs)
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder productReadCoalescingMetrics(ProductReadCoalescer readCoalescer) {
+        return registry -> {
+            FunctionCounter.builder("product.read.loads", readCoalescer, ProductReadCoalescer::getLoads)
+                .register(registry);
+            FunctionCounter.builder("product.read.coalesced", readCoalescer, ProductReadCoalescer::getCoalesced)
+                .register(registry);
+            FunctionCounter.builder("product.read.coalescing.timeouts", readCoalescer,
+                    ProductReadCoalescer::getTimeouts)
+                .register(registry);
+            Gauge.builder("product.read.in-flight", readCoalescer, ProductReadCoalescer::getInFlight)
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder productStatisticsMetrics(ObjectProvider<InMemoryProductStatistics> inMemoryProductStatistics) {
+        return registry -> inMemoryProductStatistics.ifAvailable(statistics -> {
+            FunctionCounter.builder("product.stats.reconciliations", statistics,
+                    InMemoryProductStatistics::getReconciliations)
+                .register(registry);
+            FunctionCounter.builder("product.stats.corrections", statistics, InMemoryProductStatistics::getCorrections)
+                .register(registry);
+            FunctionCounter.builder("product.stats.skipped", statistics,
+                    InMemoryProductStatistics::getSkippedReconciliations)
+                .register(registry);
+        });
+    }
+}
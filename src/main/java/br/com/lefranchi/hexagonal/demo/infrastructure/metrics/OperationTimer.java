@@ -0,0 +1,98 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Timers de uma operação, um por resultado, registrados na construção.
+ * 
+ * Como todos os timers já existem antes da primeira chamada, registrar uma medição é
+ * só uma leitura de {@link System#nanoTime()} e um {@link Timer#record(long, TimeUnit)}:
+ * nenhuma busca no registry, nenhum objeto de tags nem {@link Timer.Sample} por chamada.
+ */
+public final class OperationTimer {
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INVALID = "invalid";
+    public static final String CONFLICT = "conflict";
+    public static final String ERROR = "error";
+
+    static final String USE_CASE_METRIC = "product.usecase";
+    static final String PORT_METRIC = "product.port";
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final Timer success;
+    private final Timer notFound;
+    private final Timer invalid;
+    private final Timer conflict;
+    private final Timer error;
+
+    private OperationTimer(Timer success, Timer notFound, Timer invalid, Timer conflict, Timer error) {
+        this.success = success;
+        this.notFound = notFound;
+        this.invalid = invalid;
+        this.conflict = conflict;
+        this.error = error;
+    }
+
+    /**
+     * Timers de um caso de uso, distinguindo as falhas de domínio (produto inexistente,
+     * produto inválido, versão divergente) dos erros inesperados.
+     */
+    public static OperationTimer forUseCase(MeterRegistry registry, String operation) {
+        Tags tags = Tags.of("operation", operation);
+        return new OperationTimer(
+            timer(registry, USE_CASE_METRIC, tags, SUCCESS),
+            timer(registry, USE_CASE_METRIC, tags, NOT_FOUND),
+            timer(registry, USE_CASE_METRIC, tags, INVALID),
+            timer(registry, USE_CASE_METRIC, tags, CONFLICT),
+            timer(registry, USE_CASE_METRIC, tags, ERROR));
+    }
+
+    /**
+     * Timers de uma chamada a uma porta de saída; qualquer exceção conta como erro.
+     */
+    public static OperationTimer forPort(MeterRegistry registry, String port, String operation) {
+        Tags tags = Tags.of("port", port, "operation", operation);
+        Timer error = timer(registry, PORT_METRIC, tags, ERROR);
+        return new OperationTimer(timer(registry, PORT_METRIC, tags, SUCCESS), error, error, error, error);
+    }
+
+    public void success(long startNanos) {
+        success.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void failure(long startNanos, RuntimeException exception) {
+        Timer timer;
+        if (exception instanceof ProductNotFoundException) {
+            timer = notFound;
+        } else if (exception instanceof InvalidProductException) {
+            timer = invalid;
+        } else if (exception instanceof ProductVersionConflictException) {
+            timer = conflict;
+        } else {
+            timer = error;
+        }
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, Tags tags, String outcome) {
+        return Timer.builder(name)
+            .tags(tags)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED)
+            .maximumExpectedValue(MAX_EXPECTED)
+            .register(registry);
+    }
+}
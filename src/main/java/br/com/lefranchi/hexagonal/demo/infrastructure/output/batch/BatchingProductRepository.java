@@ -0,0 +1,246 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.batch;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Decorator que junta chamadas simultâneas de {@link #findById} numa única
+ * {@link ProductRepository#findAllById}, no estilo do DataLoader.
+ *
+ * A primeira busca de um lote agenda o envio para dali a {@code window}; as que chegam até lá
+ * entram no mesmo lote. Um lote que atinge {@code maxBatchSize} é enviado na hora, pela thread
+ * da busca que o completou. Cada chamador recebe sua própria instância do produto, mesmo quando
+ * vários pediram o mesmo ID.
+ *
+ * Buscas feitas dentro de uma transação de escrita vão direto ao delegate: precisam ver a
+ * conexão e os bloqueios da própria transação, que o lote, consultado em outra thread, não vê.
+ * As demais operações também vão direto ao delegate.
+ */
+public class BatchingProductRepository implements ProductRepository, Closeable {
+
+    private final ProductRepository delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService dispatcher;
+
+    private final Object lock = new Object();
+    private List<PendingLoad> pending = new ArrayList<>();
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedLoads = new LongAdder();
+
+    public BatchingProductRepository(ProductRepository delegate, long windowMicros, int maxBatchSize) {
+        this.delegate = delegate;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return delegate.findById(id);
+        }
+
+        PendingLoad load = new PendingLoad(id, new CompletableFuture<>());
+        List<PendingLoad> full = null;
+        synchronized (lock) {
+            pending.add(load);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                try {
+                    dispatcher.schedule(this::dispatchPending, windowNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Encerrando: não há mais quem envie o lote, a própria busca o envia
+                    full = takePending();
+                }
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+
+        try {
+            return load.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<PendingLoad> takePending() {
+        List<PendingLoad> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatchPending() {
+        List<PendingLoad> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<PendingLoad> batch) {
+        batches.increment();
+        batchedLoads.add(batch.size());
+        try {
+            Set<ProductId> ids = new LinkedHashSet<>();
+            batch.forEach(load -> ids.add(load.id()));
+            Map<ProductId, Product> found = new HashMap<>(ids.size() * 2);
+            for (Product product : delegate.findAllById(List.copyOf(ids))) {
+                found.put(product.getId(), product);
+            }
+            // O domínio é mutável: quem pediu um ID já entregue recebe uma cópia, feita antes
+            // que qualquer chamador seja liberado para alterar a sua instância
+            Set<ProductId> delivered = new HashSet<>();
+            List<Optional<Product>> results = new ArrayList<>(batch.size());
+            for (PendingLoad load : batch) {
+                Product product = found.get(load.id());
+                if (product != null && !delivered.add(load.id())) {
+                    product = Product.restore(product.getId(), product.getName(), product.getPrice(),
+                        product.getStatus(), product.getVersion());
+                }
+                results.add(Optional.ofNullable(product));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException | Error e) {
+            batch.forEach(load -> load.result().completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        return delegate.findVersion(id);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        return delegate.saveAll(products);
+    }
+
+    @Override
+    public void insert(Product product) {
+        delegate.insert(product);
+    }
+
+    @Override
+    public boolean update(Product product) {
+        return delegate.update(product);
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        return delegate.updateStatus(product);
+    }
+
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        return delegate.updateStatus(selection, status, after, limit);
+    }
+
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        return delegate.reprice(selection, change, after, limit);
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        return delegate.count(selection);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        return delegate.deleteById(id, version);
+    }
+
+    /** Lotes enviados ao delegate. */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /** Buscas atendidas por lotes; dividido por {@link #getBatches()}, o tamanho médio do lote. */
+    public long getBatchedLoads() {
+        return batchedLoads.sum();
+    }
+
+    /**
+     * Envia o lote pendente e encerra a thread de envio.
+     */
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+        dispatchPending();
+    }
+
+    private record PendingLoad(ProductId id, CompletableFuture<Optional<Product>> result) {
+    }
+}
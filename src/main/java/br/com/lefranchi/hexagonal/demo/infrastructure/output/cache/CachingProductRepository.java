@@ -0,0 +1,272 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Decorador de leitura (read-through) da porta {@link ProductRepository}.
+ * 
+ * As buscas por ID são servidas de um cache limitado por tamanho (Caffeine/W-TinyLFU):
+ * um sketch de frequência do tipo count-min decide se um novo ID entra no cache no lugar
+ * do candidato à remoção, o que mantém os produtos mais acessados residentes.
+ * 
+ * O cache guarda cópias imutáveis dos produtos, pois {@link Product} é mutável e os
+ * casos de uso alteram a instância recebida antes de persisti-la. Escritas invalidam
+ * a entrada imediatamente e novamente ao final da transação. Uma leitura que carregou o
+ * produto antes do commit pode terminar depois dessas invalidações; por isso cada invalidação
+ * avança um contador de geração (por faixa de IDs), e a leitura que encontra a geração
+ * diferente da que viu antes de carregar retira do cache o que acabou de gravar. Uma entrada
+ * também nunca é trocada por outra de versão anterior.
+ */
+public class CachingProductRepository implements ProductRepository {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final ProductRepository delegate;
+    private final Cache<ProductId, CachedProduct> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CachingProductRepository(ProductRepository delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        CachedProduct cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.toProduct());
+        }
+        
+        long generation = generation(id);
+        Optional<Product> product = delegate.findById(id);
+        product.ifPresent(found -> populate(found, generation));
+        return product;
+    }
+
+    /**
+     * Os IDs que estão no cache são servidos dele; os demais vão ao delegate numa única
+     * chamada e populam o cache.
+     */
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        Set<ProductId> distinct = new LinkedHashSet<>(ids);
+        Map<ProductId, CachedProduct> cached = cache.getAllPresent(distinct);
+        Map<ProductId, Product> loaded = new HashMap<>();
+        if (cached.size() < distinct.size()) {
+            List<ProductId> missing = distinct.stream()
+                .filter(id -> !cached.containsKey(id))
+                .toList();
+            long[] generation = new long[GENERATION_STRIPES];
+            for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+                generation[stripe] = generations.get(stripe);
+            }
+            for (Product product : delegate.findAllById(missing)) {
+                populate(product, generation[stripe(product.getId())]);
+                loaded.put(product.getId(), product);
+            }
+        }
+        
+        List<Product> products = new ArrayList<>(distinct.size());
+        for (ProductId id : distinct) {
+            CachedProduct hit = cached.get(id);
+            Product product = hit != null ? hit.toProduct() : loaded.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Servida do cache quando o produto está nele; caso contrário vai direto ao delegate,
+     * sem popular o cache, já que a consulta de versão não traz o produto completo. É a versão
+     * usada no {@code If-None-Match} e no cache de respostas, e por isso depende de o cache nunca
+     * guardar um estado anterior a uma escrita confirmada (ver {@code populate}).
+     */
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        CachedProduct cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return OptionalLong.of(cached.version());
+        }
+        return delegate.findVersion(id);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        invalidate(List.of(product.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        List<Product> saved = delegate.saveAll(products);
+        invalidate(products.stream().map(Product::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public void insert(Product product) {
+        delegate.insert(product);
+    }
+
+    @Override
+    public boolean update(Product product) {
+        boolean updated = delegate.update(product);
+        invalidate(List.of(product.getId()));
+        return updated;
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        boolean updated = delegate.updateStatus(product);
+        invalidate(List.of(product.getId()));
+        return updated;
+    }
+
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        List<Product> changed = delegate.updateStatus(selection, status, after, limit);
+        if (!changed.isEmpty()) {
+            invalidate(changed.stream().map(Product::getId).toList());
+        }
+        return changed;
+    }
+
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        List<Product> previous = delegate.reprice(selection, change, after, limit);
+        if (!previous.isEmpty()) {
+            invalidate(previous.stream().map(Product::getId).toList());
+        }
+        return previous;
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        return delegate.count(selection);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        Optional<Product> deleted = delegate.deleteById(id);
+        invalidate(List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        Optional<Product> deleted = delegate.deleteById(id, version);
+        invalidate(List.of(id));
+        return deleted;
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Grava o produto lido se nenhuma invalidação da faixa dele ocorreu desde {@code generation};
+     * a geração é conferida depois de gravar, para que uma invalidação concorrente com a gravação
+     * também a desfaça.
+     */
+    private void populate(Product product, long generation) {
+        ProductId id = product.getId();
+        CachedProduct loaded = CachedProduct.of(product);
+        cache.asMap().merge(id, loaded, (current, candidate) ->
+            candidate.version() >= current.version() ? candidate : current);
+        if (generation(id) != generation) {
+            cache.asMap().remove(id, loaded);
+        }
+    }
+
+    private void invalidate(Collection<ProductId> ids) {
+        invalidateNow(ids);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(ids);
+                }
+            });
+        }
+    }
+
+    /** A geração avança antes de remover, para que uma leitura em curso não regrave o estado anterior. */
+    private void invalidateNow(Collection<ProductId> ids) {
+        for (ProductId id : ids) {
+            generations.incrementAndGet(stripe(id));
+        }
+        cache.invalidateAll(ids);
+    }
+
+    private long generation(ProductId id) {
+        return generations.get(stripe(id));
+    }
+
+    private static int stripe(ProductId id) {
+        return id.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private record CachedProduct(ProductId id, String name, Money price, ProductStatus status, long version) {
+
+        static CachedProduct of(Product product) {
+            return new CachedProduct(product.getId(), product.getName(), product.getPrice(), product.getStatus(),
+                product.getVersion());
+        }
+
+        Product toProduct() {
+            return Product.restore(id, name, price, status, version);
+        }
+    }
+}
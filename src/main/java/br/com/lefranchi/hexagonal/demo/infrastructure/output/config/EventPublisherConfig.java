@@ -0,0 +1,77 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionOperations;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.infrastructure.metrics.MeteredProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.OutboxProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.OutboxRelay;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.OverflowPolicy;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEventSink;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.RingBufferProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataOutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Composição dos publicadores de eventos.
+ * 
+ * Existe sempre um único publicador de entrega ({@code delivery}): o assíncrono com ring buffer
+ * ou, quando desabilitado, o de log. Com o outbox habilitado, os casos de uso publicam no outbox
+ * e o relay entrega os eventos direto aos sinks, marcando-os como entregues só depois disso; sem
+ * ele, publicam direto na entrega.
+ * Em ambos os casos o publicador visto pelos casos de uso é envolvido pelas métricas da porta.
+ */
+@Configuration
+public class EventPublisherConfig {
+
+    public static final String DELIVERY = "delivery";
+
+    @Bean
+    @Qualifier(DELIVERY)
+    @ConditionalOnProperty(name = "product.events.async.enabled", havingValue = "true")
+    public RingBufferProductEventPublisher ringBufferProductEventPublisher(
+            List<ProductEventSink> sinks,
+            @Value("${product.events.async.buffer-size:8192}") int bufferSize,
+            @Value("${product.events.async.max-batch-size:256}") int maxBatchSize,
+            @Value("${product.events.async.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy) {
+        return new RingBufferProductEventPublisher(sinks, bufferSize, maxBatchSize, overflowPolicy);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.events.outbox.enabled", havingValue = "true")
+    public OutboxProductEventPublisher outboxProductEventPublisher(SpringDataOutboxEventRepository repository) {
+        return new OutboxProductEventPublisher(repository);
+    }
+
+    @Bean
+    @Primary
+    public MeteredProductEventPublisher productEventPublisher(
+            ObjectProvider<OutboxProductEventPublisher> outboxProductEventPublisher,
+            @Qualifier(DELIVERY) ProductEventPublisher delivery,
+            MeterRegistry meterRegistry) {
+        OutboxProductEventPublisher outbox = outboxProductEventPublisher.getIfAvailable();
+        ProductEventPublisher delegate = outbox != null ? outbox : delivery;
+        return new MeteredProductEventPublisher(delegate, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.events.outbox.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(
+            SpringDataOutboxEventRepository repository,
+            List<ProductEventSink> sinks,
+            TransactionOperations transactionOperations,
+            @Value("${product.events.outbox.batch-size:500}") int batchSize,
+            @Value("${product.events.outbox.prune-batch-size:1000}") int pruneBatchSize) {
+        return new OutboxRelay(repository, sinks, transactionOperations, batchSize, pruneBatchSize);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.metrics.MeteredProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.batch.BatchingProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.cache.CachingProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.FsyncPolicy;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore.LogStructuredProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Composição da porta {@link ProductRepository}: armazenamento (adaptador JPA ou, nos perfis
+ * {@code inmemory} e {@code logstore}, o repositório colunar em memória e o log em arquivos),
+ * opcionalmente envolvido pelo agrupamento de buscas por ID e pelo cache de leitura, e por fora
+ * de tudo as métricas da porta. O cache fica por fora do agrupamento, para que só as buscas que
+ * não o acertam esperem pelo lote.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    /** Qualificador do adaptador de armazenamento, sem cache nem métricas. */
+    public static final String STORAGE = "storage";
+
+    @Bean
+    @Qualifier(STORAGE)
+    @Profile("inmemory")
+    public ColumnarProductRepository columnarProductRepository(
+            @Value("${product.inmemory.initial-capacity:1024}") int initialCapacity) {
+        return new ColumnarProductRepository(initialCapacity);
+    }
+
+    @Bean
+    @Qualifier(STORAGE)
+    @Profile("logstore")
+    public LogStructuredProductRepository logStructuredProductRepository(
+            @Value("${product.logstore.directory:data/products}") Path directory,
+            @Value("${product.logstore.segment-size:67108864}") int segmentSize,
+            @Value("${product.logstore.fsync-policy:GROUP}") FsyncPolicy fsyncPolicy,
+            @Value("${product.logstore.initial-capacity:1024}") int initialCapacity) {
+        return new LogStructuredProductRepository(directory, segmentSize, fsyncPolicy, initialCapacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.batching.enabled", havingValue = "true")
+    public BatchingProductRepository batchingProductRepository(
+            @Qualifier(STORAGE) ProductRepository storage,
+            @Value("${product.batching.window-micros:1000}") long windowMicros,
+            @Value("${product.batching.max-batch-size:500}") int maxBatchSize) {
+        return new BatchingProductRepository(storage, windowMicros, maxBatchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingProductRepository cachingProductRepository(
+            @Qualifier(STORAGE) ProductRepository storage,
+            ObjectProvider<BatchingProductRepository> batchingProductRepository,
+            @Value("${product.cache.maximum-size:10000}") long maximumSize) {
+        BatchingProductRepository batching = batchingProductRepository.getIfAvailable();
+        return new CachingProductRepository(batching != null ? batching : storage, maximumSize);
+    }
+
+    @Bean
+    @Primary
+    public MeteredProductRepository productRepository(
+            @Qualifier(STORAGE) ProductRepository storage,
+            ObjectProvider<BatchingProductRepository> batchingProductRepository,
+            ObjectProvider<CachingProductRepository> cachingProductRepository,
+            MeterRegistry meterRegistry) {
+        CachingProductRepository cache = cachingProductRepository.getIfAvailable();
+        BatchingProductRepository batching = batchingProductRepository.getIfAvailable();
+        ProductRepository delegate = cache != null ? cache : batching != null ? batching : storage;
+        return new MeteredProductRepository(delegate, meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.r2dbc.R2dbcProductRepositoryAdapter;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+
+/**
+ * Composição da porta reativa no perfil {@code reactive}: o adaptador R2DBC abre o mesmo banco
+ * H2 configurado em {@code spring.datasource.url}, cujo esquema é criado pelo JPA.
+ *
+ * O pool de conexões não é exposto como bean: um {@code ConnectionFactory} no contexto faria o
+ * Spring Boot deixar de configurar o {@code DataSource}, de que o restante da aplicação depende.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactivePersistenceConfig {
+
+    private static final String H2_URL_PREFIX = "jdbc:h2:";
+
+    @Bean
+    public R2dbcProductRepositoryAdapter r2dbcProductRepositoryAdapter(
+            DataSourceProperties dataSource,
+            @Value("${product.reactive.pool-size:32}") int poolSize,
+            @Value("${product.reactive.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        String url = dataSource.determineUrl();
+        if (url == null || !url.startsWith(H2_URL_PREFIX)) {
+            throw new IllegalStateException("The reactive profile requires an H2 datasource, got " + url);
+        }
+        H2ConnectionConfiguration.Builder connection = H2ConnectionConfiguration.builder()
+            .url(url.substring(H2_URL_PREFIX.length()))
+            .username(dataSource.determineUsername());
+        if (dataSource.determinePassword() != null) {
+            connection.password(dataSource.determinePassword());
+        }
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+            .builder(new H2ConnectionFactory(connection.build()))
+            .initialSize(poolSize)
+            .maxSize(poolSize)
+            .maxAcquireTime(Duration.ofMillis(acquireTimeoutMs))
+            .build());
+        return new R2dbcProductRepositoryAdapter(pool);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.search.SearchIndexRebuild;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.search.TrigramProductSearchIndex;
+
+/**
+ * Composição da porta de busca por nome: o índice de trigramas é também um
+ * {@link br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEventSink}, e por
+ * isso recebe os eventos de produto depois do commit. Ao subir a aplicação, e depois
+ * periodicamente, ele é reconstruído a partir do armazenamento, sem passar pelo cache nem pelas
+ * métricas da porta.
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public TrigramProductSearchIndex trigramProductSearchIndex(@Value("${product.search.shards:16}") int shards) {
+        return new TrigramProductSearchIndex(shards);
+    }
+
+    @Bean
+    public SearchIndexRebuild productSearchIndexRebuild(
+            TrigramProductSearchIndex trigramProductSearchIndex,
+            @Qualifier(PersistenceConfig.STORAGE) ProductRepository storage) {
+        return new SearchIndexRebuild(trigramProductSearchIndex, storage);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.stats.InMemoryProductStatistics;
+
+/**
+ * Composição da porta de estatísticas do catálogo. A reconciliação lê direto do armazenamento,
+ * sem passar pelo cache nem pelas métricas da porta.
+ */
+@Configuration
+public class StatisticsConfig {
+
+    @Bean
+    public InMemoryProductStatistics inMemoryProductStatistics(
+            @Qualifier(PersistenceConfig.STORAGE) ProductRepository storage) {
+        return new InMemoryProductStatistics(storage);
+    }
+}
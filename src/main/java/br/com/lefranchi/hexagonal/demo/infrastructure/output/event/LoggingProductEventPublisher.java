@@ -1,14 +1,21 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.config.EventPublisherConfig;
 
 @Component
+@Qualifier(EventPublisherConfig.DELIVERY)
+@ConditionalOnProperty(name = "product.events.async.enabled", havingValue = "false", matchIfMissing = true)
 public class LoggingProductEventPublisher implements ProductEventPublisher {
     
     private static final Logger log = LoggerFactory.getLogger(LoggingProductEventPublisher.class);
@@ -18,6 +25,11 @@ public class LoggingProductEventPublisher implements ProductEventPublisher {
         log.info("Product created: {}", product.getId().getValue());
     }
 
+    @Override
+    public void publishProductsCreated(List<Product> products) {
+        log.info("Products created: {}", products.size());
+    }
+
     @Override
     public void publishProductUpdated(Product product) {
         log.info("Product updated: {}", product.getId().getValue());
@@ -37,4 +49,19 @@ public class LoggingProductEventPublisher implements ProductEventPublisher {
     public void publishProductDeactivated(Product product) {
         log.info("Product deactivated: {}", product.getId().getValue());
     }
+
+    @Override
+    public void publishProductsUpdated(List<Product> products) {
+        log.info("Products updated: {}", products.size());
+    }
+
+    @Override
+    public void publishProductsActivated(List<Product> products) {
+        log.info("Products activated: {}", products.size());
+    }
+
+    @Override
+    public void publishProductsDeactivated(List<Product> products) {
+        log.info("Products deactivated: {}", products.size());
+    }
 }
\ No newline at end of file
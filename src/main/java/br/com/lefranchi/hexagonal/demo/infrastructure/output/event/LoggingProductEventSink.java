@@ -0,0 +1,23 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoggingProductEventSink implements ProductEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingProductEventSink.class);
+
+    @Override
+    public void handle(List<ProductEvent> events) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        for (ProductEvent event : events) {
+            log.info("Product {}: {}", event.type().name().toLowerCase(), event.productId());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.OutboxEventEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataOutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publicador transacional (outbox) de eventos de produto.
+ * 
+ * Em vez de entregar o evento, grava-o na tabela {@code product_outbox} dentro da mesma
+ * transação que alterou o produto: o evento existe se, e somente se, a alteração foi
+ * confirmada. A entrega fica a cargo do {@link OutboxRelay}.
+ */
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxProductEventPublisher implements ProductEventPublisher {
+
+    private final SpringDataOutboxEventRepository repository;
+
+    @Override
+    public void publishProductCreated(Product product) {
+        repository.save(toEntity(ProductEventType.CREATED, product));
+    }
+
+    @Override
+    public void publishProductsCreated(List<Product> products) {
+        saveAll(ProductEventType.CREATED, products);
+    }
+
+    @Override
+    public void publishProductUpdated(Product product) {
+        repository.save(toEntity(ProductEventType.UPDATED, product));
+    }
+
+    @Override
+    public void publishProductDeleted(ProductId id) {
+        repository.save(new OutboxEventEntity(null, ProductEventType.DELETED, id.getValue(), null, null, null, Instant.now(), null));
+    }
+
+    @Override
+    public void publishProductActivated(Product product) {
+        repository.save(toEntity(ProductEventType.ACTIVATED, product));
+    }
+
+    @Override
+    public void publishProductDeactivated(Product product) {
+        repository.save(toEntity(ProductEventType.DEACTIVATED, product));
+    }
+
+    @Override
+    public void publishProductsUpdated(List<Product> products) {
+        saveAll(ProductEventType.UPDATED, products);
+    }
+
+    @Override
+    public void publishProductsActivated(List<Product> products) {
+        saveAll(ProductEventType.ACTIVATED, products);
+    }
+
+    @Override
+    public void publishProductsDeactivated(List<Product> products) {
+        saveAll(ProductEventType.DEACTIVATED, products);
+    }
+
+    private void saveAll(ProductEventType type, List<Product> products) {
+        repository.saveAll(products.stream()
+            .map(product -> toEntity(type, product))
+            .toList());
+    }
+
+    private OutboxEventEntity toEntity(ProductEventType type, Product product) {
+        return new OutboxEventEntity(
+            null,
+            type,
+            product.getId().getValue(),
+            product.getName(),
+            product.getPrice().getAmount(),
+            product.getStatus(),
+            Instant.now(),
+            null
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.OutboxEventEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataOutboxEventRepository;
+
+/**
+ * Entrega os eventos gravados no outbox aos {@link ProductEventSink}s.
+ * 
+ * A cada ciclo reivindica um lote de eventos pendentes com {@code SELECT ... FOR UPDATE SKIP LOCKED}
+ * (quando suportado pelo banco), entrega-os em ordem, de forma síncrona, a cada sink e só então
+ * marca-os como entregues, na mesma transação; lotes cheios são processados em sequência até
+ * esvaziar o backlog. Os eventos não passam pelo ring buffer, cujo conteúdo só existe em memória.
+ * A entrega é "pelo menos uma vez": uma falha de um sink ou antes do commit faz o lote ser
+ * entregue novamente, inclusive aos sinks que já o tinham recebido.
+ * As linhas entregues são removidas em blocos por uma rotina separada.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final SpringDataOutboxEventRepository repository;
+    private final List<ProductEventSink> sinks;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final int pruneBatchSize;
+
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong relayedBatches = new AtomicLong();
+    private final AtomicLong prunedCount = new AtomicLong();
+    private volatile long lastBatchNanos;
+    private volatile long lagMillis;
+
+    public OutboxRelay(SpringDataOutboxEventRepository repository, List<ProductEventSink> sinks,
+            TransactionOperations transactionOperations, int batchSize, int pruneBatchSize) {
+        this.repository = repository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.pruneBatchSize = pruneBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${product.events.outbox.poll-interval-ms:100}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionOperations.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to relay product outbox events", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.events.outbox.prune-interval-ms:10000}")
+    public void prune() {
+        try {
+            Integer pruned;
+            do {
+                pruned = transactionOperations.execute(status -> pruneBatch());
+            } while (pruned != null && pruned == pruneBatchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to prune delivered product outbox events", e);
+        }
+    }
+
+    int relayBatch() {
+        List<OutboxEventEntity> events = repository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            lagMillis = 0;
+            return 0;
+        }
+        
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        lagMillis = Duration.between(events.get(0).getOccurredAt(), now).toMillis();
+        
+        List<ProductEvent> batch = events.stream().map(OutboxRelay::toEvent).toList();
+        for (ProductEventSink sink : sinks) {
+            sink.handle(batch);
+        }
+        repository.markDelivered(events.stream().map(OutboxEventEntity::getId).toList(), now);
+        
+        relayedCount.addAndGet(events.size());
+        relayedBatches.incrementAndGet();
+        lastBatchNanos = System.nanoTime() - start;
+        return events.size();
+    }
+
+    int pruneBatch() {
+        List<Long> ids = repository.findDeliveredIds(Limit.of(pruneBatchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = repository.deleteByIds(ids);
+        prunedCount.addAndGet(deleted);
+        return deleted;
+    }
+
+    /** O evento como foi gravado, com o instante da escrita e não o da entrega. */
+    private static ProductEvent toEvent(OutboxEventEntity event) {
+        return new ProductEvent(
+            event.getEventType(),
+            event.getProductId(),
+            event.getName(),
+            event.getPrice(),
+            event.getStatus(),
+            event.getOccurredAt()
+        );
+    }
+
+    public long getBacklog() {
+        return repository.countByDeliveredAtIsNull();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getRelayedCount() {
+        return relayedCount.get();
+    }
+
+    public long getRelayedBatches() {
+        return relayedBatches.get();
+    }
+
+    public long getPrunedCount() {
+        return prunedCount.get();
+    }
+
+    public long getLastBatchNanos() {
+        return lastBatchNanos;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+/**
+ * O que fazer quando o ring buffer de eventos está cheio.
+ */
+public enum OverflowPolicy {
+    /** Bloqueia o publicador até que o consumidor libere espaço. */
+    BLOCK,
+    /** Descarta o evento e contabiliza o descarte. */
+    DROP,
+    /** Entrega o evento diretamente aos sinks na thread do publicador, sem perda. */
+    SPILL
+}
@@ -0,0 +1,33 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+public record ProductEvent(
+    ProductEventType type,
+    String productId,
+    String name,
+    BigDecimal price,
+    ProductStatus status,
+    Instant occurredAt
+) {
+
+    public static ProductEvent of(ProductEventType type, Product product) {
+        return new ProductEvent(
+            type,
+            product.getId().getValue(),
+            product.getName(),
+            product.getPrice().getAmount(),
+            product.getStatus(),
+            Instant.now()
+        );
+    }
+
+    public static ProductEvent deleted(ProductId id) {
+        return new ProductEvent(ProductEventType.DELETED, id.getValue(), null, null, null, Instant.now());
+    }
+}
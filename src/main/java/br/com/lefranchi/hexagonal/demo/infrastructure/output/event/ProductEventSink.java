@@ -0,0 +1,7 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.util.List;
+
+public interface ProductEventSink {
+    void handle(List<ProductEvent> events);
+}
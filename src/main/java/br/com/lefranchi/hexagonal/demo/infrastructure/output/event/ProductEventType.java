@@ -0,0 +1,9 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+public enum ProductEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ACTIVATED,
+    DEACTIVATED
+}
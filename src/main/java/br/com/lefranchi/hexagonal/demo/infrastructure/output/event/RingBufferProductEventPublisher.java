@@ -0,0 +1,308 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Publicador assíncrono de eventos de produto.
+ *
+ * Os eventos são enfileirados em um ring buffer limitado, alocado uma única vez na
+ * construção, e entregues em lotes aos {@link ProductEventSink}s por uma thread
+ * consumidora dedicada. Assim nenhum sink lento é executado na thread da requisição
+ * nem dentro da transação do caso de uso.
+ *
+ * Quando chamado dentro de uma transação, o evento só é enfileirado após o commit;
+ * escritas revertidas nunca geram eventos. Com o buffer cheio aplica-se a
+ * {@link OverflowPolicy} configurada.
+ */
+public class RingBufferProductEventPublisher implements ProductEventPublisher, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferProductEventPublisher.class);
+
+    private final ProductEvent[] buffer;
+    private final int mask;
+    private final List<ProductEventSink> sinks;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private long head;
+    private long tail;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong drainedBatches = new AtomicLong();
+    private final AtomicLong totalDrainNanos = new AtomicLong();
+    private volatile long lastDrainNanos;
+    private volatile long maxDrainNanos;
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public RingBufferProductEventPublisher(List<ProductEventSink> sinks, int capacity,
+            int maxBatchSize, OverflowPolicy overflowPolicy) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new ProductEvent[size];
+        this.mask = size - 1;
+        this.sinks = List.copyOf(sinks);
+        this.maxBatchSize = maxBatchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void publishProductCreated(Product product) {
+        publish(List.of(ProductEvent.of(ProductEventType.CREATED, product)));
+    }
+
+    @Override
+    public void publishProductsCreated(List<Product> products) {
+        publish(events(ProductEventType.CREATED, products));
+    }
+
+    @Override
+    public void publishProductUpdated(Product product) {
+        publish(List.of(ProductEvent.of(ProductEventType.UPDATED, product)));
+    }
+
+    @Override
+    public void publishProductDeleted(ProductId id) {
+        publish(List.of(ProductEvent.deleted(id)));
+    }
+
+    @Override
+    public void publishProductActivated(Product product) {
+        publish(List.of(ProductEvent.of(ProductEventType.ACTIVATED, product)));
+    }
+
+    @Override
+    public void publishProductDeactivated(Product product) {
+        publish(List.of(ProductEvent.of(ProductEventType.DEACTIVATED, product)));
+    }
+
+    @Override
+    public void publishProductsUpdated(List<Product> products) {
+        publish(events(ProductEventType.UPDATED, products));
+    }
+
+    @Override
+    public void publishProductsActivated(List<Product> products) {
+        publish(events(ProductEventType.ACTIVATED, products));
+    }
+
+    @Override
+    public void publishProductsDeactivated(List<Product> products) {
+        publish(events(ProductEventType.DEACTIVATED, products));
+    }
+
+    private static List<ProductEvent> events(ProductEventType type, List<Product> products) {
+        List<ProductEvent> events = new ArrayList<>(products.size());
+        for (Product product : products) {
+            events.add(ProductEvent.of(type, product));
+        }
+        return events;
+    }
+
+    private void publish(List<ProductEvent> events) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(events);
+                }
+            });
+        } else {
+            enqueue(events);
+        }
+    }
+
+    void enqueue(List<ProductEvent> events) {
+        List<ProductEvent> overflow = null;
+
+        lock.lock();
+        try {
+            for (ProductEvent event : events) {
+                while (tail - head == buffer.length) {
+                    if (overflowPolicy != OverflowPolicy.BLOCK || !running) {
+                        break;
+                    }
+                    notFull.awaitUninterruptibly();
+                }
+
+                if (tail - head == buffer.length) {
+                    if (overflowPolicy == OverflowPolicy.SPILL) {
+                        if (overflow == null) {
+                            overflow = new ArrayList<>();
+                        }
+                        overflow.add(event);
+                    } else {
+                        droppedCount.incrementAndGet();
+                    }
+                    continue;
+                }
+
+                buffer[(int) (tail & mask)] = event;
+                tail++;
+                publishedCount.incrementAndGet();
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (overflow != null) {
+            spilledCount.addAndGet(overflow.size());
+            deliver(overflow);
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            List<ProductEvent> batch;
+            lock.lock();
+            try {
+                while (head == tail && running) {
+                    notEmpty.await(100, TimeUnit.MILLISECONDS);
+                }
+                if (head == tail) {
+                    return;
+                }
+
+                int count = (int) Math.min(tail - head, maxBatchSize);
+                batch = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int index = (int) (head & mask);
+                    batch.add(buffer[index]);
+                    buffer[index] = null;
+                    head++;
+                }
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            deliver(batch);
+            recordDrain(System.nanoTime() - start);
+            deliveredCount.addAndGet(batch.size());
+        }
+    }
+
+    private void deliver(List<ProductEvent> events) {
+        for (ProductEventSink sink : sinks) {
+            try {
+                sink.handle(events);
+            } catch (RuntimeException e) {
+                log.error("Product event sink {} failed to handle {} events", sink.getClass().getSimpleName(), events.size(), e);
+            }
+        }
+    }
+
+    private void recordDrain(long nanos) {
+        drainedBatches.incrementAndGet();
+        totalDrainNanos.addAndGet(nanos);
+        lastDrainNanos = nanos;
+        if (nanos > maxDrainNanos) {
+            maxDrainNanos = nanos;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consume, "product-event-publisher");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (consumer == null) {
+            return;
+        }
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    public long getQueueDepth() {
+        lock.lock();
+        try {
+            return tail - head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    public long getDrainedBatches() {
+        return drainedBatches.get();
+    }
+
+    public long getTotalDrainNanos() {
+        return totalDrainNanos.get();
+    }
+
+    public long getLastDrainNanos() {
+        return lastDrainNanos;
+    }
+
+    public long getMaxDrainNanos() {
+        return maxDrainNanos;
+    }
+}
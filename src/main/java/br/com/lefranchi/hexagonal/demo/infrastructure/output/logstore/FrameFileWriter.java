@@ -0,0 +1,78 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escrita sequencial de registros num arquivo novo (snapshot ou segmento compactado),
+ * acumulando-os num buffer para não fazer uma chamada de sistema por registro.
+ */
+final class FrameFileWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    FrameFileWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    void write(byte[] frame) {
+        write(ByteBuffer.wrap(frame), 0, frame.length);
+    }
+
+    void write(ByteBuffer source, int offset, int length) {
+        try {
+            if (length > buffer.remaining()) {
+                drain();
+            }
+            ByteBuffer frame = source.slice(offset, length);
+            if (length > buffer.capacity()) {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } else {
+                buffer.put(frame);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void force() throws IOException {
+        drain();
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Força as entradas do diretório, para que uma renomeação ou remoção recente sobreviva a uma
+     * queda. Nem todo sistema permite abrir um diretório; nesses a operação é ignorada.
+     */
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Sem suporte a fsync de diretório (por exemplo, no Windows)
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
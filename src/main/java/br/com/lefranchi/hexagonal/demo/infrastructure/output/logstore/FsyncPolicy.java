@@ -0,0 +1,16 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+/**
+ * Quando as escritas do log de produtos são forçadas para o disco.
+ */
+public enum FsyncPolicy {
+    /** Cada registro é forçado antes de a escrita retornar. */
+    ALWAYS,
+    /**
+     * A escrita só retorna depois de forçada, mas escritores concorrentes compartilham o mesmo
+     * fsync: quem chega enquanto outro força espera e, em geral, já encontra seu registro no disco.
+     */
+    GROUP,
+    /** A escrita retorna sem esperar; o log é forçado periodicamente e uma queda perde o último intervalo. */
+    INTERVAL
+}
@@ -0,0 +1,200 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Um arquivo de segmento do log, com nome {@code segment-<sequência>.log}.
+ *
+ * O segmento ativo é criado com o tamanho máximo e mapeado em memória para escrita: um append é
+ * uma cópia para o mapeamento, sem chamada de sistema, e {@link #force()} é o fsync. Segmentos
+ * selados só são lidos, também por mapeamento, na recuperação e na compactação.
+ */
+final class LogSegment implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LogSegment.class);
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    /** Recebe cada registro íntegro encontrado numa leitura do segmento. */
+    @FunctionalInterface
+    interface FrameVisitor {
+        void visit(ByteBuffer buffer, int offset, int length);
+    }
+
+    @FunctionalInterface
+    interface FramePredicate {
+        boolean test(ByteBuffer buffer, int offset);
+    }
+
+    private final long sequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int position;
+
+    private LogSegment(long sequence, FileChannel channel, MappedByteBuffer buffer, int position) {
+        this.sequence = sequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    static Path path(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    /**
+     * Sequência do segmento pelo nome do arquivo, ou -1 se o arquivo não for um segmento.
+     */
+    static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name, PREFIX.length(), name.length() - SUFFIX.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static boolean isLeftover(Path path) {
+        return path.getFileName().toString().endsWith(COMPACTING_SUFFIX);
+    }
+
+    static LogSegment create(Path directory, long sequence, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path(directory, sequence),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new LogSegment(sequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), 0);
+    }
+
+    /**
+     * Reabre o último segmento para continuar escrevendo, entregando ao visitor os registros
+     * já gravados. Um registro incompleto no fim (queda durante uma escrita não forçada) é
+     * descartado junto com tudo que vem depois dele.
+     */
+    static LogSegment openForAppend(Path directory, long sequence, int capacity, FrameVisitor visitor)
+            throws IOException {
+        Path path = path(directory, sequence);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, channel.size()));
+        int end = scan(buffer, visitor);
+        if (ProductLogCodec.hasData(buffer, end)) {
+            log.warn("Discarding incomplete record at offset {} of log segment {}", end, path);
+        }
+        // Zera a cauda: páginas gravadas fora de ordem antes de uma queda não podem reaparecer
+        // como registros válidos depois dos novos
+        int offset = end;
+        for (; offset <= buffer.capacity() - Long.BYTES; offset += Long.BYTES) {
+            if (buffer.getLong(offset) != 0) {
+                buffer.putLong(offset, 0);
+            }
+        }
+        for (; offset < buffer.capacity(); offset++) {
+            buffer.put(offset, (byte) 0);
+        }
+        return new LogSegment(sequence, channel, buffer, end);
+    }
+
+    /**
+     * Lê os registros de um segmento selado. Ao contrário do segmento ativo, um registro
+     * corrompido aqui não pode ser uma escrita interrompida, pois o segmento foi forçado ao ser
+     * selado.
+     */
+    static void read(Path path, FrameVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int end = scan(buffer, visitor);
+            if (ProductLogCodec.hasData(buffer, end)) {
+                throw new IllegalStateException("Corrupted record at offset " + end + " of log segment " + path);
+            }
+        }
+    }
+
+    /**
+     * Reescreve um segmento selado só com os registros ainda vivos, se eles ocuparem no máximo
+     * {@code maxLiveRatio} do segmento. A troca é uma renomeação atômica: uma queda no meio deixa
+     * o segmento original intacto e um arquivo temporário que a próxima abertura remove.
+     *
+     * @return bytes liberados, ou 0 se o segmento não foi reescrito
+     */
+    static long compact(Path path, FramePredicate live, double maxLiveRatio) throws IOException {
+        Path target = path.resolveSibling(path.getFileName() + COMPACTING_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long[] liveBytes = new long[1];
+            int end = scan(buffer, (frames, offset, length) -> {
+                if (live.test(frames, offset)) {
+                    liveBytes[0] += length;
+                }
+            });
+            if (liveBytes[0] > end * maxLiveRatio) {
+                return 0;
+            }
+
+            try (FrameFileWriter writer = new FrameFileWriter(target)) {
+                scan(buffer, (frames, offset, length) -> {
+                    if (live.test(frames, offset)) {
+                        writer.write(frames, offset, length);
+                    }
+                });
+                writer.force();
+            }
+            Files.move(target, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            FrameFileWriter.syncDirectory(path.getParent());
+            return channel.size() - Files.size(path);
+        }
+    }
+
+    private static int scan(ByteBuffer buffer, FrameVisitor visitor) {
+        int offset = 0;
+        int length;
+        while ((length = ProductLogCodec.frameLength(buffer, offset)) > 0) {
+            visitor.visit(buffer, offset, length);
+            offset += length;
+        }
+        return offset;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int size() {
+        return position;
+    }
+
+    /**
+     * Copia o registro para o mapeamento; retorna {@code false} se ele não couber no segmento.
+     */
+    boolean append(byte[] frame) {
+        if (frame.length > buffer.capacity() - position) {
+            return false;
+        }
+        buffer.put(position, frame);
+        position += frame.length;
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
@@ -0,0 +1,451 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+/**
+ * Implementação durável da porta {@link ProductRepository} sem banco SQL: um log append-only
+ * em arquivos mapeados em memória, com o estado atual mantido num
+ * {@link ColumnarProductRepository}.
+ *
+ * Cada escrita valida a condição (versão, existência) contra o estado em memória, anexa ao log um
+ * registro com o estado completo do produto ou a remoção e só então aplica a alteração à memória.
+ * Escritas são serializadas; o fsync, conforme a {@link FsyncPolicy}, acontece depois de liberado
+ * o bloqueio, o que permite agrupar os fsyncs de escritores concorrentes. Leituras vão direto ao
+ * estado em memória.
+ *
+ * Em segundo plano, snapshots periódicos gravam o estado atual e removem os segmentos que ele
+ * cobre, e a compactação reescreve segmentos selados sem os registros já substituídos por outros
+ * mais novos da mesma chave. Na abertura, o último snapshot é carregado e apenas os segmentos
+ * seguintes são reaplicados.
+ *
+ * Uma escrita fica visível a leitores assim que aplicada à memória, antes do fsync; com
+ * {@link FsyncPolicy#INTERVAL} uma queda pode perder escritas já lidas por outros.
+ */
+public class LogStructuredProductRepository implements ProductRepository, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(LogStructuredProductRepository.class);
+
+    /** Compacta um segmento selado quando no máximo esta fração dele ainda está viva. */
+    private static final double COMPACTION_MAX_LIVE_RATIO = 0.5;
+
+    private final Path directory;
+    private final ColumnarProductRepository state;
+    private final ProductLog productLog;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private volatile long snapshotSequence;
+    private volatile long appendedAtSnapshot;
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private final AtomicLong compactedBytes = new AtomicLong();
+    private final long recoveryMillis;
+    private long replayedRecords;
+
+    public LogStructuredProductRepository(Path directory, int segmentSize, FsyncPolicy fsyncPolicy,
+            int initialCapacity) {
+        this.directory = directory;
+        this.state = new ColumnarProductRepository(initialCapacity);
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            long latestSnapshot = ProductSnapshot.latest(directory);
+            if (latestSnapshot >= 0) {
+                ProductSnapshot.read(ProductSnapshot.path(directory, latestSnapshot), this::replay);
+            }
+            long fromSnapshot = replayedRecords;
+            this.snapshotSequence = Math.max(0, latestSnapshot);
+            this.productLog = ProductLog.open(directory, segmentSize, fsyncPolicy, snapshotSequence, this::replay);
+            // Registros reaplicados do log ainda não estão em nenhum snapshot
+            this.appendedAtSnapshot = replayedRecords > fromSnapshot ? -1 : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.recoveryMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Recovered {} products from {} records in {} in {} ms",
+            state.getSize(), replayedRecords, directory, recoveryMillis);
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        return state.findById(id);
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        return state.findAllById(ids);
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        return state.findVersion(id);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return state.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return state.findPage(after, limit);
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery query) {
+        return state.findPage(query);
+    }
+
+    @Override
+    public Product save(Product product) {
+        long number;
+        writeLock.lock();
+        try {
+            number = productLog.append(ProductLogCodec.put(product));
+            state.save(product);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return product;
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        long number;
+        writeLock.lock();
+        try {
+            // Validado antes do primeiro append: o log não pode ficar com parte do lote
+            var ids = new HashSet<ProductId>();
+            for (Product product : products) {
+                requireAbsent(product.getId());
+                if (!ids.add(product.getId())) {
+                    throw new DuplicateKeyException("Product repeated in batch: " + product.getId().getValue());
+                }
+            }
+            number = productLog.getAppended();
+            for (Product product : products) {
+                number = productLog.append(ProductLogCodec.put(product));
+            }
+            state.saveAll(products);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return products;
+    }
+
+    @Override
+    public void insert(Product product) {
+        long number;
+        writeLock.lock();
+        try {
+            requireAbsent(product.getId());
+            number = productLog.append(ProductLogCodec.put(product));
+            state.insert(product);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+    }
+
+    @Override
+    public boolean update(Product product) {
+        long number;
+        writeLock.lock();
+        try {
+            if (!isAtPreviousVersion(product)) {
+                return false;
+            }
+            number = productLog.append(ProductLogCodec.put(product));
+            state.update(product);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return true;
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        long number;
+        writeLock.lock();
+        try {
+            if (!isAtPreviousVersion(product)) {
+                return false;
+            }
+            // Só o status muda: o registro leva nome e preço armazenados, não os da instância
+            Product stored = state.findById(product.getId()).orElseThrow();
+            number = productLog.append(ProductLogCodec.put(Product.restore(product.getId(), stored.getName(),
+                stored.getPrice(), product.getStatus(), product.getVersion())));
+            state.updateStatus(product);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return true;
+    }
+
+    /**
+     * Um registro por produto alterado, todos anexados sob o mesmo bloqueio e forçados com um
+     * único {@link ProductLog#sync(long)}.
+     */
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        long number;
+        List<Product> changed;
+        writeLock.lock();
+        try {
+            List<Product> selected = state.findSelected(selection, status, after, limit);
+            if (selected.isEmpty()) {
+                return selected;
+            }
+            changed = new ArrayList<>(selected.size());
+            number = productLog.getAppended();
+            for (Product product : selected) {
+                Product updated = Product.restore(product.getId(), product.getName(), product.getPrice(), status,
+                    product.getVersion() + 1);
+                number = productLog.append(ProductLogCodec.put(updated));
+                changed.add(updated);
+            }
+            for (Product product : changed) {
+                state.updateStatus(product);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return changed;
+    }
+
+    /**
+     * Como {@link #updateStatus(ProductSelection, ProductStatus, ProductId, int)}: os registros
+     * do lote, já com o preço novo calculado por {@link Product#reprice}, são anexados sob o
+     * mesmo bloqueio e forçados com um único {@link ProductLog#sync(long)}.
+     */
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        long number;
+        List<Product> previous;
+        writeLock.lock();
+        try {
+            previous = state.findSelected(selection, null, after, limit);
+            if (previous.isEmpty()) {
+                return previous;
+            }
+            List<Product> changed = new ArrayList<>(previous.size());
+            number = productLog.getAppended();
+            for (Product product : previous) {
+                Product updated = Product.restore(product.getId(), product.getName(), product.getPrice(),
+                    product.getStatus(), product.getVersion());
+                updated.reprice(change);
+                number = productLog.append(ProductLogCodec.put(updated));
+                changed.add(updated);
+            }
+            for (Product product : changed) {
+                state.update(product);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return previous;
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        return state.count(selection);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        long number;
+        Optional<Product> deleted;
+        writeLock.lock();
+        try {
+            if (state.findVersion(id).isEmpty()) {
+                return Optional.empty();
+            }
+            number = productLog.append(ProductLogCodec.delete(id));
+            deleted = state.deleteById(id);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return deleted;
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        long number;
+        Optional<Product> deleted;
+        writeLock.lock();
+        try {
+            OptionalLong current = state.findVersion(id);
+            if (current.isEmpty() || current.getAsLong() != version) {
+                return Optional.empty();
+            }
+            number = productLog.append(ProductLogCodec.delete(id));
+            deleted = state.deleteById(id);
+        } finally {
+            writeLock.unlock();
+        }
+        productLog.sync(number);
+        return deleted;
+    }
+
+    /**
+     * Força o log para o disco; é o que torna duráveis as escritas com {@link FsyncPolicy#INTERVAL}.
+     */
+    @Scheduled(fixedDelayString = "${product.logstore.fsync-interval-ms:100}")
+    public void flush() {
+        productLog.flush();
+    }
+
+    /**
+     * Grava um snapshot do estado atual e remove os segmentos que ele cobre. O bloqueio de escrita
+     * só é mantido para selar o segmento ativo; o estado é lido com as escritas em andamento.
+     */
+    @Scheduled(fixedDelayString = "${product.logstore.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        maintenanceLock.lock();
+        try {
+            long appended = productLog.getAppended();
+            if (appended == appendedAtSnapshot) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            long sequence;
+            writeLock.lock();
+            try {
+                sequence = productLog.roll();
+            } finally {
+                writeLock.unlock();
+            }
+            long products = ProductSnapshot.write(directory, sequence, state);
+            productLog.deleteSegmentsBefore(sequence);
+            snapshotSequence = sequence;
+            appendedAtSnapshot = appended;
+            snapshotCount.incrementAndGet();
+            log.info("Wrote snapshot {} with {} products in {} ms",
+                sequence, products, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Reescreve os segmentos selados sem os registros substituídos. Um {@code PUT} continua vivo
+     * enquanto o produto estiver na mesma versão em memória; remoções são mantidas, pois um
+     * segmento anterior ou o snapshot ainda podem ter o produto, e somem quando um snapshot
+     * remove o segmento.
+     */
+    @Scheduled(fixedDelayString = "${product.logstore.compaction-interval-ms:30000}")
+    public void compact() {
+        maintenanceLock.lock();
+        try {
+            for (Path segment : productLog.sealedSegments(snapshotSequence)) {
+                compactedBytes.addAndGet(LogSegment.compact(segment, this::isLive, COMPACTION_MAX_LIVE_RATIO));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    public int getSize() {
+        return state.getSize();
+    }
+
+    public long getAppendedRecords() {
+        return productLog.getAppended();
+    }
+
+    public long getFsyncCount() {
+        return productLog.getFsyncCount();
+    }
+
+    public long getActiveSegment() {
+        return productLog.getActiveSequence();
+    }
+
+    public long getSnapshotCount() {
+        return snapshotCount.get();
+    }
+
+    public long getCompactedBytes() {
+        return compactedBytes.get();
+    }
+
+    public long getRecoveryMillis() {
+        return recoveryMillis;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            productLog.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void replay(ByteBuffer buffer, int offset, int length) {
+        replayedRecords++;
+        if (ProductLogCodec.type(buffer, offset) == ProductLogCodec.PUT) {
+            state.save(ProductLogCodec.product(buffer, offset));
+        } else {
+            state.deleteById(ProductLogCodec.id(buffer, offset));
+        }
+    }
+
+    private boolean isLive(ByteBuffer buffer, int offset) {
+        if (ProductLogCodec.type(buffer, offset) != ProductLogCodec.PUT) {
+            return true;
+        }
+        OptionalLong current = state.findVersion(ProductLogCodec.id(buffer, offset));
+        return current.isPresent() && current.getAsLong() == ProductLogCodec.version(buffer, offset);
+    }
+
+    private boolean isAtPreviousVersion(Product product) {
+        OptionalLong current = state.findVersion(product.getId());
+        return current.isPresent() && current.getAsLong() == product.getVersion() - 1;
+    }
+
+    private void requireAbsent(ProductId id) {
+        if (state.findVersion(id).isPresent()) {
+            throw new DuplicateKeyException("Product already exists: " + id.getValue());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Log de registros de produto dividido em segmentos mapeados em memória.
+ *
+ * Registros são anexados ao segmento ativo; quando ele enche, é forçado, selado e um novo
+ * segmento com a sequência seguinte passa a receber os appends. Cada append recebe um número
+ * crescente, e {@link #sync(long)} só retorna quando o registro com aquele número está no disco,
+ * conforme a {@link FsyncPolicy}.
+ *
+ * Appends devem ser serializados pelo chamador; {@link #sync(long)} pode ser chamado por várias
+ * threads ao mesmo tempo e é ali que o fsync em grupo acontece.
+ */
+final class ProductLog implements Closeable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final AtomicLong durable = new AtomicLong();
+    private final AtomicLong fsyncCount = new AtomicLong();
+
+    private volatile LogSegment active;
+    private volatile long appended;
+
+    private ProductLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * Abre o log do diretório, reaplicando pelo visitor os registros dos segmentos a partir de
+     * {@code fromSequence}, em ordem. Segmentos anteriores já estão num snapshot e são removidos,
+     * assim como arquivos temporários de uma compactação interrompida.
+     */
+    static ProductLog open(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, long fromSequence,
+            LogSegment.FrameVisitor replay) throws IOException {
+        ProductLog productLog = new ProductLog(directory, segmentSize, fsyncPolicy);
+        List<Long> sequences;
+        try (Stream<Path> files = Files.list(directory)) {
+            sequences = files
+                .filter(file -> {
+                    if (LogSegment.isLeftover(file) || ProductSnapshot.isLeftover(file)) {
+                        delete(file);
+                        return false;
+                    }
+                    return LogSegment.sequenceOf(file) >= 0;
+                })
+                .map(LogSegment::sequenceOf)
+                .sorted()
+                .toList();
+        }
+
+        long last = -1;
+        for (long sequence : sequences) {
+            if (sequence < fromSequence) {
+                delete(LogSegment.path(directory, sequence));
+            } else if (last >= 0) {
+                LogSegment.read(LogSegment.path(directory, last), replay);
+                last = sequence;
+            } else {
+                last = sequence;
+            }
+        }
+        productLog.active = last >= 0
+            ? LogSegment.openForAppend(directory, last, segmentSize, replay)
+            : LogSegment.create(directory, Math.max(0, fromSequence), segmentSize);
+        return productLog;
+    }
+
+    /**
+     * Anexa um registro e retorna seu número; com {@link FsyncPolicy#ALWAYS} o registro já está
+     * no disco ao retornar.
+     */
+    long append(byte[] frame) {
+        if (frame.length > segmentSize) {
+            throw new IllegalArgumentException("Log record of " + frame.length
+                + " bytes does not fit in a segment of " + segmentSize + " bytes");
+        }
+        if (!active.append(frame)) {
+            roll();
+            active.append(frame);
+        }
+        long number = ++appended;
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            active.force();
+            fsyncCount.incrementAndGet();
+            durable.set(number);
+        }
+        return number;
+    }
+
+    /**
+     * Garante que o registro {@code number} está no disco. Com {@link FsyncPolicy#GROUP} apenas
+     * uma thread força por vez, cobrindo tudo que foi anexado até ali; as que esperavam em geral
+     * já encontram o próprio registro coberto. Com {@link FsyncPolicy#INTERVAL} não faz nada:
+     * quem força é {@link #flush()}, chamado periodicamente.
+     */
+    void sync(long number) {
+        if (fsyncPolicy == FsyncPolicy.GROUP) {
+            force(number);
+        }
+    }
+
+    /**
+     * Força tudo que foi anexado até agora.
+     */
+    void flush() {
+        force(appended);
+    }
+
+    /**
+     * Sela o segmento ativo e começa um novo, retornando a sequência do novo segmento.
+     */
+    long roll() {
+        // Exclui fsyncs concorrentes, que poderiam forçar o segmento depois de fechado
+        syncLock.lock();
+        try {
+            LogSegment sealed = active;
+            sealed.close();
+            fsyncCount.incrementAndGet();
+            durable.accumulateAndGet(appended, Math::max);
+            active = LogSegment.create(directory, sealed.sequence() + 1, segmentSize);
+            FrameFileWriter.syncDirectory(directory);
+            return active.sequence();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Segmentos selados a partir de {@code fromSequence}, isto é, todos menos o ativo.
+     */
+    List<Path> sealedSegments(long fromSequence) throws IOException {
+        long activeSequence = active.sequence();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    long sequence = LogSegment.sequenceOf(file);
+                    return sequence >= fromSequence && sequence < activeSequence;
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    void deleteSegmentsBefore(long sequence) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                long other = LogSegment.sequenceOf(file);
+                if (other >= 0 && other < sequence) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    long getAppended() {
+        return appended;
+    }
+
+    long getFsyncCount() {
+        return fsyncCount.get();
+    }
+
+    long getActiveSequence() {
+        return active.sequence();
+    }
+
+    @Override
+    public void close() throws IOException {
+        syncLock.lock();
+        try {
+            active.close();
+            durable.accumulateAndGet(appended, Math::max);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void force(long number) {
+        if (durable.get() >= number) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durable.get() >= number) {
+                return;
+            }
+            // Lidos antes do fsync: registros anexados durante ele ficam para o próximo
+            long target = appended;
+            LogSegment segment = active;
+            segment.force();
+            fsyncCount.incrementAndGet();
+            durable.accumulateAndGet(target, Math::max);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
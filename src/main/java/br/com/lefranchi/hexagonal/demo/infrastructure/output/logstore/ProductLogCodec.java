@@ -0,0 +1,117 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Formato binário dos registros do log e dos snapshots.
+ *
+ * Cada registro é um quadro {@code [tamanho:int][crc32c:int][conteúdo]}. O conteúdo de um
+ * {@link #PUT} traz o estado completo do produto (ID, preço em centavos, versão, status e nome
+ * em UTF-8) e o de um {@link #DELETE} apenas o ID, de modo que reaplicar um registro não depende
+ * do estado anterior. Tamanho zero marca o fim dos dados (segmentos novos são preenchidos com
+ * zeros); um CRC que não confere indica um registro incompleto.
+ */
+final class ProductLogCodec {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private static final int ID_BYTES = Long.BYTES * 2;
+    private static final int PUT_FIXED_BYTES = 1 + ID_BYTES + Long.BYTES * 2 + 1 + Integer.BYTES;
+    private static final int DELETE_BYTES = 1 + ID_BYTES;
+
+    private ProductLogCodec() {
+    }
+
+    static byte[] put(Product product) {
+        byte[] name = product.getName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + PUT_FIXED_BYTES + name.length);
+        frame.position(HEADER_BYTES);
+        frame.put(PUT);
+        frame.putLong(product.getId().getMostSignificantBits());
+        frame.putLong(product.getId().getLeastSignificantBits());
+        frame.putLong(product.getPrice().getCents());
+        frame.putLong(product.getVersion());
+        frame.put((byte) product.getStatus().ordinal());
+        frame.putInt(name.length);
+        frame.put(name);
+        return seal(frame);
+    }
+
+    static byte[] delete(ProductId id) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + DELETE_BYTES);
+        frame.position(HEADER_BYTES);
+        frame.put(DELETE);
+        frame.putLong(id.getMostSignificantBits());
+        frame.putLong(id.getLeastSignificantBits());
+        return seal(frame);
+    }
+
+    /**
+     * Tamanho do quadro que começa em {@code offset}, ou 0 se ali não houver um registro
+     * completo e íntegro (fim dos dados ou escrita interrompida).
+     */
+    static int frameLength(ByteBuffer buffer, int offset) {
+        if (buffer.limit() - offset < HEADER_BYTES) {
+            return 0;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.limit() - offset - HEADER_BYTES) {
+            return 0;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(offset + Integer.BYTES) ? HEADER_BYTES + length : 0;
+    }
+
+    /**
+     * Indica se há algum dado em {@code offset}: um tamanho diferente de zero onde
+     * {@link #frameLength} não encontrou registro íntegro é um registro corrompido.
+     */
+    static boolean hasData(ByteBuffer buffer, int offset) {
+        return buffer.limit() - offset >= Integer.BYTES && buffer.getInt(offset) != 0;
+    }
+
+    static byte type(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + HEADER_BYTES);
+    }
+
+    static ProductId id(ByteBuffer buffer, int offset) {
+        int position = offset + HEADER_BYTES + 1;
+        return new ProductId(buffer.getLong(position), buffer.getLong(position + Long.BYTES));
+    }
+
+    static long version(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + HEADER_BYTES + 1 + ID_BYTES + Long.BYTES);
+    }
+
+    static Product product(ByteBuffer buffer, int offset) {
+        int position = offset + HEADER_BYTES + 1 + ID_BYTES;
+        long cents = buffer.getLong(position);
+        long version = buffer.getLong(position + Long.BYTES);
+        ProductStatus status = ProductStatus.values()[buffer.get(position + Long.BYTES * 2)];
+        int nameLength = buffer.getInt(position + Long.BYTES * 2 + 1);
+        byte[] name = new byte[nameLength];
+        buffer.get(position + Long.BYTES * 2 + 1 + Integer.BYTES, name);
+        return Product.restore(id(buffer, offset), new String(name, StandardCharsets.UTF_8),
+            Money.ofCents(cents), status, version);
+    }
+
+    private static byte[] seal(ByteBuffer frame) {
+        int length = frame.capacity() - HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(frame.array(), HEADER_BYTES, length);
+        frame.putInt(0, length);
+        frame.putInt(Integer.BYTES, (int) crc.getValue());
+        return frame.array();
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+/**
+ * Snapshot do catálogo: um arquivo {@code snapshot-<sequência>.snap} com um registro
+ * {@link ProductLogCodec#PUT} por produto, equivalente a todos os segmentos anteriores a
+ * {@code sequência}.
+ *
+ * O snapshot é difuso: é lido do estado em memória página a página, enquanto escritas continuam,
+ * e cada produto pode refletir qualquer momento a partir do início do segmento {@code sequência}.
+ * Como os registros do log carregam o estado completo, reaplicar esse segmento e os seguintes
+ * sobre o snapshot leva ao mesmo estado final.
+ */
+final class ProductSnapshot {
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int PAGE_SIZE = 4096;
+    private static final int READ_BUFFER_BYTES = 4 << 20;
+    private static final int MAX_RECORD_BYTES = 64 << 20;
+
+    private ProductSnapshot() {
+    }
+
+    static Path path(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    /**
+     * Sequência do snapshot mais recente do diretório, ou -1 se não houver nenhum.
+     */
+    static long latest(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(ProductSnapshot::sequenceOf).max().orElse(-1);
+        }
+    }
+
+    static boolean isLeftover(Path path) {
+        return path.getFileName().toString().endsWith(TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Grava o snapshot num arquivo temporário, força-o e só então o renomeia; snapshots
+     * anteriores são removidos em seguida.
+     *
+     * @return quantidade de produtos gravados
+     */
+    static long write(Path directory, long sequence, ColumnarProductRepository state) throws IOException {
+        Path target = path(directory, sequence);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        long count = 0;
+        try (FrameFileWriter writer = new FrameFileWriter(temporary)) {
+            ProductId after = null;
+            List<Product> page;
+            do {
+                page = state.findPage(after, PAGE_SIZE);
+                for (Product product : page) {
+                    writer.write(ProductLogCodec.put(product));
+                }
+                count += page.size();
+                after = page.isEmpty() ? after : page.get(page.size() - 1).getId();
+            } while (page.size() == PAGE_SIZE);
+            writer.force();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        FrameFileWriter.syncDirectory(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                long other = sequenceOf(file);
+                if (other >= 0 && other < sequence) {
+                    Files.delete(file);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lê os registros do snapshot em blocos, sem mapear o arquivo inteiro (um snapshot de
+     * dezenas de milhões de produtos passa do limite de 2 GB de um mapeamento).
+     */
+    static void read(Path path, LogSegment.FrameVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES).limit(0);
+            long position = 0;
+            while (true) {
+                if (buffer.remaining() < ProductLogCodec.HEADER_BYTES) {
+                    buffer = fill(channel, buffer);
+                    if (!buffer.hasRemaining()) {
+                        return;
+                    }
+                }
+                int length = buffer.remaining() < ProductLogCodec.HEADER_BYTES ? 0 : buffer.getInt(buffer.position());
+                if (length > 0 && length <= MAX_RECORD_BYTES
+                        && ProductLogCodec.HEADER_BYTES + length > buffer.remaining()) {
+                    if (ProductLogCodec.HEADER_BYTES + length > buffer.capacity()) {
+                        buffer = ByteBuffer.allocate(ProductLogCodec.HEADER_BYTES + length).put(buffer).flip();
+                    }
+                    buffer = fill(channel, buffer);
+                }
+                length = length > MAX_RECORD_BYTES ? 0 : ProductLogCodec.frameLength(buffer, buffer.position());
+                if (length == 0) {
+                    throw new IllegalStateException("Corrupted record at offset " + position + " of snapshot " + path);
+                }
+                visitor.visit(buffer, buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                position += length;
+            }
+        }
+    }
+
+    private static ByteBuffer fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.compact();
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // Lê até encher o buffer ou chegar ao fim do arquivo
+        }
+        return buffer.flip();
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name, PREFIX.length(), name.length() - SUFFIX.length(), 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,793 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Implementação em memória da porta {@link ProductRepository}, com o catálogo inteiro
+ * guardado em colunas de tipos primitivos.
+ *
+ * Cada produto é uma linha: as duas metades do ID, o preço em centavos e a versão em
+ * {@code long[]}, o nome como referência a um {@link NamePool} sem duplicatas e o status em
+ * um bitset. Nenhum objeto é mantido por produto; {@link Product}s só são criados nas
+ * leituras. As linhas ficam ordenadas por ID, o que torna a paginação uma busca binária
+ * seguida de leitura sequencial, e o {@link ProductIdIndex} resolve buscas por ID.
+ *
+ * Como os IDs são UUIDv7, inserções quase sempre caem no fim da tabela; uma inserção fora de
+ * ordem desloca as linhas seguintes. Exclusões apenas marcam a linha, que deixa de ser vista,
+ * e a tabela é compactada quando as linhas marcadas passam de um quarto do total.
+ *
+ * Escritas são serializadas por um {@link StampedLock}. Buscas por ID usam leitura otimista,
+ * sem bloqueio, e só repetem a leitura sob o bloqueio de leitura se uma escrita ocorreu no
+ * meio; varreduras (página, lista completa) usam sempre o bloqueio de leitura.
+ *
+ * Consultas filtradas avaliam os filtros direto nas colunas. Ordenadas por ID, param ao
+ * completar a página; nas demais ordens não há índice secundário e a tabela inteira é
+ * percorrida, guardando num heap só os primeiros itens da ordem.
+ *
+ * Não participa de transações: uma escrita feita dentro de uma transação revertida permanece.
+ */
+public class ColumnarProductRepository implements ProductRepository {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_ROWS_TO_COMPACT = 1024;
+
+    /** Linhas por tarefa no reajuste de preço; lotes menores são processados na própria thread. */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final StampedLock lock = new StampedLock();
+    private final ProductIdIndex index;
+    private final NamePool names;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] priceCents;
+    private long[] versions;
+    private int[] nameIds;
+    private long[] activeBits;
+    private long[] deletedBits;
+
+    /** Linhas ocupadas, incluindo as marcadas como removidas. */
+    private int rows;
+    private int deletedRows;
+
+    public ColumnarProductRepository(int initialCapacity) {
+        int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.priceCents = new long[capacity];
+        this.versions = new long[capacity];
+        this.nameIds = new int[capacity];
+        this.activeBits = new long[words(capacity)];
+        this.deletedBits = new long[words(capacity)];
+        this.index = new ProductIdIndex(capacity);
+        this.names = new NamePool(MIN_CAPACITY);
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Row row = readRow(id);
+            if (lock.validate(stamp)) {
+                return Optional.ofNullable(row).map(Row::toProduct);
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return Optional.ofNullable(readRow(id)).map(Row::toProduct);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Todos os IDs são lidos sob o mesmo bloqueio de leitura, como um único instantâneo.
+     */
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        List<Product> products = new ArrayList<>(ids.size());
+        long stamp = lock.readLock();
+        try {
+            for (ProductId id : new LinkedHashSet<>(ids)) {
+                Row row = readRow(id);
+                if (row != null) {
+                    products.add(row.toProduct());
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return products;
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            long version = readVersion(id);
+            if (lock.validate(stamp)) {
+                return version < 0 ? OptionalLong.empty() : OptionalLong.of(version);
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            long version = readVersion(id);
+            return version < 0 ? OptionalLong.empty() : OptionalLong.of(version);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        long stamp = lock.readLock();
+        try {
+            List<Product> products = new ArrayList<>(rows - deletedRows);
+            for (int row = 0; row < rows; row++) {
+                if (!isSet(deletedBits, row)) {
+                    products.add(toProduct(row));
+                }
+            }
+            return products;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        long stamp = lock.readLock();
+        try {
+            int row = after == null ? 0 : firstRowAfter(after.getMostSignificantBits(), after.getLeastSignificantBits());
+            List<Product> products = new ArrayList<>(Math.min(limit, rows - row));
+            for (; row < rows && products.size() < limit; row++) {
+                if (!isSet(deletedBits, row)) {
+                    products.add(toProduct(row));
+                }
+            }
+            return products;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery query) {
+        long stamp = lock.readLock();
+        try {
+            ProductCursor after = query.getAfter();
+            int limit = query.getLimit();
+            if (query.getSort() == ProductSort.ID) {
+                int row = after == null ? 0 : firstRowAfter(after.id().getMostSignificantBits(),
+                    after.id().getLeastSignificantBits());
+                List<Product> products = new ArrayList<>(Math.min(limit, rows - row));
+                for (; row < rows && products.size() < limit; row++) {
+                    if (!isSet(deletedBits, row) && matches(row, query)) {
+                        products.add(toProduct(row));
+                    }
+                }
+                return products;
+            }
+
+            ProductSort sort = query.getSort();
+            // Heap invertido: o topo é o último da página, o primeiro a sair quando surge um menor
+            PriorityQueue<Product> page = new PriorityQueue<>(limit + 1, sort.comparator().reversed());
+            for (int row = 0; row < rows; row++) {
+                if (isSet(deletedBits, row) || !matches(row, query)) {
+                    continue;
+                }
+                if (after != null && compare(row, sort, after.id(), after.priceCents(), after.name()) <= 0) {
+                    continue;
+                }
+                if (page.size() < limit) {
+                    page.add(toProduct(row));
+                } else {
+                    Product last = page.peek();
+                    if (compare(row, sort, last.getId(), last.getPrice().getCents(), last.getName()) < 0) {
+                        page.poll();
+                        page.add(toProduct(row));
+                    }
+                }
+            }
+            List<Product> products = new ArrayList<>(page);
+            products.sort(sort.comparator());
+            return products;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            int row = find(product.getId());
+            if (row == ProductIdIndex.NOT_FOUND) {
+                insertRow(product);
+            } else {
+                write(row, product);
+            }
+            return product;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        long stamp = lock.writeLock();
+        try {
+            var ids = new HashSet<ProductId>();
+            for (Product product : products) {
+                requireAbsent(product.getId());
+                if (!ids.add(product.getId())) {
+                    throw new DuplicateKeyException("Product repeated in batch: " + product.getId().getValue());
+                }
+            }
+            for (Product product : products) {
+                insertRow(product);
+            }
+            return products;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void insert(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            requireAbsent(product.getId());
+            insertRow(product);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean update(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            int row = findAtPreviousVersion(product);
+            if (row == ProductIdIndex.NOT_FOUND) {
+                return false;
+            }
+            write(row, product);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        long stamp = lock.writeLock();
+        try {
+            int row = findAtPreviousVersion(product);
+            if (row == ProductIdIndex.NOT_FOUND) {
+                return false;
+            }
+            setBit(activeBits, row, product.getStatus() == ProductStatus.ACTIVE);
+            versions[row] = product.getVersion();
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        long stamp = lock.writeLock();
+        try {
+            boolean active = status == ProductStatus.ACTIVE;
+            List<Product> changed = new ArrayList<>();
+            for (int row : selectedRows(selection, status, after, limit)) {
+                setBit(activeBits, row, active);
+                versions[row]++;
+                changed.add(toProduct(row));
+            }
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Produtos que {@link #updateStatus(ProductSelection, ProductStatus, ProductId, int)} (com
+     * {@code excludedStatus}) ou {@link #reprice} (sem ele) alterariam, ainda no estado atual,
+     * sem alterá-los.
+     */
+    public List<Product> findSelected(ProductSelection selection, ProductStatus excludedStatus, ProductId after,
+            int limit) {
+        long stamp = lock.readLock();
+        try {
+            int[] selected = selectedRows(selection, excludedStatus, after, limit);
+            List<Product> products = new ArrayList<>(selected.length);
+            for (int row : selected) {
+                products.add(toProduct(row));
+            }
+            return products;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Os preços e versões do lote são recalculados em paralelo no {@link ForkJoinPool} comum,
+     * cada tarefa sobre uma faixa das linhas selecionadas; como as linhas são distintas, as
+     * tarefas não escrevem na mesma posição das colunas. O bitset de status é ajustado depois,
+     * numa passada sequencial, porque linhas vizinhas dividem a mesma palavra. O bloqueio de
+     * escrita fica com a thread que chamou durante todo o lote.
+     */
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        long stamp = lock.writeLock();
+        try {
+            int[] selected = selectedRows(selection, null, after, limit);
+            List<Product> previous = new ArrayList<>(selected.length);
+            for (int row : selected) {
+                previous.add(toProduct(row));
+            }
+            ForkJoinPool.commonPool().invoke(new RepriceTask(selected, 0, selected.length, change));
+            for (int row : selected) {
+                if (priceCents[row] < 0) {
+                    setBit(activeBits, row, false);
+                }
+            }
+            return previous;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        long stamp = lock.readLock();
+        try {
+            long count = 0;
+            if (selection.getIds() != null) {
+                for (int row : rowsOf(selection.getIds())) {
+                    if (matches(row, selection)) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            for (int row = 0; row < rows; row++) {
+                if (!isSet(deletedBits, row) && matches(row, selection)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        long stamp = lock.writeLock();
+        try {
+            int row = find(id);
+            if (row == ProductIdIndex.NOT_FOUND) {
+                return Optional.empty();
+            }
+            Product deleted = toProduct(row);
+            deleteRow(row);
+            return Optional.of(deleted);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        long stamp = lock.writeLock();
+        try {
+            int row = find(id);
+            if (row == ProductIdIndex.NOT_FOUND || versions[row] != version) {
+                return Optional.empty();
+            }
+            Product deleted = toProduct(row);
+            deleteRow(row);
+            return Optional.of(deleted);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int getSize() {
+        long stamp = lock.readLock();
+        try {
+            return rows - deletedRows;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int getDeletedRows() {
+        long stamp = lock.readLock();
+        try {
+            return deletedRows;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int getDistinctNames() {
+        long stamp = lock.readLock();
+        try {
+            return names.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Memória ocupada pelas colunas e índices, sem contar as strings do pool de nomes.
+     */
+    public long getColumnBytes() {
+        long stamp = lock.readLock();
+        try {
+            long capacity = mostSignificantBits.length;
+            return capacity * (Long.BYTES * 4 + Integer.BYTES)
+                + (long) (activeBits.length + deletedBits.length) * Long.BYTES
+                + (long) index.capacity() * Integer.BYTES;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Lê os campos da linha em variáveis locais, sem criar o {@link Product}: numa leitura
+     * otimista os valores podem ser inconsistentes até a validação, e o domínio rejeitaria,
+     * por exemplo, um nome nulo lido no meio de uma escrita.
+     */
+    private Row readRow(ProductId id) {
+        long[] high = mostSignificantBits;
+        long[] low = leastSignificantBits;
+        int row = index.find(id.getMostSignificantBits(), id.getLeastSignificantBits(), high, low);
+        long[] prices = priceCents;
+        long[] rowVersions = versions;
+        int[] rowNames = nameIds;
+        long[] active = activeBits;
+        if (row < 0 || row >= prices.length || row >= rowVersions.length || row >= rowNames.length
+                || (row >>> 6) >= active.length) {
+            return null;
+        }
+        return new Row(id, names.get(rowNames[row]), prices[row], isSet(active, row), rowVersions[row]);
+    }
+
+    private long readVersion(ProductId id) {
+        long[] rowVersions = versions;
+        int row = index.find(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+            mostSignificantBits, leastSignificantBits);
+        return row < 0 || row >= rowVersions.length ? -1 : rowVersions[row];
+    }
+
+    private Product toProduct(int row) {
+        return Product.restore(
+            new ProductId(mostSignificantBits[row], leastSignificantBits[row]),
+            names.get(nameIds[row]),
+            Money.ofCents(priceCents[row]),
+            isSet(activeBits, row) ? ProductStatus.ACTIVE : ProductStatus.INACTIVE,
+            versions[row]);
+    }
+
+    private boolean matches(int row, ProductQuery query) {
+        return (query.getStatus() == null
+                || isSet(activeBits, row) == (query.getStatus() == ProductStatus.ACTIVE))
+            && (query.getMinPrice() == null || priceCents[row] >= query.getMinPrice().getCents())
+            && (query.getMaxPrice() == null || priceCents[row] <= query.getMaxPrice().getCents())
+            && (query.getNamePrefix() == null || names.get(nameIds[row]).startsWith(query.getNamePrefix()));
+    }
+
+    /**
+     * Filtros de status e preço da seleção avaliados nas colunas; os IDs são resolvidos à parte,
+     * pelo índice.
+     */
+    private boolean matches(int row, ProductSelection selection) {
+        return (selection.getStatus() == null
+                || isSet(activeBits, row) == (selection.getStatus() == ProductStatus.ACTIVE))
+            && (selection.getMinPrice() == null || priceCents[row] >= selection.getMinPrice().getCents())
+            && (selection.getMaxPrice() == null || priceCents[row] <= selection.getMaxPrice().getCents());
+    }
+
+    /**
+     * Até {@code limit} linhas da seleção depois de {@code after} que ainda não estão em
+     * {@code excludedStatus}, se informado, em ordem de ID. Com lista de IDs, só as linhas
+     * listadas são lidas; sem ela, a tabela é percorrida a partir do cursor.
+     */
+    private int[] selectedRows(ProductSelection selection, ProductStatus excludedStatus, ProductId after, int limit) {
+        int from = after == null ? 0 : firstRowAfter(after.getMostSignificantBits(), after.getLeastSignificantBits());
+        int[] selected = new int[Math.max(0, Math.min(limit, rows - from))];
+        int size = 0;
+        if (selection.getIds() != null) {
+            for (int row : rowsOf(selection.getIds())) {
+                if (size == selected.length) {
+                    break;
+                }
+                if (row >= from && !hasStatus(row, excludedStatus) && matches(row, selection)) {
+                    selected[size++] = row;
+                }
+            }
+        } else {
+            for (int row = from; row < rows && size < selected.length; row++) {
+                if (!isSet(deletedBits, row) && !hasStatus(row, excludedStatus) && matches(row, selection)) {
+                    selected[size++] = row;
+                }
+            }
+        }
+        return size == selected.length ? selected : Arrays.copyOf(selected, size);
+    }
+
+    private boolean hasStatus(int row, ProductStatus status) {
+        return status != null && isSet(activeBits, row) == (status == ProductStatus.ACTIVE);
+    }
+
+    /**
+     * Linhas dos IDs existentes, sem repetição e em ordem de ID.
+     */
+    private int[] rowsOf(List<ProductId> ids) {
+        return ids.stream()
+            .mapToInt(this::find)
+            .filter(row -> row != ProductIdIndex.NOT_FOUND)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    /**
+     * Compara a linha com a posição informada na ordem de {@code sort}, sem criar o produto.
+     */
+    private int compare(int row, ProductSort sort, ProductId id, long cents, String name) {
+        int comparison = switch (sort) {
+            case ID -> 0;
+            case PRICE_ASC -> Long.compare(priceCents[row], cents);
+            case PRICE_DESC -> Long.compare(cents, priceCents[row]);
+            case NAME_ASC -> names.get(nameIds[row]).compareTo(name);
+        };
+        if (comparison != 0) {
+            return comparison;
+        }
+        comparison = Long.compareUnsigned(mostSignificantBits[row], id.getMostSignificantBits());
+        if (comparison == 0) {
+            comparison = Long.compareUnsigned(leastSignificantBits[row], id.getLeastSignificantBits());
+        }
+        return sort == ProductSort.PRICE_DESC ? -comparison : comparison;
+    }
+
+    private int find(ProductId id) {
+        return index.find(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+            mostSignificantBits, leastSignificantBits);
+    }
+
+    private int findAtPreviousVersion(Product product) {
+        int row = find(product.getId());
+        return row != ProductIdIndex.NOT_FOUND && versions[row] == product.getVersion() - 1
+            ? row
+            : ProductIdIndex.NOT_FOUND;
+    }
+
+    private void requireAbsent(ProductId id) {
+        if (find(id) != ProductIdIndex.NOT_FOUND) {
+            throw new DuplicateKeyException("Product already exists: " + id.getValue());
+        }
+    }
+
+    private void insertRow(Product product) {
+        long high = product.getId().getMostSignificantBits();
+        long low = product.getId().getLeastSignificantBits();
+
+        int row = firstRowAfter(high, low);
+        if (row > 0 && isSet(deletedBits, row - 1)
+                && mostSignificantBits[row - 1] == high && leastSignificantBits[row - 1] == low) {
+            // Mesmo ID de uma linha removida e ainda não compactada: reaproveita a linha
+            row--;
+            setBit(deletedBits, row, false);
+            deletedRows--;
+        } else {
+            ensureCapacity(rows + 1);
+            if (row < rows) {
+                shiftRight(row);
+                index.shiftRows(row);
+            }
+            rows++;
+            mostSignificantBits[row] = high;
+            leastSignificantBits[row] = low;
+            nameIds[row] = -1;
+        }
+
+        write(row, product);
+        index.add(row, mostSignificantBits, leastSignificantBits);
+    }
+
+    private void write(int row, Product product) {
+        int previousName = nameIds[row];
+        nameIds[row] = names.acquire(product.getName());
+        if (previousName >= 0) {
+            names.release(previousName);
+        }
+        priceCents[row] = product.getPrice().getCents();
+        versions[row] = product.getVersion();
+        setBit(activeBits, row, product.getStatus() == ProductStatus.ACTIVE);
+    }
+
+    private void deleteRow(int row) {
+        index.remove(row, mostSignificantBits, leastSignificantBits);
+        names.release(nameIds[row]);
+        nameIds[row] = -1;
+        setBit(activeBits, row, false);
+        setBit(deletedBits, row, true);
+        deletedRows++;
+
+        if (deletedRows >= MIN_ROWS_TO_COMPACT && deletedRows > rows / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * Remove as linhas marcadas, preservando a ordem, e reconstrói o índice.
+     */
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < rows; row++) {
+            if (isSet(deletedBits, row)) {
+                continue;
+            }
+            if (target != row) {
+                mostSignificantBits[target] = mostSignificantBits[row];
+                leastSignificantBits[target] = leastSignificantBits[row];
+                priceCents[target] = priceCents[row];
+                versions[target] = versions[row];
+                nameIds[target] = nameIds[row];
+                setBit(activeBits, target, isSet(activeBits, row));
+            }
+            target++;
+        }
+        Arrays.fill(activeBits, (target + 63) >>> 6, activeBits.length, 0L);
+        if ((target & 63) != 0) {
+            activeBits[target >>> 6] &= (1L << target) - 1;
+        }
+        Arrays.fill(deletedBits, 0L);
+        rows = target;
+        deletedRows = 0;
+
+        index.clear(rows);
+        for (int row = 0; row < rows; row++) {
+            index.add(row, mostSignificantBits, leastSignificantBits);
+        }
+    }
+
+    /**
+     * Primeira linha cujo ID é maior que o informado, pela mesma ordem sem sinal de
+     * {@link ProductId#compareTo(ProductId)}.
+     */
+    private int firstRowAfter(long high, long low) {
+        int from = 0;
+        int to = rows;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            int comparison = Long.compareUnsigned(mostSignificantBits[middle], high);
+            if (comparison == 0) {
+                comparison = Long.compareUnsigned(leastSignificantBits[middle], low);
+            }
+            if (comparison <= 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private void shiftRight(int from) {
+        int length = rows - from;
+        System.arraycopy(mostSignificantBits, from, mostSignificantBits, from + 1, length);
+        System.arraycopy(leastSignificantBits, from, leastSignificantBits, from + 1, length);
+        System.arraycopy(priceCents, from, priceCents, from + 1, length);
+        System.arraycopy(versions, from, versions, from + 1, length);
+        System.arraycopy(nameIds, from, nameIds, from + 1, length);
+        for (int row = rows; row > from; row--) {
+            setBit(activeBits, row, isSet(activeBits, row - 1));
+            setBit(deletedBits, row, isSet(deletedBits, row - 1));
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = mostSignificantBits.length;
+        if (required <= capacity) {
+            return;
+        }
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, capacity + (long) (capacity >> 1)));
+        mostSignificantBits = Arrays.copyOf(mostSignificantBits, newCapacity);
+        leastSignificantBits = Arrays.copyOf(leastSignificantBits, newCapacity);
+        priceCents = Arrays.copyOf(priceCents, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        nameIds = Arrays.copyOf(nameIds, newCapacity);
+        activeBits = Arrays.copyOf(activeBits, words(newCapacity));
+        deletedBits = Arrays.copyOf(deletedBits, words(newCapacity));
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static boolean isSet(long[] bits, int row) {
+        return (bits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private static void setBit(long[] bits, int row, boolean value) {
+        if (value) {
+            bits[row >>> 6] |= 1L << row;
+        } else {
+            bits[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * Aplica a alteração de preço a uma faixa das linhas selecionadas, dividindo-a ao meio até
+     * {@link #PARALLEL_THRESHOLD} linhas.
+     */
+    private final class RepriceTask extends RecursiveAction {
+
+        private final int[] selected;
+        private final int from;
+        private final int to;
+        private final PriceChange change;
+
+        RepriceTask(int[] selected, int from, int to, PriceChange change) {
+            this.selected = selected;
+            this.from = from;
+            this.to = to;
+            this.change = change;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    int row = selected[i];
+                    priceCents[row] = change.applyTo(Money.ofCents(priceCents[row])).getCents();
+                    versions[row]++;
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RepriceTask(selected, from, middle, change), new RepriceTask(selected, middle, to, change));
+        }
+    }
+
+    private record Row(ProductId id, String name, long priceCents, boolean active, long version) {
+
+        Product toProduct() {
+            return Product.restore(id, name, Money.ofCents(priceCents),
+                active ? ProductStatus.ACTIVE : ProductStatus.INACTIVE, version);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.memory;
+
+import java.util.Arrays;
+
+/**
+ * Pool de nomes de produto sem duplicatas, com contagem de referências.
+ *
+ * Cada nome distinto é guardado uma única vez e as linhas da tabela referenciam-no por um
+ * {@code int}. A busca por nome usa endereçamento aberto sobre um {@code int[]}, sem
+ * {@code HashMap} nem objetos de entrada; nomes sem referências liberam a posição para reuso.
+ *
+ * Não é thread-safe; o {@link ColumnarProductRepository} controla o acesso.
+ */
+final class NamePool {
+
+    private static final int MAX_LOAD_PERCENT = 75;
+
+    private String[] names;
+    private int[] referenceCounts;
+    private int[] freeIds;
+    private int freeCount;
+    private int nextId;
+    private int size;
+
+    /** Posição do índice por nome: id do nome mais um, 0 é vazio. */
+    private int[] slots;
+
+    NamePool(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        this.names = new String[capacity];
+        this.referenceCounts = new int[capacity];
+        this.freeIds = new int[16];
+        this.slots = new int[tableSizeFor(capacity)];
+    }
+
+    /**
+     * Nome de um id, ou {@code null} se o id estiver fora do pool. Pode ser chamado durante
+     * uma leitura otimista, que valida o resultado depois.
+     */
+    String get(int id) {
+        String[] current = names;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Id do nome, incluindo-o no pool se necessário, e uma referência a mais para ele.
+     */
+    int acquire(String name) {
+        int mask = slots.length - 1;
+        int slot = name.hashCode() * 0x9E3779B9 & mask;
+        while (slots[slot] != 0) {
+            int id = slots[slot] - 1;
+            if (names[id].equals(name)) {
+                referenceCounts[id]++;
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int id = allocateId();
+        names[id] = name;
+        referenceCounts[id] = 1;
+        size++;
+        if ((long) size * 100 > (long) slots.length * MAX_LOAD_PERCENT) {
+            rehash(slots.length << 1);
+        } else {
+            slots[slot] = id + 1;
+        }
+        return id;
+    }
+
+    void release(int id) {
+        if (--referenceCounts[id] > 0) {
+            return;
+        }
+        removeSlot(id);
+        names[id] = null;
+        size--;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length << 1);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    private int allocateId() {
+        if (freeCount > 0) {
+            return freeIds[--freeCount];
+        }
+        if (nextId == names.length) {
+            int capacity = names.length + (names.length >> 1);
+            names = Arrays.copyOf(names, capacity);
+            referenceCounts = Arrays.copyOf(referenceCounts, capacity);
+        }
+        return nextId++;
+    }
+
+    private void removeSlot(int id) {
+        int mask = slots.length - 1;
+        int hole = names[id].hashCode() * 0x9E3779B9 & mask;
+        while (slots[hole] != id + 1) {
+            hole = (hole + 1) & mask;
+        }
+        int slot = (hole + 1) & mask;
+        while (slots[slot] != 0) {
+            int home = names[slots[slot] - 1].hashCode() * 0x9E3779B9 & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots[hole] = slots[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[hole] = 0;
+    }
+
+    private void rehash(int tableSize) {
+        slots = new int[tableSize];
+        int mask = tableSize - 1;
+        for (int id = 0; id < nextId; id++) {
+            if (names[id] == null) {
+                continue;
+            }
+            int slot = names[id].hashCode() * 0x9E3779B9 & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long minimum = (long) expectedSize * 100 / MAX_LOAD_PERCENT + 1;
+        return (int) Math.min(1L << 30, Long.highestOneBit(minimum - 1) << 1);
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.memory;
+
+/**
+ * Índice de IDs de produto por endereçamento aberto (sondagem linear).
+ *
+ * Cada posição guarda apenas o número da linha mais um (0 é vazio); as chaves são lidas das
+ * próprias colunas de ID da tabela, de modo que o índice custa um {@code int} por posição e
+ * nenhum objeto por produto. Remoções usam deslocamento para trás em vez de marcadores, o que
+ * mantém as sequências de sondagem curtas mesmo depois de muitas exclusões.
+ *
+ * Não é thread-safe; o {@link ColumnarProductRepository} controla o acesso. Leituras otimistas
+ * concorrentes podem ver o índice no meio de uma alteração, por isso a busca é limitada a uma
+ * volta completa na tabela e o chamador sempre valida o resultado.
+ */
+final class ProductIdIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int MAX_LOAD_PERCENT = 75;
+
+    private int[] slots;
+    private int size;
+
+    ProductIdIndex(int expectedSize) {
+        this.slots = new int[capacityFor(expectedSize)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    int find(long mostSignificantBits, long leastSignificantBits, long[] highColumn, long[] lowColumn) {
+        int[] table = slots;
+        int mask = table.length - 1;
+        int slot = hash(mostSignificantBits, leastSignificantBits) & mask;
+        for (int probes = 0; probes < table.length; probes++) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return NOT_FOUND;
+            }
+            int row = entry - 1;
+            if (row < highColumn.length && row < lowColumn.length
+                    && highColumn[row] == mostSignificantBits && lowColumn[row] == leastSignificantBits) {
+                return row;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Inclui uma linha cujo ID ainda não está no índice.
+     */
+    void add(int row, long[] highColumn, long[] lowColumn) {
+        if ((long) (size + 1) * 100 > (long) slots.length * MAX_LOAD_PERCENT) {
+            int[] previous = slots;
+            slots = new int[previous.length << 1];
+            for (int entry : previous) {
+                if (entry != 0) {
+                    place(entry, highColumn, lowColumn);
+                }
+            }
+        }
+        place(row + 1, highColumn, lowColumn);
+        size++;
+    }
+
+    void remove(int row, long[] highColumn, long[] lowColumn) {
+        int mask = slots.length - 1;
+        int hole = hash(highColumn[row], lowColumn[row]) & mask;
+        while (slots[hole] != row + 1) {
+            if (slots[hole] == 0) {
+                return;
+            }
+            hole = (hole + 1) & mask;
+        }
+
+        // Puxa para o buraco cada entrada seguinte cuja posição de origem não esteja entre
+        // o buraco e ela própria, para que nenhuma sondagem termine antes da hora
+        int slot = (hole + 1) & mask;
+        while (slots[slot] != 0) {
+            int entryRow = slots[slot] - 1;
+            int home = hash(highColumn[entryRow], lowColumn[entryRow]) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots[hole] = slots[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[hole] = 0;
+        size--;
+    }
+
+    /**
+     * Renumera as linhas a partir de {@code fromRow} depois que a tabela abriu espaço para uma
+     * inserção fora de ordem.
+     */
+    void shiftRows(int fromRow) {
+        int[] table = slots;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] > fromRow) {
+                table[i]++;
+            }
+        }
+    }
+
+    void clear(int expectedSize) {
+        slots = new int[capacityFor(expectedSize)];
+        size = 0;
+    }
+
+    private void place(int entry, long[] highColumn, long[] lowColumn) {
+        int mask = slots.length - 1;
+        int row = entry - 1;
+        int slot = hash(highColumn[row], lowColumn[row]) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long minimum = Math.max(16L, (long) expectedSize * 100 / MAX_LOAD_PERCENT + 1);
+        return (int) Math.min(1L << 30, Long.highestOneBit(minimum - 1) << 1);
+    }
+
+    /**
+     * Finalizador do MurmurHash3: os bits altos do UUIDv7 são o timestamp, que sozinho
+     * agruparia IDs criados no mesmo milissegundo.
+     */
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        long h = mostSignificantBits ^ leastSignificantBits;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -1,33 +1,82 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.config.PersistenceConfig;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductEntityMapper;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataProductRepository;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
+@Qualifier(PersistenceConfig.STORAGE)
+@Profile("!inmemory & !logstore")
 @RequiredArgsConstructor
 public class JpaProductRepositoryAdapter implements ProductRepository {
 
+    /** IDs por consulta em {@link #findAllById}, abaixo dos limites de parâmetros dos bancos usuais. */
+    public static final int FIND_BY_IDS_CHUNK_SIZE = 500;
+
     private final SpringDataProductRepository repository;
     private final ProductEntityMapper mapper;
 
     @Override
     public Optional<Product> findById(ProductId id) {
-        return repository.findById(id.getValue())
+        return repository.findById(id.toUuid())
             .map(mapper::toDomain);
     }
 
+    /**
+     * Uma consulta {@code IN} a cada {@link #FIND_BY_IDS_CHUNK_SIZE} IDs.
+     */
+    @Override
+    public List<Product> findAllById(List<ProductId> ids) {
+        List<ProductId> distinct = ids.stream().distinct().toList();
+        Map<ProductId, Product> found = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += FIND_BY_IDS_CHUNK_SIZE) {
+            List<UUID> chunk = distinct.subList(from, Math.min(distinct.size(), from + FIND_BY_IDS_CHUNK_SIZE))
+                .stream()
+                .map(ProductId::toUuid)
+                .toList();
+            for (ProductEntity entity : repository.findAllById(chunk)) {
+                Product product = mapper.toDomain(entity);
+                found.put(product.getId(), product);
+            }
+        }
+        return distinct.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public OptionalLong findVersion(ProductId id) {
+        return repository.findVersionById(id.toUuid())
+            .map(OptionalLong::of)
+            .orElseGet(OptionalLong::empty);
+    }
+
     @Override
     public List<Product> findAll() {
         return StreamSupport.stream(repository.findAll().spliterator(), false)
@@ -35,6 +84,23 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        var entities = after == null
+            ? repository.findAllByOrderByIdAsc(Limit.of(limit))
+            : repository.findByIdGreaterThanOrderByIdAsc(after.toUuid(), Limit.of(limit));
+        return entities.stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Product> findPage(ProductQuery query) {
+        return repository.findPage(query).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public Product save(Product product) {
         var entity = mapper.toEntity(product);
@@ -43,7 +109,62 @@ public class JpaProductRepositoryAdapter implements ProductRepository {
     }
 
     @Override
-    public void deleteById(ProductId id) {
-        repository.deleteById(id.getValue());
+    public List<Product> saveAll(List<Product> products) {
+        var entities = products.stream()
+            .map(mapper::toEntity)
+            .collect(Collectors.toList());
+        repository.insertAll(entities);
+        return products;
+    }
+
+    @Override
+    public void insert(Product product) {
+        repository.insert(mapper.toEntity(product));
+    }
+
+    @Override
+    public boolean update(Product product) {
+        return repository.updateById(
+            product.getId().toUuid(),
+            product.getName(),
+            product.getPrice().getAmount(),
+            product.getStatus(),
+            product.getVersion()) > 0;
+    }
+
+    @Override
+    public boolean updateStatus(Product product) {
+        return repository.updateStatusById(product.getId().toUuid(), product.getStatus(), product.getVersion()) > 0;
+    }
+
+    @Override
+    public List<Product> updateStatus(ProductSelection selection, ProductStatus status, ProductId after, int limit) {
+        return repository.updateStatus(selection, status, after != null ? after.toUuid() : null, limit).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Product> reprice(ProductSelection selection, PriceChange change, ProductId after, int limit) {
+        return repository.reprice(selection, change, after != null ? after.toUuid() : null, limit).stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        return repository.count(selection);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id) {
+        return repository.removeById(id.toUuid())
+            .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Product> deleteById(ProductId id, long version) {
+        return repository.removeByIdAndVersion(id.toUuid(), version)
+            .map(mapper::toDomain);
     }
 }
\ No newline at end of file
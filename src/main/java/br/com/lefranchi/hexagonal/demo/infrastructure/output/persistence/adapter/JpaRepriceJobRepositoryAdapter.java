@@ -0,0 +1,46 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJob;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobState;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.RepriceJobEntityMapper;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataRepriceJobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Jobs de reajuste ficam no banco em todos os perfis, mesmo quando os produtos estão em
+ * memória ou no log. Com o adaptador JPA de produtos, o progresso de cada lote é gravado na
+ * mesma transação que o reajusta.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaRepriceJobRepositoryAdapter implements RepriceJobRepository {
+
+    private final SpringDataRepriceJobRepository repository;
+    private final RepriceJobEntityMapper mapper;
+
+    @Override
+    public RepriceJob save(RepriceJob job) {
+        repository.save(mapper.toEntity(job));
+        return job;
+    }
+
+    @Override
+    public Optional<RepriceJob> findById(UUID id) {
+        return repository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<RepriceJob> findByState(RepriceJobState state) {
+        return repository.findByStateOrderByCreatedAtAsc(state).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "product_outbox", indexes = @Index(name = "idx_product_outbox_delivered", columnList = "delivered_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_outbox_seq")
+    @SequenceGenerator(name = "product_outbox_seq", sequenceName = "product_outbox_seq", allocationSize = 100)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ProductEventType eventType;
+    
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+    
+    private String name;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal price;
+    
+    @Enumerated(EnumType.STRING)
+    private ProductStatus status;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+    
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+}
@@ -1,6 +1,10 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity;
 
 import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
@@ -9,22 +13,43 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * Os índices seguem as consultas filtradas: cada um termina no ID, que desempata a ordenação e é
+ * a segunda chave do cursor, e os que começam pelo status atendem o filtro de status combinado
+ * com a ordenação por preço ou nome. O índice de preço decrescente atende a ordenação
+ * {@code -price} sem ler o índice ao contrário.
+ */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_status_id", columnList = "status, id"),
+    @Index(name = "idx_products_price_id", columnList = "price, id"),
+    @Index(name = "idx_products_price_desc_id", columnList = "price DESC, id DESC"),
+    @Index(name = "idx_products_status_price_id", columnList = "status, price, id"),
+    @Index(name = "idx_products_name_id", columnList = "name, id"),
+    @Index(name = "idx_products_status_name_id", columnList = "status, name, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductEntity {
     
+    /**
+     * UUIDv7 gravado como BINARY(16): ordenado por tempo de criação e com menos da metade
+     * do tamanho da forma textual na tabela e em cada índice.
+     */
     @Id
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID id;
     
     @Column(nullable = false)
     private String name;
@@ -35,4 +60,8 @@ public class ProductEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProductStatus status;
+    
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobState;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Um job de reajuste de preço. Seleção e alteração ficam em colunas próprias, sem serialização;
+ * percentual e valor são exclusivos, e filtros nulos não restringem.
+ */
+@Entity
+@Table(name = "reprice_jobs", indexes = @Index(name = "idx_reprice_jobs_state", columnList = "state"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepriceJobEntity {
+    
+    @Id
+    private UUID id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RepriceJobState state;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "filter_status")
+    private ProductStatus filterStatus;
+    
+    @Column(name = "min_price", precision = 10, scale = 2)
+    private BigDecimal minPrice;
+    
+    @Column(name = "max_price", precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+    
+    @Column(precision = 12, scale = 4)
+    private BigDecimal percentage;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal amount;
+    
+    /** Último produto reajustado. */
+    @Column(name = "cursor_id")
+    private UUID cursorId;
+    
+    /** Lote iniciado e ainda não confirmado, nos repositórios fora da transação. */
+    @Column(name = "chunk_pending", nullable = false)
+    private boolean chunkPending;
+    
+    @Column(nullable = false)
+    private long total;
+    
+    @Column(nullable = false)
+    private long processed;
+    
+    @Column(nullable = false)
+    private long deactivated;
+    
+    @Column(name = "running_millis", nullable = false)
+    private long runningMillis;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+    
+    @Column(length = 1000)
+    private String error;
+}
@@ -1,6 +1,5 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper;
 
-import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 import org.springframework.stereotype.Component;
 
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
@@ -12,30 +11,22 @@ import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.
 public class ProductEntityMapper {
 
     public Product toDomain(ProductEntity entity) {
-        var product = Product.create(
-            new ProductId(entity.getId()),
+        return Product.restore(
+            ProductId.of(entity.getId()),
             entity.getName(),
-            new Money(entity.getPrice())
+            new Money(entity.getPrice()),
+            entity.getStatus(),
+            entity.getVersion()
         );
-        
-        // Ensure status matches the entity status
-        if (entity.getStatus() != product.getStatus()) {
-            if (entity.getStatus().equals(ProductStatus.ACTIVE)) {
-                product.activate();
-            } else {
-                product.deactivate();
-            }
-        }
-        
-        return product;
     }
     
     public ProductEntity toEntity(Product domain) {
         return new ProductEntity(
-            domain.getId().getValue(),
+            domain.getId().toUuid(),
             domain.getName(),
             domain.getPrice().getAmount(),
-            domain.getStatus()
+            domain.getStatus(),
+            domain.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * O ID do produto na coluna {@code BINARY(16)}: os 64 bits mais significativos seguidos dos
+ * menos significativos, os mesmos bytes que o Hibernate grava para o {@link UUID} da entidade.
+ * Usado onde o parâmetro ou a linha não passam pelo Hibernate, nos comandos nativos e no R2DBC.
+ */
+public final class ProductIdColumn {
+
+    private ProductIdColumn() {
+    }
+
+    public static byte[] toBytes(UUID id) {
+        return toBytes(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public static byte[] toBytes(ProductId id) {
+        return toBytes(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public static ProductId toProductId(byte[] column) {
+        ByteBuffer bytes = ByteBuffer.wrap(column);
+        return new ProductId(bytes.getLong(), bytes.getLong());
+    }
+
+    private static byte[] toBytes(long mostSignificantBits, long leastSignificantBits) {
+        return ByteBuffer.allocate(16)
+            .putLong(mostSignificantBits)
+            .putLong(leastSignificantBits)
+            .array();
+    }
+}
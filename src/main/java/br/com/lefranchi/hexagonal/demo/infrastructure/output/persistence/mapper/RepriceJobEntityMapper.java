@@ -0,0 +1,63 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper;
+
+import org.springframework.stereotype.Component;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJob;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.RepriceJobEntity;
+
+@Component
+public class RepriceJobEntityMapper {
+
+    public RepriceJob toDomain(RepriceJobEntity entity) {
+        ProductSelection selection = ProductSelection.builder()
+            .status(entity.getFilterStatus())
+            .minPrice(entity.getMinPrice() != null ? new Money(entity.getMinPrice()) : null)
+            .maxPrice(entity.getMaxPrice() != null ? new Money(entity.getMaxPrice()) : null)
+            .build();
+        PriceChange change = entity.getPercentage() != null
+            ? PriceChange.percentage(entity.getPercentage())
+            : PriceChange.amount(new Money(entity.getAmount()));
+        return RepriceJob.restore(
+            entity.getId(),
+            selection,
+            change,
+            entity.getState(),
+            entity.getCursorId() != null ? ProductId.of(entity.getCursorId()) : null,
+            entity.isChunkPending(),
+            entity.getTotal(),
+            entity.getProcessed(),
+            entity.getDeactivated(),
+            entity.getRunningMillis(),
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getError()
+        );
+    }
+
+    public RepriceJobEntity toEntity(RepriceJob job) {
+        ProductSelection selection = job.getSelection();
+        PriceChange change = job.getChange();
+        return new RepriceJobEntity(
+            job.getId(),
+            job.getState(),
+            selection.getStatus(),
+            selection.getMinPrice() != null ? selection.getMinPrice().getAmount() : null,
+            selection.getMaxPrice() != null ? selection.getMaxPrice().getAmount() : null,
+            change.getPercentage(),
+            change.getAmount() != null ? change.getAmount().getAmount() : null,
+            job.getCursor() != null ? job.getCursor().toUuid() : null,
+            job.isChunkPending(),
+            job.getTotal(),
+            job.getProcessed(),
+            job.getDeactivated(),
+            job.getRunningMillis(),
+            job.getCreatedAt(),
+            job.getUpdatedAt(),
+            job.getError()
+        );
+    }
+}
@@ -0,0 +1,263 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.r2dbc;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ReactiveProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductIdColumn;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador R2DBC da porta {@link ReactiveProductRepository}, sobre a mesma tabela
+ * {@code products} do adaptador JPA, que continua responsável pelo esquema.
+ *
+ * Os comandos são os mesmos que o adaptador JPA gera: UPDATE condicional à versão anterior,
+ * DELETE que devolve a linha removida pela tabela delta {@code OLD TABLE} e páginas a partir do
+ * último item entregue. Apenas o lote de inserções abre uma transação, para ser gravado
+ * por inteiro ou não ser gravado; os demais comandos são atômicos por si.
+ *
+ * O adaptador é dono do pool de conexões e o fecha em {@link #close()}.
+ */
+public class R2dbcProductRepositoryAdapter implements ReactiveProductRepository, Closeable {
+
+    private static final String COLUMNS = "id, name, price, status, version";
+    private static final String FIND_BY_ID = "select " + COLUMNS + " from products where id = :id";
+    private static final String FIND_VERSION = "select version from products where id = :id";
+    private static final String FIND_FIRST_PAGE = "select " + COLUMNS + " from products order by id limit :limit";
+    private static final String FIND_PAGE_AFTER =
+        "select " + COLUMNS + " from products where id > :after order by id limit :limit";
+    private static final String INSERT =
+        "insert into products (" + COLUMNS + ") values (:id, :name, :price, :status, :version)";
+    private static final String INSERT_POSITIONAL =
+        "insert into products (" + COLUMNS + ") values ($1, $2, $3, $4, $5)";
+    private static final String UPDATE = "update products set name = :name, price = :price, status = :status, "
+        + "version = :version where id = :id and version = :version - 1";
+    private static final String UPDATE_STATUS =
+        "update products set status = :status, version = :version where id = :id and version = :version - 1";
+    private static final String REMOVE_BY_ID =
+        "select " + COLUMNS + " from old table (delete from products where id = :id)";
+    private static final String REMOVE_BY_ID_AND_VERSION =
+        "select " + COLUMNS + " from old table (delete from products where id = :id and version = :version)";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+
+    public R2dbcProductRepositoryAdapter(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.client = DatabaseClient.create(connectionPool);
+        this.transactions = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public Mono<Product> findById(ProductId id) {
+        return client.sql(FIND_BY_ID)
+            .bind("id", ProductIdColumn.toBytes(id))
+            .map(R2dbcProductRepositoryAdapter::toProduct)
+            .one();
+    }
+
+    @Override
+    public Mono<Long> findVersion(ProductId id) {
+        return client.sql(FIND_VERSION)
+            .bind("id", ProductIdColumn.toBytes(id))
+            .map(row -> row.get("version", Long.class))
+            .one();
+    }
+
+    @Override
+    public Flux<Product> findPage(ProductId after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = after == null
+            ? client.sql(FIND_FIRST_PAGE)
+            : client.sql(FIND_PAGE_AFTER).bind("after", ProductIdColumn.toBytes(after));
+        return spec.bind("limit", limit)
+            .map(R2dbcProductRepositoryAdapter::toProduct)
+            .all();
+    }
+
+    /**
+     * As mesmas condições da consulta JPA: prefixo do nome e cursor como intervalos sobre a chave
+     * de ordenação e a mesma ordem do índice, com o texto do comando dependendo só de quais
+     * filtros estão presentes.
+     */
+    @Override
+    public Flux<Product> findPage(ProductQuery query) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (query.getStatus() != null) {
+            conditions.add("status = :status");
+            parameters.put("status", query.getStatus().name());
+        }
+        if (query.getMinPrice() != null) {
+            conditions.add("price >= :minPrice");
+            parameters.put("minPrice", query.getMinPrice().getAmount());
+        }
+        if (query.getMaxPrice() != null) {
+            conditions.add("price <= :maxPrice");
+            parameters.put("maxPrice", query.getMaxPrice().getAmount());
+        }
+        if (query.getNamePrefix() != null && !query.getNamePrefix().isEmpty()) {
+            conditions.add("name >= :namePrefix");
+            parameters.put("namePrefix", query.getNamePrefix());
+            String upperBound = query.nameUpperBound();
+            if (upperBound != null) {
+                conditions.add("name < :nameUpperBound");
+                parameters.put("nameUpperBound", upperBound);
+            }
+        }
+        ProductCursor after = query.getAfter();
+        if (after != null) {
+            parameters.put("afterId", ProductIdColumn.toBytes(after.id()));
+            switch (query.getSort()) {
+                case ID -> conditions.add("id > :afterId");
+                case PRICE_ASC -> {
+                    conditions.add("price >= :afterPrice and (price > :afterPrice or id > :afterId)");
+                    parameters.put("afterPrice", Money.ofCents(after.priceCents()).getAmount());
+                }
+                case PRICE_DESC -> {
+                    conditions.add("price <= :afterPrice and (price < :afterPrice or id < :afterId)");
+                    parameters.put("afterPrice", Money.ofCents(after.priceCents()).getAmount());
+                }
+                case NAME_ASC -> {
+                    conditions.add("name >= :afterName and (name > :afterName or id > :afterId)");
+                    parameters.put("afterName", after.name());
+                }
+            }
+        }
+
+        StringBuilder sql = new StringBuilder("select " + COLUMNS + " from products");
+        if (!conditions.isEmpty()) {
+            sql.append(" where ").append(String.join(" and ", conditions));
+        }
+        sql.append(" order by ").append(orderBy(query.getSort())).append(" limit :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql.toString()).bind("limit", query.getLimit());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(R2dbcProductRepositoryAdapter::toProduct).all();
+    }
+
+    @Override
+    public Mono<Void> insert(Product product) {
+        return client.sql(INSERT)
+            .bind("id", ProductIdColumn.toBytes(product.getId()))
+            .bind("name", product.getName())
+            .bind("price", product.getPrice().getAmount())
+            .bind("status", product.getStatus().name())
+            .bind("version", product.getVersion())
+            .then();
+    }
+
+    /**
+     * Um único comando com um conjunto de parâmetros por produto, executado como lote pelo driver.
+     */
+    @Override
+    public Mono<Void> insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return Mono.empty();
+        }
+        return client.inConnectionMany(connection -> {
+                Statement statement = connection.createStatement(INSERT_POSITIONAL);
+                for (int i = 0; i < products.size(); i++) {
+                    if (i > 0) {
+                        statement.add();
+                    }
+                    Product product = products.get(i);
+                    statement.bind(0, ProductIdColumn.toBytes(product.getId()))
+                        .bind(1, product.getName())
+                        .bind(2, product.getPrice().getAmount())
+                        .bind(3, product.getStatus().name())
+                        .bind(4, product.getVersion());
+                }
+                return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+            })
+            .as(transactions::transactional)
+            .then();
+    }
+
+    @Override
+    public Mono<Boolean> update(Product product) {
+        return client.sql(UPDATE)
+            .bind("id", ProductIdColumn.toBytes(product.getId()))
+            .bind("name", product.getName())
+            .bind("price", product.getPrice().getAmount())
+            .bind("status", product.getStatus().name())
+            .bind("version", product.getVersion())
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Boolean> updateStatus(Product product) {
+        return client.sql(UPDATE_STATUS)
+            .bind("id", ProductIdColumn.toBytes(product.getId()))
+            .bind("status", product.getStatus().name())
+            .bind("version", product.getVersion())
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Product> deleteById(ProductId id) {
+        return client.sql(REMOVE_BY_ID)
+            .bind("id", ProductIdColumn.toBytes(id))
+            .map(R2dbcProductRepositoryAdapter::toProduct)
+            .one();
+    }
+
+    @Override
+    public Mono<Product> deleteById(ProductId id, long version) {
+        return client.sql(REMOVE_BY_ID_AND_VERSION)
+            .bind("id", ProductIdColumn.toBytes(id))
+            .bind("version", version)
+            .map(R2dbcProductRepositoryAdapter::toProduct)
+            .one();
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    private static String orderBy(ProductSort sort) {
+        return switch (sort) {
+            case ID -> "id";
+            case PRICE_ASC -> "price, id";
+            case PRICE_DESC -> "price desc, id desc";
+            case NAME_ASC -> "name, id";
+        };
+    }
+
+    private static Product toProduct(Readable row) {
+        return Product.restore(
+            ProductIdColumn.toProductId(row.get("id", byte[].class)),
+            row.get("name", String.class),
+            new Money(row.get("price", BigDecimal.class)),
+            ProductStatus.valueOf(row.get("status", String.class)),
+            row.get("version", Long.class));
+    }
+}
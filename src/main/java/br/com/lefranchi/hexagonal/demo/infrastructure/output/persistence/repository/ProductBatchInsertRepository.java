@@ -0,0 +1,10 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+public interface ProductBatchInsertRepository {
+    void insert(ProductEntity entity);
+    void insertAll(List<ProductEntity> entities);
+}
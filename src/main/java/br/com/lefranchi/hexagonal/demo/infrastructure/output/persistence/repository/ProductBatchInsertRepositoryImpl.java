@@ -0,0 +1,51 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Inserção em lote de produtos.
+ * 
+ * Usa {@code persist} em vez do {@code save} do Spring Data, que faria um {@code merge}
+ * (e portanto um SELECT) para cada entidade com ID atribuído. O contexto de persistência
+ * é descarregado e limpo a cada bloco do tamanho do lote JDBC do Hibernate, de modo que
+ * cada bloco vira um único lote de INSERTs e a memória não cresce com o tamanho da carga.
+ * A inserção unitária segue o mesmo caminho: um único INSERT, sem SELECT prévio.
+ */
+public class ProductBatchInsertRepositoryImpl implements ProductBatchInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public void insert(ProductEntity entity) {
+        entityManager.persist(entity);
+        entityManager.flush();
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<ProductEntity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
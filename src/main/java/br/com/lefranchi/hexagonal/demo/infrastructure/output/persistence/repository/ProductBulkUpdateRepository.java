@@ -0,0 +1,15 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+public interface ProductBulkUpdateRepository {
+    List<ProductEntity> updateStatus(ProductSelection selection, ProductStatus status, UUID after, int limit);
+    List<ProductEntity> reprice(ProductSelection selection, PriceChange change, UUID after, int limit);
+    long count(ProductSelection selection);
+}
@@ -0,0 +1,148 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductIdColumn;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Alterações de status e de preço de um conjunto de produtos, cada lote como uma única instrução.
+ *
+ * O UPDATE escolhe as linhas por uma subconsulta ordenada por ID e limitada ao tamanho do lote,
+ * servida pelos índices que começam no status ou no preço, e é lido como tabela de delta do H2
+ * ({@code select ... from final table (update ...)}): o lote inteiro é alterado e devolvido, já
+ * com o novo status e versão, num único acesso ao banco. Como em
+ * {@link ProductRemovalRepositoryImpl}, o contexto de persistência é descarregado antes e limpo
+ * depois.
+ *
+ * No reajuste de preço a tabela de delta é a {@code old table}: o lote volta como estava antes,
+ * e o chamador reaplica {@link br.com.lefranchi.hexagonal.demo.domain.model.Product#reprice} a
+ * cada produto para obter o estado gravado e os deltas das estatísticas. A expressão do UPDATE
+ * segue a mesma regra: arredondamento HALF_UP para o centavo e desativação de quem fica com
+ * preço negativo.
+ *
+ * O texto da instrução só depende de quais filtros estão presentes; a lista de IDs, quando há,
+ * é expandida pelo Hibernate num {@code IN} com um parâmetro por ID.
+ */
+public class ProductBulkUpdateRepositoryImpl implements ProductBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<ProductEntity> updateStatus(ProductSelection selection, ProductStatus status, UUID after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addConditions(selection, conditions, parameters);
+        conditions.add("status <> :status");
+        parameters.put("status", status.name());
+        if (after != null) {
+            conditions.add("id > :after");
+            parameters.put("after", ProductIdColumn.toBytes(after));
+        }
+
+        String sql = "select * from final table (update products set status = :status, version = version + 1 "
+            + "where id in (select id from products where " + String.join(" and ", conditions)
+            + " order by id limit :limit))";
+        Query query = entityManager.createNativeQuery(sql, ProductEntity.class)
+            .setParameter("limit", limit);
+        parameters.forEach(query::setParameter);
+
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<ProductEntity> updated = new ArrayList<>(query.getResultList());
+        entityManager.clear();
+        // A tabela de delta não garante a ordem da subconsulta
+        updated.sort(Comparator.comparing(entity -> new ProductId(entity.getId().getMostSignificantBits(),
+            entity.getId().getLeastSignificantBits())));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public List<ProductEntity> reprice(ProductSelection selection, PriceChange change, UUID after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addConditions(selection, conditions, parameters);
+        if (after != null) {
+            conditions.add("id > :after");
+            parameters.put("after", ProductIdColumn.toBytes(after));
+        }
+        String price;
+        if (change.isPercentage()) {
+            price = "round(price * :factor, 2)";
+            parameters.put("factor", change.getFactor());
+        } else {
+            price = "(price + :amount)";
+            parameters.put("amount", change.getAmount().getAmount());
+        }
+
+        String sql = "select * from old table (update products set price = " + price + ", "
+            + "status = case when " + price + " < 0 then 'INACTIVE' else status end, version = version + 1 "
+            + "where id in (select id from products" + where(conditions) + " order by id limit :limit))";
+        Query query = entityManager.createNativeQuery(sql, ProductEntity.class)
+            .setParameter("limit", limit);
+        parameters.forEach(query::setParameter);
+
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<ProductEntity> previous = new ArrayList<>(query.getResultList());
+        entityManager.clear();
+        previous.sort(Comparator.comparing(entity -> new ProductId(entity.getId().getMostSignificantBits(),
+            entity.getId().getLeastSignificantBits())));
+        return previous;
+    }
+
+    @Override
+    public long count(ProductSelection selection) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addConditions(selection, conditions, parameters);
+
+        Query query = entityManager.createNativeQuery("select count(*) from products" + where(conditions), Long.class);
+        parameters.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static void addConditions(ProductSelection selection, List<String> conditions,
+            Map<String, Object> parameters) {
+        if (selection.getIds() != null) {
+            conditions.add("id in (:ids)");
+            parameters.put("ids", selection.getIds().stream()
+                .map(ProductIdColumn::toBytes)
+                .toList());
+        }
+        if (selection.getStatus() != null) {
+            conditions.add("status = :selectedStatus");
+            parameters.put("selectedStatus", selection.getStatus().name());
+        }
+        if (selection.getMinPrice() != null) {
+            conditions.add("price >= :minPrice");
+            parameters.put("minPrice", selection.getMinPrice().getAmount());
+        }
+        if (selection.getMaxPrice() != null) {
+            conditions.add("price <= :maxPrice");
+            parameters.put("maxPrice", selection.getMaxPrice().getAmount());
+        }
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+}
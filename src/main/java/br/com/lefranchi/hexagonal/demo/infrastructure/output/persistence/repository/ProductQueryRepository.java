@@ -0,0 +1,11 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+public interface ProductQueryRepository {
+
+    List<ProductEntity> findPage(ProductQuery query);
+}
@@ -0,0 +1,106 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.jpa.HibernateHints;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Consulta filtrada com paginação por busca, montada só com condições que os índices de
+ * {@link ProductEntity} resolvem como intervalo:
+ * <ul>
+ * <li>o prefixo do nome vira {@code name >= :prefixo and name < :limite}, em vez de um
+ * {@code LIKE}, cujo uso de índice depende do banco e do escape do parâmetro;</li>
+ * <li>o cursor vira {@code chave >= :valor and (chave > :valor or id > :id)}: a primeira
+ * condição posiciona a leitura no índice e a segunda descarta os empates já entregues, sem
+ * o {@code OR} no nível de cima que impediria a busca por intervalo;</li>
+ * <li>a ordenação é a mesma do índice, que já entrega as linhas na ordem e dispensa a
+ * ordenação do resultado.</li>
+ * </ul>
+ * O texto da consulta só depende de quais filtros estão presentes, não dos valores, e é
+ * reaproveitado pelo cache de planos do Hibernate e do banco.
+ */
+public class ProductQueryRepositoryImpl implements ProductQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductEntity> findPage(ProductQuery query) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        if (query.getStatus() != null) {
+            conditions.add("p.status = :status");
+            parameters.put("status", query.getStatus());
+        }
+        if (query.getMinPrice() != null) {
+            conditions.add("p.price >= :minPrice");
+            parameters.put("minPrice", query.getMinPrice().getAmount());
+        }
+        if (query.getMaxPrice() != null) {
+            conditions.add("p.price <= :maxPrice");
+            parameters.put("maxPrice", query.getMaxPrice().getAmount());
+        }
+        if (query.getNamePrefix() != null && !query.getNamePrefix().isEmpty()) {
+            conditions.add("p.name >= :namePrefix");
+            parameters.put("namePrefix", query.getNamePrefix());
+            String upperBound = query.nameUpperBound();
+            if (upperBound != null) {
+                conditions.add("p.name < :nameUpperBound");
+                parameters.put("nameUpperBound", upperBound);
+            }
+        }
+        ProductCursor after = query.getAfter();
+        if (after != null) {
+            parameters.put("afterId", after.id().toUuid());
+            switch (query.getSort()) {
+                case ID -> conditions.add("p.id > :afterId");
+                case PRICE_ASC -> {
+                    conditions.add("p.price >= :afterPrice and (p.price > :afterPrice or p.id > :afterId)");
+                    parameters.put("afterPrice", Money.ofCents(after.priceCents()).getAmount());
+                }
+                case PRICE_DESC -> {
+                    conditions.add("p.price <= :afterPrice and (p.price < :afterPrice or p.id < :afterId)");
+                    parameters.put("afterPrice", Money.ofCents(after.priceCents()).getAmount());
+                }
+                case NAME_ASC -> {
+                    conditions.add("p.name >= :afterName and (p.name > :afterName or p.id > :afterId)");
+                    parameters.put("afterName", after.name());
+                }
+            }
+        }
+
+        StringBuilder jpql = new StringBuilder("select p from ProductEntity p");
+        if (!conditions.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", conditions));
+        }
+        jpql.append(" order by ").append(orderBy(query.getSort()));
+
+        TypedQuery<ProductEntity> typedQuery = entityManager.createQuery(jpql.toString(), ProductEntity.class)
+            .setMaxResults(query.getLimit())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.valueOf(SpringDataProductRepository.PAGE_FETCH_SIZE));
+        parameters.forEach(typedQuery::setParameter);
+        return typedQuery.getResultList();
+    }
+
+    private static String orderBy(ProductSort sort) {
+        return switch (sort) {
+            case ID -> "p.id";
+            case PRICE_ASC -> "p.price, p.id";
+            case PRICE_DESC -> "p.price desc, p.id desc";
+            case NAME_ASC -> "p.name, p.id";
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+
+public interface ProductRemovalRepository {
+    Optional<ProductEntity> removeById(UUID id);
+    Optional<ProductEntity> removeByIdAndVersion(UUID id, long version);
+}
@@ -0,0 +1,56 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductIdColumn;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Remoção que devolve a linha removida, para quem precisa do estado anterior (as estatísticas
+ * do catálogo) sem uma leitura a mais.
+ *
+ * O DELETE é lido como tabela de delta do H2 ({@code select ... from old table (delete ...)}),
+ * de modo que remoção e leitura são uma única instrução. Como no DELETE do JPQL, o contexto de
+ * persistência é descarregado antes e limpo depois; a entidade devolvida fica desanexada.
+ */
+public class ProductRemovalRepositoryImpl implements ProductRemovalRepository {
+
+    private static final String REMOVE_BY_ID =
+        "select * from old table (delete from products where id = :id)";
+    private static final String REMOVE_BY_ID_AND_VERSION =
+        "select * from old table (delete from products where id = :id and version = :version)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Optional<ProductEntity> removeById(UUID id) {
+        return remove(entityManager.createNativeQuery(REMOVE_BY_ID, ProductEntity.class)
+            .setParameter("id", ProductIdColumn.toBytes(id)));
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductEntity> removeByIdAndVersion(UUID id, long version) {
+        return remove(entityManager.createNativeQuery(REMOVE_BY_ID_AND_VERSION, ProductEntity.class)
+            .setParameter("id", ProductIdColumn.toBytes(id))
+            .setParameter("version", version));
+    }
+
+    private Optional<ProductEntity> remove(Query query) {
+        entityManager.flush();
+        @SuppressWarnings("unchecked")
+        List<ProductEntity> removed = query.getResultList();
+        entityManager.clear();
+        return removed.stream().findFirst();
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.OutboxEventEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface SpringDataOutboxEventRepository extends CrudRepository<OutboxEventEntity, Long> {
+
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<OutboxEventEntity> findByDeliveredAtIsNullOrderByIdAsc(Limit limit);
+
+    long countByDeliveredAtIsNull();
+
+    @Modifying
+    @Query("update OutboxEventEntity e set e.deliveredAt = :deliveredAt where e.id in :ids")
+    int markDelivered(@Param("ids") List<Long> ids, @Param("deliveredAt") Instant deliveredAt);
+
+    @Query("select e.id from OutboxEventEntity e where e.deliveredAt is not null order by e.id")
+    List<Long> findDeliveredIds(Limit limit);
+
+    @Modifying
+    @Query("delete from OutboxEventEntity e where e.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
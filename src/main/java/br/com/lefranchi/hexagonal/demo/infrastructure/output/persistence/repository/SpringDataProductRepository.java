@@ -1,10 +1,54 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface SpringDataProductRepository extends CrudRepository<ProductEntity, String> {
-}
\ No newline at end of file
+public interface SpringDataProductRepository extends CrudRepository<ProductEntity, UUID>, ProductBatchInsertRepository,
+        ProductQueryRepository, ProductRemovalRepository, ProductBulkUpdateRepository {
+
+    String PAGE_FETCH_SIZE = "256";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PAGE_FETCH_SIZE))
+    List<ProductEntity> findAllByOrderByIdAsc(Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PAGE_FETCH_SIZE))
+    List<ProductEntity> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @Query("select p.version from ProductEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * UPDATE condicional à versão anterior: se outra escrita passou na frente, nenhuma linha
+     * é afetada e o chamador decide entre conflito e nova tentativa.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductEntity p set p.name = :name, p.price = :price, p.status = :status, p.version = :version "
+        + "where p.id = :id and p.version = :version - 1")
+    int updateById(@Param("id") UUID id, @Param("name") String name, @Param("price") BigDecimal price,
+            @Param("status") ProductStatus status, @Param("version") long version);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductEntity p set p.status = :status, p.version = :version "
+        + "where p.id = :id and p.version = :version - 1")
+    int updateStatusById(@Param("id") UUID id, @Param("status") ProductStatus status, @Param("version") long version);
+}
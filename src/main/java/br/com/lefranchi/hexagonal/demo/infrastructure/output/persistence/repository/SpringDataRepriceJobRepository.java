@@ -0,0 +1,15 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobState;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.RepriceJobEntity;
+
+@Repository
+public interface SpringDataRepriceJobRepository extends CrudRepository<RepriceJobEntity, UUID> {
+    List<RepriceJobEntity> findByStateOrderByCreatedAtAsc(RepriceJobState state);
+}
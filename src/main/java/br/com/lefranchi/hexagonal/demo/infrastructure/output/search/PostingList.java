@@ -0,0 +1,138 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista crescente de documentos que contêm um trigrama, comprimida.
+ *
+ * Cada documento é gravado como a diferença para o anterior em varint (1 byte para diferenças
+ * até 127), o que, com documentos numerados na ordem de inserção, deixa a maior parte das
+ * entradas com 1 ou 2 bytes. A cada {@value #BLOCK} entradas o documento é gravado inteiro e
+ * registrado numa tabela de saltos, que permite ao {@link Cursor#advance(int)} pular direto ao
+ * bloco de um documento em vez de decodificar a lista desde o início.
+ *
+ * Só aceita documentos em ordem crescente; um documento repetido em seguida é ignorado.
+ */
+final class PostingList {
+
+    static final int NO_MORE = Integer.MAX_VALUE;
+
+    private static final int BLOCK = 128;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+    private int[] blockDocs = new int[1];
+    private int[] blockOffsets = new int[1];
+
+    void add(int doc) {
+        if (doc <= last) {
+            if (doc == last) {
+                return;
+            }
+            throw new IllegalArgumentException("Document " + doc + " added after " + last);
+        }
+        if (size % BLOCK == 0) {
+            int block = size / BLOCK;
+            if (block == blockDocs.length) {
+                blockDocs = Arrays.copyOf(blockDocs, block * 2);
+                blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+            }
+            blockDocs[block] = doc;
+            blockOffsets[block] = length;
+            writeVarint(doc);
+        } else {
+            writeVarint(doc - last);
+        }
+        last = doc;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Bytes ocupados pelas entradas e pela tabela de saltos.
+     */
+    long bytes() {
+        return data.length + (long) blockDocs.length * Integer.BYTES * 2;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void writeVarint(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Leitura sequencial da lista, com saltos.
+     */
+    final class Cursor {
+        private int index = -1;
+        private int offset;
+        private int doc = -1;
+
+        /**
+         * Próximo documento, ou {@link #NO_MORE} no fim da lista.
+         */
+        int next() {
+            if (++index >= size) {
+                index = size;
+                return doc = NO_MORE;
+            }
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return doc = index % BLOCK == 0 ? value : doc + value;
+        }
+
+        /**
+         * Primeiro documento maior ou igual a {@code target} a partir da posição atual, ou
+         * {@link #NO_MORE} se não houver.
+         */
+        int advance(int target) {
+            if (doc >= target) {
+                return doc;
+            }
+            int blocks = (size + BLOCK - 1) / BLOCK;
+            int current = Math.max(0, index) / BLOCK;
+            // Último bloco que começa em um documento <= target
+            int from = current + 1;
+            int to = blocks - 1;
+            int block = -1;
+            while (from <= to) {
+                int middle = (from + to) >>> 1;
+                if (blockDocs[middle] <= target) {
+                    block = middle;
+                    from = middle + 1;
+                } else {
+                    to = middle - 1;
+                }
+            }
+            if (block > current) {
+                index = block * BLOCK - 1;
+                offset = blockOffsets[block];
+            }
+            while (next() < target) {
+                // Decodifica até alcançar o alvo dentro do bloco
+            }
+            return doc;
+        }
+    }
+}
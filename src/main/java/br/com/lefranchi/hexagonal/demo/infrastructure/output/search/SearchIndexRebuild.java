@@ -0,0 +1,38 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+
+/**
+ * Reconstrói o {@link TrigramProductSearchIndex} a partir do armazenamento ao subir a aplicação
+ * e depois a cada {@code product.search.rebuild-interval-ms}.
+ *
+ * Entre uma reconstrução e outra o índice segue os eventos de produto. O que não chega por eles
+ * (escritas fora dos casos de uso, eventos descartados pelo publicador assíncrono, perfis sem
+ * entrega de eventos) é corrigido na reconstrução seguinte, o que limita a esse intervalo o
+ * tempo em que a busca pode divergir do catálogo.
+ */
+public class SearchIndexRebuild implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final TrigramProductSearchIndex index;
+    private final ProductRepository storage;
+
+    public SearchIndexRebuild(TrigramProductSearchIndex index, ProductRepository storage) {
+        this.index = index;
+        this.storage = storage;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${product.search.rebuild-interval-ms:600000}",
+        fixedDelayString = "${product.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        index.rebuild(storage);
+    }
+}
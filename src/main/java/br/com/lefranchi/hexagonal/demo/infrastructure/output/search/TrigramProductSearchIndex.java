@@ -0,0 +1,454 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEvent;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEventSink;
+
+/**
+ * Índice invertido de trigramas dos nomes de produto, em memória.
+ *
+ * Cada versão de um produto é um documento numerado na ordem de inserção; para cada trigrama
+ * do nome há uma {@link PostingList} comprimida com os documentos que o contêm. As listas ficam
+ * espalhadas em shards pelos bits altos da chave do trigrama, o que permite reconstruir o
+ * índice com uma thread por shard sem nenhuma lista compartilhada.
+ *
+ * O índice é atualizado pelos eventos de produto entregues a este sink: uma alteração de nome
+ * marca o documento anterior como removido e insere um novo, de modo que as listas só crescem
+ * no fim. Quando os documentos removidos passam da metade, o índice é compactado e renumerado.
+ *
+ * A busca conta quantos trigramas da consulta cada nome tem e ordena pela similaridade de
+ * Jaccard entre os dois conjuntos. Um nome precisa ter ao menos {@value #MIN_MATCH_RATIO} dos
+ * trigramas da consulta, o que tolera erros de digitação; como ele então aparece em alguma das
+ * listas mais curtas, os candidatos saem só delas, e as demais são consultadas por salto. O
+ * custo de uma busca é limitado por {@value #MAX_CANDIDATES} candidatos: acima disso o mínimo de
+ * trigramas sobe até a consulta ficar seletiva o bastante, e uma consulta de um único trigrama
+ * muito comum considera só os primeiros candidatos.
+ */
+public class TrigramProductSearchIndex implements ProductSearchIndex, ProductEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramProductSearchIndex.class);
+
+    static final double MIN_MATCH_RATIO = 0.5;
+    static final int MAX_CANDIDATES = 50_000;
+    static final int MAX_QUERY_LENGTH = 64;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+    private static final int REBUILD_PAGE_SIZE = 4096;
+    private static final int BUILD_CHUNK = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final int shardCount;
+
+    private State state;
+    /** Eventos recebidos durante uma reconstrução, reaplicados sobre o índice reconstruído. */
+    private List<ProductEvent> pending;
+    private volatile long rebuildMillis;
+
+    public TrigramProductSearchIndex(int shards) {
+        this.shardCount = shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+        this.state = new State(shardCount, 16);
+    }
+
+    @Override
+    public List<ProductId> search(String text, int limit) {
+        String query = Trigrams.normalize(text.length() > MAX_QUERY_LENGTH ? text.substring(0, MAX_QUERY_LENGTH) : text);
+        long[] trigrams = Trigrams.ofQuery(query);
+        if (trigrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return state.search(trigrams, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void handle(List<ProductEvent> events) {
+        lock.writeLock().lock();
+        try {
+            for (ProductEvent event : events) {
+                state.apply(event);
+            }
+            if (pending != null) {
+                pending.addAll(events);
+            }
+            if (state.deadDocuments >= MIN_DEAD_TO_COMPACT && state.deadDocuments > state.documentCount / 2) {
+                state = state.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstrói o índice a partir do repositório. O catálogo é lido página a página e indexado
+     * em paralelo; enquanto isso as buscas continuam no índice anterior, e os eventos recebidos
+     * são aplicados também ao novo índice antes da troca.
+     */
+    public void rebuild(ProductRepository repository) {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            State rebuilt;
+            try {
+                rebuilt = build(repository);
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (ProductEvent event : pending) {
+                    rebuilt.apply(event);
+                }
+                state = rebuilt;
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+            rebuildMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Indexed {} product names in {} ms", getDocuments(), rebuildMillis);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public int getDocuments() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDeletedDocuments() {
+        lock.readLock().lock();
+        try {
+            return state.deadDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTrigrams() {
+        lock.readLock().lock();
+        try {
+            int trigrams = 0;
+            for (TrigramTable shard : state.shards) {
+                trigrams += shard.size();
+            }
+            return trigrams;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getPostingBytes() {
+        lock.readLock().lock();
+        try {
+            long[] bytes = new long[1];
+            for (TrigramTable shard : state.shards) {
+                shard.forEach((trigram, postings) -> bytes[0] += postings.bytes());
+            }
+            return bytes[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getRebuildMillis() {
+        return rebuildMillis;
+    }
+
+    private State build(ProductRepository repository) {
+        List<ProductId> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        ProductId after = null;
+        List<Product> page;
+        do {
+            page = repository.findPage(after, REBUILD_PAGE_SIZE);
+            for (Product product : page) {
+                ids.add(product.getId());
+                names.add(product.getName());
+            }
+            after = page.isEmpty() ? after : page.get(page.size() - 1).getId();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        int count = ids.size();
+        State built = new State(shardCount, count);
+        for (int doc = 0; doc < count; doc++) {
+            built.register(ids.get(doc));
+        }
+        // Em blocos, para não guardar os trigramas do catálogo inteiro: dentro de cada bloco os
+        // nomes são decompostos em paralelo e depois cada shard recebe os seus, também em paralelo.
+        // As chaves de cada nome saem ordenadas e agrupadas por shard; a decomposição guarda onde
+        // começa o trecho de cada shard, e cada thread percorre só o próprio trecho de cada nome
+        int shardBits = Integer.numberOfTrailingZeros(shardCount);
+        for (int from = 0; from < count; from += BUILD_CHUNK) {
+            int chunkStart = from;
+            long[][] trigrams = new long[Math.min(BUILD_CHUNK, count - from)][];
+            int[] shardStarts = new int[trigrams.length * (shardCount + 1)];
+            IntStream.range(0, trigrams.length).parallel().forEach(i -> {
+                long[] keys = Trigrams.ofName(names.get(chunkStart + i));
+                trigrams[i] = keys;
+                built.trigramCounts[chunkStart + i] = keys.length;
+                int base = i * (shardCount + 1);
+                int position = 0;
+                for (int shard = 0; shard <= shardCount; shard++) {
+                    while (position < keys.length && Trigrams.shardOf(keys[position], shardBits) < shard) {
+                        position++;
+                    }
+                    shardStarts[base + shard] = position;
+                }
+            });
+            IntStream.range(0, shardCount).parallel().forEach(shard -> {
+                TrigramTable postings = built.shards[shard];
+                for (int i = 0; i < trigrams.length; i++) {
+                    int base = i * (shardCount + 1);
+                    for (int k = shardStarts[base + shard]; k < shardStarts[base + shard + 1]; k++) {
+                        postings.getOrCreate(trigrams[i][k]).add(chunkStart + i);
+                    }
+                }
+            });
+        }
+        return built;
+    }
+
+    private record Hit(int doc, double score) {
+    }
+
+    /**
+     * Conteúdo do índice; substituído por inteiro na reconstrução e na compactação.
+     */
+    private static final class State {
+
+        private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score)
+            .thenComparing(Comparator.comparingInt(Hit::doc).reversed());
+
+        private final TrigramTable[] shards;
+        private final Map<ProductId, Integer> documents;
+        private final BitSet dead = new BitSet();
+        private long[] mostSignificantBits;
+        private long[] leastSignificantBits;
+        private int[] trigramCounts;
+        private int documentCount;
+        private int deadDocuments;
+
+        State(int shardCount, int capacity) {
+            this.shards = new TrigramTable[shardCount];
+            for (int shard = 0; shard < shardCount; shard++) {
+                shards[shard] = new TrigramTable();
+            }
+            this.documents = new HashMap<>(Math.max(16, capacity * 4 / 3 + 1));
+            this.mostSignificantBits = new long[Math.max(16, capacity)];
+            this.leastSignificantBits = new long[mostSignificantBits.length];
+            this.trigramCounts = new int[mostSignificantBits.length];
+        }
+
+        int shardOf(long trigram) {
+            return Trigrams.shardOf(trigram, Integer.numberOfTrailingZeros(shards.length));
+        }
+
+        void apply(ProductEvent event) {
+            ProductId id = new ProductId(event.productId());
+            switch (event.type()) {
+                case CREATED, UPDATED -> put(id, event.name());
+                // Mudança de status não altera o nome; só indexa se o produto ainda não estiver
+                case ACTIVATED, DEACTIVATED -> {
+                    if (!documents.containsKey(id)) {
+                        put(id, event.name());
+                    }
+                }
+                case DELETED -> remove(id);
+            }
+        }
+
+        int register(ProductId id) {
+            int doc = documentCount++;
+            if (doc == mostSignificantBits.length) {
+                int capacity = doc + (doc >> 1);
+                mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+                leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+                trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+            }
+            mostSignificantBits[doc] = id.getMostSignificantBits();
+            leastSignificantBits[doc] = id.getLeastSignificantBits();
+            documents.put(id, doc);
+            return doc;
+        }
+
+        private void put(ProductId id, String name) {
+            remove(id);
+            long[] trigrams = Trigrams.ofName(name);
+            int doc = register(id);
+            trigramCounts[doc] = trigrams.length;
+            for (long trigram : trigrams) {
+                shards[shardOf(trigram)].getOrCreate(trigram).add(doc);
+            }
+        }
+
+        private void remove(ProductId id) {
+            Integer doc = documents.remove(id);
+            if (doc != null) {
+                dead.set(doc);
+                deadDocuments++;
+            }
+        }
+
+        List<ProductId> search(long[] trigrams, int limit) {
+            int queryTrigrams = trigrams.length;
+            PostingList[] lists = new PostingList[queryTrigrams];
+            for (int i = 0; i < queryTrigrams; i++) {
+                lists[i] = shards[shardOf(trigrams[i])].get(trigrams[i]);
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list == null ? 0 : list.size()));
+
+            // Um nome com minMatch dos trigramas está em ao menos uma das probes listas mais curtas
+            int minMatch = Math.max(1, (int) Math.ceil(queryTrigrams * MIN_MATCH_RATIO));
+            int probes = queryTrigrams - minMatch + 1;
+            while (minMatch < queryTrigrams && postings(lists, probes) > MAX_CANDIDATES) {
+                minMatch++;
+                probes--;
+            }
+
+            int[] candidates = candidates(lists, probes);
+            List<PostingList.Cursor> others = new ArrayList<>(queryTrigrams - probes);
+            for (int i = probes; i < queryTrigrams; i++) {
+                if (lists[i] != null) {
+                    others.add(lists[i].cursor());
+                }
+            }
+
+            PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            for (int i = 0; i < candidates.length;) {
+                int doc = candidates[i];
+                int matches = 0;
+                while (i < candidates.length && candidates[i] == doc) {
+                    matches++;
+                    i++;
+                }
+                if (dead.get(doc) || matches + others.size() < minMatch) {
+                    continue;
+                }
+                for (PostingList.Cursor cursor : others) {
+                    if (cursor.advance(doc) == doc) {
+                        matches++;
+                    }
+                }
+                if (matches < minMatch) {
+                    continue;
+                }
+                best.add(new Hit(doc, matches / (double) (queryTrigrams + trigramCounts[doc] - matches)));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(WORST_FIRST.reversed());
+            List<ProductId> ids = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                ids.add(new ProductId(mostSignificantBits[hit.doc()], leastSignificantBits[hit.doc()]));
+            }
+            return ids;
+        }
+
+        private static long postings(PostingList[] lists, int count) {
+            long postings = 0;
+            for (int i = 0; i < count; i++) {
+                postings += lists[i] == null ? 0 : lists[i].size();
+            }
+            return postings;
+        }
+
+        /**
+         * Documentos das listas de sondagem, ordenados e com repetição: um documento aparece uma
+         * vez por lista que o contém.
+         */
+        private static int[] candidates(PostingList[] lists, int count) {
+            int[] candidates = new int[(int) Math.min(MAX_CANDIDATES, postings(lists, count))];
+            int size = 0;
+            for (int i = 0; i < count && size < candidates.length; i++) {
+                if (lists[i] == null) {
+                    continue;
+                }
+                PostingList.Cursor cursor = lists[i].cursor();
+                int doc;
+                while (size < candidates.length && (doc = cursor.next()) != PostingList.NO_MORE) {
+                    candidates[size++] = doc;
+                }
+            }
+            Arrays.sort(candidates, 0, size);
+            return size == candidates.length ? candidates : Arrays.copyOf(candidates, size);
+        }
+
+        /**
+         * Cópia sem os documentos removidos, renumerada. Como a renumeração preserva a ordem, as
+         * listas continuam crescentes e são regravadas em paralelo, uma thread por shard.
+         */
+        State compact() {
+            int live = documentCount - deadDocuments;
+            State compacted = new State(shards.length, live);
+            int[] remap = new int[documentCount];
+            for (int doc = 0; doc < documentCount; doc++) {
+                if (dead.get(doc)) {
+                    remap[doc] = -1;
+                } else {
+                    remap[doc] = compacted.register(new ProductId(mostSignificantBits[doc], leastSignificantBits[doc]));
+                    compacted.trigramCounts[remap[doc]] = trigramCounts[doc];
+                }
+            }
+            IntStream.range(0, shards.length).parallel().forEach(shard -> {
+                TrigramTable target = compacted.shards[shard];
+                shards[shard].forEach((trigram, postings) -> {
+                    PostingList rewritten = new PostingList();
+                    PostingList.Cursor cursor = postings.cursor();
+                    int doc;
+                    while ((doc = cursor.next()) != PostingList.NO_MORE) {
+                        if (remap[doc] >= 0) {
+                            rewritten.add(remap[doc]);
+                        }
+                    }
+                    if (rewritten.size() > 0) {
+                        target.put(trigram, rewritten);
+                    }
+                });
+            });
+            return compacted;
+        }
+    }
+}
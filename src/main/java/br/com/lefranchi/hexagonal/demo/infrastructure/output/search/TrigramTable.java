@@ -0,0 +1,91 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Tabela de {@link PostingList}s por trigrama, com endereçamento aberto (sondagem linear).
+ *
+ * As chaves ficam num {@code long[]}, sem um {@code Long} por trigrama nem por consulta; 0 marca
+ * uma posição vazia, o que é seguro porque um trigrama de texto normalizado nunca tem os três
+ * caracteres nulos. As chaves já vêm espalhadas por {@link Trigrams}; a posição sai dos bits
+ * do meio: os baixos de um produto misturam pouco e os altos escolhem o shard. Não há remoção: listas vazias só somem quando a tabela é reconstruída.
+ *
+ * Não é thread-safe; o {@link TrigramProductSearchIndex} controla o acesso.
+ */
+final class TrigramTable {
+
+    private static final int MAX_LOAD_PERCENT = 70;
+
+    private long[] keys = new long[64];
+    private PostingList[] values = new PostingList[64];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    PostingList get(long trigram) {
+        long[] table = keys;
+        int mask = table.length - 1;
+        for (int slot = hash(trigram) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (table[slot] == trigram) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    PostingList getOrCreate(long trigram) {
+        int mask = keys.length - 1;
+        int slot = hash(trigram) & mask;
+        for (; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == trigram) {
+                return values[slot];
+            }
+        }
+        PostingList postings = new PostingList();
+        put(trigram, postings);
+        return postings;
+    }
+
+    void put(long trigram, PostingList postings) {
+        if ((long) (size + 1) * 100 > (long) keys.length * MAX_LOAD_PERCENT) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = hash(trigram) & mask;
+        while (keys[slot] != 0 && keys[slot] != trigram) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            size++;
+        }
+        keys[slot] = trigram;
+        values[slot] = postings;
+    }
+
+    void forEach(BiConsumer<Long, PostingList> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private void resize() {
+        long[] previousKeys = keys;
+        PostingList[] previousValues = values;
+        keys = new long[previousKeys.length * 2];
+        values = new PostingList[previousKeys.length * 2];
+        size = 0;
+        for (int slot = 0; slot < previousKeys.length; slot++) {
+            if (previousKeys[slot] != 0) {
+                put(previousKeys[slot], previousValues[slot]);
+            }
+        }
+    }
+
+    private static int hash(long trigram) {
+        return (int) (trigram >>> 24);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Extração de trigramas de caracteres.
+ *
+ * O texto é normalizado antes (sem acentos, minúsculo, pontuação trocada por espaço). Nomes
+ * indexados recebem um espaço no início e no fim, de modo que os trigramas das bordas também
+ * marquem começo e fim de palavra; consultas não, para casar com qualquer trecho.
+ *
+ * Cada trigrama vira uma chave {@code long}: os três caracteres empacotados em 16 bits cada e
+ * multiplicados por uma constante ímpar. A multiplicação é uma bijeção, então chaves distintas
+ * continuam distintas, e espalha os bits: os bits altos escolhem o shard e os baixos a posição
+ * na {@link TrigramTable}. Ordenadas, as chaves de um nome ficam agrupadas por shard.
+ */
+final class Trigrams {
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private Trigrams() {
+    }
+
+    static String normalize(String text) {
+        return normalize(text, false);
+    }
+
+    /**
+     * Chaves distintas dos trigramas do nome de um produto, em ordem crescente.
+     */
+    static long[] ofName(String name) {
+        return keys(normalize(name, true));
+    }
+
+    /**
+     * Chaves distintas dos trigramas de uma consulta já normalizada, em ordem crescente.
+     */
+    static long[] ofQuery(String normalizedQuery) {
+        return keys(normalizedQuery);
+    }
+
+    /**
+     * Shard de uma chave entre {@code 1 << bits} shards. Segue a ordem crescente das chaves, de
+     * modo que um array ordenado de chaves tem os shards em sequência.
+     */
+    static int shardOf(long key, int bits) {
+        return bits == 0 ? 0 : (int) ((key ^ Long.MIN_VALUE) >>> (Long.SIZE - bits));
+    }
+
+    private static String normalize(String text, boolean pad) {
+        // Texto só em ASCII não tem acentos a remover: evita a decomposição, que domina o custo
+        String decomposed = isAscii(text) ? text
+            : MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder normalized = new StringBuilder(decomposed.length() + 2);
+        boolean space = true;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && pad) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        if (pad && normalized.length() > 0) {
+            normalized.append(' ');
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] keys(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] keys = new long[text.length() - 2];
+        for (int i = 0; i < keys.length; i++) {
+            long trigram = (long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2);
+            keys[i] = trigram * MULTIPLIER;
+        }
+        Arrays.sort(keys);
+        int distinct = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[distinct - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return distinct == keys.length ? keys : Arrays.copyOf(keys, distinct);
+    }
+}
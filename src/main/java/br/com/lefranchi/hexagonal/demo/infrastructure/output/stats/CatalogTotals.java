@@ -0,0 +1,82 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.stats;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.CatalogStatistics;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Contadores dos agregados do catálogo, atualizados sem bloqueio.
+ *
+ * Quantidades e soma são {@link LongAdder}s, que não disputam a mesma variável entre escritores.
+ * Menor e maior preço precisam sobreviver a remoções, e por isso há um multiconjunto de preços:
+ * um skip list concorrente de centavos para a quantidade de produtos com aquele preço, de onde a
+ * chave vai embora quando a quantidade zera. A primeira e a última chave são o menor e o maior
+ * preço.
+ *
+ * Como as alterações de transações diferentes podem chegar fora de ordem, uma quantidade pode
+ * ficar negativa por um instante (a remoção aplicada antes da inclusão); essas chaves são
+ * ignoradas na leitura.
+ */
+final class CatalogTotals {
+
+    private final LongAdder[] counts = new LongAdder[ProductStatus.values().length];
+    private final LongAdder priceSumCents = new LongAdder();
+    private final ConcurrentSkipListMap<Long, Long> prices = new ConcurrentSkipListMap<>();
+
+    CatalogTotals() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Soma ({@code delta} 1) ou subtrai ({@code delta} -1) um produto com o status e o preço dados.
+     */
+    void add(ProductStatus status, Money price, int delta) {
+        counts[status.ordinal()].add(delta);
+        priceSumCents.add(delta * price.getCents());
+        prices.merge(price.getCents(), (long) delta, CatalogTotals::sum);
+    }
+
+    /**
+     * Move {@code count} produtos de um status para outro; soma e preços não mudam.
+     */
+    void move(ProductStatus from, ProductStatus to, int count) {
+        counts[from.ordinal()].add(-count);
+        counts[to.ordinal()].add(count);
+    }
+
+    CatalogStatistics snapshot() {
+        Map<ProductStatus, Long> byStatus = new EnumMap<>(ProductStatus.class);
+        for (ProductStatus status : ProductStatus.values()) {
+            byStatus.put(status, counts[status.ordinal()].sum());
+        }
+        Long min = firstPresent(prices.entrySet().iterator());
+        Long max = firstPresent(prices.descendingMap().entrySet().iterator());
+        return new CatalogStatistics(byStatus, Money.ofCents(priceSumCents.sum()),
+            min != null ? Money.ofCents(min) : null,
+            max != null ? Money.ofCents(max) : null);
+    }
+
+    private static Long firstPresent(Iterator<Map.Entry<Long, Long>> entries) {
+        while (entries.hasNext()) {
+            Map.Entry<Long, Long> entry = entries.next();
+            if (entry.getValue() > 0) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /** Remove a chave quando a quantidade zera, mantendo as pontas do skip list nos preços vivos. */
+    private static Long sum(Long current, Long delta) {
+        long count = current + delta;
+        return count == 0 ? null : count;
+    }
+}
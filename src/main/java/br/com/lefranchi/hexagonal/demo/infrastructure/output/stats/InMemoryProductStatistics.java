@@ -0,0 +1,227 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.stats;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.CatalogStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Implementação da porta {@link ProductStatistics} em memória, sobre {@link CatalogTotals}.
+ *
+ * Cada escrita aplica seu delta depois do commit, como o publicador assíncrono faz com os
+ * eventos; a leitura só soma os contadores e olha as pontas do skip list de preços, e não
+ * depende do tamanho do catálogo.
+ *
+ * Os agregados são carregados do armazenamento na primeira {@link #reconcile() reconciliação},
+ * ao subir a aplicação, e conferidos periodicamente depois: escritas que não passam pelos casos
+ * de uso (carga direta no banco, outra instância) aparecem como divergência e são corrigidas.
+ * A varredura não é um instantâneo consistente; se algum delta foi aplicado durante ela, a
+ * varredura é refeita. A troca dos agregados exclui a aplicação de deltas, então nenhum delta
+ * cai nos agregados antigos depois da conferência.
+ */
+public class InMemoryProductStatistics implements ProductStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProductStatistics.class);
+
+    private static final int RECONCILE_PAGE_SIZE = 4096;
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final ProductRepository storage;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final LongAdder appliedDeltas = new LongAdder();
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong corrections = new AtomicLong();
+    private final AtomicLong skippedReconciliations = new AtomicLong();
+
+    private volatile CatalogTotals totals = new CatalogTotals();
+    private volatile boolean loaded;
+
+    public InMemoryProductStatistics(ProductRepository storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public void productAdded(Product product) {
+        ProductStatus status = product.getStatus();
+        Money price = product.getPrice();
+        afterCommit(() -> apply(status, price, 1));
+    }
+
+    @Override
+    public void productsAdded(List<Product> products) {
+        ProductStatus[] statuses = new ProductStatus[products.size()];
+        Money[] prices = new Money[products.size()];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = products.get(i).getStatus();
+            prices[i] = products.get(i).getPrice();
+        }
+        afterCommit(() -> {
+            for (int i = 0; i < statuses.length; i++) {
+                apply(statuses[i], prices[i], 1);
+            }
+        });
+    }
+
+    @Override
+    public void productChanged(ProductStatus previousStatus, Money previousPrice, Product product) {
+        ProductStatus status = product.getStatus();
+        Money price = product.getPrice();
+        if (status == previousStatus && price.equals(previousPrice)) {
+            return;
+        }
+        afterCommit(() -> {
+            apply(previousStatus, previousPrice, -1);
+            apply(status, price, 1);
+        });
+    }
+
+    @Override
+    public void statusChanged(ProductStatus previousStatus, ProductStatus status, int count) {
+        if (previousStatus == status || count == 0) {
+            return;
+        }
+        afterCommit(() -> apply(target -> target.move(previousStatus, status, count)));
+    }
+
+    @Override
+    public void productRemoved(Product product) {
+        ProductStatus status = product.getStatus();
+        Money price = product.getPrice();
+        afterCommit(() -> apply(status, price, -1));
+    }
+
+    @Override
+    public CatalogStatistics current() {
+        return totals.snapshot();
+    }
+
+    /**
+     * Recalcula os agregados a partir do armazenamento, página a página, e substitui os atuais
+     * se divergirem. A primeira execução é a carga inicial e sempre substitui. Uma varredura
+     * com deltas aplicados durante ela é refeita: a carga inicial até sair limpa, as seguintes
+     * até {@value #RECONCILE_ATTEMPTS} vezes antes de deixar a correção para a próxima rodada.
+     */
+    @Scheduled(fixedDelayString = "${product.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long start = System.nanoTime();
+            for (int attempt = 1; ; attempt++) {
+                long appliedBefore = appliedDeltas.sum();
+                CatalogTotals scanned = scan();
+                if (replaceIfUnchanged(appliedBefore, scanned, start)) {
+                    return;
+                }
+                if (loaded && attempt >= RECONCILE_ATTEMPTS) {
+                    skippedReconciliations.incrementAndGet();
+                    log.debug("Skipping statistics reconciliation: products changed while scanning");
+                    return;
+                }
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    public long getReconciliations() {
+        return reconciliations.get();
+    }
+
+    public long getCorrections() {
+        return corrections.get();
+    }
+
+    public long getSkippedReconciliations() {
+        return skippedReconciliations.get();
+    }
+
+    private CatalogTotals scan() {
+        CatalogTotals scanned = new CatalogTotals();
+        ProductId after = null;
+        List<Product> page;
+        do {
+            page = storage.findPage(after, RECONCILE_PAGE_SIZE);
+            for (Product product : page) {
+                scanned.add(product.getStatus(), product.getPrice(), 1);
+            }
+            after = page.isEmpty() ? after : page.get(page.size() - 1).getId();
+        } while (page.size() == RECONCILE_PAGE_SIZE);
+        return scanned;
+    }
+
+    /**
+     * Troca os agregados pelos da varredura se nenhum delta foi aplicado desde o seu início.
+     * Com a trava de escrita nenhum delta está em curso, então a contagem conferida é exata e os
+     * deltas seguintes já vão para os agregados novos.
+     */
+    private boolean replaceIfUnchanged(long appliedBefore, CatalogTotals scanned, long start) {
+        swapLock.writeLock().lock();
+        try {
+            if (appliedDeltas.sum() != appliedBefore) {
+                return false;
+            }
+            CatalogStatistics expected = scanned.snapshot();
+            if (!loaded) {
+                totals = scanned;
+                loaded = true;
+                log.info("Loaded statistics of {} products in {} ms",
+                    expected.total(), (System.nanoTime() - start) / 1_000_000);
+                return true;
+            }
+            reconciliations.incrementAndGet();
+            CatalogStatistics actual = totals.snapshot();
+            if (!actual.equals(expected)) {
+                totals = scanned;
+                corrections.incrementAndGet();
+                log.warn("Corrected catalog statistics from {} to {}", actual, expected);
+            }
+            return true;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ProductStatus status, Money price, int delta) {
+        apply(target -> target.add(status, price, delta));
+    }
+
+    private void apply(Consumer<CatalogTotals> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(totals);
+            appliedDeltas.increment();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -2,27 +2,54 @@ package br.com.lefranchi.hexagonal.demo.application.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.RepriceCommand;
 import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
 import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.CatalogStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
 import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
 import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
 @ExtendWith(MockitoExtension.class)
 class ProductManagementServiceTest {
@@ -33,9 +60,24 @@ class ProductManagementServiceTest {
     @Mock
     private ProductEventPublisher eventPublisher;
     
+    @Mock
+    private ProductSearchIndex searchIndex;
+    
+    @Mock
+    private ProductStatistics statistics;
+    
     @Mock
     private ProductMapper productMapper;
     
+    @Mock
+    private TransactionOperations transactionOperations;
+    
+    @Mock
+    private ProductRepricer repricer;
+    
+    @Spy
+    private ProductReadCoalescer readCoalescer = new ProductReadCoalescer(1000);
+    
     @InjectMocks
     private ProductManagementService service;
     
@@ -45,7 +87,7 @@ class ProductManagementServiceTest {
     
     @BeforeEach
     void setUp() {
-        productId = new ProductId("123");
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
         product = Product.create(productId, "Test Product", new Money(10.0));
         
         productResponse = ProductResponse.builder()
@@ -61,8 +103,7 @@ class ProductManagementServiceTest {
         // Given
         CreateProductCommand command = new CreateProductCommand("Test Product", 10.0);
         
-        when(productRepository.save(any(Product.class))).thenReturn(product);
-        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
         
         // When
         ProductResponse response = service.createProduct(command);
@@ -71,10 +112,62 @@ class ProductManagementServiceTest {
         assertNotNull(response);
         assertEquals(productResponse, response);
         
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository).insert(any(Product.class));
+        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).findById(any());
         verify(eventPublisher).publishProductCreated(any(Product.class));
     }
     
+    @Test
+    void shouldCreateProductsKeepingInputOrder() {
+        // Given
+        List<CreateProductCommand> commands = List.of(
+            new CreateProductCommand("First Product", 10.0),
+            new CreateProductCommand("", 20.0),
+            new CreateProductCommand("Third Product", null),
+            new CreateProductCommand("Fourth Product", 40.0)
+        );
+        
+        runChunksWithoutTransaction();
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
+        
+        // When
+        List<ProductBatchItemResponse> results = service.createProducts(commands);
+        
+        // Then
+        assertEquals(4, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(ProductBatchItemResponse.CREATED, results.get(0).getStatus());
+        assertEquals(ProductBatchItemResponse.FAILED, results.get(1).getStatus());
+        assertEquals("Product name cannot be empty", results.get(1).getError());
+        assertEquals(ProductBatchItemResponse.FAILED, results.get(2).getStatus());
+        assertEquals("Product price cannot be null", results.get(2).getError());
+        assertEquals(ProductBatchItemResponse.CREATED, results.get(3).getStatus());
+        
+        verify(productRepository).saveAll(argThat(products -> products.size() == 2));
+        verify(productRepository, never()).save(any(Product.class));
+        verify(eventPublisher).publishProductsCreated(argThat(products -> products.size() == 2));
+        verify(eventPublisher, never()).publishProductCreated(any(Product.class));
+    }
+    
+    @Test
+    void shouldNotPersistWhenAllProductsAreInvalid() {
+        // Given
+        List<CreateProductCommand> commands = List.of(new CreateProductCommand(" ", 10.0));
+        
+        // When
+        List<ProductBatchItemResponse> results = service.createProducts(commands);
+        
+        // Then
+        assertEquals(1, results.size());
+        assertEquals(ProductBatchItemResponse.FAILED, results.get(0).getStatus());
+        
+        verifyNoInteractions(productRepository, eventPublisher);
+    }
+    
     @Test
     void shouldFindProduct() {
         // Given
@@ -121,13 +214,182 @@ class ProductManagementServiceTest {
         verify(productRepository).findAll();
     }
     
+    @Test
+    void shouldFindProductsPageWithNextCursor() {
+        // Given
+        Product secondProduct = Product.create(new ProductId("018f3a5e-7c00-7000-8000-000000000456"), "Second Product", new Money(20.0));
+        
+        when(productRepository.findPage(null, 2)).thenReturn(List.of(product, secondProduct));
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        
+        // When
+        ProductPageResponse page = service.findProductsPage(null, 1);
+        
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertEquals(productResponse, page.getItems().get(0));
+        assertEquals(productId.getValue(), page.getNextCursor());
+        
+        verify(productMapper, never()).toResponse(secondProduct);
+    }
+    
+    @Test
+    void shouldFindLastProductsPageWithoutNextCursor() {
+        // Given
+        ProductId after = new ProductId("018f3a5e-7c00-7000-8000-000000000100");
+        
+        when(productRepository.findPage(after, 11)).thenReturn(List.of(product));
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        
+        // When
+        ProductPageResponse page = service.findProductsPage(after, 10);
+        
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+        
+        verify(productRepository).findPage(after, 11);
+    }
+    
+    @Test
+    void shouldSearchProductsAndEncodeCursorForSort() {
+        // Given
+        Product secondProduct = Product.create(new ProductId("018f3a5e-7c00-7000-8000-000000000456"), "Second Product", new Money(20.0));
+        ProductSearchQuery query = ProductSearchQuery.builder()
+            .status(ProductStatus.ACTIVE)
+            .minPrice(5.0)
+            .sort(ProductSort.PRICE_ASC)
+            .limit(1)
+            .build();
+        
+        when(productRepository.findPage(any(ProductQuery.class))).thenReturn(List.of(product, secondProduct));
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        
+        // When
+        ProductPageResponse page = service.searchProducts(query);
+        
+        // Then
+        assertEquals(1, page.getItems().size());
+        ProductCursor cursor = ProductCursor.decode(page.getNextCursor(), ProductSort.PRICE_ASC);
+        assertEquals(productId, cursor.id());
+        assertEquals(1_000, cursor.priceCents());
+        
+        ArgumentCaptor<ProductQuery> captor = ArgumentCaptor.forClass(ProductQuery.class);
+        verify(productRepository).findPage(captor.capture());
+        assertEquals(ProductStatus.ACTIVE, captor.getValue().getStatus());
+        assertEquals(new Money(5.0), captor.getValue().getMinPrice());
+        assertNull(captor.getValue().getMaxPrice());
+        assertEquals(2, captor.getValue().getLimit());
+    }
+    
+    @Test
+    void shouldRejectEmptyPriceRangeAndCursorOfAnotherSort() {
+        // Given
+        ProductSearchQuery emptyRange = ProductSearchQuery.builder().minPrice(20.0).maxPrice(10.0).limit(10).build();
+        String priceCursor = ProductCursor.of(ProductSort.PRICE_ASC, product).encode();
+        ProductSearchQuery otherSort = ProductSearchQuery.builder()
+            .sort(ProductSort.NAME_ASC)
+            .cursor(priceCursor)
+            .limit(10)
+            .build();
+        
+        // When/Then
+        assertThrows(InvalidProductException.class, () -> service.searchProducts(emptyRange));
+        assertThrows(InvalidProductException.class, () -> service.searchProducts(otherSort));
+        verify(productRepository, never()).findPage(any(ProductQuery.class));
+    }
+    
+    @Test
+    void shouldSearchByNameInIndexOrderSkippingRemovedProducts() {
+        // Given
+        ProductId removedId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        
+        when(searchIndex.search("keybord", 5)).thenReturn(List.of(removedId, productId));
+        when(productRepository.findAllById(List.of(removedId, productId))).thenReturn(List.of(product));
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        
+        // When
+        List<ProductResponse> found = service.searchProductsByName("  keybord ", 5);
+        
+        // Then
+        assertEquals(List.of(productResponse), found);
+        verify(productRepository, never()).findById(any());
+    }
+    
+    @Test
+    void shouldFindManyProductsWithSingleRepositoryCall() {
+        // Given
+        ProductId missingId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        List<ProductId> ids = List.of(productId, missingId, productId);
+        when(productRepository.findAllById(ids)).thenReturn(List.of(product));
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        
+        // When
+        List<ProductResponse> found = service.findProducts(ids);
+        
+        // Then
+        assertEquals(List.of(productResponse), found);
+        verify(productRepository, never()).findById(any());
+    }
+    
+    @Test
+    void shouldRejectMultiGetWithoutIdsOrAboveLimit() {
+        // Given
+        List<ProductId> tooMany = Collections.nCopies(ProductManagementService.MAX_MULTI_GET_SIZE + 1, productId);
+        
+        // When/Then
+        assertThrows(InvalidProductException.class, () -> service.findProducts(List.of()));
+        assertThrows(InvalidProductException.class, () -> service.findProducts(tooMany));
+        verifyNoInteractions(productRepository);
+    }
+    
+    @Test
+    void shouldCreateLargeBatchInChunksKeepingInputOrder() {
+        // Given
+        List<CreateProductCommand> commands = new ArrayList<>();
+        for (int i = 0; i < ProductManagementService.BULK_CHUNK_SIZE * 2 + 2; i++) {
+            commands.add(new CreateProductCommand(i == 1 ? "" : "Product " + i, 10.0));
+        }
+        
+        runChunksWithoutTransaction();
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productMapper.toResponse(any(Product.class))).thenAnswer(invocation -> ProductResponse.builder()
+            .name(invocation.<Product>getArgument(0).getName())
+            .build());
+        
+        // When
+        List<ProductBatchItemResponse> results = service.createProducts(commands);
+        
+        // Then
+        assertEquals(commands.size(), results.size());
+        assertEquals(ProductBatchItemResponse.FAILED, results.get(1).getStatus());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+            if (i != 1) {
+                assertEquals("Product " + i, results.get(i).getProduct().getName());
+            }
+        }
+        verify(transactionOperations, times(3)).execute(any());
+        verify(productRepository, times(2))
+            .saveAll(argThat(products -> products.size() == ProductManagementService.BULK_CHUNK_SIZE));
+        verify(productRepository).saveAll(argThat(products -> products.size() == 1));
+        verify(eventPublisher, times(3)).publishProductsCreated(anyList());
+    }
+    
+    @Test
+    void shouldRejectSearchTextShorterThanTrigram() {
+        // When/Then
+        assertThrows(InvalidProductException.class, () -> service.searchProductsByName(" ab ", 5));
+        verifyNoInteractions(searchIndex);
+    }
+    
     @Test
     void shouldUpdateProduct() {
         // Given
         UpdateProductCommand command = new UpdateProductCommand("Updated Product", 20.0);
         
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.update(product)).thenReturn(true);
         when(productMapper.toResponse(product)).thenReturn(productResponse);
         
         // When
@@ -136,24 +398,181 @@ class ProductManagementServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(productResponse, response);
+        assertEquals("Updated Product", product.getName());
         
         verify(productRepository).findById(productId);
-        verify(productRepository).save(any(Product.class));
-        verify(eventPublisher).publishProductUpdated(any(Product.class));
+        verify(productRepository).update(product);
+        verify(productRepository, never()).save(any(Product.class));
+        verify(eventPublisher).publishProductUpdated(product);
+        verify(statistics).productChanged(ProductStatus.ACTIVE, new Money(10.0), product);
     }
     
     @Test
-    void shouldDeleteProduct() {
+    void shouldAdvanceVersionOnUpdate() {
+        // Given
+        Product stored = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 4);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(stored));
+        when(productRepository.update(stored)).thenReturn(true);
+        
+        // When
+        service.updateProduct(productId, new UpdateProductCommand("Updated Product", null), 4L);
+        
+        // Then
+        assertEquals(5, stored.getVersion());
+        verify(productRepository).update(stored);
+    }
+    
+    @Test
+    void shouldRejectUpdateOfStaleVersionWithoutWriting() {
+        // Given
+        Product stored = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 5);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(stored));
+        
+        // When & Then
+        assertThrows(ProductVersionConflictException.class,
+            () -> service.updateProduct(productId, new UpdateProductCommand("Updated Product", null), 4L));
+        
+        verify(productRepository, never()).update(any());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldRetryUpdateOverConcurrentWriteWhenNoVersionIsExpected() {
+        // Given
+        Product first = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 1);
+        Product second = Product.restore(productId, "Concurrent Name", new Money(30.0), ProductStatus.ACTIVE, 2);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(first), Optional.of(second));
+        when(productRepository.update(first)).thenReturn(false);
+        when(productRepository.update(second)).thenReturn(true);
+        
+        // When
+        service.updateProduct(productId, new UpdateProductCommand(null, 20.0));
+        
+        // Then
+        assertEquals("Concurrent Name", second.getName());
+        assertEquals(new Money(20.0), second.getPrice());
+        assertEquals(3, second.getVersion());
+        verify(eventPublisher).publishProductUpdated(second);
+    }
+    
+    @Test
+    void shouldReportConflictWhenExpectedVersionLosesRace() {
+        // Given
+        Product first = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 1);
+        Product second = Product.restore(productId, "Concurrent Name", new Money(30.0), ProductStatus.ACTIVE, 2);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(first), Optional.of(second));
+        when(productRepository.update(first)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ProductVersionConflictException.class,
+            () -> service.updateProduct(productId, new UpdateProductCommand(null, 20.0), 1L));
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldThrowWhenUpdatedProductWasRemovedConcurrently() {
+        // Given
+        UpdateProductCommand command = new UpdateProductCommand("Updated Product", 20.0);
+        
+        when(productRepository.findById(productId))
+            .thenReturn(Optional.of(product))
+            .thenReturn(Optional.empty());
+        when(productRepository.update(product)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> service.updateProduct(productId, command));
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldGiveUpUpdateAfterBoundedRetries() {
         // Given
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.update(product)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ProductVersionConflictException.class,
+            () -> service.updateProduct(productId, new UpdateProductCommand(null, 20.0)));
+        
+        verify(productRepository, times(ProductManagementService.MAX_WRITE_ATTEMPTS)).update(product);
+        verifyNoInteractions(eventPublisher, statistics);
+    }
+    
+    @Test
+    void shouldDeleteProduct() {
+        // Given
+        when(productRepository.deleteById(productId)).thenReturn(Optional.of(product));
         
         // When
         service.deleteProduct(productId);
         
         // Then
-        verify(productRepository).findById(productId);
         verify(productRepository).deleteById(productId);
+        verify(productRepository, never()).findById(any());
         verify(eventPublisher).publishProductDeleted(productId);
+        verify(statistics).productRemoved(product);
+    }
+    
+    @Test
+    void shouldThrowWhenDeletedProductDoesNotExist() {
+        // Given
+        when(productRepository.deleteById(productId)).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> service.deleteProduct(productId));
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldDeleteExpectedVersionWithSingleConditionalDelete() {
+        // Given
+        when(productRepository.deleteById(productId, 3L)).thenReturn(Optional.of(product));
+        
+        // When
+        service.deleteProduct(productId, 3L);
+        
+        // Then
+        verify(productRepository, never()).deleteById(productId);
+        verify(productRepository, never()).findVersion(any());
+        verify(eventPublisher).publishProductDeleted(productId);
+    }
+    
+    @Test
+    void shouldReportConflictWhenDeletingStaleVersion() {
+        // Given
+        when(productRepository.deleteById(productId, 3L)).thenReturn(Optional.empty());
+        when(productRepository.findVersion(productId)).thenReturn(OptionalLong.of(4));
+        
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> service.deleteProduct(productId, 3L));
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldReportMissingProductWhenDeletingVersionOfRemovedProduct() {
+        // Given
+        when(productRepository.deleteById(productId, 3L)).thenReturn(Optional.empty());
+        when(productRepository.findVersion(productId)).thenReturn(OptionalLong.empty());
+        
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> service.deleteProduct(productId, 3L));
+    }
+    
+    @Test
+    void shouldFindProductVersion() {
+        // Given
+        when(productRepository.findVersion(productId)).thenReturn(OptionalLong.of(7));
+        
+        // When
+        long version = service.findProductVersion(productId);
+        
+        // Then
+        assertEquals(7, version);
+        verify(productRepository, never()).findById(any());
     }
     
     @Test
@@ -162,7 +581,7 @@ class ProductManagementServiceTest {
         product.deactivate(); // Ensure it's inactive first
         
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.updateStatus(product)).thenReturn(true);
         when(productMapper.toResponse(product)).thenReturn(productResponse);
         
         // When
@@ -171,17 +590,66 @@ class ProductManagementServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(productResponse, response);
+        assertEquals(ProductStatus.ACTIVE, product.getStatus());
         
         verify(productRepository).findById(productId);
-        verify(productRepository).save(any(Product.class));
-        verify(eventPublisher).publishProductActivated(any(Product.class));
+        verify(productRepository).updateStatus(product);
+        verify(productRepository, never()).save(any(Product.class));
+        verify(eventPublisher).publishProductActivated(product);
+        verify(statistics).productChanged(ProductStatus.INACTIVE, product.getPrice(), product);
+    }
+    
+    @Test
+    void shouldRejectActivationWhenPriceBecameNegativeConcurrently() {
+        // Given
+        product.deactivate();
+        Product repriced = Product.restore(productId, "Test Product", new Money(-1.0), ProductStatus.INACTIVE);
+        
+        when(productRepository.findById(productId))
+            .thenReturn(Optional.of(product))
+            .thenReturn(Optional.of(repriced));
+        when(productRepository.updateStatus(product)).thenReturn(false);
+        
+        // When & Then
+        InvalidProductException exception = assertThrows(InvalidProductException.class,
+            () -> service.activateProduct(productId));
+        assertEquals("Cannot activate product with negative price", exception.getMessage());
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldThrowWhenActivatedProductWasRemovedConcurrently() {
+        // Given
+        when(productRepository.findById(productId))
+            .thenReturn(Optional.of(product))
+            .thenReturn(Optional.empty());
+        when(productRepository.updateStatus(product)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> service.activateProduct(productId));
+        
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    void shouldGiveUpStatusChangeAfterBoundedRetries() {
+        // Given
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.updateStatus(product)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> service.deactivateProduct(productId));
+        
+        verify(productRepository, times(ProductManagementService.MAX_WRITE_ATTEMPTS)).updateStatus(product);
+        verifyNoInteractions(eventPublisher, statistics);
     }
     
     @Test
     void shouldDeactivateProduct() {
         // Given
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.updateStatus(product)).thenReturn(true);
         when(productMapper.toResponse(product)).thenReturn(productResponse);
         
         // When
@@ -190,9 +658,154 @@ class ProductManagementServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(productResponse, response);
+        assertEquals(ProductStatus.INACTIVE, product.getStatus());
         
         verify(productRepository).findById(productId);
-        verify(productRepository).save(any(Product.class));
-        verify(eventPublisher).publishProductDeactivated(any(Product.class));
+        verify(productRepository).updateStatus(product);
+        verify(productRepository, never()).save(any(Product.class));
+        verify(eventPublisher).publishProductDeactivated(product);
+    }
+    
+    @Test
+    void shouldComputeStatisticsFromAggregates() {
+        // Given
+        when(statistics.current()).thenReturn(new CatalogStatistics(
+            Map.of(ProductStatus.ACTIVE, 2L, ProductStatus.INACTIVE, 1L),
+            new Money(10.0), new Money(1.0), new Money(6.0)));
+        
+        // When
+        ProductStatisticsResponse response = service.getStatistics();
+        
+        // Then
+        assertEquals(3, response.getTotal());
+        assertEquals(List.of("ACTIVE", "INACTIVE"), List.copyOf(response.getCountsByStatus().keySet()));
+        assertEquals(1L, response.getCountsByStatus().get("INACTIVE"));
+        assertEquals(new BigDecimal("3.33"), response.getPriceAverage());
+        assertEquals(new BigDecimal("1.00"), response.getMinPrice());
+        assertEquals(new BigDecimal("6.00"), response.getMaxPrice());
+        verifyNoInteractions(productRepository);
+    }
+    
+    @Test
+    void shouldReportEmptyCatalogWithoutAverage() {
+        // Given
+        when(statistics.current()).thenReturn(new CatalogStatistics(
+            Map.of(ProductStatus.ACTIVE, 0L, ProductStatus.INACTIVE, 0L), Money.ofCents(0), null, null));
+        
+        // When
+        ProductStatisticsResponse response = service.getStatistics();
+        
+        // Then
+        assertEquals(0, response.getTotal());
+        assertNull(response.getPriceAverage());
+        assertNull(response.getMinPrice());
+    }
+    
+    @Test
+    void shouldActivateByFilterInChunksCountingNegativePricesAsRejected() {
+        // Given
+        runChunksWithoutTransaction();
+        List<Product> firstChunk = products(ProductManagementService.BULK_CHUNK_SIZE, 0, ProductStatus.ACTIVE);
+        List<Product> lastChunk = products(3, ProductManagementService.BULK_CHUNK_SIZE, ProductStatus.ACTIVE);
+        ProductId lastOfFirstChunk = firstChunk.get(firstChunk.size() - 1).getId();
+        when(productRepository.count(any(ProductSelection.class))).thenReturn(2L);
+        when(productRepository.updateStatus(any(ProductSelection.class), eq(ProductStatus.ACTIVE), any(), anyInt()))
+            .thenReturn(firstChunk, lastChunk);
+        
+        // When
+        BulkStatusResponse response = service.activateProducts(BulkStatusCommand.builder()
+            .status(ProductStatus.INACTIVE)
+            .maxPrice(50.0)
+            .build());
+        
+        // Then
+        assertEquals(503, response.getAffected());
+        assertEquals(2, response.getRejected());
+        
+        ArgumentCaptor<ProductSelection> rejected = ArgumentCaptor.forClass(ProductSelection.class);
+        verify(productRepository).count(rejected.capture());
+        assertEquals(ProductStatus.INACTIVE, rejected.getValue().getStatus());
+        assertEquals(Money.ofCents(-1), rejected.getValue().getMaxPrice());
+        
+        ArgumentCaptor<ProductSelection> activated = ArgumentCaptor.forClass(ProductSelection.class);
+        verify(productRepository).updateStatus(activated.capture(), eq(ProductStatus.ACTIVE), isNull(),
+            eq(ProductManagementService.BULK_CHUNK_SIZE));
+        verify(productRepository).updateStatus(any(ProductSelection.class), eq(ProductStatus.ACTIVE),
+            eq(lastOfFirstChunk), eq(ProductManagementService.BULK_CHUNK_SIZE));
+        assertEquals(Product.MIN_ACTIVATION_PRICE, activated.getValue().getMinPrice());
+        assertEquals(new Money(50.0), activated.getValue().getMaxPrice());
+        
+        verify(transactionOperations, times(2)).execute(any());
+        verify(statistics).statusChanged(ProductStatus.INACTIVE, ProductStatus.ACTIVE, 500);
+        verify(statistics).statusChanged(ProductStatus.INACTIVE, ProductStatus.ACTIVE, 3);
+        verify(eventPublisher).publishProductsActivated(firstChunk);
+        verify(eventPublisher).publishProductsActivated(lastChunk);
+        verify(eventPublisher, never()).publishProductActivated(any());
+    }
+    
+    @Test
+    void shouldDeactivateIdListInSlicesOfChunkSize() {
+        // Given
+        runChunksWithoutTransaction();
+        List<String> ids = new ArrayList<>();
+        for (Product listed : products(ProductManagementService.BULK_CHUNK_SIZE + 1, 0, ProductStatus.ACTIVE)) {
+            ids.add(listed.getId().getValue());
+        }
+        ids.add(ids.get(0));
+        when(productRepository.updateStatus(any(ProductSelection.class), eq(ProductStatus.INACTIVE), isNull(), anyInt()))
+            .thenReturn(products(ProductManagementService.BULK_CHUNK_SIZE, 0, ProductStatus.INACTIVE), List.of());
+        
+        // When
+        BulkStatusResponse response = service.deactivateProducts(BulkStatusCommand.builder().ids(ids).build());
+        
+        // Then
+        assertEquals(ProductManagementService.BULK_CHUNK_SIZE, response.getAffected());
+        assertEquals(0, response.getRejected());
+        ArgumentCaptor<ProductSelection> slices = ArgumentCaptor.forClass(ProductSelection.class);
+        verify(productRepository, times(2)).updateStatus(slices.capture(), eq(ProductStatus.INACTIVE), isNull(), anyInt());
+        assertEquals(ProductManagementService.BULK_CHUNK_SIZE, slices.getAllValues().get(0).getIds().size());
+        assertEquals(1, slices.getAllValues().get(1).getIds().size());
+        verify(productRepository, never()).count(any());
+        verify(eventPublisher, times(1)).publishProductsDeactivated(anyList());
+        verify(statistics, times(1)).statusChanged(any(), any(), anyInt());
+    }
+    
+    @Test
+    void shouldRejectBulkChangeWithoutIdsOrFilters() {
+        // When/Then
+        InvalidProductException exception = assertThrows(InvalidProductException.class,
+            () -> service.deactivateProducts(BulkStatusCommand.builder().build()));
+        assertEquals("Bulk status change requires ids or at least one filter", exception.getMessage());
+        assertThrows(InvalidProductException.class,
+            () -> service.activateProducts(BulkStatusCommand.builder().ids(List.of("not-an-id")).build()));
+        verifyNoInteractions(productRepository, eventPublisher, statistics, transactionOperations);
+    }
+    
+    @Test
+    void shouldRejectRepricingWithoutExactlyOneChange() {
+        // When/Then
+        assertThrows(InvalidProductException.class, () -> service.startRepricing(RepriceCommand.builder()
+            .status(ProductStatus.ACTIVE)
+            .build()));
+        assertThrows(InvalidProductException.class, () -> service.startRepricing(RepriceCommand.builder()
+            .percentage(BigDecimal.TEN)
+            .amount(1.0)
+            .build()));
+        assertThrows(InvalidProductException.class, () -> service.findRepriceJob("not-a-job"));
+        verifyNoInteractions(repricer);
+    }
+    
+    private void runChunksWithoutTransaction() {
+        when(transactionOperations.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+    
+    private static List<Product> products(int count, int offset, ProductStatus status) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.restore(new ProductId(0x018f3a5e7c007000L, offset + i), "Product " + (offset + i),
+                new Money(10.0), status, 1L));
+        }
+        return products;
     }
-}
\ No newline at end of file
+}
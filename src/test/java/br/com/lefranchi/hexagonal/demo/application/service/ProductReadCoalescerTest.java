@@ -0,0 +1,167 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Concurrent lookups of the same product sharing one load, its result and its failure.
+ */
+class ProductReadCoalescerTest {
+
+    private static final int READERS = 16;
+
+    private final ProductId productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+
+    @Test
+    void shouldShareOneLoadAmongConcurrentReaders() throws Exception {
+        // Given
+        ProductReadCoalescer coalescer = new ProductReadCoalescer(TimeUnit.SECONDS.toMillis(10));
+        ProductResponse response = ProductResponse.builder().id(productId.getValue()).build();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ConcurrentLinkedQueue<Object> results = new ConcurrentLinkedQueue<>();
+
+        // When
+        List<Thread> readers = startReaders(coalescer, id -> {
+            loads.incrementAndGet();
+            await(release);
+            return response;
+        }, results);
+        awaitWaiting(readers);
+        release.countDown();
+        join(readers);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(READERS, results.size());
+        results.forEach(result -> assertSame(response, result));
+        assertEquals(1, coalescer.getLoads());
+        assertEquals(READERS - 1, coalescer.getCoalesced());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    void shouldPropagateNotFoundToEveryWaiter() throws Exception {
+        // Given
+        ProductReadCoalescer coalescer = new ProductReadCoalescer(TimeUnit.SECONDS.toMillis(10));
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Object> results = new ConcurrentLinkedQueue<>();
+
+        // When
+        List<Thread> readers = startReaders(coalescer, id -> {
+            await(release);
+            throw new ProductNotFoundException(id);
+        }, results);
+        awaitWaiting(readers);
+        release.countDown();
+        join(readers);
+
+        // Then
+        assertEquals(READERS, results.size());
+        results.forEach(result -> assertInstanceOf(ProductNotFoundException.class, result));
+        assertEquals(1, coalescer.getLoads());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    void shouldLoadAloneWhenWaitTimesOut() throws Exception {
+        // Given
+        ProductReadCoalescer coalescer = new ProductReadCoalescer(50);
+        ProductResponse slow = ProductResponse.builder().name("slow").build();
+        ProductResponse own = ProductResponse.builder().name("own").build();
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> coalescer.find(productId, id -> {
+            await(release);
+            return slow;
+        }));
+        leader.start();
+        while (coalescer.getInFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        ProductResponse response = coalescer.find(productId, id -> own);
+        release.countDown();
+        leader.join();
+
+        // Then
+        assertSame(own, response);
+        assertEquals(1, coalescer.getTimeouts());
+        assertEquals(2, coalescer.getLoads());
+        assertEquals(0, coalescer.getCoalesced());
+    }
+
+    @Test
+    void shouldLoadAgainOnceThePreviousLoadEnded() {
+        // Given
+        ProductReadCoalescer coalescer = new ProductReadCoalescer(1000);
+        AtomicInteger loads = new AtomicInteger();
+        Function<ProductId, ProductResponse> loader = id -> ProductResponse.builder()
+            .version(loads.getAndIncrement())
+            .build();
+
+        // When
+        ProductResponse first = coalescer.find(productId, loader);
+        ProductResponse second = coalescer.find(productId, loader);
+
+        // Then
+        assertEquals(0L, first.getVersion());
+        assertEquals(1L, second.getVersion());
+        assertEquals(0, coalescer.getCoalesced());
+    }
+
+    private List<Thread> startReaders(ProductReadCoalescer coalescer, Function<ProductId, ProductResponse> loader,
+            ConcurrentLinkedQueue<Object> results) {
+        List<Thread> readers = new ArrayList<>(READERS);
+        for (int i = 0; i < READERS; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    results.add(coalescer.find(productId, loader));
+                } catch (RuntimeException e) {
+                    results.add(e);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        return readers;
+    }
+
+    /** Waits until every reader is blocked, either loading or waiting for the load. */
+    private static void awaitWaiting(List<Thread> readers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!readers.stream().allMatch(reader -> reader.getState() == Thread.State.WAITING
+                || reader.getState() == Thread.State.TIMED_WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "readers did not block");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void join(List<Thread> readers) throws InterruptedException {
+        for (Thread reader : readers) {
+            reader.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJob;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.RepriceJobState;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotResumableException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+/**
+ * Chunk loop, progress and resume of repricing jobs, run synchronously on the calling thread.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductRepricerTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RepriceJobRepository jobRepository;
+
+    @Mock
+    private ProductStatistics statistics;
+
+    @Mock
+    private ProductEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    private ProductRepricer repricer;
+
+    /** Jobs as last saved, copied so that later changes to the running instance are not seen. */
+    private final Map<UUID, RepriceJob> savedJobs = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        repricer = new ProductRepricer(productRepository, jobRepository, statistics, eventPublisher,
+            transactionOperations, Runnable::run, CHUNK_SIZE, true);
+        lenient().when(transactionOperations.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jobRepository.save(any(RepriceJob.class))).thenAnswer(invocation -> {
+            RepriceJob job = invocation.getArgument(0);
+            savedJobs.put(job.getId(), copy(job));
+            return job;
+        });
+        lenient().when(jobRepository.findById(any(UUID.class)))
+            .thenAnswer(invocation -> Optional.ofNullable(savedJobs.get(invocation.<UUID>getArgument(0))).map(
+                ProductRepricerTest::copy));
+    }
+
+    @Test
+    void shouldRepriceInChunksFromCursorUntilShortChunk() {
+        // Given
+        ProductSelection selection = ProductSelection.builder().status(ProductStatus.ACTIVE).build();
+        PriceChange change = PriceChange.amount(new Money(-15.0));
+        List<Product> firstChunk = products(CHUNK_SIZE, 0);
+        List<Product> lastChunk = products(1, CHUNK_SIZE);
+        ProductId lastOfFirstChunk = firstChunk.get(CHUNK_SIZE - 1).getId();
+        when(productRepository.count(selection)).thenReturn(4L);
+        when(productRepository.reprice(selection, change, null, CHUNK_SIZE)).thenReturn(firstChunk);
+        when(productRepository.reprice(selection, change, lastOfFirstChunk, CHUNK_SIZE)).thenReturn(lastChunk);
+
+        // When
+        RepriceJob started = repricer.start(selection, change);
+
+        // Then
+        RepriceJob job = repricer.find(started.getId());
+        assertEquals(RepriceJobState.COMPLETED, job.getState());
+        assertEquals(4, job.getTotal());
+        assertEquals(4, job.getProcessed());
+        assertEquals(1.0, job.getProgress());
+        assertEquals(lastChunk.get(0).getId(), job.getCursor());
+        // Only the product priced above 15.00 stays active
+        assertEquals(3, job.getDeactivated());
+        assertEquals(new Money(1.0), firstChunk.get(2).getPrice());
+        verify(statistics).productChanged(ProductStatus.ACTIVE, new Money(10.0), firstChunk.get(0));
+        verify(eventPublisher).publishProductsUpdated(firstChunk);
+        verify(eventPublisher).publishProductsUpdated(lastChunk);
+        assertEquals(4, repricer.getRepricedProducts());
+        assertEquals(1, repricer.getCompletedJobs());
+        assertEquals(0, repricer.getRunningJobs());
+    }
+
+    @Test
+    void shouldResumeFailedJobFromLastSavedCursor() {
+        // Given
+        ProductSelection selection = ProductSelection.builder().build();
+        PriceChange change = PriceChange.percentage(new BigDecimal("10"));
+        List<Product> firstChunk = products(CHUNK_SIZE, 0);
+        ProductId lastOfFirstChunk = firstChunk.get(CHUNK_SIZE - 1).getId();
+        when(productRepository.count(selection)).thenReturn(5L);
+        when(productRepository.reprice(selection, change, null, CHUNK_SIZE)).thenReturn(firstChunk);
+        when(productRepository.reprice(selection, change, lastOfFirstChunk, CHUNK_SIZE))
+            .thenThrow(new IllegalStateException("connection lost"))
+            .thenReturn(products(2, CHUNK_SIZE));
+
+        // When
+        RepriceJob started = repricer.start(selection, change);
+        RepriceJob failed = repricer.find(started.getId());
+        repricer.resume(started.getId());
+
+        // Then
+        assertEquals(RepriceJobState.FAILED, failed.getState());
+        assertEquals("connection lost", failed.getError());
+        assertEquals(lastOfFirstChunk, failed.getCursor());
+        assertEquals(CHUNK_SIZE, failed.getProcessed());
+        RepriceJob resumed = repricer.find(started.getId());
+        assertEquals(RepriceJobState.COMPLETED, resumed.getState());
+        assertEquals(5, resumed.getProcessed());
+        assertNull(resumed.getError());
+        verify(productRepository, times(3)).reprice(any(), any(), any(), anyInt());
+        assertEquals(1, repricer.getFailedJobs());
+    }
+
+    @Test
+    void shouldResumeOnlyJobsLeftRunning() {
+        // Given
+        RepriceJob interrupted = RepriceJob.restore(UUID.randomUUID(), ProductSelection.builder().build(),
+            PriceChange.percentage(BigDecimal.ONE), RepriceJobState.RUNNING, new ProductId(0L, 7L), false, 10, 7, 0, 70,
+            null, null, null);
+        jobRepository.save(interrupted);
+        when(jobRepository.findByState(RepriceJobState.RUNNING)).thenReturn(List.of(interrupted));
+        when(productRepository.reprice(any(), any(), eq(new ProductId(0L, 7L)), anyInt())).thenReturn(List.of());
+
+        // When
+        List<RepriceJob> resumed = repricer.resumeInterrupted();
+
+        // Then
+        assertEquals(List.of(interrupted), resumed);
+        RepriceJob job = repricer.find(interrupted.getId());
+        assertEquals(RepriceJobState.COMPLETED, job.getState());
+        assertEquals(7, job.getProcessed());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldRefuseToResumeJobThatFailedMidChunkOutsideTransaction() {
+        // Given
+        repricer = new ProductRepricer(productRepository, jobRepository, statistics, eventPublisher,
+            transactionOperations, Runnable::run, CHUNK_SIZE, false);
+        ProductSelection selection = ProductSelection.builder().build();
+        PriceChange change = PriceChange.percentage(new BigDecimal("10"));
+        List<Product> firstChunk = products(CHUNK_SIZE, 0);
+        ProductId lastOfFirstChunk = firstChunk.get(CHUNK_SIZE - 1).getId();
+        when(productRepository.count(selection)).thenReturn(5L);
+        when(productRepository.reprice(selection, change, null, CHUNK_SIZE)).thenReturn(firstChunk);
+        when(productRepository.reprice(selection, change, lastOfFirstChunk, CHUNK_SIZE))
+            .thenThrow(new IllegalStateException("disk full"));
+
+        // When
+        RepriceJob started = repricer.start(selection, change);
+
+        // Then
+        RepriceJob failed = repricer.find(started.getId());
+        assertEquals(RepriceJobState.FAILED, failed.getState());
+        assertTrue(failed.isChunkPending());
+        assertEquals(lastOfFirstChunk, failed.getCursor());
+        assertEquals(CHUNK_SIZE, failed.getProcessed());
+        assertThrows(RepriceJobNotResumableException.class, () -> repricer.resume(started.getId()));
+        verify(productRepository, times(2)).reprice(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldFailInsteadOfResumingJobInterruptedMidChunk() {
+        // Given
+        RepriceJob interrupted = RepriceJob.restore(UUID.randomUUID(), ProductSelection.builder().build(),
+            PriceChange.percentage(BigDecimal.ONE), RepriceJobState.RUNNING, new ProductId(0L, 7L), true, 10, 7, 0, 70,
+            null, null, null);
+        jobRepository.save(interrupted);
+        when(jobRepository.findByState(RepriceJobState.RUNNING)).thenReturn(List.of(interrupted));
+
+        // When
+        List<RepriceJob> resumed = repricer.resumeInterrupted();
+
+        // Then
+        assertTrue(resumed.isEmpty());
+        RepriceJob job = repricer.find(interrupted.getId());
+        assertEquals(RepriceJobState.FAILED, job.getState());
+        assertTrue(job.isChunkPending());
+        verify(productRepository, never()).reprice(any(), any(), any(), anyInt());
+    }
+
+    private static List<Product> products(int count, int offset) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.restore(new ProductId(0x018f3a5e7c007000L, offset + i), "Product " + (offset + i),
+                new Money(10.0 + offset + i * 3), ProductStatus.ACTIVE, 1L));
+        }
+        return products;
+    }
+
+    private static RepriceJob copy(RepriceJob job) {
+        return RepriceJob.restore(job.getId(), job.getSelection(), job.getChange(), job.getState(), job.getCursor(),
+            job.isChunkPending(), job.getTotal(), job.getProcessed(), job.getDeactivated(), job.getRunningMillis(), job.getCreatedAt(),
+            job.getUpdatedAt(), job.getError());
+    }
+}
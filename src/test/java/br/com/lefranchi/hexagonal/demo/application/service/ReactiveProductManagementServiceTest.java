@@ -0,0 +1,304 @@
+package br.com.lefranchi.hexagonal.demo.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.query.ProductSearchQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductEventPublisher;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSearchIndex;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductStatistics;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ReactiveProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductManagementServiceTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private ProductEventPublisher eventPublisher;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private ProductStatistics statistics;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private ReactiveProductManagementService service;
+
+    private ProductId productId;
+    private ProductResponse productResponse;
+
+    @BeforeEach
+    void setUp() {
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+        productResponse = ProductResponse.builder()
+            .id(productId.getValue())
+            .name("Test Product")
+            .build();
+    }
+
+    @Test
+    void shouldCreateProductAndPublishOnlyAfterInsert() {
+        // Given
+        when(productRepository.insert(any(Product.class))).thenReturn(Mono.empty());
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
+
+        // When
+        Mono<ProductResponse> response = service.createProduct(new CreateProductCommand("Test Product", 10.0));
+
+        // Then
+        verifyNoInteractions(eventPublisher, statistics);
+        StepVerifier.create(response)
+            .expectNext(productResponse)
+            .verifyComplete();
+        verify(statistics).productAdded(any(Product.class));
+        verify(eventPublisher).publishProductCreated(any(Product.class));
+    }
+
+    @Test
+    void shouldSignalInvalidProductWithoutInserting() {
+        // When/Then
+        StepVerifier.create(service.createProduct(new CreateProductCommand(" ", 10.0)))
+            .expectError(InvalidProductException.class)
+            .verify();
+        verifyNoInteractions(productRepository, eventPublisher, statistics);
+    }
+
+    @Test
+    void shouldCreateValidProductsInBatchKeepingInputOrder() {
+        // Given
+        List<CreateProductCommand> commands = List.of(
+            new CreateProductCommand("First Product", 10.0),
+            new CreateProductCommand("", 20.0),
+            new CreateProductCommand("Third Product", 30.0)
+        );
+        when(productRepository.insertAll(anyList())).thenReturn(Mono.empty());
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
+
+        // When/Then
+        StepVerifier.create(service.createProducts(commands))
+            .assertNext(results -> {
+                assertEquals(3, results.size());
+                assertEquals(ProductBatchItemResponse.CREATED, results.get(0).getStatus());
+                assertEquals(ProductBatchItemResponse.FAILED, results.get(1).getStatus());
+                assertEquals(ProductBatchItemResponse.CREATED, results.get(2).getStatus());
+            })
+            .verifyComplete();
+        verify(productRepository).insertAll(argThat(products -> products.size() == 2));
+        verify(eventPublisher).publishProductsCreated(argThat(products -> products.size() == 2));
+    }
+
+    @Test
+    void shouldInsertLargeBatchInChunksOneAfterAnother() {
+        // Given
+        List<CreateProductCommand> commands = Collections.nCopies(ProductManagementService.BULK_CHUNK_SIZE + 1,
+            new CreateProductCommand("Test Product", 10.0));
+        when(productRepository.insertAll(anyList())).thenReturn(Mono.empty());
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
+
+        // When/Then
+        StepVerifier.create(service.createProducts(commands))
+            .assertNext(results -> {
+                assertEquals(commands.size(), results.size());
+                for (int i = 0; i < results.size(); i++) {
+                    assertEquals(i, results.get(i).getIndex());
+                    assertEquals(ProductBatchItemResponse.CREATED, results.get(i).getStatus());
+                }
+            })
+            .verifyComplete();
+        verify(productRepository)
+            .insertAll(argThat(products -> products.size() == ProductManagementService.BULK_CHUNK_SIZE));
+        verify(productRepository).insertAll(argThat(products -> products.size() == 1));
+        verify(eventPublisher, times(2)).publishProductsCreated(anyList());
+    }
+
+    @Test
+    void shouldRetryUpdateOnConcurrentWrite() {
+        // Given
+        when(productRepository.findById(productId))
+            .thenReturn(Mono.fromSupplier(() -> Product.restore(productId, "Test Product", new Money(10.0),
+                ProductStatus.ACTIVE, 3L)));
+        when(productRepository.update(any(Product.class)))
+            .thenReturn(Mono.just(false))
+            .thenReturn(Mono.just(true));
+        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse);
+
+        // When/Then
+        StepVerifier.create(service.updateProduct(productId, new UpdateProductCommand("Renamed", null), null))
+            .expectNext(productResponse)
+            .verifyComplete();
+        verify(productRepository, times(2)).findById(productId);
+        verify(eventPublisher, times(1)).publishProductUpdated(any(Product.class));
+        verify(statistics, times(1)).productChanged(eq(ProductStatus.ACTIVE), eq(new Money(10.0)), any(Product.class));
+    }
+
+    @Test
+    void shouldSignalConflictAfterBoundedRetriesOnConcurrentWrites() {
+        // Given
+        when(productRepository.findById(productId))
+            .thenReturn(Mono.fromSupplier(() -> Product.restore(productId, "Test Product", new Money(10.0),
+                ProductStatus.ACTIVE, 3L)));
+        when(productRepository.updateStatus(any(Product.class))).thenReturn(Mono.just(false));
+
+        // When/Then
+        StepVerifier.create(service.deactivateProduct(productId, null))
+            .expectErrorSatisfies(error -> {
+                assertInstanceOf(ProductVersionConflictException.class, error);
+                assertTrue(error.getMessage().endsWith("version 3"));
+            })
+            .verify();
+        verify(productRepository, times(ProductManagementService.MAX_WRITE_ATTEMPTS)).findById(productId);
+        verify(productRepository, times(ProductManagementService.MAX_WRITE_ATTEMPTS)).updateStatus(any(Product.class));
+        verifyNoInteractions(eventPublisher, statistics);
+    }
+
+    @Test
+    void shouldSignalConflictWhenVersionDoesNotMatch() {
+        // Given
+        when(productRepository.findById(productId))
+            .thenReturn(Mono.just(Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 3L)));
+
+        // When/Then
+        StepVerifier.create(service.activateProduct(productId, 2L))
+            .expectError(ProductVersionConflictException.class)
+            .verify();
+        verify(productRepository, never()).updateStatus(any());
+    }
+
+    @Test
+    void shouldDeleteProductWithSingleStatement() {
+        // Given
+        Product removed = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 1L);
+        when(productRepository.deleteById(productId, 1L)).thenReturn(Mono.just(removed));
+
+        // When/Then
+        StepVerifier.create(service.deleteProduct(productId, 1L))
+            .verifyComplete();
+        verify(productRepository, never()).findVersion(any());
+        verify(statistics).productRemoved(removed);
+        verify(eventPublisher).publishProductDeleted(productId);
+    }
+
+    @Test
+    void shouldDistinguishConflictFromMissingProductOnDelete() {
+        // Given
+        when(productRepository.deleteById(productId, 1L)).thenReturn(Mono.empty());
+        when(productRepository.findVersion(productId)).thenReturn(Mono.just(2L), Mono.empty());
+
+        // When/Then
+        StepVerifier.create(service.deleteProduct(productId, 1L))
+            .expectError(ProductVersionConflictException.class)
+            .verify();
+        StepVerifier.create(service.deleteProduct(productId, 1L))
+            .expectError(ProductNotFoundException.class)
+            .verify();
+        verifyNoInteractions(eventPublisher, statistics);
+    }
+
+    @Test
+    void shouldSearchProductsAndEncodeCursorForSort() {
+        // Given
+        Product first = Product.create(productId, "Test Product", new Money(10.0));
+        Product second = Product.create(new ProductId("018f3a5e-7c00-7000-8000-000000000456"), "Second Product", new Money(20.0));
+        ProductSearchQuery query = ProductSearchQuery.builder()
+            .status(ProductStatus.ACTIVE)
+            .minPrice(5.0)
+            .sort(ProductSort.PRICE_ASC)
+            .limit(1)
+            .build();
+        when(productRepository.findPage(any(ProductQuery.class))).thenReturn(Flux.just(first, second));
+        when(productMapper.toResponse(first)).thenReturn(productResponse);
+
+        // When/Then
+        StepVerifier.create(service.searchProducts(query))
+            .assertNext(page -> {
+                assertEquals(List.of(productResponse), page.getItems());
+                ProductCursor cursor = ProductCursor.decode(page.getNextCursor(), ProductSort.PRICE_ASC);
+                assertEquals(productId, cursor.id());
+                assertEquals(1_000, cursor.priceCents());
+            })
+            .verifyComplete();
+
+        ArgumentCaptor<ProductQuery> captor = ArgumentCaptor.forClass(ProductQuery.class);
+        verify(productRepository).findPage(captor.capture());
+        assertEquals(ProductStatus.ACTIVE, captor.getValue().getStatus());
+        assertEquals(new Money(5.0), captor.getValue().getMinPrice());
+        assertEquals(2, captor.getValue().getLimit());
+    }
+
+    @Test
+    void shouldSignalEmptyPriceRangeWithoutQuerying() {
+        // Given
+        ProductSearchQuery emptyRange = ProductSearchQuery.builder().minPrice(20.0).maxPrice(10.0).limit(10).build();
+
+        // When/Then
+        StepVerifier.create(service.searchProducts(emptyRange))
+            .expectError(InvalidProductException.class)
+            .verify();
+        verify(productRepository, never()).findPage(any(ProductQuery.class));
+    }
+
+    @Test
+    void shouldSearchByNameKeepingRelevanceOrder() {
+        // Given
+        ProductId otherId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        Product first = Product.create(otherId, "Gaming Mouse", new Money(10.0));
+        Product second = Product.create(productId, "Gaming Mousepad", new Money(20.0));
+        ProductResponse firstResponse = ProductResponse.builder().id(otherId.getValue()).build();
+        when(searchIndex.search("mouse", 10)).thenReturn(List.of(otherId, productId));
+        when(productRepository.findById(otherId)).thenReturn(Mono.just(first));
+        when(productRepository.findById(productId)).thenReturn(Mono.just(second));
+        when(productMapper.toResponse(first)).thenReturn(firstResponse);
+        when(productMapper.toResponse(second)).thenReturn(productResponse);
+
+        // When/Then
+        StepVerifier.create(service.searchProductsByName(" mouse ", 10))
+            .expectNext(firstResponse, productResponse)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectShortSearchText() {
+        // When/Then
+        StepVerifier.create(service.searchProductsByName("ab", 10))
+            .expectError(InvalidProductException.class)
+            .verify();
+        verifyNoInteractions(searchIndex);
+    }
+}
@@ -2,10 +2,13 @@ package br.com.lefranchi.hexagonal.demo.domain.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 
 import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 
@@ -140,4 +143,64 @@ class ProductTest {
         assertEquals(newPrice, product.getPrice());
         assertEquals(ProductStatus.INACTIVE, product.getStatus());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void shouldRestoreProductWithGivenStatus() {
+        // Given
+        ProductId id = ProductId.generate();
+        Money price = new Money(10.0);
+        
+        // When
+        Product product = Product.restore(id, "Test Product", price, ProductStatus.INACTIVE);
+        
+        // Then
+        assertEquals(id, product.getId());
+        assertEquals("Test Product", product.getName());
+        assertEquals(price, product.getPrice());
+        assertEquals(ProductStatus.INACTIVE, product.getStatus());
+    }
+    
+    @Test
+    void shouldAdvanceVersionOnEveryChange() {
+        // Given
+        Product product = Product.restore(ProductId.generate(), "Test Product", new Money(10.0), ProductStatus.ACTIVE, 7);
+        
+        // When
+        product.update("Renamed Product", null);
+        product.deactivate();
+        product.activate();
+        
+        // Then
+        assertEquals(10, product.getVersion());
+    }
+    
+    @Test
+    void shouldNotAdvanceVersionWhenActivationIsRejected() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Test Product", new Money(-10.0));
+        
+        // When
+        assertThrows(InvalidProductException.class, product::activate);
+        
+        // Then
+        assertEquals(0, product.getVersion());
+    }
+    
+    @Test
+    void shouldRepriceWithUpdateRules() {
+        // Given
+        Product raised = Product.restore(ProductId.generate(), "Test Product", new Money(10.05), ProductStatus.ACTIVE, 2);
+        Product lowered = Product.create(ProductId.generate(), "Test Product", new Money(3.0));
+        
+        // When
+        raised.reprice(PriceChange.percentage(new BigDecimal("10")));
+        lowered.reprice(PriceChange.amount(new Money(-5.0)));
+        
+        // Then
+        assertEquals(new Money(11.06), raised.getPrice());
+        assertEquals(ProductStatus.ACTIVE, raised.getStatus());
+        assertEquals(3, raised.getVersion());
+        assertEquals(new Money(-2.0), lowered.getPrice());
+        assertEquals(ProductStatus.INACTIVE, lowered.getStatus());
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.lefranchi.hexagonal.demo.domain.vo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void shouldRoundHalfUpToTwoDecimals() {
+        assertEquals(new BigDecimal("1.01"), new Money(1.005).getAmount());
+        assertEquals(new BigDecimal("2.68"), new Money(2.675).getAmount());
+        assertEquals(new BigDecimal("-0.13"), new Money(-0.125).getAmount());
+        assertEquals(new BigDecimal("19.99"), new Money(new BigDecimal("19.994")).getAmount());
+        assertEquals(new BigDecimal("20.00"), new Money(new BigDecimal("19.995")).getAmount());
+    }
+
+    @Test
+    void shouldMatchBigDecimalRoundingForDoubles() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            double amount = (random.nextLong(-100_000_000_000L, 100_000_000_000L)) / 1000.0;
+
+            // When
+            Money money = new Money(amount);
+
+            // Then
+            BigDecimal expected = BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, money.getAmount(), "amount " + amount);
+        }
+    }
+
+    @Test
+    void shouldConvertDecimalsWithAtMostTwoPlacesExactly() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            long cents = random.nextLong(-9_999_999_999L, 9_999_999_999L);
+            BigDecimal amount = BigDecimal.valueOf(cents, 2);
+
+            // When / Then
+            assertEquals(cents, new Money(amount).getCents(), "amount " + amount);
+        }
+        assertEquals(1500, new Money(BigDecimal.valueOf(15)).getCents());
+        assertEquals(-1200, new Money(new BigDecimal("-1.2E+1")).getCents());
+    }
+
+    @Test
+    void shouldBeEqualRegardlessOfSourceRepresentation() {
+        // Given
+        Money fromDouble = new Money(10.5);
+        Money fromDecimal = new Money(new BigDecimal("10.500"));
+        Money fromCents = Money.ofCents(1050);
+
+        // Then
+        assertEquals(fromDouble, fromDecimal);
+        assertEquals(fromDecimal, fromCents);
+        assertEquals(fromDouble.hashCode(), fromCents.hashCode());
+        assertEquals("10.50", fromCents.toString());
+    }
+
+    @Test
+    void shouldAddAndSubtractInCents() {
+        // Given
+        Money price = new Money(19.99);
+        Money discount = new Money(5.01);
+
+        // Then
+        assertEquals(new Money(25.00), price.add(discount));
+        assertEquals(new Money(14.98), price.subtract(discount));
+        assertTrue(discount.subtract(price).isLessThanZero());
+        assertTrue(price.compareTo(discount) > 0);
+    }
+
+    @Test
+    void shouldFailOnOverflow() {
+        // Given
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        // Then
+        assertThrows(ArithmeticException.class, () -> max.add(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).subtract(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> new Money(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void shouldMultiplyRoundingHalfUpToTheCent() {
+        // Given
+        SplittableRandom random = new SplittableRandom(11);
+
+        for (int i = 0; i < 10_000; i++) {
+            long cents = random.nextLong(-10_000_000L, 10_000_000L);
+            BigDecimal factor = BigDecimal.valueOf(random.nextLong(0, 30_000), 4);
+
+            // When
+            Money result = Money.ofCents(cents).multiply(factor);
+
+            // Then
+            BigDecimal expected = BigDecimal.valueOf(cents, 2).multiply(factor).setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, result.getAmount(), cents + " * " + factor);
+        }
+        assertEquals(new Money(11.06), new Money(10.05).multiply(new BigDecimal("1.1")));
+        assertEquals(new Money(-11.06), new Money(-10.05).multiply(new BigDecimal("1.1")));
+    }
+}
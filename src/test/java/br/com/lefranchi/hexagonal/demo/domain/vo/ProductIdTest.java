@@ -0,0 +1,70 @@
+package br.com.lefranchi.hexagonal.demo.domain.vo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+
+class ProductIdTest {
+
+    @Test
+    void shouldGenerateVersion7Identifiers() {
+        // When
+        ProductId id = ProductId.generate();
+
+        // Then
+        UUID uuid = id.toUuid();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(36, id.getValue().length());
+    }
+
+    @Test
+    void shouldGenerateStrictlyIncreasingIdentifiers() {
+        // Given
+        ProductId previous = ProductId.generate();
+
+        // When / Then
+        for (int i = 0; i < 10_000; i++) {
+            ProductId next = ProductId.generate();
+            assertTrue(next.compareTo(previous) > 0, next + " should sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldRoundTripTextualForm() {
+        // Given
+        ProductId generated = ProductId.generate();
+
+        // When
+        ProductId parsed = new ProductId(generated.getValue().toUpperCase());
+
+        // Then
+        assertEquals(generated, parsed);
+        assertEquals(generated.hashCode(), parsed.hashCode());
+        assertEquals(generated.getValue(), parsed.getValue());
+        assertEquals(generated.getMostSignificantBits(), parsed.getMostSignificantBits());
+        assertEquals(generated.getLeastSignificantBits(), parsed.getLeastSignificantBits());
+    }
+
+    @Test
+    void shouldOrderAsUnsignedBytes() {
+        // Given
+        ProductId low = new ProductId(0x7FFF_FFFF_FFFF_FFFFL, 0L);
+        ProductId high = new ProductId(0x8000_0000_0000_0000L, 0L);
+
+        // Then
+        assertTrue(low.compareTo(high) < 0);
+    }
+
+    @Test
+    void shouldRejectMalformedIdentifiers() {
+        assertThrows(InvalidProductException.class, () -> new ProductId("123"));
+        assertThrows(InvalidProductException.class, () -> new ProductId("not-a-uuid-but-thirty-six-characters"));
+        assertThrows(InvalidProductException.class, () -> new ProductId((String) null));
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf.ProductProtobufCodec;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf.ProductProtobufHttpMessageConverter;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+
+/**
+ * Content negotiation and response compression over a real HTTP connection, since MockMvc
+ * bypasses the compression done by Tomcat.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:negotiation-${random.uuid}",
+    "spring.jpa.show-sql=false"
+})
+class ProductContentNegotiationIntegrationTest {
+
+    private static final String PROTOBUF = ProductProtobufHttpMessageConverter.APPLICATION_PROTOBUF_VALUE;
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldCreateFromProtobufAndServeEveryFormat() throws Exception {
+        // Given
+        byte[] createBody = protobuf(output ->
+            ProductProtobufCodec.writeCreateProduct(new CreateProductRequest("Binary Product", 19.99), output));
+
+        // When
+        HttpResponse<byte[]> created = send(HttpRequest.newBuilder(uri("/api/products"))
+            .header(HttpHeaders.CONTENT_TYPE, PROTOBUF)
+            .header(HttpHeaders.ACCEPT, PROTOBUF)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(createBody)));
+
+        // Then
+        assertEquals(201, created.statusCode());
+        assertEquals(PROTOBUF, contentType(created));
+        ProductResponse product = ProductProtobufCodec.readProduct(CodedInputStream.newInstance(created.body()));
+        assertEquals("Binary Product", product.getName());
+        assertEquals("19.99", product.getPrice().toPlainString());
+        assertEquals("ACTIVE", product.getStatus());
+
+        String path = "/api/products/" + product.getId();
+        ProductResponse fromCbor = new CBORMapper().readValue(get(path, MediaType.APPLICATION_CBOR_VALUE).body(),
+            ProductResponse.class);
+        ProductResponse fromSmile = new SmileMapper().readValue(get(path, SMILE).body(), ProductResponse.class);
+        assertEquals(product.getId(), fromCbor.getId());
+        assertEquals(product.getPrice(), fromCbor.getPrice());
+        assertEquals(product.getId(), fromSmile.getId());
+        assertEquals(product.getName(), fromSmile.getName());
+
+        HttpResponse<byte[]> anything = get(path, MediaType.ALL_VALUE);
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, contentType(anything));
+        assertEquals(product.getId(), jsonMapper.readTree(anything.body()).get("id").asText());
+    }
+
+    @Test
+    void shouldServeListsAndErrorsAsProtobuf() throws Exception {
+        // Given
+        List<String> ids = createProducts(3, "Listed Product");
+
+        // When
+        HttpResponse<byte[]> list = get("/api/products?ids=" + String.join(",", ids), PROTOBUF);
+        HttpResponse<byte[]> missing = get("/api/products/018f3a5e-7c00-7000-8000-000000000999", PROTOBUF);
+
+        // Then
+        assertEquals(200, list.statusCode());
+        assertEquals(PROTOBUF, contentType(list));
+        List<ProductResponse> products = ProductProtobufCodec.readProducts(CodedInputStream.newInstance(list.body()));
+        assertEquals(ids, products.stream().map(ProductResponse::getId).toList());
+
+        assertEquals(404, missing.statusCode());
+        assertEquals(PROTOBUF, contentType(missing));
+    }
+
+    @Test
+    void shouldGzipLargeResponsesOnly() throws Exception {
+        // Given
+        List<String> ids = createProducts(100, "Compressed Product");
+
+        // When
+        HttpResponse<byte[]> list = send(HttpRequest.newBuilder(uri("/api/products?limit=100"))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .GET());
+        HttpResponse<byte[]> single = send(HttpRequest.newBuilder(uri("/api/products/" + ids.get(0)))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .GET());
+
+        // Then
+        assertEquals("gzip", list.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        List<ProductResponse> products = jsonMapper.readValue(gunzip(list.body()),
+            new TypeReference<List<ProductResponse>>() { });
+        assertEquals(100, products.size());
+
+        assertTrue(single.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertEquals(ids.get(0), jsonMapper.readTree(single.body()).get("id").asText());
+    }
+
+    private List<String> createProducts(int count, String prefix) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CreateProductRequest request = new CreateProductRequest(prefix + " " + i, 10.0 + i);
+            HttpResponse<byte[]> response = send(HttpRequest.newBuilder(uri("/api/products"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(request))));
+            assertEquals(201, response.statusCode());
+            ids.add(jsonMapper.readTree(response.body()).get("id").asText());
+        }
+        return ids;
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).header(HttpHeaders.ACCEPT, accept).GET());
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String contentType(HttpResponse<?> response) {
+        return response.headers().firstValue(HttpHeaders.CONTENT_TYPE)
+            .map(MediaType::parseMediaType)
+            .map(type -> type.getType() + "/" + type.getSubtype())
+            .orElse(null);
+    }
+
+    private static byte[] protobuf(ProtobufWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+            writer.write(output);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ProtobufWriter {
+        void write(CodedOutputStream output) throws IOException;
+    }
+}
@@ -1,21 +1,34 @@
 package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,6 +50,49 @@ class ProductControllerIntegrationTest {
     @Autowired
     private SpringDataProductRepository productRepository;
 
+    @Test
+    void shouldHonorConditionalRequestsByVersion() throws Exception {
+        // Given
+        String productJson = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateProductRequest("Versioned Product", 10.0))))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String productId = objectMapper.readTree(productJson).get("id").asText();
+        UpdateProductRequest updateRequest = new UpdateProductRequest("Renamed Product", null);
+
+        // When/Then
+        mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.version", is(1)));
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name", is("Renamed Product")));
+
+        mockMvc.perform(delete("/api/products/{id}", productId).header(HttpHeaders.IF_MATCH, "\"0\""))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/products/{id}", productId).header(HttpHeaders.IF_MATCH, "\"1\""))
+            .andExpect(status().isNoContent());
+    }
+
     @Test
     void shouldCreateAndRetrieveProduct() throws Exception {
         // First, create a product
@@ -65,6 +121,47 @@ class ProductControllerIntegrationTest {
             .andExpect(jsonPath("$.status", is("ACTIVE")));
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldCreateProductsInBatch() throws Exception {
+        // Each chunk of the batch commits in its own transaction
+        try {
+            createProductsInBatch();
+        } finally {
+            productRepository.deleteAll();
+        }
+    }
+
+    private void createProductsInBatch() throws Exception {
+        List<CreateProductRequest> requests = List.of(
+            new CreateProductRequest("Batch Product 1", 10.0),
+            new CreateProductRequest("", 20.0),
+            new CreateProductRequest("Batch Product 3", -5.0)
+        );
+        
+        String resultsJson = mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$[0].status", is("CREATED")))
+            .andExpect(jsonPath("$[1].status", is("FAILED")))
+            .andExpect(jsonPath("$[1].error", is("Product name cannot be empty")))
+            .andExpect(jsonPath("$[2].status", is("CREATED")))
+            .andExpect(jsonPath("$[2].product.status", is("INACTIVE")))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        
+        // The created products are persisted
+        String productId = objectMapper.readTree(resultsJson).get(0).get("product").get("id").asText();
+        mockMvc.perform(get("/api/products/{id}", productId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name", is("Batch Product 1")));
+        
+        assertEquals(2, productRepository.count());
+    }
+
     @Test
     void shouldReturnAllProducts() throws Exception {
         // Create a couple of products first
@@ -82,8 +179,89 @@ class ProductControllerIntegrationTest {
         mockMvc.perform(get("/api/products"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$", hasSize(2)))
-            .andExpect(jsonPath("$[0].name", is("Product 1")))
-            .andExpect(jsonPath("$[1].name", is("Product 2")));
+            .andExpect(jsonPath("$[*].name", containsInAnyOrder("Product 1", "Product 2")));
+    }
+
+    @Test
+    void shouldPaginateProductsWithCursor() throws Exception {
+        // Create three products
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/api/products")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new CreateProductRequest("Product " + i, 10.0 * i))))
+                .andExpect(status().isCreated());
+        }
+        
+        // First page holds two products and points to the next one
+        MvcResult firstPage = mockMvc.perform(get("/api/products").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(header().exists(ProductController.NEXT_CURSOR_HEADER))
+            .andReturn();
+        
+        String cursor = firstPage.getResponse().getHeader(ProductController.NEXT_CURSOR_HEADER);
+        
+        // Second page holds the remaining product and has no next cursor
+        MvcResult secondPage = mockMvc.perform(get("/api/products").param("limit", "2").param("cursor", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(header().doesNotExist(ProductController.NEXT_CURSOR_HEADER))
+            .andReturn();
+        
+        List<String> ids = new ArrayList<>();
+        objectMapper.readTree(firstPage.getResponse().getContentAsString()).forEach(node -> ids.add(node.get("id").asText()));
+        objectMapper.readTree(secondPage.getResponse().getContentAsString()).forEach(node -> ids.add(node.get("id").asText()));
+        
+        assertEquals(3, new HashSet<>(ids).size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldStreamAllProductsAsNdjson() throws Exception {
+        // The stream is written on an async thread, so the products must be committed
+        try {
+            streamAllProductsAsNdjson();
+        } finally {
+            productRepository.deleteAll();
+        }
+    }
+
+    private void streamAllProductsAsNdjson() throws Exception {
+        // Create a couple of products first
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateProductRequest("Product 1", 10.0))))
+            .andExpect(status().isCreated());
+            
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateProductRequest("Product 2", 20.0))))
+            .andExpect(status().isCreated());
+        
+        // Then stream the whole catalog
+        MvcResult result = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        
+        List<String> names = body.lines()
+            .map(line -> {
+                try {
+                    return objectMapper.readTree(line).get("name").asText();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            })
+            .toList();
+        
+        assertEquals(2, names.size());
+        assertTrue(names.containsAll(List.of("Product 1", "Product 2")));
     }
 
     @Test
@@ -2,36 +2,61 @@ package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductBatchItemResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
 import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.RepriceJobResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
 import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
 import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.RepriceJobNotResumableException;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.BulkStatusRequest;
 import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.RepriceRequest;
 import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
 
 @WebMvcTest(ProductController.class)
@@ -51,13 +76,14 @@ class ProductControllerTest {
 
     @BeforeEach
     void setUp() {
-        productId = new ProductId("123");
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
         
         productResponse = ProductResponse.builder()
             .id(productId.getValue())
             .name("Test Product")
             .price(BigDecimal.valueOf(10.0))
             .status(ProductStatus.ACTIVE.name())
+            .version(3)
             .build();
     }
 
@@ -92,6 +118,45 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.message", is("Invalid product data")));
     }
 
+    @Test
+    void shouldCreateProductsInBatch() throws Exception {
+        // Given
+        List<CreateProductRequest> requests = List.of(
+            new CreateProductRequest("Test Product", 10.0),
+            new CreateProductRequest("", 20.0)
+        );
+        when(productManagement.createProducts(any())).thenReturn(List.of(
+            ProductBatchItemResponse.builder().index(0).status(ProductBatchItemResponse.CREATED).product(productResponse).build(),
+            ProductBatchItemResponse.builder().index(1).status(ProductBatchItemResponse.FAILED).error("Product name cannot be empty").build()
+        ));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].status", is(ProductBatchItemResponse.CREATED)))
+            .andExpect(jsonPath("$[0].product.id", is(productId.getValue())))
+            .andExpect(jsonPath("$[1].status", is(ProductBatchItemResponse.FAILED)))
+            .andExpect(jsonPath("$[1].error", is("Product name cannot be empty")));
+    }
+
+    @Test
+    void shouldReturnCreatedWhenWholeBatchSucceeds() throws Exception {
+        // Given
+        when(productManagement.createProducts(any())).thenReturn(List.of(
+            ProductBatchItemResponse.builder().index(0).status(ProductBatchItemResponse.CREATED).product(productResponse).build()
+        ));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(new CreateProductRequest("Test Product", 10.0)))))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$[0].index", is(0)));
+    }
+
     @Test
     void shouldGetProduct() throws Exception {
         // Given
@@ -103,7 +168,54 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.id", is(productId.getValue())))
             .andExpect(jsonPath("$.name", is("Test Product")))
             .andExpect(jsonPath("$.price", is(10.0)))
-            .andExpect(jsonPath("$.status", is(ProductStatus.ACTIVE.name())));
+            .andExpect(jsonPath("$.status", is(ProductStatus.ACTIVE.name())))
+            .andExpect(jsonPath("$.version", is(3)))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    void shouldGetManyProductsByIdInOneCall() throws Exception {
+        // Given
+        ProductId otherId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        when(productManagement.findProducts(List.of(productId, otherId))).thenReturn(List.of(productResponse));
+
+        // When/Then
+        mockMvc.perform(get("/api/products")
+                .param("ids", productId.getValue() + "," + otherId.getValue()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", is(1)))
+            .andExpect(jsonPath("$[0].id", is(productId.getValue())));
+
+        verify(productManagement, never()).searchProducts(any());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingProductWhenETagMatches() throws Exception {
+        // Given
+        when(productManagement.findProductVersion(productId)).thenReturn(3L);
+
+        // When/Then
+        mockMvc.perform(get("/api/products/{id}", productId.getValue())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(content().string(""));
+
+        verify(productManagement, never()).findProduct(any());
+    }
+
+    @Test
+    void shouldReturnProductWhenETagIsStale() throws Exception {
+        // Given
+        when(productManagement.findProductVersion(productId)).thenReturn(3L);
+        when(productManagement.findProduct(productId)).thenReturn(productResponse);
+
+        // When/Then
+        mockMvc.perform(get("/api/products/{id}", productId.getValue())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(jsonPath("$.id", is(productId.getValue())));
     }
 
     @Test
@@ -118,32 +230,179 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.message", is("Product not found with id: " + productId.getValue())));
     }
 
+    @Test
+    void shouldRejectMalformedProductId() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/products/{id}", "123"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", is("Invalid product id: 123")));
+    }
+
     @Test
     void shouldGetAllProducts() throws Exception {
         // Given
         ProductResponse anotherProduct = ProductResponse.builder()
-            .id("456")
+            .id("018f3a5e-7c00-7000-8000-000000000456")
             .name("Another Product")
             .price(BigDecimal.valueOf(20.0))
             .status(ProductStatus.ACTIVE.name())
             .build();
             
-        when(productManagement.findAllProducts()).thenReturn(List.of(productResponse, anotherProduct));
+        when(productManagement.searchProducts(argThat(query -> query.getCursor() == null
+                && query.getSort() == ProductSort.ID && query.getLimit() == ProductController.DEFAULT_PAGE_SIZE)))
+            .thenReturn(new ProductPageResponse(List.of(productResponse, anotherProduct), null));
 
         // When/Then
         mockMvc.perform(get("/api/products"))
             .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(ProductController.NEXT_CURSOR_HEADER))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].id", is(productId.getValue())))
             .andExpect(jsonPath("$[0].name", is("Test Product")))
             .andExpect(jsonPath("$[0].price", is(10.0)))
             .andExpect(jsonPath("$[0].status", is(ProductStatus.ACTIVE.name())))
-            .andExpect(jsonPath("$[1].id", is("456")))
+            .andExpect(jsonPath("$[1].id", is("018f3a5e-7c00-7000-8000-000000000456")))
             .andExpect(jsonPath("$[1].name", is("Another Product")))
             .andExpect(jsonPath("$[1].price", is(20.0)))
             .andExpect(jsonPath("$[1].status", is(ProductStatus.ACTIVE.name())));
     }
 
+    @Test
+    void shouldGetProductsPageAfterCursor() throws Exception {
+        // Given
+        when(productManagement.searchProducts(argThat(query ->
+                "018f3a5e-7c00-7000-8000-000000000100".equals(query.getCursor()) && query.getLimit() == 1)))
+            .thenReturn(new ProductPageResponse(List.of(productResponse), productId.getValue()));
+
+        // When/Then
+        mockMvc.perform(get("/api/products").param("cursor", "018f3a5e-7c00-7000-8000-000000000100").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ProductController.NEXT_CURSOR_HEADER, productId.getValue()))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(productId.getValue())));
+    }
+
+    @Test
+    void shouldClampPageSizeToMaximum() throws Exception {
+        // Given
+        when(productManagement.searchProducts(argThat(query -> query.getLimit() == ProductController.MAX_PAGE_SIZE)))
+            .thenReturn(new ProductPageResponse(List.of(productResponse), null));
+
+        // When/Then
+        mockMvc.perform(get("/api/products").param("limit", "1000000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void shouldPassFiltersAndSortToSearch() throws Exception {
+        // Given
+        when(productManagement.searchProducts(argThat(query -> query.getStatus() == ProductStatus.ACTIVE
+                && query.getMinPrice() == 5.0 && query.getMaxPrice() == 50.0
+                && "Test".equals(query.getNamePrefix()) && query.getSort() == ProductSort.PRICE_DESC)))
+            .thenReturn(new ProductPageResponse(List.of(productResponse), "next"));
+
+        // When/Then
+        mockMvc.perform(get("/api/products")
+                .param("status", "ACTIVE")
+                .param("minPrice", "5")
+                .param("maxPrice", "50")
+                .param("namePrefix", "Test")
+                .param("sort", "-price"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ProductController.NEXT_CURSOR_HEADER, "next"))
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void shouldRejectUnknownSortAndStatus() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/api/products").param("sort", "weight"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("status", "ARCHIVED"))
+            .andExpect(status().isBadRequest());
+        verify(productManagement, never()).searchProducts(any());
+    }
+
+    @Test
+    void shouldSearchProductsByName() throws Exception {
+        // Given
+        when(productManagement.searchProductsByName("test prodcut", ProductController.DEFAULT_SEARCH_SIZE))
+            .thenReturn(List.of(productResponse));
+
+        // When/Then
+        mockMvc.perform(get("/api/products/search").param("q", "test prodcut"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(productId.getValue())));
+    }
+
+    @Test
+    void shouldClampSearchSizeAndRejectShortText() throws Exception {
+        // Given
+        when(productManagement.searchProductsByName("ab", ProductController.MAX_SEARCH_SIZE))
+            .thenThrow(new InvalidProductException("Search text must have at least 3 characters"));
+
+        // When/Then
+        mockMvc.perform(get("/api/products/search").param("q", "ab").param("limit", "5000"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnStatistics() throws Exception {
+        // Given
+        when(productManagement.getStatistics()).thenReturn(ProductStatisticsResponse.builder()
+            .total(3)
+            .countsByStatus(Map.of("ACTIVE", 2L, "INACTIVE", 1L))
+            .priceSum(new BigDecimal("30.00"))
+            .priceAverage(new BigDecimal("10.00"))
+            .minPrice(new BigDecimal("5.00"))
+            .maxPrice(new BigDecimal("20.00"))
+            .build());
+
+        // When/Then
+        mockMvc.perform(get("/api/products/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(3)))
+            .andExpect(jsonPath("$.countsByStatus.INACTIVE", is(1)))
+            .andExpect(jsonPath("$.priceAverage", is(10.0)))
+            .andExpect(jsonPath("$.maxPrice", is(20.0)));
+    }
+
+    @Test
+    void shouldStreamAllProductsAsNdjson() throws Exception {
+        // Given
+        ProductResponse anotherProduct = ProductResponse.builder()
+            .id("018f3a5e-7c00-7000-8000-000000000456")
+            .name("Another Product")
+            .price(BigDecimal.valueOf(20.0))
+            .status(ProductStatus.ACTIVE.name())
+            .build();
+
+        when(productManagement.findProductsPage(isNull(), eq(ProductController.STREAM_PAGE_SIZE)))
+            .thenReturn(new ProductPageResponse(List.of(productResponse), productId.getValue()));
+        when(productManagement.findProductsPage(eq(productId), eq(ProductController.STREAM_PAGE_SIZE)))
+            .thenReturn(new ProductPageResponse(List.of(anotherProduct), null));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(productId.getValue(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("018f3a5e-7c00-7000-8000-000000000456", objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
     @Test
     void shouldUpdateProduct() throws Exception {
         // Given
@@ -156,7 +415,7 @@ class ProductControllerTest {
             .status(ProductStatus.ACTIVE.name())
             .build();
             
-        when(productManagement.updateProduct(any(ProductId.class), any())).thenReturn(updatedResponse);
+        when(productManagement.updateProduct(any(ProductId.class), any(), isNull())).thenReturn(updatedResponse);
 
         // When/Then
         mockMvc.perform(put("/api/products/{id}", productId.getValue())
@@ -169,18 +428,81 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.status", is(ProductStatus.ACTIVE.name())));
     }
 
+    @Test
+    void shouldPassIfMatchVersionToUpdate() throws Exception {
+        // Given
+        UpdateProductRequest request = new UpdateProductRequest("Updated Product", 20.0);
+        ProductResponse updatedResponse = ProductResponse.builder()
+            .id(productId.getValue())
+            .name("Updated Product")
+            .price(BigDecimal.valueOf(20.0))
+            .status(ProductStatus.ACTIVE.name())
+            .version(4)
+            .build();
+        when(productManagement.updateProduct(eq(productId), any(), eq(3L))).thenReturn(updatedResponse);
+
+        // When/Then
+        mockMvc.perform(put("/api/products/{id}", productId.getValue())
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedOnVersionConflict() throws Exception {
+        // Given
+        UpdateProductRequest request = new UpdateProductRequest("Updated Product", 20.0);
+        when(productManagement.updateProduct(eq(productId), any(), eq(2L)))
+            .thenThrow(new ProductVersionConflictException(productId, 2L));
+
+        // When/Then
+        mockMvc.perform(put("/api/products/{id}", productId.getValue())
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.status", is(412)));
+    }
+
+    @Test
+    void shouldNeverMatchWeakETagOnIfMatch() throws Exception {
+        // When
+        mockMvc.perform(delete("/api/products/{id}", productId.getValue())
+                .header(HttpHeaders.IF_MATCH, "W/\"3\""))
+            .andExpect(status().isNoContent());
+
+        // Then
+        verify(productManagement).deleteProduct(productId, ProductETag.NO_MATCH);
+    }
+
+    @Test
+    void shouldTreatWildcardIfMatchAsAnyVersion() throws Exception {
+        // Given
+        when(productManagement.activateProduct(productId, null)).thenReturn(productResponse);
+
+        // When/Then
+        mockMvc.perform(patch("/api/products/{id}/activate", productId.getValue())
+                .header(HttpHeaders.IF_MATCH, "*"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
     @Test
     void shouldDeleteProduct() throws Exception {
         // When/Then
         mockMvc.perform(delete("/api/products/{id}", productId.getValue()))
             .andExpect(status().isNoContent());
+
+        verify(productManagement).deleteProduct(productId, null);
     }
 
     @Test
     void shouldReturnNotFoundWhenDeletingNonExistentProduct() throws Exception {
         // Given
         doThrow(new ProductNotFoundException(productId))
-            .when(productManagement).deleteProduct(any(ProductId.class));
+            .when(productManagement).deleteProduct(any(ProductId.class), isNull());
 
         // When/Then
         mockMvc.perform(delete("/api/products/{id}", productId.getValue()))
@@ -191,7 +513,7 @@ class ProductControllerTest {
     @Test
     void shouldActivateProduct() throws Exception {
         // Given
-        when(productManagement.activateProduct(any(ProductId.class))).thenReturn(productResponse);
+        when(productManagement.activateProduct(any(ProductId.class), isNull())).thenReturn(productResponse);
 
         // When/Then
         mockMvc.perform(patch("/api/products/{id}/activate", productId.getValue()))
@@ -205,7 +527,7 @@ class ProductControllerTest {
     @Test
     void shouldReturnBadRequestWhenActivatingProductWithNegativePrice() throws Exception {
         // Given
-        when(productManagement.activateProduct(any(ProductId.class)))
+        when(productManagement.activateProduct(any(ProductId.class), isNull()))
             .thenThrow(new InvalidProductException("Cannot activate product with negative price"));
 
         // When/Then
@@ -224,7 +546,7 @@ class ProductControllerTest {
             .status(ProductStatus.INACTIVE.name())
             .build();
             
-        when(productManagement.deactivateProduct(any(ProductId.class))).thenReturn(deactivatedResponse);
+        when(productManagement.deactivateProduct(any(ProductId.class), isNull())).thenReturn(deactivatedResponse);
 
         // When/Then
         mockMvc.perform(patch("/api/products/{id}/deactivate", productId.getValue()))
@@ -234,4 +556,101 @@ class ProductControllerTest {
             .andExpect(jsonPath("$.price", is(10.0)))
             .andExpect(jsonPath("$.status", is(ProductStatus.INACTIVE.name())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldActivateProductsInBulkByFilter() throws Exception {
+        // Given
+        BulkStatusRequest request = new BulkStatusRequest(null, ProductStatus.INACTIVE, 5.0, null);
+        when(productManagement.activateProducts(any())).thenReturn(new BulkStatusResponse(120, 3));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/bulk/activate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(120)))
+            .andExpect(jsonPath("$.rejected", is(3)));
+        verify(productManagement).activateProducts(argThat(command ->
+            command.getIds() == null
+                && command.getStatus() == ProductStatus.INACTIVE
+                && command.getMinPrice() == 5.0
+                && command.getMaxPrice() == null));
+    }
+
+    @Test
+    void shouldAcceptRepricingAndReportProgress() throws Exception {
+        // Given
+        String jobId = UUID.randomUUID().toString();
+        RepriceRequest request = new RepriceRequest(ProductStatus.ACTIVE, null, 100.0, new BigDecimal("-10"), null);
+        when(productManagement.startRepricing(any())).thenReturn(RepriceJobResponse.builder()
+            .id(jobId)
+            .state("RUNNING")
+            .total(2000)
+            .build());
+        when(productManagement.findRepriceJob(jobId)).thenReturn(RepriceJobResponse.builder()
+            .id(jobId)
+            .state("RUNNING")
+            .total(2000)
+            .processed(500)
+            .progress(0.25)
+            .productsPerSecond(12500.0)
+            .build());
+
+        // When/Then
+        mockMvc.perform(post("/api/products/reprice")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id", is(jobId)))
+            .andExpect(jsonPath("$.state", is("RUNNING")));
+        verify(productManagement).startRepricing(argThat(command ->
+            command.getStatus() == ProductStatus.ACTIVE
+                && command.getMaxPrice() == 100.0
+                && new BigDecimal("-10").equals(command.getPercentage())
+                && command.getAmount() == null));
+
+        mockMvc.perform(get("/api/products/reprice/{jobId}", jobId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.processed", is(500)))
+            .andExpect(jsonPath("$.progress", is(0.25)));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownRepriceJob() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        when(productManagement.resumeRepricing(jobId.toString())).thenThrow(new RepriceJobNotFoundException(jobId));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/reprice/{jobId}/resume", jobId))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnConflictForRepriceJobStoppedMidChunk() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        when(productManagement.resumeRepricing(jobId.toString()))
+            .thenThrow(new RepriceJobNotResumableException(jobId));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/reprice/{jobId}/resume", jobId))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldDeactivateProductsInBulkById() throws Exception {
+        // Given
+        BulkStatusRequest request = new BulkStatusRequest(List.of(productId.getValue()), null, null, null);
+        when(productManagement.deactivateProducts(any())).thenReturn(new BulkStatusResponse(1, 0));
+
+        // When/Then
+        mockMvc.perform(post("/api/products/bulk/deactivate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(1)));
+        verify(productManagement).deactivateProducts(argThat(command ->
+            command.getIds().equals(List.of(productId.getValue()))));
+    }
+}
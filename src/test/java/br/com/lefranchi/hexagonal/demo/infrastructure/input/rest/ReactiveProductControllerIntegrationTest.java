@@ -0,0 +1,285 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+
+/**
+ * The product routes served by WebFlux and the R2DBC adapter, over HTTP on Netty.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive-${random.uuid}",
+    "spring.jpa.show-sql=false",
+    "spring.main.web-application-type=reactive"
+})
+@ActiveProfiles("reactive")
+class ReactiveProductControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldHonorConditionalRequestsByVersion() {
+        // Given
+        JsonNode created = webTestClient.post().uri("/api/products")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateProductRequest("Versioned Product", 10.0))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+            .expectBody(JsonNode.class)
+            .returnResult()
+            .getResponseBody();
+        String productId = created.get("id").asText();
+        UpdateProductRequest updateRequest = new UpdateProductRequest("Renamed Product", null);
+
+        // When/Then
+        webTestClient.get().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+            .exchange()
+            .expectStatus().isNotModified();
+
+        webTestClient.put().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(updateRequest)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+            .expectBody().jsonPath("$.version").isEqualTo(1);
+
+        webTestClient.put().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(updateRequest)
+            .exchange()
+            .expectStatus().isEqualTo(412);
+
+        webTestClient.get().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.name").isEqualTo("Renamed Product");
+
+        webTestClient.delete().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .exchange()
+            .expectStatus().isEqualTo(412);
+
+        webTestClient.delete().uri("/api/products/{id}", productId)
+            .header(HttpHeaders.IF_MATCH, "\"1\"")
+            .exchange()
+            .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/products/{id}", productId)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldCreateProductsInBatch() {
+        // Given
+        List<CreateProductRequest> requests = List.of(
+            new CreateProductRequest("Batch Product 1", 10.0),
+            new CreateProductRequest("", 20.0),
+            new CreateProductRequest("Batch Product 3", 30.0)
+        );
+
+        // When/Then
+        webTestClient.post().uri("/api/products/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requests)
+            .exchange()
+            .expectStatus().isEqualTo(207)
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(3)
+            .jsonPath("$[0].status").isEqualTo("CREATED")
+            .jsonPath("$[0].product.name").isEqualTo("Batch Product 1")
+            .jsonPath("$[1].status").isEqualTo("FAILED")
+            .jsonPath("$[2].status").isEqualTo("CREATED")
+            .jsonPath("$[2].product.price").isEqualTo(30.0);
+    }
+
+    @Test
+    void shouldPaginateProductsWithCursor() {
+        // Given
+        createProducts(5);
+        Set<String> ids = new HashSet<>();
+        String cursor = null;
+
+        // When
+        do {
+            String uri = cursor == null ? "/api/products?limit=2" : "/api/products?limit=2&cursor=" + cursor;
+            var result = webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult();
+            JsonNode page = result.getResponseBody();
+            assertTrue(page.size() <= 2);
+            page.forEach(item -> assertTrue(ids.add(item.get("id").asText()), "duplicate product across pages"));
+            cursor = result.getResponseHeaders().getFirst(ProductController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        // Then
+        assertTrue(ids.size() >= 5);
+    }
+
+    @Test
+    void shouldFilterAndSortProductsAcrossPages() {
+        // Given
+        String prefix = "Filtered " + UUID.randomUUID() + " ";
+        List<CreateProductRequest> requests = List.of(
+            new CreateProductRequest(prefix + "A", 30.0),
+            new CreateProductRequest(prefix + "B", 5.0),
+            new CreateProductRequest(prefix + "C", 20.0),
+            new CreateProductRequest(prefix + "D", 40.0),
+            new CreateProductRequest("Other " + prefix, 25.0));
+        webTestClient.post().uri("/api/products/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requests)
+            .exchange()
+            .expectStatus().isCreated();
+        List<Double> prices = new ArrayList<>();
+        String cursor = null;
+
+        // When
+        do {
+            String next = cursor;
+            var result = webTestClient.get()
+                .uri(builder -> builder.path("/api/products")
+                    .queryParam("namePrefix", prefix)
+                    .queryParam("minPrice", 10)
+                    .queryParam("sort", "-price")
+                    .queryParam("limit", 2)
+                    .queryParamIfPresent("cursor", Optional.ofNullable(next))
+                    .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult();
+            result.getResponseBody().forEach(item -> prices.add(item.get("price").asDouble()));
+            cursor = result.getResponseHeaders().getFirst(ProductController.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        // Then
+        assertEquals(List.of(40.0, 30.0, 20.0), prices);
+    }
+
+    @Test
+    void shouldRejectUnsupportedSort() {
+        // When/Then
+        webTestClient.get().uri("/api/products?sort=color")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldStreamAllProductsAsNdjson() {
+        // Given
+        List<String> createdIds = createProducts(ProductController.STREAM_PAGE_SIZE + 20);
+
+        // When
+        List<JsonNode> streamed = webTestClient.get().uri("/api/products")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(JsonNode.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+
+        // Then
+        Set<String> streamedIds = new HashSet<>();
+        streamed.forEach(item -> assertTrue(streamedIds.add(item.get("id").asText()), "duplicate product in stream"));
+        assertTrue(streamedIds.containsAll(createdIds));
+    }
+
+    @Test
+    void shouldActivateAndDeactivateProduct() {
+        // Given
+        String productId = createProducts(1).get(0);
+
+        // When/Then
+        webTestClient.patch().uri("/api/products/{id}/deactivate", productId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.status").isEqualTo("INACTIVE");
+
+        webTestClient.patch().uri("/api/products/{id}/activate", productId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
+            .expectBody().jsonPath("$.status").isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void shouldFailToActivateProductWithNegativePrice() {
+        // Given
+        String productId = webTestClient.post().uri("/api/products")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateProductRequest("Negative Product", -10.0))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(JsonNode.class)
+            .returnResult()
+            .getResponseBody()
+            .get("id").asText();
+
+        // When/Then
+        webTestClient.patch().uri("/api/products/{id}/activate", productId)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.message").isEqualTo("Cannot activate product with negative price");
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() {
+        // When/Then
+        webTestClient.get().uri("/api/products?limit=abc")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    private List<String> createProducts(int count) {
+        List<CreateProductRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new CreateProductRequest("Reactive Product " + i, 10.0 + i));
+        }
+        JsonNode created = webTestClient.post().uri("/api/products/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requests)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(JsonNode.class)
+            .returnResult()
+            .getResponseBody();
+        List<String> ids = new ArrayList<>(count);
+        created.forEach(item -> ids.add(item.get("product").get("id").asText()));
+        return ids;
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ReactiveProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductPageResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductControllerTest {
+
+    private static final int PAGES = 10;
+
+    @Mock
+    private ReactiveProductManagementUseCase productManagement;
+
+    @InjectMocks
+    private ReactiveProductController controller;
+
+    @Test
+    void shouldFetchStreamPagesOnlyAsTheClientConsumes() {
+        // Given
+        AtomicInteger pagesServed = new AtomicInteger();
+        when(productManagement.findProductsPage(any(), anyInt()))
+            .thenAnswer(invocation -> Mono.fromSupplier(() -> page(pagesServed.getAndIncrement())));
+
+        // When/Then
+        StepVerifier.create(controller.streamAllProducts(), 1)
+            .expectNextCount(1)
+            .thenAwait()
+            .then(() -> verify(productManagement, atMost(2)).findProductsPage(any(), anyInt()))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount((long) PAGES * ProductController.STREAM_PAGE_SIZE - 1)
+            .verifyComplete();
+        verify(productManagement).findProductsPage(isNull(), anyInt());
+        verify(productManagement, times(PAGES)).findProductsPage(any(), anyInt());
+    }
+
+    private static ProductPageResponse page(int index) {
+        List<ProductResponse> items = new ArrayList<>(ProductController.STREAM_PAGE_SIZE);
+        for (int i = 0; i < ProductController.STREAM_PAGE_SIZE; i++) {
+            items.add(ProductResponse.builder().id("product-" + index + "-" + i).build());
+        }
+        String nextCursor = index + 1 < PAGES ? new ProductId(0L, index + 1L).getValue() : null;
+        return ProductPageResponse.builder()
+            .items(items)
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+
+/**
+ * Product reads by ID served from the serialized response cache, and its invalidation by writes.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:response-cache-${random.uuid}",
+    "spring.jpa.show-sql=false",
+    "product.response-cache.enabled=true"
+})
+@AutoConfigureMockMvc
+class ProductResponseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductResponseCache responseCache;
+
+    @Test
+    void shouldServeRepeatedReadsFromCachedBytesUntilUpdated() throws Exception {
+        // Given
+        String productId = createProduct("Cached Product");
+        long hits = responseCache.getHits();
+        long misses = responseCache.getMisses();
+
+        // When
+        byte[] first = mockMvc.perform(get("/api/products/{id}", productId))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] second = mockMvc.perform(get("/api/products/{id}", productId).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateProductRequest("Renamed Product", null))))
+            .andExpect(status().isOk());
+
+        // Then
+        assertArrayEquals(first, second);
+        assertEquals("Cached Product", objectMapper.readTree(second).get("name").asText());
+        assertEquals(hits + 1, responseCache.getHits());
+        assertEquals(misses + 1, responseCache.getMisses());
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.name", is("Renamed Product")));
+        assertTrue(responseCache.getBytes() > 0);
+    }
+
+    @Test
+    void shouldNegotiateOtherFormatsWithoutTheCache() throws Exception {
+        // Given
+        String productId = createProduct("Binary Product");
+        long hits = responseCache.getHits();
+        long misses = responseCache.getMisses();
+
+        // When/Then
+        mockMvc.perform(get("/api/products/{id}", productId).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/products/{id}", "018f3a5e-7c00-7000-8000-000000000999"))
+            .andExpect(status().isNotFound());
+
+        assertEquals(hits, responseCache.getHits());
+        assertEquals(misses, responseCache.getMisses());
+    }
+
+    private String createProduct(String name) throws Exception {
+        String json = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateProductRequest(name, 10.0))))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json).get("id").asText();
+    }
+}
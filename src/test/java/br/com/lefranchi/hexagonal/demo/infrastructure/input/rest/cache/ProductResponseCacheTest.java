@@ -0,0 +1,123 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+class ProductResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ProductResponseCache cache;
+    private ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductResponseCache(objectMapper, 1024 * 1024);
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+    }
+
+    @Test
+    void shouldServeBytesOnlyForTheCachedVersion() throws Exception {
+        // Given
+        ProductResponseCache.Entry loaded = cache.load(productId, () -> response(3));
+
+        // When
+        byte[] sameVersion = cache.get(productId, 3);
+        byte[] newerVersion = cache.get(productId, 4);
+
+        // Then
+        assertSame(loaded.json(), sameVersion);
+        assertEquals(3, objectMapper.readTree(sameVersion).get("version").asLong());
+        assertNull(newerVersion);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRatio());
+        assertEquals(loaded.json().length + ProductResponseCache.ENTRY_OVERHEAD_BYTES, cache.getBytes());
+    }
+
+    @Test
+    void shouldKeepNewerEntryLoadedConcurrently() {
+        // Given
+        cache.load(productId, () -> response(5));
+
+        // When
+        ProductResponseCache.Entry stale = cache.load(productId, () -> response(4));
+
+        // Then
+        assertEquals(4, stale.version());
+        assertNotNull(cache.get(productId, 5));
+        assertNull(cache.get(productId, 4));
+    }
+
+    @Test
+    void shouldDropEntriesOnInvalidation() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.load(productId, () -> {
+            loads.incrementAndGet();
+            return response(0);
+        });
+
+        // When
+        cache.invalidate(productId);
+
+        // Then
+        assertNull(cache.get(productId, 0));
+        assertEquals(0, cache.getSize());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldStayWithinMaximumBytes() {
+        // Given
+        cache = new ProductResponseCache(objectMapper, 10 * 1024);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            ProductId id = new ProductId(0x018f3a5e7c007000L, 0x8000000000000000L | i);
+            cache.load(id, () -> response(id, 0));
+        }
+
+        // Then
+        assertTrue(cache.getBytes() <= 10 * 1024);
+        assertTrue(cache.getEvictions() > 0);
+    }
+
+    @Test
+    void shouldEstimateAllocationSavedByHits() {
+        // Given
+        cache.load(productId, () -> response(1));
+
+        // When
+        cache.get(productId, 1);
+        cache.get(productId, 1);
+
+        // Then
+        assertTrue(cache.getAllocatedBytesPerMiss() > 0);
+        assertEquals(2 * cache.getAllocatedBytesPerMiss(), cache.getSavedAllocatedBytes());
+    }
+
+    private ProductResponse response(long version) {
+        return response(productId, version);
+    }
+
+    private static ProductResponse response(ProductId id, long version) {
+        return ProductResponse.builder()
+            .id(id.getValue())
+            .name("Cached Product")
+            .price(new BigDecimal("10.00"))
+            .status("ACTIVE")
+            .version(version)
+            .build();
+    }
+}
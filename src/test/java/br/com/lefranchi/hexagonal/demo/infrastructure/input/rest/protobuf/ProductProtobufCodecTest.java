@@ -0,0 +1,104 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.protobuf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.CreateProductRequest;
+import br.com.lefranchi.hexagonal.demo.infrastructure.input.rest.request.UpdateProductRequest;
+
+class ProductProtobufCodecTest {
+
+    @Test
+    void shouldRoundTripProductListWithCentsAndBinaryIds() throws IOException {
+        // Given
+        List<ProductResponse> products = List.of(
+            ProductResponse.builder()
+                .id("018f3a5e-7c00-7000-8000-000000000123")
+                .name("Wireless Keyboard")
+                .price(new BigDecimal("149.90"))
+                .status("ACTIVE")
+                .version(3)
+                .build(),
+            ProductResponse.builder()
+                .id("018f3a5e-7c00-7000-8000-000000000456")
+                .name("Refund")
+                .price(new BigDecimal("-0.04"))
+                .status("INACTIVE")
+                .version(0)
+                .build());
+
+        // When
+        byte[] encoded = encode(output -> ProductProtobufCodec.writeProducts(products, output));
+        List<ProductResponse> decoded = ProductProtobufCodec.readProducts(CodedInputStream.newInstance(encoded));
+
+        // Then
+        assertEquals(2, decoded.size());
+        for (int i = 0; i < products.size(); i++) {
+            assertEquals(products.get(i).getId(), decoded.get(i).getId());
+            assertEquals(products.get(i).getName(), decoded.get(i).getName());
+            assertEquals(products.get(i).getPrice(), decoded.get(i).getPrice());
+            assertEquals(products.get(i).getStatus(), decoded.get(i).getStatus());
+            assertEquals(products.get(i).getVersion(), decoded.get(i).getVersion());
+        }
+        // ID (18) + name (19) + price (4) + status (2) + version (2), plus 2 bytes of framing
+        assertEquals(47, encoded.length - encode(output -> ProductProtobufCodec.writeProducts(products.subList(1, 2),
+            output)).length);
+    }
+
+    @Test
+    void shouldKeepAbsentRequestFieldsNull() throws IOException {
+        // Given
+        UpdateProductRequest request = new UpdateProductRequest(null, 10.05);
+
+        // When
+        byte[] encoded = encode(output -> ProductProtobufCodec.writeUpdateProduct(request, output));
+        UpdateProductRequest decoded = ProductProtobufCodec.readUpdateProduct(CodedInputStream.newInstance(encoded));
+
+        // Then
+        assertNull(decoded.getName());
+        assertEquals(10.05, decoded.getPrice());
+    }
+
+    @Test
+    void shouldRoundTripCreateRequestsInBatch() throws IOException {
+        // Given
+        List<CreateProductRequest> requests = List.of(
+            new CreateProductRequest("First Product", 10.0),
+            new CreateProductRequest("", null));
+
+        // When
+        byte[] encoded = encode(output -> ProductProtobufCodec.writeCreateProducts(requests, output));
+        List<CreateProductRequest> decoded =
+            ProductProtobufCodec.readCreateProducts(CodedInputStream.newInstance(encoded));
+
+        // Then
+        assertEquals(2, decoded.size());
+        assertEquals("First Product", decoded.get(0).getName());
+        assertEquals(10.0, decoded.get(0).getPrice());
+        assertEquals("", decoded.get(1).getName());
+        assertNull(decoded.get(1).getPrice());
+    }
+
+    private static byte[] encode(Writer writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        writer.write(output);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(CodedOutputStream output) throws IOException;
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredProductManagementUseCaseTest {
+
+    @Mock
+    private ProductManagementUseCase delegate;
+
+    private SimpleMeterRegistry registry;
+    private MeteredProductManagementUseCase useCase;
+
+    private ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        useCase = new MeteredProductManagementUseCase(delegate, registry);
+
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+    }
+
+    @Test
+    void shouldTagDomainFailuresByOutcome() {
+        // Given
+        when(delegate.findProduct(productId)).thenThrow(new ProductNotFoundException(productId));
+        when(delegate.activateProduct(productId, null)).thenThrow(new InvalidProductException("Negative price"));
+        when(delegate.deactivateProduct(productId, null)).thenThrow(new IllegalStateException("Unexpected"));
+        doThrow(new ProductVersionConflictException(productId, 3L)).when(delegate).deleteProduct(productId, 3L);
+
+        // When
+        assertThrows(ProductNotFoundException.class, () -> useCase.findProduct(productId));
+        assertThrows(InvalidProductException.class, () -> useCase.activateProduct(productId));
+        assertThrows(IllegalStateException.class, () -> useCase.deactivateProduct(productId));
+        assertThrows(ProductVersionConflictException.class, () -> useCase.deleteProduct(productId, 3L));
+
+        // Then
+        assertEquals(1, timer("findProduct", OperationTimer.NOT_FOUND).count());
+        assertEquals(1, timer("activateProduct", OperationTimer.INVALID).count());
+        assertEquals(1, timer("deactivateProduct", OperationTimer.ERROR).count());
+        assertEquals(1, timer("deleteProduct", OperationTimer.CONFLICT).count());
+        assertEquals(0, timer("findProduct", OperationTimer.SUCCESS).count());
+    }
+
+    @Test
+    void shouldRecordBatchSize() {
+        // Given
+        List<CreateProductCommand> commands = List.of(
+            new CreateProductCommand("Product 1", 10.0),
+            new CreateProductCommand("Product 2", 20.0));
+        when(delegate.createProducts(commands)).thenReturn(List.of());
+
+        // When
+        useCase.createProducts(commands);
+
+        // Then
+        assertEquals(1, timer("createProducts", OperationTimer.SUCCESS).count());
+        assertEquals(2.0, registry.get("product.usecase.batch.size").summary().totalAmount());
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return registry.get(OperationTimer.USE_CASE_METRIC)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .timer();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private SimpleMeterRegistry registry;
+    private MeteredProductRepository repository;
+
+    private ProductId productId;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        repository = new MeteredProductRepository(delegate, registry);
+
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+        product = Product.create(productId, "Test Product", new Money(10.0));
+    }
+
+    @Test
+    void shouldPreRegisterTimersForEveryOperation() {
+        // Then
+        for (String operation : new String[] {"findById", "findAll", "findPage", "save", "saveAll",
+                "findVersion", "insert", "update", "updateStatus", "deleteById"}) {
+            assertEquals(0, timer(operation, OperationTimer.SUCCESS).count());
+            assertEquals(0, timer(operation, OperationTimer.ERROR).count());
+        }
+    }
+
+    @Test
+    void shouldRecordSuccessfulCall() {
+        // Given
+        when(delegate.findById(productId)).thenReturn(Optional.of(product));
+
+        // When
+        Optional<Product> result = repository.findById(productId);
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(1, timer("findById", OperationTimer.SUCCESS).count());
+        assertEquals(0, timer("findById", OperationTimer.ERROR).count());
+    }
+
+    @Test
+    void shouldRecordFailedCallAndRethrow() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("database down");
+        when(delegate.save(product)).thenThrow(failure);
+
+        // When / Then
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> repository.save(product)));
+        assertEquals(0, timer("save", OperationTimer.SUCCESS).count());
+        assertEquals(1, timer("save", OperationTimer.ERROR).count());
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return registry.get(OperationTimer.PORT_METRIC)
+            .tag("port", MeteredProductRepository.PORT)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .timer();
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldExposeUseCaseAndPortMetricsInPrometheusFormat() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Metered Product\",\"price\":10.0}"))
+            .andExpect(status().isCreated());
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString(
+                "product_usecase_seconds_count{operation=\"createProduct\",outcome=\"success\",} 1.0")))
+            .andExpect(content().string(containsString(
+                "product_port_seconds_bucket{operation=\"save\",outcome=\"success\",port=\"repository\"")))
+            .andExpect(content().string(containsString(
+                "product_port_seconds_count{operation=\"publishProductCreated\",outcome=\"success\",port=\"event_publisher\",}")))
+            .andExpect(content().string(containsString("product_cache_size")))
+            .andExpect(content().string(containsString("product_events_queue_depth")));
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+/**
+ * Concurrent lookups by ID collected into one {@code findAllById} call.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchingProductRepositoryTest {
+
+    private static final int MAX_BATCH_SIZE = 4;
+
+    /** Long enough that only a full batch is dispatched while the test runs. */
+    private static final long WINDOW_MICROS = TimeUnit.SECONDS.toMicros(30);
+
+    @Mock
+    private ProductRepository delegate;
+
+    private BatchingProductRepository repository;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(MAX_BATCH_SIZE);
+
+    private final ProductId firstId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+    private final ProductId secondId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+    private final ProductId missingId = new ProductId("018f3a5e-7c00-7000-8000-000000000789");
+
+    @BeforeEach
+    void setUp() {
+        repository = new BatchingProductRepository(delegate, WINDOW_MICROS, MAX_BATCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldLoadConcurrentLookupsWithOneQuery() {
+        // Given
+        Product first = Product.create(firstId, "First Product", new Money(10.0));
+        Product second = Product.create(secondId, "Second Product", new Money(20.0));
+        when(delegate.findAllById(any())).thenReturn(List.of(second, first));
+
+        // When
+        List<CompletableFuture<Optional<Product>>> lookups = lookUp(firstId, secondId, missingId, firstId);
+
+        // Then
+        Product firstLookup = lookups.get(0).join().orElseThrow();
+        Product repeatedLookup = lookups.get(3).join().orElseThrow();
+        assertEquals(secondId, lookups.get(1).join().orElseThrow().getId());
+        assertTrue(lookups.get(2).join().isEmpty());
+        assertEquals(firstId, firstLookup.getId());
+        assertEquals(firstId, repeatedLookup.getId());
+        assertNotSame(firstLookup, repeatedLookup);
+        verify(delegate, times(1)).findAllById(argThat(ids -> ids.size() == 3
+            && ids.containsAll(List.of(firstId, secondId, missingId))));
+        verify(delegate, never()).findById(any());
+        assertEquals(1, repository.getBatches());
+        assertEquals(MAX_BATCH_SIZE, repository.getBatchedLoads());
+    }
+
+    @Test
+    void shouldFailEveryLookupOfFailedBatch() {
+        // Given
+        when(delegate.findAllById(any())).thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        List<CompletableFuture<Optional<Product>>> lookups = lookUp(firstId, secondId, missingId, firstId);
+
+        // Then
+        for (CompletableFuture<Optional<Product>> lookup : lookups) {
+            Exception failure = assertThrows(Exception.class, lookup::join);
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+    }
+
+    @Test
+    void shouldLookUpDirectlyInsideWriteTransaction() {
+        // Given
+        Product first = Product.create(firstId, "First Product", new Money(10.0));
+        when(delegate.findById(firstId)).thenReturn(Optional.of(first));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        Optional<Product> found;
+        try {
+            found = repository.findById(firstId);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        assertSame(first, found.orElseThrow());
+        verify(delegate, never()).findAllById(any());
+        assertEquals(0, repository.getBatches());
+    }
+
+    /** Starts one lookup per ID, each on its own thread; the last one to arrive fills the batch. */
+    private List<CompletableFuture<Optional<Product>>> lookUp(ProductId... ids) {
+        List<CompletableFuture<Optional<Product>>> lookups = new ArrayList<>(ids.length);
+        for (ProductId id : ids) {
+            lookups.add(CompletableFuture.supplyAsync(() -> repository.findById(id), callers));
+        }
+        return lookups;
+    }
+}
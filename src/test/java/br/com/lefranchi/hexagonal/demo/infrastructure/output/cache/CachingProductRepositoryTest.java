@@ -0,0 +1,295 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+    
+    private CachingProductRepository repository;
+    
+    private ProductId productId;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductRepository(delegate, 100);
+        
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
+        product = Product.create(productId, "Test Product", new Money(10.0));
+    }
+    
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        when(delegate.findById(productId)).thenReturn(Optional.of(product));
+        
+        // When
+        Optional<Product> first = repository.findById(productId);
+        Optional<Product> second = repository.findById(productId);
+        
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals("Test Product", second.get().getName());
+        assertEquals(new Money(10.0), second.get().getPrice());
+        assertEquals(ProductStatus.ACTIVE, second.get().getStatus());
+        
+        verify(delegate, times(1)).findById(productId);
+        assertEquals(1, repository.getStats().hitCount());
+        assertEquals(1, repository.getStats().missCount());
+    }
+    
+    @Test
+    void shouldLoadOnlyUncachedProductsInOneCall() {
+        // Given
+        ProductId otherId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        ProductId missingId = new ProductId("018f3a5e-7c00-7000-8000-000000000789");
+        Product other = Product.create(otherId, "Other Product", new Money(20.0));
+        when(delegate.findById(productId)).thenReturn(Optional.of(product));
+        when(delegate.findAllById(List.of(otherId, missingId))).thenReturn(List.of(other));
+        repository.findById(productId);
+        
+        // When
+        List<Product> found = repository.findAllById(List.of(otherId, productId, missingId, otherId));
+        List<Product> cached = repository.findAllById(List.of(productId, otherId));
+        
+        // Then
+        assertEquals(List.of(otherId, productId), found.stream().map(Product::getId).toList());
+        assertEquals(List.of(productId, otherId), cached.stream().map(Product::getId).toList());
+        assertNotSame(product, found.get(1));
+        verify(delegate, times(1)).findAllById(any());
+    }
+    
+    @Test
+    void shouldNotCacheMissingProducts() {
+        // Given
+        when(delegate.findById(productId)).thenReturn(Optional.empty());
+        
+        // When
+        repository.findById(productId);
+        repository.findById(productId);
+        
+        // Then
+        verify(delegate, times(2)).findById(productId);
+        assertEquals(0, repository.getSize());
+    }
+    
+    @Test
+    void shouldIsolateCachedProductFromCallerChanges() {
+        // Given
+        when(delegate.findById(productId)).thenReturn(Optional.of(product));
+        Product loaded = repository.findById(productId).orElseThrow();
+        
+        // When
+        loaded.update("Changed Name", null);
+        loaded.deactivate();
+        
+        // Then
+        Product cached = repository.findById(productId).orElseThrow();
+        assertEquals("Test Product", cached.getName());
+        assertEquals(ProductStatus.ACTIVE, cached.getStatus());
+    }
+    
+    @Test
+    void shouldInvalidateOnSave() {
+        // Given
+        Product updated = Product.create(productId, "Updated Product", new Money(20.0));
+        when(delegate.findById(productId)).thenReturn(Optional.of(product), Optional.of(updated));
+        when(delegate.save(updated)).thenReturn(updated);
+        repository.findById(productId);
+        
+        // When
+        repository.save(updated);
+        Optional<Product> result = repository.findById(productId);
+        
+        // Then
+        assertEquals("Updated Product", result.orElseThrow().getName());
+        verify(delegate, times(2)).findById(productId);
+    }
+    
+    @Test
+    void shouldInvalidateOnUpdate() {
+        // Given
+        Product updated = Product.create(productId, "Updated Product", new Money(20.0));
+        when(delegate.findById(productId)).thenReturn(Optional.of(product), Optional.of(updated));
+        when(delegate.update(updated)).thenReturn(true);
+        repository.findById(productId);
+        
+        // When
+        assertTrue(repository.update(updated));
+        Optional<Product> result = repository.findById(productId);
+        
+        // Then
+        assertEquals("Updated Product", result.orElseThrow().getName());
+        verify(delegate, times(2)).findById(productId);
+    }
+    
+    @Test
+    void shouldInvalidateOnStatusChange() {
+        // Given
+        Product deactivated = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.INACTIVE, 1);
+        when(delegate.findById(productId)).thenReturn(Optional.of(product), Optional.of(deactivated));
+        Product loaded = repository.findById(productId).orElseThrow();
+        loaded.deactivate();
+        when(delegate.updateStatus(loaded)).thenReturn(true);
+        
+        // When
+        repository.updateStatus(loaded);
+        Product result = repository.findById(productId).orElseThrow();
+        
+        // Then
+        assertEquals(ProductStatus.INACTIVE, result.getStatus());
+        assertEquals(1, result.getVersion());
+    }
+    
+    @Test
+    void shouldServeVersionFromCacheWithoutPopulatingIt() {
+        // Given
+        ProductId uncachedId = new ProductId("018f3a5e-7c00-7000-8000-000000000456");
+        when(delegate.findById(productId)).thenReturn(Optional.of(product));
+        when(delegate.findVersion(uncachedId)).thenReturn(OptionalLong.of(9));
+        repository.findById(productId);
+        
+        // When
+        OptionalLong cachedVersion = repository.findVersion(productId);
+        OptionalLong uncachedVersion = repository.findVersion(uncachedId);
+        
+        // Then
+        assertEquals(OptionalLong.of(0), cachedVersion);
+        assertEquals(OptionalLong.of(9), uncachedVersion);
+        verify(delegate, never()).findVersion(productId);
+        assertEquals(1, repository.getSize());
+    }
+    
+    @Test
+    void shouldInvalidateOnDelete() {
+        // Given
+        when(delegate.findById(productId)).thenReturn(Optional.of(product), Optional.empty());
+        repository.findById(productId);
+        
+        when(delegate.deleteById(productId)).thenReturn(Optional.of(product));
+        
+        // When
+        assertTrue(repository.deleteById(productId).isPresent());
+        Optional<Product> result = repository.findById(productId);
+        
+        // Then
+        assertFalse(result.isPresent());
+        verify(delegate).deleteById(productId);
+        verify(delegate, times(2)).findById(productId);
+    }
+    
+    @Test
+    void shouldBoundCacheSize() {
+        // Given
+        CachingProductRepository smallRepository = new CachingProductRepository(delegate, 10);
+        for (int i = 0; i < 100; i++) {
+            ProductId id = new ProductId(0L, i);
+            when(delegate.findById(id)).thenReturn(Optional.of(Product.create(id, "Product " + i, new Money(i))));
+        }
+        
+        // When
+        for (int i = 0; i < 100; i++) {
+            smallRepository.findById(new ProductId(0L, i));
+        }
+        
+        // Then
+        assertTrue(smallRepository.getSize() <= 10);
+        assertTrue(smallRepository.getStats().evictionCount() >= 90);
+    }
+    
+    @Test
+    void shouldNotKeepProductReadBeforeConcurrentUpdate() throws Exception {
+        // Given
+        Product stale = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 0);
+        Product updated = Product.restore(productId, "Renamed Product", new Money(10.0), ProductStatus.ACTIVE, 1);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch updateDone = new CountDownLatch(1);
+        when(delegate.findById(productId))
+            .thenAnswer(invocation -> {
+                readStarted.countDown();
+                assertTrue(updateDone.await(5, TimeUnit.SECONDS));
+                return Optional.of(stale);
+            })
+            .thenReturn(Optional.of(updated));
+        when(delegate.update(updated)).thenReturn(true);
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        
+        // When
+        try {
+            Future<Optional<Product>> slowRead = reader.submit(() -> repository.findById(productId));
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            repository.update(updated);
+            updateDone.countDown();
+            assertEquals(0, slowRead.get(5, TimeUnit.SECONDS).get().getVersion());
+        } finally {
+            reader.shutdownNow();
+        }
+        Optional<Product> next = repository.findById(productId);
+        
+        // Then
+        assertEquals(1, next.get().getVersion());
+        assertEquals("Renamed Product", next.get().getName());
+        assertEquals(OptionalLong.of(1), repository.findVersion(productId));
+        verify(delegate, times(2)).findById(productId);
+    }
+    
+    @Test
+    void shouldReportCommittedVersionAfterMultiGetRacedStatusChange() throws Exception {
+        // Given
+        Product stale = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.ACTIVE, 0);
+        Product deactivated = Product.restore(productId, "Test Product", new Money(10.0), ProductStatus.INACTIVE, 1);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch writeDone = new CountDownLatch(1);
+        when(delegate.findAllById(List.of(productId))).thenAnswer(invocation -> {
+            readStarted.countDown();
+            assertTrue(writeDone.await(5, TimeUnit.SECONDS));
+            return List.of(stale);
+        });
+        when(delegate.updateStatus(deactivated)).thenReturn(true);
+        when(delegate.findVersion(productId)).thenReturn(OptionalLong.of(1));
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        
+        // When
+        try {
+            Future<List<Product>> slowRead = reader.submit(() -> repository.findAllById(List.of(productId)));
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+            repository.updateStatus(deactivated);
+            writeDone.countDown();
+            assertEquals(1, slowRead.get(5, TimeUnit.SECONDS).size());
+        } finally {
+            reader.shutdownNow();
+        }
+        OptionalLong version = repository.findVersion(productId);
+        
+        // Then
+        assertEquals(OptionalLong.of(1), version);
+        assertEquals(0, repository.getSize());
+        verify(delegate).findVersion(productId);
+    }
+}
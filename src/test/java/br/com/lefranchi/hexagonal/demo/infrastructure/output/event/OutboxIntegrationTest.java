@@ -0,0 +1,112 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.OutboxEventEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataOutboxEventRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataProductRepository;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outboxtest",
+    "product.events.outbox.poll-interval-ms=60000"
+})
+class OutboxIntegrationTest {
+
+    @Autowired
+    private ProductManagementUseCase productManagement;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private SpringDataOutboxEventRepository outboxRepository;
+
+    @Autowired
+    private SpringDataProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        outboxRepository.deleteAll();
+        sink.events.clear();
+    }
+
+    @Test
+    void shouldRelayCommittedEventsToSinksBeforeMarkingThemDelivered() {
+        // Given
+        ProductResponse created = productManagement.createProduct(new CreateProductCommand("Outbox Product", 10.0));
+        productManagement.deactivateProduct(new ProductId(created.getId()));
+        assertEquals(2, outboxRepository.countByDeliveredAtIsNull());
+        List<Instant> occurredAt = transactionTemplate.execute(status ->
+            outboxRepository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(10)).stream()
+                .map(OutboxEventEntity::getOccurredAt)
+                .toList());
+
+        // When
+        relay.relay();
+
+        // Then
+        assertEquals(0, relay.getBacklog());
+        assertEquals(List.of(ProductEventType.CREATED, ProductEventType.DEACTIVATED),
+            sink.events.stream().map(ProductEvent::type).toList());
+        assertEquals(occurredAt, sink.events.stream().map(ProductEvent::occurredAt).toList());
+
+        relay.prune();
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void shouldNotRecordEventsOfRolledBackTransactions() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            productManagement.createProduct(new CreateProductCommand("Rolled Back Product", 10.0));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(0, outboxRepository.count());
+        assertEquals(0, productRepository.count());
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements ProductEventSink {
+
+        final List<ProductEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void handle(List<ProductEvent> batch) {
+            events.addAll(batch);
+        }
+    }
+}
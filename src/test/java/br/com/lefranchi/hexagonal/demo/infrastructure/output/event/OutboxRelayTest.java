@@ -0,0 +1,139 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.OutboxEventEntity;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataOutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String FIRST_ID = "018f3a5e-7c00-7000-8000-000000000001";
+    private static final String SECOND_ID = "018f3a5e-7c00-7000-8000-000000000002";
+
+    @Mock
+    private SpringDataOutboxEventRepository repository;
+    
+    @Mock
+    private ProductEventSink sink;
+    
+    private OutboxRelay relay;
+    
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(repository, List.of(sink), TransactionOperations.withoutTransaction(), 3, 2);
+    }
+    
+    @Test
+    void shouldDeliverPendingEventsInOrderBeforeMarkingThemDelivered() {
+        // Given
+        List<OutboxEventEntity> events = List.of(
+            event(1L, ProductEventType.CREATED, FIRST_ID),
+            event(2L, ProductEventType.CREATED, SECOND_ID),
+            event(3L, ProductEventType.DELETED, FIRST_ID)
+        );
+        when(repository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(3))).thenReturn(events, List.of());
+        
+        // When
+        relay.relay();
+        
+        // Then
+        InOrder inOrder = inOrder(sink, repository);
+        inOrder.verify(sink).handle(argThat(batch -> batch.stream().map(ProductEvent::type).toList()
+            .equals(List.of(ProductEventType.CREATED, ProductEventType.CREATED, ProductEventType.DELETED))));
+        inOrder.verify(repository).markDelivered(eq(List.of(1L, 2L, 3L)), any(Instant.class));
+        
+        assertEquals(3, relay.getRelayedCount());
+        assertEquals(1, relay.getRelayedBatches());
+    }
+    
+    @Test
+    void shouldCarryStoredStateAndTimestampOfOutboxRow() {
+        // Given
+        OutboxEventEntity deactivated = event(1L, ProductEventType.DEACTIVATED, FIRST_ID);
+        deactivated.setOccurredAt(Instant.parse("2024-01-02T03:04:05Z"));
+        when(repository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(3))).thenReturn(List.of(deactivated));
+        
+        // When
+        relay.relay();
+        
+        // Then
+        verify(sink).handle(List.of(new ProductEvent(ProductEventType.DEACTIVATED, FIRST_ID, "Product " + FIRST_ID,
+            BigDecimal.TEN, ProductStatus.INACTIVE, Instant.parse("2024-01-02T03:04:05Z"))));
+    }
+    
+    @Test
+    void shouldNotMarkAnythingWhenOutboxIsEmpty() {
+        // Given
+        when(repository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(3))).thenReturn(List.of());
+        
+        // When
+        relay.relay();
+        
+        // Then
+        verifyNoInteractions(sink);
+        verify(repository, never()).markDelivered(any(), any());
+        assertEquals(0, relay.getLagMillis());
+    }
+    
+    @Test
+    void shouldNotMarkEventsDeliveredWhenSinkFails() {
+        // Given
+        when(repository.findByDeliveredAtIsNullOrderByIdAsc(Limit.of(3)))
+            .thenReturn(List.of(event(1L, ProductEventType.UPDATED, FIRST_ID)));
+        doThrow(new IllegalStateException("sink down")).when(sink).handle(any());
+        
+        // When
+        relay.relay();
+        
+        // Then
+        verify(repository, never()).markDelivered(any(), any());
+        assertEquals(0, relay.getRelayedCount());
+    }
+    
+    @Test
+    void shouldPruneDeliveredEventsInChunks() {
+        // Given
+        when(repository.findDeliveredIds(Limit.of(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(repository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+        when(repository.deleteByIds(List.of(3L))).thenReturn(1);
+        
+        // When
+        relay.prune();
+        
+        // Then
+        verify(repository, times(2)).deleteByIds(any());
+        assertEquals(3, relay.getPrunedCount());
+    }
+    
+    private OutboxEventEntity event(Long id, ProductEventType type, String productId) {
+        boolean deleted = type == ProductEventType.DELETED;
+        return new OutboxEventEntity(
+            id,
+            type,
+            productId,
+            deleted ? null : "Product " + productId,
+            deleted ? null : BigDecimal.TEN,
+            deleted ? null : (type == ProductEventType.DEACTIVATED ? ProductStatus.INACTIVE : ProductStatus.ACTIVE),
+            Instant.now(),
+            null
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+class RingBufferProductEventPublisherTest {
+
+    private final List<ProductEvent> received = new CopyOnWriteArrayList<>();
+    private final ProductEventSink sink = received::addAll;
+    
+    private RingBufferProductEventPublisher publisher;
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        product = Product.create(new ProductId("018f3a5e-7c00-7000-8000-000000000123"), "Test Product", new Money(10.0));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (publisher != null && publisher.isRunning()) {
+            publisher.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void shouldDeliverEventsToSinksInBatches() throws Exception {
+        // Given
+        CountDownLatch delivered = new CountDownLatch(3);
+        ProductEventSink countingSink = events -> events.forEach(event -> delivered.countDown());
+        publisher = new RingBufferProductEventPublisher(List.of(sink, countingSink), 16, 8, OverflowPolicy.BLOCK);
+        publisher.start();
+        
+        // When
+        publisher.publishProductCreated(product);
+        publisher.publishProductActivated(product);
+        publisher.publishProductDeleted(product.getId());
+        
+        // Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(ProductEventType.CREATED, ProductEventType.ACTIVATED, ProductEventType.DELETED),
+            received.stream().map(ProductEvent::type).toList());
+        assertEquals("018f3a5e-7c00-7000-8000-000000000123", received.get(0).productId());
+        assertEquals("Test Product", received.get(0).name());
+        assertEquals(3, publisher.getPublishedCount());
+    }
+    
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        // When
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 1000, 8, OverflowPolicy.DROP);
+        
+        // Then
+        assertEquals(1024, publisher.getCapacity());
+    }
+    
+    @Test
+    void shouldDropEventsWhenBufferIsFull() {
+        // Given
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 2, 8, OverflowPolicy.DROP);
+        
+        // When
+        publisher.publishProductsCreated(List.of(product, product, product));
+        
+        // Then
+        assertEquals(2, publisher.getQueueDepth());
+        assertEquals(1, publisher.getDroppedCount());
+        assertTrue(received.isEmpty());
+    }
+    
+    @Test
+    void shouldSpillEventsToCallerWhenBufferIsFull() {
+        // Given
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 2, 8, OverflowPolicy.SPILL);
+        
+        // When
+        publisher.publishProductsCreated(List.of(product, product, product));
+        
+        // Then
+        assertEquals(2, publisher.getQueueDepth());
+        assertEquals(1, publisher.getSpilledCount());
+        assertEquals(1, received.size());
+    }
+    
+    @Test
+    void shouldDeferEventsUntilTransactionCommits() {
+        // Given
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 16, 8, OverflowPolicy.DROP);
+        TransactionSynchronizationManager.initSynchronization();
+        
+        // When
+        publisher.publishProductUpdated(product);
+        
+        // Then
+        assertEquals(0, publisher.getQueueDepth());
+        
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, publisher.getQueueDepth());
+    }
+    
+    @Test
+    void shouldDiscardEventsWhenTransactionRollsBack() {
+        // Given
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 16, 8, OverflowPolicy.DROP);
+        TransactionSynchronizationManager.initSynchronization();
+        
+        // When
+        publisher.publishProductUpdated(product);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        
+        // Then
+        assertEquals(0, publisher.getQueueDepth());
+        assertEquals(0, publisher.getPublishedCount());
+    }
+    
+    @Test
+    void shouldDrainPendingEventsOnStop() {
+        // Given
+        publisher = new RingBufferProductEventPublisher(List.of(sink), 16, 2, OverflowPolicy.BLOCK);
+        publisher.start();
+        
+        // When
+        publisher.publishProductsCreated(List.of(product, product, product, product, product));
+        publisher.stop();
+        
+        // Then
+        assertEquals(5, received.size());
+        assertEquals(5, publisher.getDeliveredCount());
+        assertEquals(0, publisher.getQueueDepth());
+        assertTrue(publisher.getDrainedBatches() >= 3);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter.JpaProductRepositoryAdapter;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:logstoreprofile")
+@AutoConfigureMockMvc
+@ActiveProfiles("logstore")
+class LogStoreProfileIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void logStoreProperties(DynamicPropertyRegistry registry) {
+        registry.add("product.logstore.directory", directory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private LogStructuredProductRepository logStructuredProductRepository;
+
+    @Test
+    void shouldReplaceJpaAdapterWithLogStructuredRepository() throws Exception {
+        // Given
+        assertTrue(context.getBeansOfType(JpaProductRepositoryAdapter.class).isEmpty());
+        long appended = logStructuredProductRepository.getAppendedRecords();
+
+        // When
+        String body = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Logged Product\",\"price\":7.5}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        // Then
+        assertEquals(appended + 1, logStructuredProductRepository.getAppendedRecords());
+        mockMvc.perform(get("/api/products/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Logged Product"));
+    }
+}
@@ -0,0 +1,276 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.logstore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+class LogStructuredProductRepositoryTest {
+
+    private static final int SMALL_SEGMENT = 4096;
+
+    @TempDir
+    Path directory;
+
+    private LogStructuredProductRepository repository;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    @Test
+    void shouldRecoverWritesAfterReopen() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+        Product updated = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        Product deactivated = Product.create(ProductId.generate(), "Mouse", new Money(5.0));
+        Product deleted = Product.create(ProductId.generate(), "Monitor", new Money(300.0));
+        repository.insert(updated);
+        repository.saveAll(List.of(deactivated, deleted));
+        updated.update("Mechanical Keyboard", new Money(20.0));
+        assertTrue(repository.update(updated));
+        deactivated.deactivate();
+        assertTrue(repository.updateStatus(deactivated));
+        assertTrue(repository.deleteById(deleted.getId(), 0).isPresent());
+
+        // When
+        repository.close();
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+
+        // Then
+        assertEquals(2, repository.getSize());
+        Product foundUpdated = repository.findById(updated.getId()).orElseThrow();
+        assertEquals("Mechanical Keyboard", foundUpdated.getName());
+        assertEquals(new Money(20.0), foundUpdated.getPrice());
+        assertEquals(1, foundUpdated.getVersion());
+        Product foundDeactivated = repository.findById(deactivated.getId()).orElseThrow();
+        assertEquals(ProductStatus.INACTIVE, foundDeactivated.getStatus());
+        assertEquals(1, foundDeactivated.getVersion());
+        assertTrue(repository.findById(deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldRejectStaleAndDuplicateWritesWithoutLoggingThem() {
+        // Given
+        repository = open(FsyncPolicy.ALWAYS, 1 << 20);
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+        long appended = repository.getAppendedRecords();
+        Product stale = Product.restore(product.getId(), "Stale", new Money(1.0), ProductStatus.ACTIVE, 5);
+
+        // When / Then
+        assertThrows(DuplicateKeyException.class, () -> repository.insert(product));
+        assertThrows(DuplicateKeyException.class, () -> repository.saveAll(List.of(
+            Product.create(ProductId.generate(), "Mouse", new Money(5.0)), product)));
+        assertFalse(repository.update(stale));
+        assertFalse(repository.updateStatus(stale));
+        assertTrue(repository.deleteById(product.getId(), 3).isEmpty());
+        assertTrue(repository.deleteById(ProductId.generate()).isEmpty());
+        assertEquals(appended, repository.getAppendedRecords());
+        assertEquals(1, repository.getSize());
+    }
+
+    @Test
+    void shouldRollSegmentsAndReplayAllOfThem() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.INTERVAL, SMALL_SEGMENT);
+        List<Product> products = products(500);
+        for (Product product : products) {
+            repository.insert(product);
+        }
+        repository.flush();
+
+        // When
+        repository.close();
+        repository = open(FsyncPolicy.INTERVAL, SMALL_SEGMENT);
+
+        // Then
+        assertTrue(segments().size() > 1);
+        assertEquals(500, repository.getSize());
+        assertEquals(ids(products), ids(repository.findAll()));
+    }
+
+    @Test
+    void shouldLoadSnapshotAndReplayOnlyTheTail() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.GROUP, SMALL_SEGMENT);
+        List<Product> products = products(300);
+        repository.saveAll(products);
+        repository.snapshot();
+        Product tail = Product.create(ProductId.generate(), "Tail Product", new Money(1.0));
+        repository.insert(tail);
+        repository.deleteById(products.get(0).getId());
+
+        // When
+        repository.close();
+        repository = open(FsyncPolicy.GROUP, SMALL_SEGMENT);
+
+        // Then
+        assertEquals(1, segments().size());
+        assertEquals(1, snapshots().size());
+        assertEquals(300, repository.getSize());
+        assertTrue(repository.findById(tail.getId()).isPresent());
+        assertTrue(repository.findById(products.get(0).getId()).isEmpty());
+        assertEquals("Product 299", repository.findById(products.get(299).getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void shouldSkipSnapshotWhenNothingChanged() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.GROUP, SMALL_SEGMENT);
+        repository.insert(Product.create(ProductId.generate(), "Keyboard", new Money(10.0)));
+        repository.snapshot();
+
+        // When
+        repository.snapshot();
+
+        // Then
+        assertEquals(1, repository.getSnapshotCount());
+    }
+
+    @Test
+    void shouldCompactSupersededRecordsByKey() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.GROUP, SMALL_SEGMENT);
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+        for (int i = 0; i < 200; i++) {
+            product.update("Keyboard " + i, Money.ofCents(1_000 + i));
+            assertTrue(repository.update(product));
+        }
+        long sizeBefore = totalSegmentBytes();
+
+        // When
+        repository.compact();
+
+        // Then
+        assertTrue(repository.getCompactedBytes() > 0);
+        assertTrue(totalSegmentBytes() < sizeBefore);
+        repository.close();
+        repository = open(FsyncPolicy.GROUP, SMALL_SEGMENT);
+        Product found = repository.findById(product.getId()).orElseThrow();
+        assertEquals("Keyboard 199", found.getName());
+        assertEquals(200, found.getVersion());
+    }
+
+    @Test
+    void shouldDiscardIncompleteRecordAtTheEndOfTheLog() throws IOException {
+        // Given
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+        Product kept = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(kept);
+        repository.close();
+        repository = null;
+        Path segment = segments().get(0);
+        long end = ProductLogCodec.put(kept).length;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // A length header followed by a payload that was never fully written
+            channel.write(ByteBuffer.allocate(12).putInt(40).putInt(0xCAFE).putInt(7).flip(), end);
+        }
+
+        // When
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+        Product added = Product.create(ProductId.generate(), "Mouse", new Money(5.0));
+        repository.insert(added);
+        repository.close();
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+
+        // Then
+        assertEquals(2, repository.getSize());
+        assertTrue(repository.findById(kept.getId()).isPresent());
+        assertTrue(repository.findById(added.getId()).isPresent());
+    }
+
+    @Test
+    void shouldShareFsyncsBetweenConcurrentWriters() throws Exception {
+        // Given
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        try {
+            for (int writer = 0; writer < 8; writer++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        repository.insert(Product.create(ProductId.generate(), "Concurrent", new Money(1.0)));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(800, repository.getSize());
+        assertTrue(repository.getFsyncCount() <= 800);
+        repository.close();
+        repository = open(FsyncPolicy.GROUP, 1 << 20);
+        assertEquals(800, repository.getSize());
+    }
+
+    private LogStructuredProductRepository open(FsyncPolicy fsyncPolicy, int segmentSize) {
+        return new LogStructuredProductRepository(directory, segmentSize, fsyncPolicy, 16);
+    }
+
+    private List<Path> segments() throws IOException {
+        return files(".log");
+    }
+
+    private List<Path> snapshots() throws IOException {
+        return files(".snap");
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private long totalSegmentBytes() throws IOException {
+        long total = 0;
+        for (Path segment : segments()) {
+            total += Files.size(segment);
+        }
+        return total;
+    }
+
+    private static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.create(ProductId.generate(), "Product " + i, Money.ofCents(100L + i)));
+        }
+        return products;
+    }
+
+    private static List<ProductId> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,406 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+
+class ColumnarProductRepositoryTest {
+
+    private ColumnarProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ColumnarProductRepository(16);
+    }
+
+    @Test
+    void shouldInsertAndFindProduct() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(199.90));
+
+        // When
+        repository.insert(product);
+
+        // Then
+        Product found = repository.findById(product.getId()).orElseThrow();
+        assertEquals(product.getId(), found.getId());
+        assertEquals("Keyboard", found.getName());
+        assertEquals(new Money(199.90), found.getPrice());
+        assertEquals(ProductStatus.ACTIVE, found.getStatus());
+        assertEquals(0, found.getVersion());
+        assertEquals(0, repository.findVersion(product.getId()).getAsLong());
+        assertTrue(repository.findById(ProductId.generate()).isEmpty());
+        assertTrue(repository.findVersion(ProductId.generate()).isEmpty());
+    }
+
+    @Test
+    void shouldRejectDuplicateInsert() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+
+        // When / Then
+        assertThrows(DuplicateKeyException.class, () -> repository.insert(product));
+        assertThrows(DuplicateKeyException.class, () -> repository.saveAll(List.of(
+            Product.create(ProductId.generate(), "Mouse", new Money(5.0)), product)));
+        assertEquals(1, repository.getSize());
+    }
+
+    @Test
+    void shouldUpdateOnlyFromPreviousVersion() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+        Product stale = repository.findById(product.getId()).orElseThrow();
+
+        // When
+        product.update("Mechanical Keyboard", new Money(20.0));
+        boolean updated = repository.update(product);
+        stale.update("Stale Keyboard", new Money(1.0));
+        boolean staleUpdated = repository.update(stale);
+
+        // Then
+        assertTrue(updated);
+        assertFalse(staleUpdated);
+        Product found = repository.findById(product.getId()).orElseThrow();
+        assertEquals("Mechanical Keyboard", found.getName());
+        assertEquals(new Money(20.0), found.getPrice());
+        assertEquals(1, found.getVersion());
+    }
+
+    @Test
+    void shouldUpdateStatusOnlyFromPreviousVersion() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+
+        // When
+        product.deactivate();
+        boolean updated = repository.updateStatus(product);
+        boolean repeated = repository.updateStatus(product);
+
+        // Then
+        assertTrue(updated);
+        assertFalse(repeated);
+        assertEquals(ProductStatus.INACTIVE, repository.findById(product.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldChangeStatusOfSelectionInIdOrderFromCursor() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Product product = Product.create(new ProductId(0x018f3a5e7c007000L, i), "Product " + i, new Money(i - 1));
+            products.add(product);
+            repository.insert(product);
+        }
+        ProductSelection inactive = ProductSelection.builder()
+            .status(ProductStatus.INACTIVE)
+            .build();
+        repository.updateStatus(ProductSelection.builder().minPrice(new Money(3.0)).build(),
+            ProductStatus.INACTIVE, null, 10);
+
+        // When
+        List<Product> first = repository.updateStatus(inactive.toBuilder().minPrice(Money.ofCents(0)).build(),
+            ProductStatus.ACTIVE, null, 2);
+        List<Product> rest = repository.updateStatus(inactive.toBuilder().minPrice(Money.ofCents(0)).build(),
+            ProductStatus.ACTIVE, first.get(1).getId(), 2);
+        long remaining = repository.count(inactive);
+        List<Product> listed = repository.updateStatus(ProductSelection.builder()
+                .ids(List.of(products.get(5).getId(), products.get(1).getId(), ProductId.generate()))
+                .build(),
+            ProductStatus.INACTIVE, null, 10);
+
+        // Then
+        assertEquals(List.of(products.get(4).getId(), products.get(5).getId()),
+            first.stream().map(Product::getId).toList());
+        assertTrue(rest.isEmpty());
+        assertEquals(1, remaining);
+        assertEquals(List.of(products.get(1).getId(), products.get(5).getId()),
+            listed.stream().map(Product::getId).toList());
+        Product stored = repository.findById(products.get(5).getId()).orElseThrow();
+        assertEquals(ProductStatus.INACTIVE, stored.getStatus());
+        assertEquals(3, stored.getVersion());
+    }
+
+    @Test
+    void shouldRepriceSelectionInParallelWithDomainRules() {
+        // Given
+        List<Product> products = products(10_000);
+        repository.saveAll(products);
+        PriceChange change = PriceChange.amount(new Money(-50.0));
+        ProductSelection all = ProductSelection.builder().build();
+
+        // When
+        List<Product> first = repository.reprice(all, change, null, 6_000);
+        List<Product> rest = repository.reprice(all, change, first.get(first.size() - 1).getId(), 6_000);
+
+        // Then
+        assertEquals(6_000, first.size());
+        assertEquals(4_000, rest.size());
+        assertEquals(products.get(0).getPrice(), first.get(0).getPrice());
+        for (Product original : products) {
+            Product expected = Product.restore(original.getId(), original.getName(), original.getPrice(),
+                original.getStatus(), original.getVersion());
+            expected.reprice(change);
+            Product stored = repository.findById(original.getId()).orElseThrow();
+            assertEquals(expected.getPrice(), stored.getPrice());
+            assertEquals(expected.getStatus(), stored.getStatus());
+            assertEquals(1, stored.getVersion());
+        }
+        assertEquals(4_900, repository.count(ProductSelection.builder().status(ProductStatus.INACTIVE).build()));
+    }
+
+    @Test
+    void shouldDeleteByIdAndVersion() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+
+        // When
+        Optional<Product> wrongVersion = repository.deleteById(product.getId(), 5);
+        Optional<Product> deleted = repository.deleteById(product.getId(), 0);
+        Optional<Product> deletedAgain = repository.deleteById(product.getId());
+
+        // Then
+        assertTrue(wrongVersion.isEmpty());
+        assertEquals("Keyboard", deleted.orElseThrow().getName());
+        assertEquals(new Money(10.0), deleted.orElseThrow().getPrice());
+        assertTrue(deletedAgain.isEmpty());
+        assertTrue(repository.findById(product.getId()).isEmpty());
+        assertTrue(repository.findAll().isEmpty());
+        assertEquals(0, repository.getSize());
+    }
+
+    @Test
+    void shouldReinsertDeletedId() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        repository.insert(product);
+        repository.deleteById(product.getId());
+
+        // When
+        repository.insert(Product.create(product.getId(), "Mouse", new Money(5.0)));
+
+        // Then
+        assertEquals("Mouse", repository.findById(product.getId()).orElseThrow().getName());
+        assertEquals(1, repository.findAll().size());
+        assertEquals(0, repository.getDeletedRows());
+    }
+
+    @Test
+    void shouldKeepIdOrderForOutOfOrderInserts() {
+        // Given
+        ProductId first = new ProductId("018f3a5e-7c00-7000-8000-000000000001");
+        ProductId second = new ProductId("018f3a5e-7c00-7000-8000-000000000002");
+        ProductId third = new ProductId("018f3a5e-7c00-7000-8000-000000000003");
+
+        // When
+        repository.insert(Product.create(third, "Third", new Money(3.0)));
+        repository.insert(Product.create(first, "First", new Money(1.0)));
+        repository.insert(Product.create(second, "Second", new Money(2.0)));
+
+        // Then
+        assertEquals(List.of(first, second, third), ids(repository.findAll()));
+        assertEquals(List.of(second, third), ids(repository.findPage(first, 10)));
+        assertEquals(List.of(first), ids(repository.findPage(null, 1)));
+        assertEquals("Second", repository.findById(second).orElseThrow().getName());
+        assertEquals("Third", repository.findById(third).orElseThrow().getName());
+    }
+
+    @Test
+    void shouldSkipDeletedRowsWhenPaging() {
+        // Given
+        List<Product> products = products(5);
+        repository.saveAll(products);
+        repository.deleteById(products.get(1).getId());
+        repository.deleteById(products.get(2).getId());
+
+        // When
+        List<Product> page = repository.findPage(products.get(0).getId(), 2);
+
+        // Then
+        assertEquals(List.of(products.get(3).getId(), products.get(4).getId()), ids(page));
+    }
+
+    @Test
+    void shouldCompactAfterManyDeletes() {
+        // Given
+        List<Product> products = products(4000);
+        repository.saveAll(products);
+
+        // When
+        for (int i = 0; i < products.size(); i += 2) {
+            repository.deleteById(products.get(i).getId());
+        }
+
+        // Then
+        assertEquals(2000, repository.getSize());
+        assertTrue(repository.getDeletedRows() < 1024);
+        for (int i = 0; i < products.size(); i++) {
+            assertEquals(i % 2 == 1, repository.findById(products.get(i).getId()).isPresent());
+        }
+        assertEquals(products.get(1).getId(), repository.findPage(null, 1).get(0).getId());
+    }
+
+    @Test
+    void shouldStoreEachDistinctNameOnce() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            products.add(Product.create(ProductId.generate(), "Name " + (i % 3), new Money(1.0)));
+        }
+
+        // When
+        repository.saveAll(products);
+
+        // Then
+        assertEquals(3, repository.getDistinctNames());
+
+        // When
+        products.stream()
+            .filter(product -> product.getName().equals("Name 0"))
+            .forEach(product -> repository.deleteById(product.getId()));
+
+        // Then
+        assertEquals(2, repository.getDistinctNames());
+    }
+
+    @Test
+    void shouldServeConsistentReadsDuringConcurrentWrites() throws Exception {
+        // Given
+        List<Product> products = products(1000);
+        repository.saveAll(products);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            Future<?> writer = executor.submit(() -> {
+                started.countDown();
+                for (int round = 0; round < 20; round++) {
+                    for (Product product : products) {
+                        product.update("Renamed " + round, Money.ofCents((round + 1) * 100L));
+                        assertTrue(repository.update(product));
+                    }
+                    repository.insert(Product.create(ProductId.generate(), "Extra " + round, new Money(1.0)));
+                }
+                writing.set(false);
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int reader = 0; reader < 3; reader++) {
+                readers.add(executor.submit(() -> {
+                    started.await();
+                    while (writing.get()) {
+                        for (Product product : products) {
+                            Product found = repository.findById(product.getId()).orElseThrow();
+                            // Name and price must come from the same write
+                            if (found.getVersion() > 0) {
+                                long round = found.getVersion() - 1;
+                                assertEquals("Renamed " + round, found.getName());
+                                assertEquals((round + 1) * 100L, found.getPrice().getCents());
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            // Then
+            writer.get(30, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1020, repository.getSize());
+    }
+
+    @Test
+    void shouldPageFilteredQueriesInEverySortOrder() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Product product = Product.create(ProductId.generate(), (i % 2 == 0 ? "Desk " : "Chair ") + (i % 7),
+                Money.ofCents(100L * (i % 10)));
+            if (i % 3 == 0) {
+                product.deactivate();
+            }
+            products.add(product);
+        }
+        repository.saveAll(products);
+        repository.deleteById(products.get(4).getId());
+
+        for (ProductSort sort : ProductSort.values()) {
+            ProductQuery filter = ProductQuery.builder()
+                .status(ProductStatus.ACTIVE)
+                .minPrice(Money.ofCents(200))
+                .maxPrice(Money.ofCents(700))
+                .namePrefix("Desk")
+                .sort(sort)
+                .build();
+            List<Product> expected = repository.findAll().stream()
+                .filter(filter::matches)
+                .sorted(sort.comparator())
+                .toList();
+
+            // When
+            List<Product> paged = new ArrayList<>();
+            ProductCursor after = null;
+            List<Product> page;
+            do {
+                page = repository.findPage(ProductQuery.builder()
+                    .status(ProductStatus.ACTIVE)
+                    .minPrice(Money.ofCents(200))
+                    .maxPrice(Money.ofCents(700))
+                    .namePrefix("Desk")
+                    .sort(sort)
+                    .after(after)
+                    .limit(7)
+                    .build());
+                paged.addAll(page);
+                after = page.isEmpty() ? after : ProductCursor.of(sort, page.get(page.size() - 1));
+            } while (page.size() == 7);
+
+            // Then
+            assertFalse(expected.isEmpty());
+            assertEquals(ids(expected), ids(paged), sort.name());
+        }
+    }
+
+    private static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.create(ProductId.generate(), "Product " + i, Money.ofCents(100L + i)));
+        }
+        return products;
+    }
+
+    private static List<ProductId> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.cache.CachingProductRepository;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter.JpaProductRepositoryAdapter;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:inmemoryprofile")
+@AutoConfigureMockMvc
+@ActiveProfiles("inmemory")
+class InMemoryProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ColumnarProductRepository columnarProductRepository;
+
+    @Test
+    void shouldReplaceJpaAdapterWithColumnarRepository() throws Exception {
+        // Given
+        assertTrue(context.getBeansOfType(JpaProductRepositoryAdapter.class).isEmpty());
+        assertTrue(context.getBeansOfType(CachingProductRepository.class).isEmpty());
+        int before = columnarProductRepository.getSize();
+
+        // When
+        String body = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"In-Memory Product\",\"price\":12.5}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        // Then
+        assertEquals(before + 1, columnarProductRepository.getSize());
+        mockMvc.perform(get("/api/products/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("In-Memory Product"))
+            .andExpect(jsonPath("$.price").value(12.5));
+    }
+
+    @Test
+    void shouldFindCreatedProductByNameOnceEventIsDelivered() throws Exception {
+        // Given
+        String body = mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ergonomic Standing Desk\",\"price\":499.0}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        // When
+        List<String> found = List.of();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!found.contains(id) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            found = JsonPath.read(mockMvc.perform(get("/api/products/search").param("q", "standng desk"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$[*].id");
+        }
+
+        // Then
+        assertTrue(found.contains(id));
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductCursor;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductQuery;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSort;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductEntityMapper;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataProductRepository;
+
+/**
+ * Planos de execução das consultas filtradas: cada combinação de filtro, ordenação e cursor
+ * deve ser resolvida por um dos índices de {@code products}, e não por varredura da tabela.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplantest",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.StatementCounter",
+    "product.cache.enabled=false",
+    "product.events.outbox.enabled=false",
+    "product.events.async.enabled=false"
+})
+class ProductQueryPlanTest {
+
+    @Autowired
+    private SpringDataProductRepository productRepository;
+
+    @Autowired
+    private ProductEntityMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        products = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Product product = Product.create(ProductId.generate(), "Product " + i, Money.ofCents(100L + i));
+            if (i % 2 == 0) {
+                product.deactivate();
+            }
+            products.add(product);
+        }
+        productRepository.insertAll(products.stream().map(mapper::toEntity).toList());
+        // Estatísticas atualizadas: sem elas o H2 estima as seletividades pela tabela vazia
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSeekThroughIndexesWithoutSorting() {
+        // When / Then
+        assertPlan(query(ProductSort.ID).after(cursor(ProductSort.ID)), "PRIMARY_KEY", true);
+        assertPlan(query(ProductSort.PRICE_ASC).minPrice(Money.ofCents(500)).after(cursor(ProductSort.PRICE_ASC)),
+            "IDX_PRODUCTS_PRICE_ID", true);
+        assertPlan(query(ProductSort.PRICE_DESC).maxPrice(Money.ofCents(1_500)).after(cursor(ProductSort.PRICE_DESC)),
+            "IDX_PRODUCTS_PRICE_DESC_ID", true);
+        assertPlan(query(ProductSort.NAME_ASC).namePrefix("Product 1").after(cursor(ProductSort.NAME_ASC)),
+            "IDX_PRODUCTS_NAME_ID", true);
+    }
+
+    @Test
+    void shouldUseStatusIndexesForStatusFilters() {
+        // When / Then
+        assertPlan(query(ProductSort.ID).status(ProductStatus.ACTIVE).after(cursor(ProductSort.ID)),
+            "IDX_PRODUCTS_STATUS_ID", false);
+        assertPlan(query(ProductSort.PRICE_ASC).status(ProductStatus.INACTIVE).minPrice(Money.ofCents(500)),
+            "IDX_PRODUCTS_STATUS_PRICE_ID", false);
+        assertPlan(query(ProductSort.NAME_ASC).status(ProductStatus.ACTIVE).namePrefix("Product 1"),
+            "IDX_PRODUCTS_STATUS_NAME_ID", false);
+    }
+
+    @Test
+    void shouldPageFilteredQueriesInEverySortOrder() {
+        for (ProductSort sort : ProductSort.values()) {
+            // Given
+            ProductQuery filter = query(sort)
+                .status(ProductStatus.ACTIVE)
+                .minPrice(Money.ofCents(200))
+                .maxPrice(Money.ofCents(1_900))
+                .namePrefix("Product 1")
+                .build();
+            List<Product> expected = products.stream()
+                .filter(filter::matches)
+                .sorted(sort.comparator())
+                .toList();
+
+            // When
+            List<Product> paged = new ArrayList<>();
+            ProductCursor after = null;
+            List<Product> page;
+            do {
+                page = productRepository.findPage(query(sort)
+                        .status(ProductStatus.ACTIVE)
+                        .minPrice(Money.ofCents(200))
+                        .maxPrice(Money.ofCents(1_900))
+                        .namePrefix("Product 1")
+                        .after(after)
+                        .limit(50)
+                        .build())
+                    .stream()
+                    .map(mapper::toDomain)
+                    .toList();
+                paged.addAll(page);
+                after = page.isEmpty() ? after : ProductCursor.of(sort, page.get(page.size() - 1));
+            } while (page.size() == 50);
+
+            // Then
+            assertFalse(expected.isEmpty());
+            assertEquals(ids(expected), ids(paged), sort.name());
+        }
+    }
+
+    private ProductQuery.ProductQueryBuilder query(ProductSort sort) {
+        return ProductQuery.builder().sort(sort).limit(10);
+    }
+
+    private ProductCursor cursor(ProductSort sort) {
+        return ProductCursor.of(sort, products.get(products.size() / 2));
+    }
+
+    /**
+     * Executa a consulta, captura o SQL gerado e confere o plano do H2: leitura por intervalo no
+     * índice esperado, nunca varredura da tabela, e, quando {@code sorted}, sem etapa de ordenação.
+     */
+    private void assertPlan(ProductQuery.ProductQueryBuilder query, String index, boolean sorted) {
+        StatementCounter.reset();
+        productRepository.findPage(query.build());
+        List<String> statements = StatementCounter.statements();
+        assertEquals(1, statements.size());
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + statements.get(0), String.class);
+
+        assertTrue(plan.contains("PUBLIC." + index), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+        assertEquals(sorted, plan.contains("index sorted"), plan);
+    }
+
+    private static List<ProductId> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,280 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.BulkStatusCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.BulkStatusResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductResponse;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductRepository;
+import br.com.lefranchi.hexagonal.demo.application.port.output.ProductSelection;
+import br.com.lefranchi.hexagonal.demo.domain.exception.InvalidProductException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductNotFoundException;
+import br.com.lefranchi.hexagonal.demo.domain.exception.ProductVersionConflictException;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.PriceChange;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapter.JpaProductRepositoryAdapter;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataProductRepository;
+
+/**
+ * Quantidade de instruções SQL por caso de uso de escrita (e pela consulta de versão), com o cache de produtos
+ * desligado (pior caso) e sem outbox, para medir apenas o caminho da tabela de produtos.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statementcounttest",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.StatementCounter",
+    "product.cache.enabled=false",
+    "product.events.outbox.enabled=false",
+    "product.events.async.enabled=false"
+})
+class ProductWriteStatementCountTest {
+
+    @Autowired
+    private ProductManagementUseCase productManagement;
+
+    @Autowired
+    private SpringDataProductRepository productRepository;
+
+    @Autowired
+    private ProductRepository productPort;
+
+    private ProductId existingId;
+
+    @BeforeEach
+    void setUp() {
+        existingId = new ProductId(productManagement.createProduct(new CreateProductCommand("Existing Product", 10.0)).getId());
+        StatementCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCreateWithSingleInsert() {
+        // When
+        productManagement.createProduct(new CreateProductCommand("New Product", 5.0));
+
+        // Then
+        assertStatements("insert");
+    }
+
+    @Test
+    void shouldUpdateWithOneReadAndOneUpdate() {
+        // When
+        ProductResponse response = productManagement.updateProduct(existingId, new UpdateProductCommand("Renamed Product", -1.0));
+
+        // Then
+        assertStatements("select", "update");
+        assertEquals("INACTIVE", response.getStatus());
+        assertEquals("Renamed Product", productRepository.findById(existingId.toUuid()).orElseThrow().getName());
+    }
+
+    @Test
+    void shouldActivateWithOneReadAndOneConditionalUpdate() {
+        // Given
+        productManagement.deactivateProduct(existingId);
+        StatementCounter.reset();
+
+        // When
+        ProductResponse response = productManagement.activateProduct(existingId);
+
+        // Then
+        assertStatements("select", "update");
+        assertEquals("ACTIVE", response.getStatus());
+    }
+
+    @Test
+    void shouldNotIssueUpdateWhenDomainRejectsActivation() {
+        // Given
+        productManagement.updateProduct(existingId, new UpdateProductCommand(null, -1.0));
+        StatementCounter.reset();
+
+        // When
+        assertThrows(InvalidProductException.class, () -> productManagement.activateProduct(existingId));
+
+        // Then
+        assertStatements("select");
+    }
+
+    @Test
+    void shouldDeactivateWithOneReadAndOneUpdate() {
+        // When
+        ProductResponse response = productManagement.deactivateProduct(existingId);
+
+        // Then
+        assertStatements("select", "update");
+        assertEquals("INACTIVE", response.getStatus());
+    }
+
+    @Test
+    void shouldDeleteWithSingleStatement() {
+        // When
+        productManagement.deleteProduct(existingId);
+
+        // Then
+        assertSingleDelete();
+        assertFalse(productRepository.existsById(existingId.toUuid()));
+    }
+
+    @Test
+    void shouldDeleteExpectedVersionWithSingleConditionalStatement() {
+        // When
+        productManagement.deleteProduct(existingId, 0L);
+
+        // Then
+        assertSingleDelete();
+        assertFalse(productRepository.existsById(existingId.toUuid()));
+    }
+
+    @Test
+    void shouldRejectStaleVersionWithoutWriting() {
+        // Given
+        productManagement.deactivateProduct(existingId);
+        StatementCounter.reset();
+
+        // When
+        assertThrows(ProductVersionConflictException.class,
+            () -> productManagement.updateProduct(existingId, new UpdateProductCommand("Stale Name", null), 0L));
+
+        // Then
+        assertStatements("select");
+    }
+
+    @Test
+    void shouldReadVersionWithoutLoadingProduct() {
+        // When
+        long version = productManagement.findProductVersion(existingId);
+
+        // Then
+        assertEquals(0, version);
+        assertStatements("select");
+        String sql = StatementCounter.statements().get(0);
+        assertTrue(sql.contains("version"));
+        assertFalse(sql.contains("name"), sql);
+    }
+
+    @Test
+    void shouldReportMissingProductOnDeleteWithSingleStatement() {
+        // When
+        ProductId missingId = ProductId.generate();
+        assertThrows(ProductNotFoundException.class, () -> productManagement.deleteProduct(missingId));
+
+        // Then
+        assertSingleDelete();
+    }
+
+    @Test
+    void shouldChangeStatusOfSelectionWithOneStatementPerChunk() {
+        // Given
+        productManagement.createProduct(new CreateProductCommand("Negative Product", -1.0));
+        StatementCounter.reset();
+
+        // When
+        BulkStatusResponse deactivated = productManagement.deactivateProducts(BulkStatusCommand.builder()
+            .ids(List.of(existingId.getValue()))
+            .build());
+
+        // Then
+        assertEquals(1, deactivated.getAffected());
+        assertStatements("select");
+        String sql = StatementCounter.statements().get(0).toLowerCase();
+        assertTrue(sql.contains("final table (update products"), sql);
+
+        // When
+        StatementCounter.reset();
+        BulkStatusResponse activated = productManagement.activateProducts(BulkStatusCommand.builder()
+            .status(ProductStatus.INACTIVE)
+            .build());
+
+        // Then
+        assertEquals(1, activated.getAffected());
+        assertEquals(1, activated.getRejected());
+        assertStatements("select", "select");
+        var stored = productRepository.findById(existingId.toUuid()).orElseThrow();
+        assertEquals(ProductStatus.ACTIVE, stored.getStatus());
+        assertEquals(2, stored.getVersion());
+    }
+
+    @Test
+    void shouldRepriceChunkWithSingleStatementAndDomainRounding() {
+        // Given
+        ProductId negativeId = new ProductId(productManagement.createProduct(new CreateProductCommand("Cheap Product", 0.05)).getId());
+        productManagement.updateProduct(existingId, new UpdateProductCommand(null, 10.05));
+        ProductSelection all = ProductSelection.builder().build();
+        StatementCounter.reset();
+
+        // When
+        List<Product> previous = productPort.reprice(all, PriceChange.percentage(new BigDecimal("10")), null, 10);
+
+        // Then
+        assertStatements("select");
+        String sql = StatementCounter.statements().get(0).toLowerCase();
+        assertTrue(sql.contains("old table (update products"), sql);
+        assertEquals(List.of(existingId, negativeId), previous.stream().map(Product::getId).toList());
+        assertEquals(new Money(10.05), previous.get(0).getPrice());
+        var raised = productRepository.findById(existingId.toUuid()).orElseThrow();
+        assertEquals(new BigDecimal("11.06"), raised.getPrice());
+        assertEquals(2, raised.getVersion());
+
+        // When
+        productPort.reprice(all, PriceChange.amount(new Money(-0.10)), existingId, 10);
+
+        // Then
+        var negative = productRepository.findById(negativeId.toUuid()).orElseThrow();
+        assertEquals(new BigDecimal("-0.04"), negative.getPrice());
+        assertEquals(ProductStatus.INACTIVE, negative.getStatus());
+        assertEquals(2, negative.getVersion());
+        assertEquals(ProductStatus.ACTIVE, productRepository.findById(existingId.toUuid()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void shouldFindManyProductsWithOneQueryPerChunk() {
+        // Given
+        List<ProductId> ids = new ArrayList<>();
+        for (int i = 0; i < JpaProductRepositoryAdapter.FIND_BY_IDS_CHUNK_SIZE; i++) {
+            ids.add(new ProductId(0L, i + 1L));
+        }
+        ids.add(existingId);
+
+        // When
+        List<Product> found = productPort.findAllById(ids);
+
+        // Then
+        assertEquals(List.of(existingId), found.stream().map(Product::getId).toList());
+        assertStatements("select", "select");
+    }
+
+    /** O DELETE devolve a linha removida: é uma única instrução, lida como tabela de delta. */
+    private static void assertSingleDelete() {
+        assertStatements("select");
+        String sql = StatementCounter.statements().get(0).toLowerCase();
+        assertTrue(sql.contains("old table (delete from products"), sql);
+    }
+
+    private static void assertStatements(String... expectedKinds) {
+        List<String> statements = StatementCounter.statements();
+        List<String> kinds = statements.stream()
+            .map(sql -> sql.trim().split("\\s+", 2)[0].toLowerCase())
+            .toList();
+        assertEquals(List.of(expectedKinds), kinds, () -> "Executed SQL: " + statements);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registra todo SQL preparado pelo Hibernate. Instanciado pelo próprio Hibernate a partir
+ * de {@code hibernate.session_factory.statement_inspector}, por isso o estado é estático.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        statements.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(statements);
+    }
+}
@@ -2,10 +2,12 @@ package br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.adapte
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import br.com.lefranchi.hexagonal.demo.domain.model.Product;
 import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
 import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.entity.ProductEntity;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.mapper.ProductEntityMapper;
 import br.com.lefranchi.hexagonal.demo.infrastructure.output.persistence.repository.SpringDataProductRepository;
@@ -39,11 +43,11 @@ class JpaProductRepositoryAdapterTest {
     
     @BeforeEach
     void setUp() {
-        productId = new ProductId("123");
+        productId = new ProductId("018f3a5e-7c00-7000-8000-000000000123");
         product = Product.create(productId, "Test Product", new Money(10.0));
         
         entity = new ProductEntity();
-        entity.setId(productId.getValue());
+        entity.setId(productId.toUuid());
         entity.setName("Test Product");
         entity.setPrice(product.getPrice().getAmount());
         entity.setStatus(product.getStatus());
@@ -52,7 +56,7 @@ class JpaProductRepositoryAdapterTest {
     @Test
     void shouldFindById() {
         // Given
-        when(repository.findById(productId.getValue())).thenReturn(Optional.of(entity));
+        when(repository.findById(productId.toUuid())).thenReturn(Optional.of(entity));
         when(mapper.toDomain(entity)).thenReturn(product);
         
         // When
@@ -62,14 +66,14 @@ class JpaProductRepositoryAdapterTest {
         assertTrue(result.isPresent());
         assertEquals(product, result.get());
         
-        verify(repository).findById(productId.getValue());
+        verify(repository).findById(productId.toUuid());
         verify(mapper).toDomain(entity);
     }
     
     @Test
     void shouldReturnEmptyWhenNotFound() {
         // Given
-        when(repository.findById(productId.getValue())).thenReturn(Optional.empty());
+        when(repository.findById(productId.toUuid())).thenReturn(Optional.empty());
         
         // When
         Optional<Product> result = adapter.findById(productId);
@@ -77,7 +81,7 @@ class JpaProductRepositoryAdapterTest {
         // Then
         assertFalse(result.isPresent());
         
-        verify(repository).findById(productId.getValue());
+        verify(repository).findById(productId.toUuid());
         verify(mapper, never()).toDomain(any());
     }
     
@@ -99,6 +103,38 @@ class JpaProductRepositoryAdapterTest {
         verify(mapper).toDomain(entity);
     }
     
+    @Test
+    void shouldFindFirstPage() {
+        // Given
+        when(repository.findAllByOrderByIdAsc(Limit.of(10))).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(product);
+        
+        // When
+        List<Product> result = adapter.findPage(null, 10);
+        
+        // Then
+        assertEquals(List.of(product), result);
+        
+        verify(repository).findAllByOrderByIdAsc(Limit.of(10));
+        verify(repository, never()).findAll();
+    }
+    
+    @Test
+    void shouldFindPageAfterCursor() {
+        // Given
+        ProductId after = new ProductId("018f3a5e-7c00-7000-8000-000000000100");
+        when(repository.findByIdGreaterThanOrderByIdAsc(after.toUuid(), Limit.of(10))).thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(product);
+        
+        // When
+        List<Product> result = adapter.findPage(after, 10);
+        
+        // Then
+        assertEquals(List.of(product), result);
+        
+        verify(repository).findByIdGreaterThanOrderByIdAsc(after.toUuid(), Limit.of(10));
+    }
+    
     @Test
     void shouldSave() {
         // Given
@@ -118,12 +154,122 @@ class JpaProductRepositoryAdapterTest {
         verify(mapper).toDomain(entity);
     }
     
+    @Test
+    void shouldInsertAllInBatch() {
+        // Given
+        when(mapper.toEntity(product)).thenReturn(entity);
+        
+        // When
+        List<Product> result = adapter.saveAll(List.of(product));
+        
+        // Then
+        assertEquals(List.of(product), result);
+        
+        verify(repository).insertAll(List.of(entity));
+        verify(repository, never()).saveAll(any());
+    }
+    
+    @Test
+    void shouldInsertWithoutSelect() {
+        // Given
+        when(mapper.toEntity(product)).thenReturn(entity);
+        
+        // When
+        adapter.insert(product);
+        
+        // Then
+        verify(repository).insert(entity);
+        verify(repository, never()).save(any());
+    }
+    
+    @Test
+    void shouldUpdateConditionallyOnPreviousVersion() {
+        // Given
+        product.update("Updated Product", null);
+        when(repository.updateById(productId.toUuid(), "Updated Product", product.getPrice().getAmount(), ProductStatus.ACTIVE, 1L))
+            .thenReturn(1);
+        
+        // When
+        boolean updated = adapter.update(product);
+        
+        // Then
+        assertTrue(updated);
+        verify(repository, never()).findById(any());
+    }
+    
+    @Test
+    void shouldReportConcurrentChangeOnUpdate() {
+        // Given
+        when(repository.updateById(any(), any(), any(), any(), anyLong())).thenReturn(0);
+        
+        // When
+        boolean updated = adapter.update(product);
+        
+        // Then
+        assertFalse(updated);
+    }
+    
+    @Test
+    void shouldUpdateStatusConditionallyOnPreviousVersion() {
+        // Given
+        product.deactivate();
+        when(repository.updateStatusById(productId.toUuid(), ProductStatus.INACTIVE, 1L)).thenReturn(1);
+        
+        // When
+        boolean updated = adapter.updateStatus(product);
+        
+        // Then
+        assertTrue(updated);
+    }
+    
+    @Test
+    void shouldFindVersionOnly() {
+        // Given
+        when(repository.findVersionById(productId.toUuid())).thenReturn(Optional.of(3L));
+        
+        // When
+        OptionalLong version = adapter.findVersion(productId);
+        
+        // Then
+        assertEquals(OptionalLong.of(3), version);
+        verify(repository, never()).findById(any());
+    }
+    
+    @Test
+    void shouldDeleteExpectedVersion() {
+        // Given
+        when(repository.removeByIdAndVersion(productId.toUuid(), 2L)).thenReturn(Optional.empty());
+        
+        // When
+        Optional<Product> deleted = adapter.deleteById(productId, 2L);
+        
+        // Then
+        assertTrue(deleted.isEmpty());
+    }
+    
     @Test
     void shouldDeleteById() {
+        // Given
+        when(repository.removeById(productId.toUuid())).thenReturn(Optional.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(product);
+        
+        // When
+        Optional<Product> deleted = adapter.deleteById(productId);
+        
+        // Then
+        assertEquals(Optional.of(product), deleted);
+        verify(repository, never()).deleteById(any());
+    }
+    
+    @Test
+    void shouldReportMissingProductOnDelete() {
+        // Given
+        when(repository.removeById(productId.toUuid())).thenReturn(Optional.empty());
+        
         // When
-        adapter.deleteById(productId);
+        Optional<Product> deleted = adapter.deleteById(productId);
         
         // Then
-        verify(repository).deleteById(productId.getValue());
+        assertTrue(deleted.isEmpty());
     }
 }
\ No newline at end of file
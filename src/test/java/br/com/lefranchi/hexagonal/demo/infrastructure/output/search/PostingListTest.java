@@ -0,0 +1,57 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+    @Test
+    void shouldIterateDocumentsInOrderAcrossBlocks() {
+        // Given
+        PostingList postings = new PostingList();
+        for (int doc = 0; doc < 1_000; doc++) {
+            postings.add(doc * 300);
+            postings.add(doc * 300);
+        }
+
+        // When
+        PostingList.Cursor cursor = postings.cursor();
+
+        // Then
+        assertEquals(1_000, postings.size());
+        for (int doc = 0; doc < 1_000; doc++) {
+            assertEquals(doc * 300, cursor.next());
+        }
+        assertEquals(PostingList.NO_MORE, cursor.next());
+    }
+
+    @Test
+    void shouldAdvanceToFirstDocumentAtOrAfterTarget() {
+        // Given
+        PostingList postings = new PostingList();
+        for (int doc = 0; doc < 10_000; doc += 3) {
+            postings.add(doc);
+        }
+        PostingList.Cursor cursor = postings.cursor();
+
+        // When / Then
+        assertEquals(0, cursor.advance(0));
+        assertEquals(3, cursor.advance(1));
+        assertEquals(3, cursor.advance(3));
+        assertEquals(5_001, cursor.advance(5_000));
+        assertEquals(5_004, cursor.next());
+        assertEquals(9_999, cursor.advance(9_998));
+        assertEquals(PostingList.NO_MORE, cursor.advance(10_000));
+    }
+
+    @Test
+    void shouldRejectDocumentsOutOfOrder() {
+        // Given
+        PostingList postings = new PostingList();
+        postings.add(10);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> postings.add(9));
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEvent;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.event.ProductEventType;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+class TrigramProductSearchIndexTest {
+
+    private TrigramProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramProductSearchIndex(4);
+    }
+
+    @Test
+    void shouldFindSubstringIgnoringCaseAndAccents() {
+        // Given
+        Product keyboard = product("Teclado Mecânico");
+        Product mouse = product("Mouse Óptico");
+        index.handle(created(keyboard, mouse));
+
+        // When / Then
+        assertEquals(List.of(keyboard.getId()), index.search("MECANICO", 10));
+        assertEquals(List.of(mouse.getId()), index.search("optic", 10));
+        assertEquals(List.of(), index.search("monitor", 10));
+    }
+
+    @Test
+    void shouldTolerateTyposAndRankCloserNamesFirst() {
+        // Given
+        Product keyboard = product("Keyboard");
+        Product wirelessKeyboard = product("Wireless Keyboard with Numeric Pad");
+        Product monitor = product("Monitor");
+        index.handle(created(wirelessKeyboard, monitor, keyboard));
+
+        // When
+        List<ProductId> found = index.search("keybord", 10);
+
+        // Then
+        assertEquals(List.of(keyboard.getId(), wirelessKeyboard.getId()), found);
+        assertEquals(List.of(keyboard.getId()), index.search("keybord", 1));
+    }
+
+    @Test
+    void shouldApplyUpdatesAndDeletesFromEvents() {
+        // Given
+        Product product = product("Office Chair");
+        Product removed = product("Office Desk");
+        index.handle(created(product, removed));
+
+        // When
+        product.update("Gaming Chair", new Money(100.0));
+        index.handle(List.of(
+            ProductEvent.of(ProductEventType.UPDATED, product),
+            ProductEvent.deleted(removed.getId())));
+
+        // Then
+        assertEquals(List.of(), index.search("office", 10));
+        assertEquals(List.of(product.getId()), index.search("gaming", 10));
+        assertEquals(1, index.getDocuments());
+        assertEquals(2, index.getDeletedDocuments());
+    }
+
+    @Test
+    void shouldCompactWhenMostDocumentsAreDeleted() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            products.add(product("Product " + i));
+        }
+        index.handle(created(products.toArray(Product[]::new)));
+        List<ProductEvent> deletes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            deletes.add(ProductEvent.deleted(products.get(i).getId()));
+        }
+
+        // When
+        index.handle(deletes);
+
+        // Then
+        assertEquals(1_000, index.getDocuments());
+        assertEquals(0, index.getDeletedDocuments());
+        assertEquals(List.of(products.get(2_999).getId()), index.search("Product 2999", 1));
+        assertEquals(List.of(), index.search("Product 1999", 10).stream()
+            .filter(id -> id.equals(products.get(1_999).getId()))
+            .toList());
+    }
+
+    @Test
+    void shouldRebuildFromRepositoryLikeIncrementalIndexing() {
+        // Given
+        ColumnarProductRepository repository = new ColumnarProductRepository(16);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Product product = product((i % 2 == 0 ? "Desk Lamp " : "Floor Lamp ") + i);
+            repository.insert(product);
+            products.add(product);
+        }
+        TrigramProductSearchIndex incremental = new TrigramProductSearchIndex(1);
+        incremental.handle(created(products.toArray(Product[]::new)));
+
+        // When
+        index.rebuild(repository);
+
+        // Then
+        assertEquals(5_000, index.getDocuments());
+        assertEquals(incremental.getTrigrams(), index.getTrigrams());
+        for (String query : List.of("desk lamp 42", "flor lamp 4999", "lamp 1")) {
+            assertEquals(incremental.search(query, 20), index.search(query, 20), query);
+        }
+    }
+
+    @Test
+    void shouldCatchUpOnWritesWithoutEventsWhenRebuilt() {
+        // Given
+        ColumnarProductRepository repository = new ColumnarProductRepository(16);
+        Product indexed = product("Standing Desk");
+        Product removed = product("Office Chair");
+        Product unseen = product("Monitor Arm");
+        repository.insert(indexed);
+        repository.insert(removed);
+        index.handle(created(indexed, removed));
+        repository.deleteById(removed.getId());
+        repository.insert(unseen);
+
+        // When
+        index.rebuild(repository);
+
+        // Then
+        assertEquals(2, index.getDocuments());
+        assertEquals(List.of(unseen.getId()), index.search("monitor arm", 10));
+        assertEquals(List.of(), index.search("office chair", 10));
+        assertEquals(List.of(indexed.getId()), index.search("standing desk", 10));
+    }
+
+    private static Product product(String name) {
+        return Product.create(ProductId.generate(), name, new Money(10.0));
+    }
+
+    private static List<ProductEvent> created(Product... products) {
+        List<ProductEvent> events = new ArrayList<>(products.length);
+        for (Product product : products) {
+            events.add(ProductEvent.of(ProductEventType.CREATED, product));
+        }
+        return events;
+    }
+}
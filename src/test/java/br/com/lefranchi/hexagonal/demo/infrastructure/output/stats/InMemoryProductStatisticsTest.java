@@ -0,0 +1,185 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.lefranchi.hexagonal.demo.application.port.output.CatalogStatistics;
+import br.com.lefranchi.hexagonal.demo.domain.model.Product;
+import br.com.lefranchi.hexagonal.demo.domain.vo.Money;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductStatus;
+import br.com.lefranchi.hexagonal.demo.infrastructure.output.memory.ColumnarProductRepository;
+
+class InMemoryProductStatisticsTest {
+
+    private ColumnarProductRepository storage;
+    private InMemoryProductStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ColumnarProductRepository(16);
+        statistics = new InMemoryProductStatistics(storage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldKeepMinAndMaxAcrossDeletesAndPriceChanges() {
+        // Given
+        Product cheap = Product.create(ProductId.generate(), "Cable", new Money(2.0));
+        Product middle = Product.create(ProductId.generate(), "Mouse", new Money(20.0));
+        Product expensive = Product.create(ProductId.generate(), "Monitor", new Money(300.0));
+        statistics.productsAdded(List.of(cheap, middle, expensive));
+
+        // When
+        statistics.productRemoved(expensive);
+        Money previousPrice = cheap.getPrice();
+        cheap.update(null, new Money(25.0));
+        statistics.productChanged(ProductStatus.ACTIVE, previousPrice, cheap);
+
+        // Then
+        CatalogStatistics current = statistics.current();
+        assertEquals(2, current.total());
+        assertEquals(new Money(45.0), current.priceSum());
+        assertEquals(new Money(20.0), current.minPrice());
+        assertEquals(new Money(25.0), current.maxPrice());
+    }
+
+    @Test
+    void shouldCountByStatusAndClearPricesWhenCatalogEmpties() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        statistics.productAdded(product);
+        product.deactivate();
+        statistics.productChanged(ProductStatus.ACTIVE, product.getPrice(), product);
+        assertEquals(Map.of(ProductStatus.ACTIVE, 0L, ProductStatus.INACTIVE, 1L), statistics.current().counts());
+
+        // When
+        statistics.productRemoved(product);
+
+        // Then
+        CatalogStatistics current = statistics.current();
+        assertEquals(0, current.total());
+        assertEquals(Money.ofCents(0), current.priceSum());
+        assertNull(current.minPrice());
+        assertNull(current.maxPrice());
+    }
+
+    @Test
+    void shouldApplyChangesOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        statistics.productAdded(Product.create(ProductId.generate(), "Keyboard", new Money(10.0)));
+        assertEquals(0, statistics.current().total());
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(1, statistics.current().total());
+    }
+
+    @Test
+    void shouldLoadFromStorageAndCorrectDrift() {
+        // Given
+        storage.insert(Product.create(ProductId.generate(), "Keyboard", new Money(10.0)));
+        storage.insert(Product.create(ProductId.generate(), "Mouse", new Money(-1.0)));
+        statistics.reconcile();
+        assertEquals(2, statistics.current().total());
+        assertEquals(new Money(-1.0), statistics.current().minPrice());
+
+        // When: a write that did not go through the use cases
+        storage.insert(Product.create(ProductId.generate(), "Monitor", new Money(300.0)));
+        statistics.reconcile();
+
+        // Then
+        CatalogStatistics current = statistics.current();
+        assertEquals(Map.of(ProductStatus.ACTIVE, 2L, ProductStatus.INACTIVE, 1L), current.counts());
+        assertEquals(new Money(300.0), current.maxPrice());
+        assertEquals(1, statistics.getCorrections());
+        assertEquals(1, statistics.getReconciliations());
+    }
+
+    @Test
+    void shouldRescanWhenWriteLandsDuringInitialLoad() {
+        // Given: a product written after the first page of the scan was read
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        statistics = new InMemoryProductStatistics(writingDuringScan(1, product));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertEquals(1, statistics.current().total());
+        assertEquals(new Money(10.0), statistics.current().maxPrice());
+    }
+
+    @Test
+    void shouldRescanWhenWriteLandsDuringReconciliation() {
+        // Given
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        ColumnarProductRepository writing = writingDuringScan(2, product);
+        statistics = new InMemoryProductStatistics(writing);
+        writing.insert(Product.create(ProductId.generate(), "Mouse", new Money(20.0)));
+        statistics.reconcile();
+        statistics.productAdded(Product.create(ProductId.generate(), "Ghost", new Money(5.0)));
+
+        // When: the ghost product is drift, the keyboard a write during the scan
+        statistics.reconcile();
+
+        // Then
+        CatalogStatistics current = statistics.current();
+        assertEquals(2, current.total());
+        assertEquals(new Money(30.0), current.priceSum());
+        assertEquals(1, statistics.getCorrections());
+        assertEquals(0, statistics.getSkippedReconciliations());
+    }
+
+    @Test
+    void shouldNotCountMatchingReconciliationAsCorrection() {
+        // Given
+        statistics.reconcile();
+        Product product = Product.create(ProductId.generate(), "Keyboard", new Money(10.0));
+        storage.insert(product);
+        statistics.productAdded(product);
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertEquals(1, statistics.getReconciliations());
+        assertEquals(0, statistics.getCorrections());
+        assertEquals(1, statistics.current().total());
+    }
+
+    private ColumnarProductRepository writingDuringScan(int scan, Product product) {
+        return new ColumnarProductRepository(16) {
+            private int scans;
+
+            @Override
+            public List<Product> findPage(ProductId after, int limit) {
+                List<Product> page = super.findPage(after, limit);
+                if (after == null && ++scans == scan) {
+                    insert(product);
+                    statistics.productAdded(product);
+                }
+                return page;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.lefranchi.hexagonal.demo.infrastructure.output.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.lefranchi.hexagonal.demo.application.port.input.ProductManagementUseCase;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.CreateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.command.UpdateProductCommand;
+import br.com.lefranchi.hexagonal.demo.application.port.input.response.ProductStatisticsResponse;
+import br.com.lefranchi.hexagonal.demo.domain.vo.ProductId;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statisticstest",
+    "product.cache.enabled=false"
+})
+class ProductStatisticsIntegrationTest {
+
+    @Autowired
+    private ProductManagementUseCase productManagement;
+
+    @Autowired
+    private InMemoryProductStatistics statistics;
+
+    @Test
+    void shouldTrackCommittedWritesAndMatchStorage() {
+        // Given
+        statistics.reconcile();
+        ProductId keyboard = new ProductId(productManagement.createProduct(new CreateProductCommand("Keyboard", 10.0)).getId());
+        ProductId mouse = new ProductId(productManagement.createProduct(new CreateProductCommand("Mouse", 5.0)).getId());
+        ProductId monitor = new ProductId(productManagement.createProduct(new CreateProductCommand("Monitor", 300.0)).getId());
+
+        // When
+        productManagement.updateProduct(keyboard, new UpdateProductCommand(null, 12.5));
+        productManagement.deactivateProduct(mouse);
+        productManagement.deleteProduct(monitor);
+
+        // Then
+        ProductStatisticsResponse response = productManagement.getStatistics();
+        assertEquals(2, response.getTotal());
+        assertEquals(1L, response.getCountsByStatus().get("ACTIVE"));
+        assertEquals(1L, response.getCountsByStatus().get("INACTIVE"));
+        assertEquals(new BigDecimal("17.50"), response.getPriceSum());
+        assertEquals(new BigDecimal("8.75"), response.getPriceAverage());
+        assertEquals(new BigDecimal("5.00"), response.getMinPrice());
+        assertEquals(new BigDecimal("12.50"), response.getMaxPrice());
+
+        long corrections = statistics.getCorrections();
+        statistics.reconcile();
+        assertEquals(corrections, statistics.getCorrections());
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Open-model HTTP load generator.
+ *
+ * Each worker issues requests on a fixed schedule derived from the target rate. Latency is
+ * recorded from the time a request was supposed to start, not from when the worker got around to
+ * sending it, so a stalled server shows up in the histograms instead of silently lowering the
+ * request rate (coordinated omission). The raw service time is recorded alongside for comparison.
+ *
+ * Interval histograms are written to {@code latency.hlog} as the run progresses, tagged
+ * {@code <ROUTE>.corrected} and {@code <ROUTE>.service}.
+ */
+class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client;
+    private final URI base;
+    private final LoadTargets targets;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final Map<LoadRoute, RouteRecorder> recorders = new EnumMap<>(LoadRoute.class);
+
+    LoadGenerator(HttpClient client, URI base, LoadTargets targets, LoadTestSettings settings,
+            ObjectMapper objectMapper) {
+        this.client = client;
+        this.base = base;
+        this.targets = targets;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        for (LoadRoute route : settings.mix().routes()) {
+            recorders.put(route, new RouteRecorder());
+        }
+    }
+
+    LoadReport run() throws IOException, InterruptedException {
+        Files.createDirectories(settings.outputDir());
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        long interval = Math.max(1, TimeUnit.SECONDS.toNanos(settings.concurrency()) / settings.rate());
+
+        try (PrintStream log = new PrintStream(Files.newOutputStream(settings.outputDir().resolve("latency.hlog")))) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(System.currentTimeMillis());
+            logWriter.outputLegend();
+
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+            long reportMillis = settings.reportInterval().toMillis();
+            reporter.scheduleAtFixedRate(() -> collect(logWriter, System.nanoTime() >= measureFrom),
+                reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+
+            List<Thread> workers = new ArrayList<>(settings.concurrency());
+            for (int i = 0; i < settings.concurrency(); i++) {
+                long firstStart = start + interval * i / settings.concurrency();
+                Thread worker = new Thread(() -> work(firstStart, interval, measureFrom, end), "load-worker-" + i);
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            reporter.shutdown();
+            reporter.awaitTermination(reportMillis * 2, TimeUnit.MILLISECONDS);
+            collect(logWriter, true);
+        }
+
+        Map<LoadRoute, LoadReport.RouteResult> results = new EnumMap<>(LoadRoute.class);
+        recorders.forEach((route, recorder) -> results.put(route, recorder.result()));
+        return new LoadReport(settings, results);
+    }
+
+    private void work(long firstStart, long interval, long measureFrom, long end) {
+        for (long intendedStart = firstStart; intendedStart < end; intendedStart += interval) {
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LoadRoute route = settings.mix().next();
+            long sendStart = System.nanoTime();
+            boolean expected = send(route);
+            long done = System.nanoTime();
+
+            if (intendedStart >= measureFrom) {
+                recorders.get(route).record(done - intendedStart, done - sendStart, expected);
+            }
+        }
+    }
+
+    private boolean send(LoadRoute route) {
+        HttpRequest request = route.request(base, targets);
+        try {
+            if (route == LoadRoute.CREATE) {
+                HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+                if (response.statusCode() == 201) {
+                    targets.addCreated(objectMapper.readTree(response.body()).get("id").asText());
+                }
+                return route.isExpected(response.statusCode());
+            }
+            HttpResponse<Void> response = client.send(request, BodyHandlers.discarding());
+            return route.isExpected(response.statusCode());
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void collect(HistogramLogWriter logWriter, boolean keep) {
+        recorders.forEach((route, recorder) -> recorder.collect(route, logWriter, keep));
+    }
+
+    private static final class RouteRecorder {
+
+        private final Recorder corrected = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Recorder service = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram correctedTotal = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTotal = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private Histogram correctedInterval;
+        private Histogram serviceInterval;
+
+        void record(long correctedNanos, long serviceNanos, boolean expected) {
+            corrected.recordValue(Math.min(correctedNanos, HIGHEST_TRACKABLE_NANOS));
+            service.recordValue(Math.min(serviceNanos, HIGHEST_TRACKABLE_NANOS));
+            if (!expected) {
+                errors.increment();
+            }
+        }
+
+        void collect(LoadRoute route, HistogramLogWriter logWriter, boolean keep) {
+            correctedInterval = corrected.getIntervalHistogram(correctedInterval);
+            serviceInterval = service.getIntervalHistogram(serviceInterval);
+            if (!keep) {
+                return;
+            }
+            correctedInterval.setTag(route.name() + ".corrected");
+            serviceInterval.setTag(route.name() + ".service");
+            logWriter.outputIntervalHistogram(correctedInterval);
+            logWriter.outputIntervalHistogram(serviceInterval);
+            correctedTotal.add(correctedInterval);
+            serviceTotal.add(serviceInterval);
+        }
+
+        LoadReport.RouteResult result() {
+            return new LoadReport.RouteResult(correctedTotal, serviceTotal, errors.sum());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted route mix parsed from a spec such as {@code GET=90,UPDATE=8,ACTIVATE=2}.
+ */
+class LoadMix {
+
+    private final LoadRoute[] routes;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(Map<LoadRoute, Integer> weights) {
+        this.routes = new LoadRoute[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<LoadRoute, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            routes[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        this.totalWeight = total;
+    }
+
+    static LoadMix parse(String spec) {
+        Map<LoadRoute, Integer> weights = new EnumMap<>(LoadRoute.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in load mix: " + part);
+            }
+            if (weight > 0) {
+                weights.merge(LoadRoute.valueOf(pair[0].trim().toUpperCase()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no routes: " + spec);
+        }
+        return new LoadMix(weights);
+    }
+
+    LoadRoute next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return routes[i];
+            }
+        }
+        return routes[routes.length - 1];
+    }
+
+    LoadRoute[] routes() {
+        return routes.clone();
+    }
+}
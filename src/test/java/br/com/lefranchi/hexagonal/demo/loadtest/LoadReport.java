@@ -0,0 +1,73 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-route outcome of a load run: request and error counts plus latency percentiles.
+ */
+record LoadReport(LoadTestSettings settings, Map<LoadRoute, RouteResult> routes) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    record RouteResult(Histogram corrected, Histogram service, long errors) {
+
+        long count() {
+            return corrected.getTotalCount();
+        }
+
+        double errorRate() {
+            return count() == 0 ? 0 : (double) errors / count();
+        }
+
+        double correctedMillis(double percentile) {
+            return toMillis(corrected.getValueAtPercentile(percentile));
+        }
+    }
+
+    long totalCount() {
+        return routes.values().stream().mapToLong(RouteResult::count).sum();
+    }
+
+    long totalErrors() {
+        return routes.values().stream().mapToLong(RouteResult::errors).sum();
+    }
+
+    String summary() {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT,
+            "mix=%s concurrency=%d targetRate=%d/s duration=%ds achieved=%.1f/s errors=%d%n",
+            routes.keySet(), settings.concurrency(), settings.rate(), settings.duration().toSeconds(),
+            totalCount() / seconds, totalErrors()));
+        out.append(String.format(Locale.ROOT, "%-14s %-9s %9s %9s %10s %10s %10s %10s %10s%n",
+            "route", "latency", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        routes.forEach((route, result) -> {
+            out.append(row(route, "corrected", result.corrected(), result.errors()));
+            out.append(row(route, "service", result.service(), result.errors()));
+        });
+        return out.toString();
+    }
+
+    void write() throws IOException {
+        Files.writeString(settings.outputDir().resolve("summary.txt"), summary());
+    }
+
+    private static String row(LoadRoute route, String kind, Histogram histogram, long errors) {
+        StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%-14s %-9s %9d %9d",
+            route, kind, histogram.getTotalCount(), errors));
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(Locale.ROOT, " %10.3f", toMillis(histogram.getValueAtPercentile(percentile))));
+        }
+        return row.append(String.format(Locale.ROOT, " %10.3f%n", toMillis(histogram.getMaxValue()))).toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
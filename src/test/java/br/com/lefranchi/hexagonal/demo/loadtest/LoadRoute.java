@@ -0,0 +1,107 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The {@code ProductController} routes driven by the load generator.
+ */
+enum LoadRoute {
+
+    CREATE(Set.of(201)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "").POST(BodyPublishers.ofString(productJson("Load Product", 10.0))).build();
+        }
+    },
+    CREATE_BATCH(Set.of(201)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                body.append(i == 0 ? "" : ",").append(productJson("Load Batch Product " + i, 10.0 + i));
+            }
+            return json(base, "/batch").POST(BodyPublishers.ofString(body.append(']').toString())).build();
+        }
+    },
+    GET(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "/" + targets.randomSeeded()).GET().build();
+        }
+    },
+    LIST(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "?limit=100").GET().build();
+        }
+    },
+    STREAM(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return HttpRequest.newBuilder(base).header("Accept", "application/x-ndjson").GET().build();
+        }
+    },
+    UPDATE(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "/" + targets.randomSeeded())
+                .PUT(BodyPublishers.ofString(productJson("Updated Load Product", 12.5)))
+                .build();
+        }
+    },
+    ACTIVATE(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "/" + targets.randomSeeded() + "/activate")
+                .method("PATCH", BodyPublishers.noBody())
+                .build();
+        }
+    },
+    DEACTIVATE(Set.of(200)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            return json(base, "/" + targets.randomSeeded() + "/deactivate")
+                .method("PATCH", BodyPublishers.noBody())
+                .build();
+        }
+    },
+    /**
+     * Deletes products created during the run; once those run out it targets an unknown ID, so a
+     * 404 is an expected outcome rather than an error.
+     */
+    DELETE(Set.of(204, 404)) {
+        @Override
+        HttpRequest request(URI base, LoadTargets targets) {
+            String id = targets.pollCreated();
+            return json(base, "/" + (id != null ? id : UUID.randomUUID().toString())).DELETE().build();
+        }
+    };
+
+    static final int BATCH_SIZE = 50;
+
+    private final Set<Integer> expectedStatuses;
+
+    LoadRoute(Set<Integer> expectedStatuses) {
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    abstract HttpRequest request(URI base, LoadTargets targets);
+
+    boolean isExpected(int status) {
+        return expectedStatuses.contains(status);
+    }
+
+    private static HttpRequest.Builder json(URI base, String path) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+    }
+
+    private static String productJson(String name, double price) {
+        return "{\"name\":\"" + name + "\",\"price\":" + price + "}";
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Product IDs the routes operate on: a fixed seeded set for reads and updates, and the products
+ * created during the run, which are the only ones deleted.
+ */
+class LoadTargets {
+
+    private final List<String> seeded;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    LoadTargets(List<String> seeded) {
+        this.seeded = List.copyOf(seeded);
+    }
+
+    String randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    void addCreated(String id) {
+        created.add(id);
+    }
+
+    String pollCreated() {
+        return created.poll();
+    }
+}
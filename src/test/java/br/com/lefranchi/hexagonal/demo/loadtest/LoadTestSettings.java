@@ -0,0 +1,44 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test parameters, read from {@code load.*} system properties so they can be passed on the
+ * Maven command line.
+ *
+ * @param rate target throughput in requests per second across all workers; requests are scheduled
+ *             against this rate so latency is measured from the intended start time
+ */
+record LoadTestSettings(
+        LoadMix mix,
+        int concurrency,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int seedProducts,
+        Duration reportInterval,
+        Path outputDir,
+        double maxErrorRate,
+        double maxP99Millis) {
+
+    static final String DEFAULT_MIX = "GET=90,UPDATE=8,ACTIVATE=2";
+
+    /**
+     * @param threadingMode label of the server threading model, used as the default output
+     *                      subdirectory so runs in different modes can be compared side by side
+     */
+    static LoadTestSettings fromSystemProperties(String threadingMode) {
+        return new LoadTestSettings(
+            LoadMix.parse(System.getProperty("load.mix", DEFAULT_MIX)),
+            Integer.getInteger("load.concurrency", 16),
+            Integer.getInteger("load.rate", 500),
+            Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5)),
+            Duration.ofSeconds(Long.getLong("load.duration-seconds", 30)),
+            Integer.getInteger("load.seed-products", 1000),
+            Duration.ofMillis(Long.getLong("load.report-interval-ms", 1000)),
+            Path.of(System.getProperty("load.output-dir", "target/load-test/" + threadingMode)),
+            Double.parseDouble(System.getProperty("load.max-error-rate", "0")),
+            Double.parseDouble(System.getProperty("load.max-p99-ms", "0")));
+    }
+}
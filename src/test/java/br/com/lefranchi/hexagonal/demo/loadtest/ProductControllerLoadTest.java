@@ -0,0 +1,111 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the running application over HTTP with the mix, rate and duration given by the
+ * {@code load.*} system properties. Excluded from the default build; run with
+ * {@code mvn -Pload-test test}.
+ *
+ * Requests are served by Tomcat's platform worker pool; see
+ * {@link VirtualThreadsProductControllerLoadTest} for the same run on virtual threads and
+ * {@link ReactiveProductControllerLoadTest} for the WebFlux and R2DBC stack.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest-${random.uuid}",
+    "spring.jpa.show-sql=false"
+})
+class ProductControllerLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void shouldSustainConfiguredLoad() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties(threadingMode());
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        URI base = URI.create("http://localhost:" + port + "/api/products");
+        LoadTargets targets = new LoadTargets(seed(client, base, settings.seedProducts()));
+
+        // When
+        LoadReport report = new LoadGenerator(client, base, targets, settings, objectMapper).run();
+        report.write();
+        System.out.print(threadingMode() + " threads: " + report.summary());
+
+        // Then
+        assertTrue(report.totalCount() > 0, "no requests were measured");
+        report.routes().forEach((route, result) -> {
+            assertTrue(result.errorRate() <= settings.maxErrorRate(),
+                route + " error rate " + result.errorRate() + " exceeds " + settings.maxErrorRate());
+            if (settings.maxP99Millis() > 0) {
+                assertTrue(result.correctedMillis(99) <= settings.maxP99Millis(),
+                    route + " p99 " + result.correctedMillis(99) + "ms exceeds " + settings.maxP99Millis() + "ms");
+            }
+        });
+    }
+
+    private String threadingMode() {
+        if (environment.matchesProfiles("reactive")) {
+            return "reactive";
+        }
+        boolean virtual = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+            && Runtime.version().feature() >= 21;
+        return virtual ? "virtual" : "platform";
+    }
+
+    private List<String> seed(HttpClient client, URI base, int count) throws Exception {
+        List<String> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int size = Math.min(SEED_BATCH_SIZE, count - ids.size());
+            List<Object> products = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                products.add(Map.of("name", "Seed Product " + (ids.size() + i), "price", 10.0 + i % 100));
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/batch"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(products)))
+                .build();
+            HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+            assertEquals(201, response.statusCode(), response.body());
+            for (JsonNode item : objectMapper.readTree(response.body())) {
+                ids.add(item.get("product").get("id").asText());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The same load run against the {@code reactive} profile: WebFlux on Netty event loops and the
+ * R2DBC adapter, with no thread per request. Results go to {@code target/load-test/reactive},
+ * next to the platform- and virtual-thread results.
+ */
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = "spring.main.web-application-type=reactive")
+class ReactiveProductControllerLoadTest extends ProductControllerLoadTest {
+}
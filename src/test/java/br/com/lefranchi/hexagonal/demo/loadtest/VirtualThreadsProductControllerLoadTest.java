@@ -0,0 +1,15 @@
+package br.com.lefranchi.hexagonal.demo.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The same load run with the {@code virtual} profile, so request handling, the service and the
+ * repository execute on virtual threads. Results go to {@code target/load-test/virtual}, next to
+ * the platform-thread results.
+ */
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsProductControllerLoadTest extends ProductControllerLoadTest {
+}